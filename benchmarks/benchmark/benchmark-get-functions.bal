@@ -13,6 +13,7 @@ function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
     addFloatFunctions();
+    addArrayFunctions();
     addTimeFunctions();
     addSprintfFunctions();
     addIoFunctions();
@@ -77,6 +78,18 @@ function addFloatFunctions() {
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
 }
 
+function addArrayFunctions() {
+    functions["benchmarkIntArrayFill"] = benchmarktypes:benchmarkIntArrayFill;
+    functions["benchmarkIntArraySum"] = benchmarktypes:benchmarkIntArraySum;
+    functions["benchmarkIntArraySlice"] = benchmarktypes:benchmarkIntArraySlice;
+    functions["benchmarkIntArraySort"] = benchmarktypes:benchmarkIntArraySort;
+    functions["benchmarkIntArrayClone"] = benchmarktypes:benchmarkIntArrayClone;
+    functions["benchmarkFloatArrayFill"] = benchmarktypes:benchmarkFloatArrayFill;
+    functions["benchmarkFloatArraySum"] = benchmarktypes:benchmarkFloatArraySum;
+    functions["benchmarkFloatArraySlice"] = benchmarktypes:benchmarkFloatArraySlice;
+    functions["benchmarkFloatArrayUnshift"] = benchmarktypes:benchmarkFloatArrayUnshift;
+}
+
 function addTimeFunctions() {
     functions["benchmarkCurrentTimeFunction"] = benchmarktypes:benchmarkCurrentTimeFunction;
     functions["benchmarkCreateTimeWithZoneIDFunction"] = benchmarktypes:benchmarkCreateTimeWithZoneIDFunction;
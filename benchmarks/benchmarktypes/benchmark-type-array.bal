@@ -0,0 +1,74 @@
+const int ARRAY_LENGTH = 1000;
+
+public function benchmarkIntArrayFill() {
+    int[] values = [];
+    foreach int i in 0 ..< ARRAY_LENGTH {
+        values[i] = i;
+    }
+}
+
+public function benchmarkIntArraySum() {
+    int[] values = intArray();
+    int sum = 0;
+    foreach int value in values {
+        sum = sum + value;
+    }
+}
+
+public function benchmarkIntArraySlice() {
+    int[] values = intArray();
+    int[] slice = values.slice(10, ARRAY_LENGTH - 10);
+}
+
+public function benchmarkIntArraySort() {
+    int[] values = intArray().reverse();
+    int[] sorted = values.sort(function (int a, int b) returns int {
+        return a - b;
+    });
+}
+
+public function benchmarkIntArrayClone() {
+    int[] values = intArray();
+    int[] copy = values.clone();
+}
+
+public function benchmarkFloatArrayFill() {
+    float[] values = [];
+    foreach int i in 0 ..< ARRAY_LENGTH {
+        values[i] = <float>i;
+    }
+}
+
+public function benchmarkFloatArraySum() {
+    float[] values = floatArray();
+    float sum = 0.0;
+    foreach float value in values {
+        sum = sum + value;
+    }
+}
+
+public function benchmarkFloatArraySlice() {
+    float[] values = floatArray();
+    float[] slice = values.slice(10, ARRAY_LENGTH - 10);
+}
+
+public function benchmarkFloatArrayUnshift() {
+    float[] values = floatArray();
+    values.unshift(1.0, 2.0, 3.0);
+}
+
+function intArray() returns int[] {
+    int[] values = [];
+    foreach int i in 0 ..< ARRAY_LENGTH {
+        values[i] = i;
+    }
+    return values;
+}
+
+function floatArray() returns float[] {
+    float[] values = [];
+    foreach int i in 0 ..< ARRAY_LENGTH {
+        values[i] = <float>i;
+    }
+    return values;
+}
@@ -21,30 +21,64 @@ import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * Uncontended and reentrant acquisitions only need a CAS on the owner. The monitor of the lock is only taken
+ * when a strand has to wait for the lock, or when there are waiting strands to be notified on unlock.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final LockStats STATS = new LockStats();
+
+    private final AtomicReference<Strand> owner;
+
+    /**
+     * Number of times the owner has acquired the lock. Only accessed by the owner.
+     */
+    private int holdCount;
+
+    private volatile boolean hasWaiters;
 
     private ArrayDeque<Strand> waitingForLock;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
+        this.owner = new AtomicReference<>();
         this.waitingForLock = new ArrayDeque<>();
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            current.offerLast(strand);
+    public boolean lock(Strand strand) {
+        if (owner.compareAndSet(null, strand)) {
+            holdCount = 1;
+            STATS.uncontended.increment();
+            return true;
+        }
+        if (owner.get() == strand) {
+            holdCount++;
+            STATS.uncontended.increment();
+            return true;
+        }
+        return lockContended(strand);
+    }
+
+    private synchronized boolean lockContended(Strand strand) {
+        // Waiters are published before retrying, so that an owner releasing the lock concurrently either
+        // lets this strand acquire it, or sees the waiter and unblocks it.
+        hasWaiters = true;
+        if (owner.compareAndSet(null, strand)) {
+            holdCount = 1;
+            hasWaiters = !waitingForLock.isEmpty();
+            STATS.uncontended.increment();
             return true;
         }
 
         waitingForLock.offerLast(strand);
+        STATS.contended.increment();
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -52,20 +86,45 @@ public class BLock {
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        current.removeLast();
+    public void unlock() {
+        //owner cannot be empty as unlock cannot be called without lock being called first.
+        if (--holdCount > 0) {
+            return;
+        }
+        owner.set(null);
+        if (hasWaiters) {
+            unblockWaiter();
+        }
+    }
+
+    private synchronized void unblockWaiter() {
         if (!waitingForLock.isEmpty()) {
             Strand strand = waitingForLock.removeFirst();
+            hasWaiters = !waitingForLock.isEmpty();
             strand.scheduler.unblockStrand(strand);
         }
     }
 
-    private boolean isLockFree() {
-        return current.isEmpty();
+    public static LockStats getStats() {
+        return STATS;
     }
 
-    private boolean lockedBySameContext(Strand ctx) {
-        return current.getLast() == ctx;
+    /**
+     * Acquisition counts of all the {@code BLock}s, published through the metrics registry.
+     *
+     * @since 1.0.0
+     */
+    public static class LockStats {
+
+        private final LongAdder uncontended = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+
+        public long getUncontendedAcquisitionCount() {
+            return uncontended.sum();
+        }
+
+        public long getContendedAcquisitionCount() {
+            return contended.sum();
+        }
     }
 }
@@ -26,6 +26,7 @@ import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * External API to be used by the interop users to control Ballerina runtime behavior.
@@ -49,6 +50,18 @@ public class BRuntime {
         return future;
     }
 
+    /**
+     * Runs a blocking call, such as a JDBC or file operation, without holding a scheduler thread. Only the calling
+     * strand waits for the call to complete. The value returned by the extern function is ignored and the result
+     * of the blocking call is returned to the Ballerina caller instead.
+     *
+     * @param blockingCall call to be executed
+     */
+    public static void executeBlocking(Supplier<Object> blockingCall) {
+        Strand strand = Scheduler.getStrand();
+        strand.scheduler.executeBlocking(strand, blockingCall);
+    }
+
     public static BRuntime getCurrentRuntime() {
         Strand strand = Scheduler.getStrand();
         return new BRuntime(strand.scheduler);
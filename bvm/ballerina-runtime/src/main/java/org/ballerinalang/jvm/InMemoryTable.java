@@ -0,0 +1,700 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.RefValue;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * {@code InMemoryTable} keeps the rows of an in-memory table on the heap, so that the rows are added, iterated and
+ * removed without going through the table database of {@link TableProvider}.
+ * <p>
+ * A row is an array of column values, which is never modified once added. The mutable column values are copied when
+ * a row is added and when a record is generated from a row. The array of rows is modified in place until an iterator
+ * is created over it, after which it is only appended to in place and is replaced otherwise, hence an iterator reads
+ * a consistent snapshot of the rows. The primary key columns are indexed in a hash map and, as in the table database,
+ * the rows of a table with a single int primary key are kept in the order of the key. The index columns of the table
+ * are indexed in sorted maps, which find the rows whose column values are equal to a value or within a range without
+ * scanning the table.
+ * <p>
+ * The queries which scan the whole table run against a mirror of the table in the table database. The mirror is
+ * created at the first such query and is brought up to date lazily, at the next query which uses it. The rows added
+ * in the meantime are inserted to the mirror then, while the mirror is filled again if rows have been removed. Hence
+ * adding and removing rows does not access the table database, and the rows are not copied for each query unless
+ * the table has changed.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryTable {
+
+    private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
+            "Corresponding Union type in the record is not an assignable nillable type";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BStructureType type;
+    private final BField[] fields;
+    private final int[] columnTypeTags;
+    private final List<ColumnDefinition> columnDefs;
+    private final int[] keyColumns;
+    private final boolean orderedByKey;
+    private final Map<Object, Object[]> primaryKeyIndex;
+    private final ColumnIndex[] columnIndexes;
+    private final ArrayValue primaryKeys;
+    private Object[][] rows;
+    private int size;
+    private boolean rowsShared;
+    private long nextSequence;
+    private String mirrorTableName;
+    // The rows added since the mirror was last brought up to date, unless it is stale as a whole.
+    private final List<Object[]> pendingMirrorRows = new ArrayList<>();
+    private boolean mirrorStale;
+
+    public InMemoryTable(BStructureType type, ArrayValue primaryKeys) {
+        this(type, null, primaryKeys);
+    }
+
+    public InMemoryTable(BStructureType type, ArrayValue indexColumns, ArrayValue primaryKeys) {
+        this.type = type;
+        this.fields = type.getFields().values().toArray(new BField[0]);
+        this.columnTypeTags = new int[fields.length];
+        List<ColumnDefinition> columnDefinitions = new ArrayList<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            columnTypeTags[i] = getColumnTypeTag(fields[i]);
+            columnDefinitions.add(new ColumnDefinition(fields[i].getFieldName(), getMappedTypeTag(fields[i])));
+        }
+        this.columnDefs = Collections.unmodifiableList(columnDefinitions);
+        this.keyColumns = getKeyColumns(primaryKeys);
+        this.orderedByKey = keyColumns.length == 1 && columnTypeTags[keyColumns[0]] == TypeTags.INT_TAG;
+        this.primaryKeyIndex = keyColumns.length > 0 ? new HashMap<>() : null;
+        this.columnIndexes = createColumnIndexes(indexColumns);
+        this.primaryKeys = primaryKeys;
+        this.rows = new Object[INITIAL_CAPACITY][];
+    }
+
+    private InMemoryTable(InMemoryTable table) {
+        this.type = table.type;
+        this.fields = table.fields;
+        this.columnTypeTags = table.columnTypeTags;
+        this.columnDefs = table.columnDefs;
+        this.keyColumns = table.keyColumns;
+        this.orderedByKey = table.orderedByKey;
+        this.primaryKeys = table.primaryKeys;
+        synchronized (table) {
+            this.primaryKeyIndex = table.primaryKeyIndex != null ? new HashMap<>(table.primaryKeyIndex) : null;
+            this.columnIndexes = new ColumnIndex[table.columnIndexes.length];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                columnIndexes[i] = table.columnIndexes[i].copy();
+            }
+            this.rows = Arrays.copyOf(table.rows, Math.max(table.size, INITIAL_CAPACITY));
+            this.size = table.size;
+            this.nextSequence = table.nextSequence;
+        }
+    }
+
+    /**
+     * Adds a record as a row of the table.
+     *
+     * @param data the record to be added
+     */
+    public synchronized void insert(MapValue<String, Object> data) {
+        // The last element of a row is its sequence number, which orders the rows found by an index as the table.
+        Object[] row = new Object[fields.length + 1];
+        for (int i = 0; i < fields.length; i++) {
+            row[i] = copyValue(data.get(fields[i].getFieldName()));
+        }
+        row[fields.length] = nextSequence;
+        Object key = null;
+        if (primaryKeyIndex != null) {
+            key = getKey(row);
+            if (primaryKeyIndex.containsKey(key)) {
+                throw TableUtils.createTableOperationError(TableConstants.EXECUTE_UPDATE_FAILED
+                        + TableConstants.PRIMARY_KEY_VIOLATION + "PRIMARY KEY ON " + type.getName() + "("
+                        + getKeyColumnNames() + ") " + key);
+            }
+        }
+        if (mirrorTableName != null && !mirrorStale) {
+            pendingMirrorRows.add(row);
+        }
+        if (primaryKeyIndex != null) {
+            primaryKeyIndex.put(key, row);
+        }
+        for (ColumnIndex columnIndex : columnIndexes) {
+            columnIndex.add(row);
+        }
+        nextSequence++;
+        if (orderedByKey) {
+            insertInKeyOrder(row);
+        } else {
+            append(row);
+        }
+    }
+
+    /**
+     * Removes the rows whose records match the given filter. The filter is evaluated against a snapshot of the rows
+     * without holding the lock of the table, since it may run arbitrary code.
+     *
+     * @param filter the filter which selects the rows to be removed
+     * @return the number of removed rows
+     */
+    public int delete(Predicate<MapValueImpl<String, Object>> filter) {
+        Object[][] snapshot;
+        int snapshotSize;
+        synchronized (this) {
+            snapshot = rows;
+            snapshotSize = size;
+        }
+        Set<Object[]> removedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < snapshotSize; i++) {
+            if (filter.test(createRecord(snapshot[i]))) {
+                removedRows.add(snapshot[i]);
+            }
+        }
+        if (removedRows.isEmpty()) {
+            return 0;
+        }
+        synchronized (this) {
+            Object[][] remainingRows = new Object[Math.max(size, INITIAL_CAPACITY)][];
+            int remaining = 0;
+            int deletedCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (removedRows.contains(rows[i])) {
+                    if (primaryKeyIndex != null) {
+                        primaryKeyIndex.remove(getKey(rows[i]));
+                    }
+                    for (ColumnIndex columnIndex : columnIndexes) {
+                        columnIndex.remove(rows[i]);
+                    }
+                    deletedCount++;
+                } else {
+                    remainingRows[remaining++] = rows[i];
+                }
+            }
+            rows = remainingRows;
+            size = remaining;
+            rowsShared = false;
+            if (mirrorTableName != null) {
+                mirrorStale = true;
+                pendingMirrorRows.clear();
+            }
+            return deletedCount;
+        }
+    }
+
+    public synchronized InMemoryTableIterator createIterator() {
+        rowsShared = true;
+        return new InMemoryTableIterator(this, rows, size);
+    }
+
+    /**
+     * Returns the name of the table of the table database which mirrors the rows of this table. The mirror is created
+     * and filled with the rows at the first call, and is brought up to date with the changes of the table at the
+     * later calls.
+     *
+     * @return name of the mirror table
+     */
+    public synchronized String getMirrorTable() {
+        TableProvider provider = TableProvider.getInstance();
+        if (mirrorTableName == null) {
+            String tableName = provider.createTable(type, primaryKeys);
+            try {
+                insertMirroredRows(tableName);
+            } catch (ErrorValue e) {
+                provider.dropTable(tableName);
+                throw e;
+            }
+            mirrorTableName = tableName;
+            return mirrorTableName;
+        }
+        try {
+            if (mirrorStale) {
+                provider.deleteAllData(mirrorTableName);
+                insertMirroredRows(mirrorTableName);
+            } else {
+                for (Object[] row : pendingMirrorRows) {
+                    provider.insertData(mirrorTableName, createRecord(row));
+                }
+            }
+        } catch (ErrorValue e) {
+            // The rows of the mirror are not known anymore, hence it is filled again at the next call.
+            mirrorStale = true;
+            pendingMirrorRows.clear();
+            throw e;
+        }
+        mirrorStale = false;
+        pendingMirrorRows.clear();
+        return mirrorTableName;
+    }
+
+    /**
+     * Returns whether the given table of the table database is the mirror of this table.
+     *
+     * @param tableName name of a table of the table database
+     * @return true if the table is the mirror of this table
+     */
+    public synchronized boolean isMirrorTable(String tableName) {
+        return tableName.equals(mirrorTableName);
+    }
+
+    /**
+     * Drops the mirror of this table, if it has been created, once the table is no longer used.
+     */
+    public synchronized void dropMirrorTable() {
+        if (mirrorTableName != null) {
+            TableProvider.getInstance().dropTable(mirrorTableName);
+            mirrorTableName = null;
+            mirrorStale = false;
+            pendingMirrorRows.clear();
+        }
+    }
+
+    /**
+     * Returns whether the given column can be looked up by a value or a range, without scanning the table.
+     *
+     * @param columnName name of the column
+     * @return true if the column is an index column or the single primary key column of the table
+     */
+    public boolean isIndexed(String columnName) {
+        int column = findColumnIndex(columnName);
+        return column >= 0 && (getColumnIndex(column) != null || isSinglePrimaryKey(column));
+    }
+
+    /**
+     * Creates an iterator over the rows whose value of the given column is within the given bounds, in the order of
+     * the rows in the table.
+     *
+     * @param columnName     name of an indexed column
+     * @param lowerBound     lower bound of the column values, or null if there is no lower bound
+     * @param lowerInclusive whether the lower bound is included
+     * @param upperBound     upper bound of the column values, or null if there is no upper bound
+     * @param upperInclusive whether the upper bound is included
+     * @return iterator over the matching rows, or null if the column cannot be looked up by the given bounds
+     */
+    public synchronized InMemoryTableIterator createIterator(String columnName, Object lowerBound,
+                                                             boolean lowerInclusive, Object upperBound,
+                                                             boolean upperInclusive) {
+        int column = findColumnIndex(columnName);
+        if (column < 0 || !isComparable(column, lowerBound) || !isComparable(column, upperBound)) {
+            return null;
+        }
+        Object lower = getIndexKey(lowerBound);
+        Object upper = getIndexKey(upperBound);
+        ColumnIndex columnIndex = getColumnIndex(column);
+        List<Object[]> matchingRows;
+        if (columnIndex != null) {
+            matchingRows = columnIndex.find(lower, lowerInclusive, upper, upperInclusive);
+        } else if (isSinglePrimaryKey(column) && lower != null && lower.equals(upper) && lowerInclusive &&
+                upperInclusive) {
+            Object[] row = primaryKeyIndex.get(getKeyValue(lowerBound, column));
+            matchingRows = row != null ? Collections.singletonList(row) : Collections.emptyList();
+        } else {
+            return null;
+        }
+        Object[][] snapshot = matchingRows.toArray(new Object[0][]);
+        int orderColumn = orderedByKey ? keyColumns[0] : fields.length;
+        Arrays.sort(snapshot, (row1, row2) -> Long.compare((Long) row1[orderColumn], (Long) row2[orderColumn]));
+        return new InMemoryTableIterator(this, snapshot, snapshot.length);
+    }
+
+    public InMemoryTable copy() {
+        return new InMemoryTable(this);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public BStructureType getType() {
+        return type;
+    }
+
+    ArrayValue getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    List<ColumnDefinition> getColumnDefinitions() {
+        return columnDefs;
+    }
+
+    int getColumnTypeTag(int columnIndex) {
+        return columnTypeTags[columnIndex];
+    }
+
+    MapValueImpl<String, Object> createRecord(Object[] row) {
+        MapValueImpl<String, Object> record = new MapValueImpl<>(type);
+        for (int i = 0; i < fields.length; i++) {
+            record.put(fields[i].getFieldName(), copyValue(row[i]));
+        }
+        return record;
+    }
+
+    private void append(Object[] row) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size << 1);
+            rowsShared = false;
+        }
+        rows[size++] = row;
+    }
+
+    private void insertInKeyOrder(Object[] row) {
+        int keyColumn = keyColumns[0];
+        long key = (Long) row[keyColumn];
+        if (size == 0 || (Long) rows[size - 1][keyColumn] < key) {
+            append(row);
+            return;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((Long) rows[mid][keyColumn] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (rowsShared || size == rows.length) {
+            // The rows are replaced instead of shifted in place, as the iterators may be reading them.
+            Object[][] newRows = new Object[size == rows.length ? size << 1 : rows.length][];
+            System.arraycopy(rows, 0, newRows, 0, low);
+            System.arraycopy(rows, low, newRows, low + 1, size - low);
+            rows = newRows;
+            rowsShared = false;
+        } else {
+            System.arraycopy(rows, low, rows, low + 1, size - low);
+        }
+        rows[low] = row;
+        size++;
+    }
+
+    private void insertMirroredRows(String tableName) {
+        TableProvider.getInstance().insertData(tableName, new InMemoryTableIterator(this, rows, size));
+    }
+
+    private Object getKey(Object[] row) {
+        if (keyColumns.length == 1) {
+            return getKeyValue(row[keyColumns[0]], keyColumns[0]);
+        }
+        Object[] key = new Object[keyColumns.length];
+        for (int i = 0; i < keyColumns.length; i++) {
+            key[i] = getKeyValue(row[keyColumns[i]], keyColumns[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    private Object getKeyValue(Object value, int column) {
+        if (value == null) {
+            throw TableUtils.createTableOperationError(TableConstants.EXECUTE_UPDATE_FAILED
+                    + "NULL not allowed for column \"" + fields[column].getFieldName() + "\"");
+        }
+        switch (columnTypeTags[column]) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return value;
+            case TypeTags.DECIMAL_TAG:
+                // Decimals which only differ by the trailing zeros are the same key.
+                return ((DecimalValue) value).value().stripTrailingZeros();
+            case TypeTags.JSON_TAG:
+                return StringUtils.getJsonString(value);
+            case TypeTags.ARRAY_TAG:
+                if (((BArrayType) fields[column].getFieldType()).getElementType().getTag() == TypeTags.BYTE_TAG) {
+                    return ByteBuffer.wrap(((ArrayValue) value).getBytes());
+                }
+                return Arrays.asList(TableUtils.getArrayData((ArrayValue) value));
+            default:
+                return value.toString();
+        }
+    }
+
+    private String getKeyColumnNames() {
+        StringJoiner names = new StringJoiner(",");
+        for (int keyColumn : keyColumns) {
+            names.add(fields[keyColumn].getFieldName());
+        }
+        return names.toString();
+    }
+
+    private int[] getKeyColumns(ArrayValue primaryKeys) {
+        if (primaryKeys == null) {
+            return new int[0];
+        }
+        int[] columns = new int[primaryKeys.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = getColumnIndex(primaryKeys.getString(i));
+        }
+        return columns;
+    }
+
+    private int getColumnIndex(String columnName) {
+        int column = findColumnIndex(columnName);
+        if (column < 0) {
+            throw TableUtils.createTableOperationError("Column \"" + columnName + "\" not found in table : "
+                    + type.getName());
+        }
+        return column;
+    }
+
+    private int findColumnIndex(String columnName) {
+        for (int i = 0; i < fields.length; i++) {
+            // Column names are case insensitive as in the table database.
+            if (fields[i].getFieldName().equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ColumnIndex[] createColumnIndexes(ArrayValue indexColumns) {
+        if (indexColumns == null) {
+            return new ColumnIndex[0];
+        }
+        ColumnIndex[] indexes = new ColumnIndex[indexColumns.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            int column = getColumnIndex(indexColumns.getString(i));
+            switch (columnTypeTags[column]) {
+                case TypeTags.INT_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    indexes[i] = new ColumnIndex(column);
+                    break;
+                default:
+                    throw TableUtils.createTableOperationError("Unsupported index column type for table : "
+                            + fields[column].getFieldType());
+            }
+        }
+        return indexes;
+    }
+
+    private ColumnIndex getColumnIndex(int column) {
+        for (ColumnIndex columnIndex : columnIndexes) {
+            if (columnIndex.column == column) {
+                return columnIndex;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the column is the only primary key column, whose values are looked up in the primary key index.
+     * A float key is not looked up, as its positive and negative zeros are different keys but equal values.
+     */
+    private boolean isSinglePrimaryKey(int column) {
+        return keyColumns.length == 1 && keyColumns[0] == column && columnTypeTags[column] != TypeTags.FLOAT_TAG;
+    }
+
+    /**
+     * Returns whether a value can be compared with the values of a column, which is the case when the value is of
+     * the type of the column. A missing bound is comparable with any column.
+     */
+    private boolean isComparable(int column, Object value) {
+        if (value == null) {
+            return true;
+        }
+        switch (columnTypeTags[column]) {
+            case TypeTags.INT_TAG:
+                return value instanceof Long;
+            case TypeTags.STRING_TAG:
+                return value instanceof String;
+            case TypeTags.FLOAT_TAG:
+                return value instanceof Double && !((Double) value).isNaN();
+            case TypeTags.DECIMAL_TAG:
+                return value instanceof DecimalValue;
+            case TypeTags.BOOLEAN_TAG:
+                return value instanceof Boolean;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the key of a column value in a sorted index, which orders the values as the table database does.
+     */
+    private static Object getIndexKey(Object value) {
+        if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).value();
+        }
+        if (value instanceof Double && (Double) value == 0) {
+            // Positive and negative zeros are equal.
+            return 0.0;
+        }
+        return value;
+    }
+
+    private static Object copyValue(Object value) {
+        return value instanceof RefValue ? ((RefValue) value).copy(new HashMap<>()) : value;
+    }
+
+    private static int getColumnTypeTag(BField field) {
+        BType fieldType = field.getFieldType();
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.ARRAY_TAG:
+                return fieldType.getTag();
+            case TypeTags.UNION_TAG:
+                List<BType> members = ((BUnionType) fieldType).getMemberTypes();
+                if (members.size() != 2) {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    return getNillableColumnTypeTag(field, members.get(1));
+                } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    return getNillableColumnTypeTag(field, members.get(0));
+                }
+                throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+            default:
+                throw TableUtils.createTableOperationError("Unsupported column type for table : " + fieldType);
+        }
+    }
+
+    private static int getNillableColumnTypeTag(BField field, BType memberType) {
+        switch (memberType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+                return memberType.getTag();
+            default:
+                throw TableUtils.createTableOperationError("Unsupported nillable field for table : "
+                        + field.getFieldType());
+        }
+    }
+
+    /**
+     * Sorted index of the values of a column. The rows whose value of the column is nil are not indexed, as they
+     * never match a comparison.
+     */
+    private static class ColumnIndex {
+        private final int column;
+        private final TreeMap<Object, List<Object[]>> rowsByValue;
+
+        ColumnIndex(int column) {
+            this(column, new TreeMap<>());
+        }
+
+        private ColumnIndex(int column, TreeMap<Object, List<Object[]>> rowsByValue) {
+            this.column = column;
+            this.rowsByValue = rowsByValue;
+        }
+
+        void add(Object[] row) {
+            if (row[column] != null) {
+                rowsByValue.computeIfAbsent(getIndexKey(row[column]), value -> new ArrayList<>(1)).add(row);
+            }
+        }
+
+        void remove(Object[] row) {
+            if (row[column] == null) {
+                return;
+            }
+            Object value = getIndexKey(row[column]);
+            List<Object[]> indexedRows = rowsByValue.get(value);
+            if (indexedRows == null) {
+                return;
+            }
+            indexedRows.removeIf(indexedRow -> indexedRow == row);
+            if (indexedRows.isEmpty()) {
+                rowsByValue.remove(value);
+            }
+        }
+
+        List<Object[]> find(Object lowerBound, boolean lowerInclusive, Object upperBound, boolean upperInclusive) {
+            NavigableMap<Object, List<Object[]>> matches = rowsByValue;
+            if (lowerBound != null && upperBound != null) {
+                if (((Comparable<Object>) lowerBound).compareTo(upperBound) > 0) {
+                    return Collections.emptyList();
+                }
+                matches = rowsByValue.subMap(lowerBound, lowerInclusive, upperBound, upperInclusive);
+            } else if (lowerBound != null) {
+                matches = rowsByValue.tailMap(lowerBound, lowerInclusive);
+            } else if (upperBound != null) {
+                matches = rowsByValue.headMap(upperBound, upperInclusive);
+            }
+            List<Object[]> matchingRows = new ArrayList<>();
+            for (List<Object[]> indexedRows : matches.values()) {
+                matchingRows.addAll(indexedRows);
+            }
+            return matchingRows;
+        }
+
+        ColumnIndex copy() {
+            TreeMap<Object, List<Object[]>> copiedRows = new TreeMap<>();
+            rowsByValue.forEach((value, indexedRows) -> copiedRows.put(value, new ArrayList<>(indexedRows)));
+            return new ColumnIndex(column, copiedRows);
+        }
+    }
+
+    /**
+     * Returns the type tag which the table conversions use for a column, which is the same as for a table of the
+     * table database.
+     */
+    private static int getMappedTypeTag(BField field) {
+        BType fieldType = field.getFieldType();
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+                return fieldType.getTag();
+            case TypeTags.ARRAY_TAG:
+                return ((BArrayType) fieldType).getElementType().getTag() == TypeTags.BYTE_TAG ?
+                        TypeTags.BYTE_TAG : TypeTags.ARRAY_TAG;
+            default:
+                return TypeTags.ANY_TAG;
+        }
+    }
+}
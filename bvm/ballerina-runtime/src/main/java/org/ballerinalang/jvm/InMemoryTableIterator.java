@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.util.List;
+
+/**
+ * {@link DataIterator} implementation which iterates over a snapshot of the rows of an {@link InMemoryTable}.
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public class InMemoryTableIterator implements DataIterator {
+
+    private final InMemoryTable table;
+    private final Object[][] rows;
+    private final int size;
+    private int cursor = -1;
+    private Object[] row;
+
+    InMemoryTableIterator(InMemoryTable table, Object[][] rows, int size) {
+        this.table = table;
+        this.rows = rows;
+        this.size = size;
+    }
+
+    @Override
+    public boolean next() {
+        if (cursor + 1 < size) {
+            row = rows[++cursor];
+            return true;
+        }
+        cursor = size;
+        row = null;
+        return false;
+    }
+
+    @Override
+    public void close() {
+        cursor = size;
+        row = null;
+    }
+
+    @Override
+    public void reset() {
+        close();
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        switch (table.getColumnTypeTag(columnIndex - 1)) {
+            case TypeTags.JSON_TAG:
+                return StringUtils.getJsonString(value);
+            case TypeTags.DECIMAL_TAG:
+                return ((DecimalValue) value).value().toString();
+            case TypeTags.ARRAY_TAG:
+                return value instanceof ArrayValue && ((ArrayValue) value).elementType.getTag() == TypeTags.BYTE_TAG ?
+                        new String(((ArrayValue) value).getBytes()) : value.toString();
+            default:
+                return value.toString();
+        }
+    }
+
+    @Override
+    public Long getInt(int columnIndex) {
+        return (Long) getValue(columnIndex);
+    }
+
+    @Override
+    public Double getFloat(int columnIndex) {
+        return (Double) getValue(columnIndex);
+    }
+
+    @Override
+    public Boolean getBoolean(int columnIndex) {
+        return (Boolean) getValue(columnIndex);
+    }
+
+    @Override
+    public String getBlob(int columnIndex) {
+        ArrayValue value = (ArrayValue) getValue(columnIndex);
+        return value == null ? null : new String(value.getBytes());
+    }
+
+    @Override
+    public DecimalValue getDecimal(int columnIndex) {
+        return (DecimalValue) getValue(columnIndex);
+    }
+
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        // An in-memory table does not have struct columns.
+        return null;
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        ArrayValue value = (ArrayValue) getValue(columnIndex);
+        return value == null ? null : TableUtils.getArrayData(value);
+    }
+
+    @Override
+    public MapValueImpl<String, Object> generateNext() {
+        if (row == null) {
+            throw TableUtils.createTableOperationError("error in generating next row of data : no current row");
+        }
+        return table.createRecord(row);
+    }
+
+    @Override
+    public List<ColumnDefinition> getColumnDefinitions() {
+        return table.getColumnDefinitions();
+    }
+
+    @Override
+    public BStructureType getStructType() {
+        return table.getType();
+    }
+
+    private Object getValue(int columnIndex) {
+        if (row == null) {
+            throw TableUtils.createTableOperationError("error in reading column " + columnIndex + " : no current row");
+        }
+        return row[columnIndex - 1];
+    }
+}
@@ -31,11 +31,16 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
  * to a given {@link OutputStream}.
+ * <p>
+ * UTF-8 output to an {@link OutputStream} is encoded directly into a byte buffer of a fixed size, which is written
+ * to the stream each time it fills up. Hence a large value is written out in chunks as it is serialized, rather than
+ * being built as a string first, and a stream which applies backpressure throttles the serialization.
  * 
  * @since 0.995.0
  */
@@ -43,8 +48,19 @@ public class JSONGenerator {
 
     private static final int DEFAULT_DEPTH = 10;
 
+    private static final int BUFFER_SIZE = 8192;
+
+    // The longest UTF-8 encoding of a character, which is that of a surrogate pair.
+    private static final int MAX_CHAR_BYTES = 4;
+
     private Writer writer;
 
+    private OutputStream out;
+
+    private byte[] buff;
+
+    private int count;
+
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
     private int currentLevel;
@@ -63,11 +79,16 @@ public class JSONGenerator {
     }
 
     public JSONGenerator(OutputStream out) {
-        this(out, Charset.defaultCharset());
+        this(out, StandardCharsets.UTF_8);
     }
 
     public JSONGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.out = out;
+            this.buff = new byte[BUFFER_SIZE];
+        } else {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+        }
     }
 
     public JSONGenerator(Writer writer) {
@@ -95,7 +116,7 @@ public class JSONGenerator {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.writeAscii(", ");
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -113,7 +134,7 @@ public class JSONGenerator {
 
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeAscii(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -126,7 +147,7 @@ public class JSONGenerator {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeAscii(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -134,39 +155,38 @@ public class JSONGenerator {
 
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.writeAscii('{');
     }
 
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.writeAscii('}');
         this.processEndLevel();
     }
 
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.writeAscii(':');
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.writeAscii('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeEscaped(value);
         } else {
-            this.writer.write(chs);
+            this.writeText(value, 0, count);
         }
-        this.writer.write("\"");
+        this.writeAscii('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -175,100 +195,171 @@ public class JSONGenerator {
     }
 
     public void writeStringEsc(char[] chs) throws IOException {
-        int count = chs.length;
+        this.writeEscaped(new String(chs));
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        int count = value.length();
         int index = 0;
-        char ch;
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
-            switch (ch) {
+            String escape;
+            switch (value.charAt(i)) {
                 case '"':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\"");
-                    index = i + 1;
+                    escape = "\\\"";
                     break;
                 case '\\':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\\");
-                    index = i + 1;
+                    escape = "\\\\";
                     break;
                 case '/':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\/");
-                    index = i + 1;
+                    escape = "\\/";
                     break;
                 case '\b':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\b");
-                    index = i + 1;
+                    escape = "\\b";
                     break;
                 case '\n':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\n");
-                    index = i + 1;
+                    escape = "\\n";
                     break;
                 case '\r':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\r");
-                    index = i + 1;
+                    escape = "\\r";
                     break;
                 case '\f':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\f");
-                    index = i + 1;
+                    escape = "\\f";
                     break;
                 case '\t':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\t");
-                    index = i + 1;
+                    escape = "\\t";
                     break;
                 default:
-                    break;
+                    continue;
             }
+            this.writeText(value, index, i);
+            this.writeAscii(escape);
+            index = i + 1;
         }
 
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.writeText(value, index, count);
         }
 
     }
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        this.writeAscii(Long.toString(value));
     }
 
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        this.writeAscii(Double.toString(value));
     }
 
     public void writeNumber(BigDecimal value) throws IOException {
         this.processValueInit();
-        this.writer.write(value.toString());
+        this.writeAscii(value.toString());
     }
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.writeAscii(Boolean.toString(value));
     }
 
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        this.writeAscii("null");
     }
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.writeAscii('[');
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.writeAscii(']');
         this.processEndLevel();
     }
 
     public void flush() throws IOException {
-        this.writer.flush();
+        if (this.writer != null) {
+            this.writer.flush();
+            return;
+        }
+        this.flushBuffer();
+        this.out.flush();
+    }
+
+    private void writeAscii(char ch) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(ch);
+            return;
+        }
+        if (this.count == this.buff.length) {
+            this.flushBuffer();
+        }
+        this.buff[this.count++] = (byte) ch;
+    }
+
+    private void writeAscii(String value) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(value);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (this.count == this.buff.length) {
+                this.flushBuffer();
+            }
+            this.buff[this.count++] = (byte) value.charAt(i);
+        }
+    }
+
+    /**
+     * Writes the given range of characters, encoding them to UTF-8 when writing to the byte buffer. Unpaired
+     * surrogates are replaced by '?', as an {@link OutputStreamWriter} would replace them.
+     *
+     * @param value string which contains the characters
+     * @param from  index of the first character to write
+     * @param to    index after the last character to write
+     * @throws IOException if the characters cannot be written
+     */
+    private void writeText(String value, int from, int to) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(value, from, to - from);
+            return;
+        }
+        byte[] buff = this.buff;
+        int count = this.count;
+        for (int i = from; i < to; i++) {
+            if (count > buff.length - MAX_CHAR_BYTES) {
+                this.count = count;
+                this.flushBuffer();
+                count = 0;
+            }
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                buff[count++] = (byte) ch;
+            } else if (ch < 0x800) {
+                buff[count++] = (byte) (0xC0 | (ch >> 6));
+                buff[count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                buff[count++] = (byte) (0xE0 | (ch >> 12));
+                buff[count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buff[count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < to && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                buff[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buff[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buff[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buff[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                buff[count++] = '?';
+            }
+        }
+        this.count = count;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buff, 0, this.count);
+            this.count = 0;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -106,6 +106,48 @@ public class Lists {
         }
     }
 
+    /*
+     * The following methods add basic type values without boxing them, if the inherent type of the array is of the
+     * same basic type. Otherwise the value is boxed and added after checking it against the inherent type.
+     */
+
+    public static void add(ArrayValue array, long index, long value) {
+        if (hasElementType(array, TypeTags.INT_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, (Object) value);
+    }
+
+    public static void add(ArrayValue array, long index, double value) {
+        if (hasElementType(array, TypeTags.FLOAT_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, (Object) value);
+    }
+
+    public static void add(ArrayValue array, long index, boolean value) {
+        if (hasElementType(array, TypeTags.BOOLEAN_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, (Object) value);
+    }
+
+    public static void add(ArrayValue array, long index, String value) {
+        if (value != null && hasElementType(array, TypeTags.STRING_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, (Object) value);
+    }
+
+    private static boolean hasElementType(ArrayValue array, int typeTag) {
+        return array.getType().getTag() == TypeTags.ARRAY_TAG && array.elementType != null &&
+                array.elementType.getTag() == typeTag;
+    }
+
     private static boolean isTupleIndexWithinRange(BTupleType tuple, long index) {
         return index >= 0 && index < tuple.getTupleTypes().size();
     }
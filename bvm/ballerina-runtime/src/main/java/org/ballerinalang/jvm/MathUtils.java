@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm;
 
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.jvm.values.ErrorValue;
 
 /**
  * Common utility methods used for arithmatic operations.
@@ -26,6 +27,24 @@ import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
  */
 public class MathUtils {
 
+    public static long multiply(long lhs, long rhs) {
+        try {
+            return Math.multiplyExact(lhs, rhs);
+        } catch (ArithmeticException e) {
+            throw getIntOverflowError();
+        }
+    }
+
+    /**
+     * Creates the error raised when the result of an int operation is out of the int range. The generated code checks
+     * additions and subtractions for overflow inline and throws this error.
+     *
+     * @return int overflow error
+     */
+    public static ErrorValue getIntOverflowError() {
+        return BallerinaErrors.createError(BallerinaErrorReasons.NUMBER_OVERFLOW_ERROR, " int range overflow");
+    }
+
     public static long divide(long numerator, long denominator) {
         try {
             return numerator / denominator;
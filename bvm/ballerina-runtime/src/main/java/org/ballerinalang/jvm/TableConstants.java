@@ -45,6 +45,9 @@ public class TableConstants {
     static final String SQL_CREATE_INDEX = "CREATE INDEX ";
     public static final String SQL_COUNT = "SELECT COUNT(*) FROM ";
 
+    static final String EXECUTE_UPDATE_FAILED = "execute update failed: ";
+    static final String PRIMARY_KEY_VIOLATION = "Unique index or primary key violation: ";
+
     static final String SQL_TYPE_BIGINT = "BIGINT";
     static final String SQL_TYPE_DOUBLE = "DOUBLE";
     static final String SQL_TYPE_DECIMAL = "DECIMAL";
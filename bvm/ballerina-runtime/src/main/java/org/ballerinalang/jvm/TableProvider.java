@@ -48,6 +48,7 @@ public class TableProvider {
 
     private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
             "Corresponding Union type in the record is not an assignable nillable type";
+    private static final int INSERT_BATCH_SIZE = 1000;
     private static TableProvider tableProvider = null;
     private int tableID;
     private int indexID;
@@ -108,16 +109,74 @@ public class TableProvider {
         prepareAndExecuteStatement(sqlStmt, constrainedType);
     }
 
+    /**
+     * Inserts the records of an iterator into a table, in batches of a single prepared statement.
+     *
+     * @param tableName name of the table
+     * @param rows      iterator over the records to be inserted
+     * @return the number of inserted records
+     */
+    public long insertData(String tableName, DataIterator rows) {
+        PreparedStatement stmt = null;
+        Connection conn = null;
+        String sqlStmt = null;
+        long count = 0;
+        try {
+            while (rows.next()) {
+                MapValueImpl<?, ?> data = (MapValueImpl<?, ?>) rows.generateNext();
+                if (stmt == null) {
+                    sqlStmt = TableUtils.generateInsertDataStatement(tableName, data);
+                    conn = this.getConnection();
+                    stmt = conn.prepareStatement(sqlStmt);
+                }
+                TableUtils.setParameters(stmt, data);
+                stmt.addBatch();
+                if (++count % INSERT_BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                }
+            }
+            if (count % INSERT_BATCH_SIZE != 0) {
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw TableUtils.createTableOperationError(
+                    "error in executing statement : " + sqlStmt + " error:" + e.getMessage());
+        } finally {
+            rows.close();
+            releaseResources(conn, stmt);
+        }
+        return count;
+    }
+
     public void deleteData(String tableName, MapValueImpl<String, Object> constrainedType) {
         String sqlStmt = TableUtils.generateDeleteDataStatment(tableName, constrainedType);
         prepareAndExecuteStatement(sqlStmt, constrainedType);
     }
 
+    public void deleteAllData(String tableName) {
+        executeStatement(TableConstants.SQL_DELETE_FROM + tableName);
+    }
+
     public void dropTable(String tableName) {
         String sqlStmt = TableConstants.SQL_DROP + tableName;
         executeStatement(sqlStmt);
     }
 
+    public long getRowCount(String tableName) {
+        Statement stmt = null;
+        Connection conn = this.getConnection();
+        try {
+            stmt = conn.createStatement();
+            try (ResultSet rs = stmt.executeQuery(TableConstants.SQL_COUNT + tableName)) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw TableUtils.createTableOperationError("error in counting rows of table : " + e.getMessage());
+        } finally {
+            releaseResources(conn, stmt);
+        }
+    }
+
     public TableIterator createIterator(String tableName, BStructureType type) {
         TableIterator itr;
         Statement stmt = null;
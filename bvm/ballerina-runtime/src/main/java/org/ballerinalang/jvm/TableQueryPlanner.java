@@ -0,0 +1,486 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code TableQueryPlanner} provides the rows of an {@link InMemoryTable} in the table database of
+ * {@link TableProvider}, which a table query runs against.
+ * <p>
+ * The where clause of a queried table is a conjunction of conditions, of which the comparisons of an indexed column
+ * with a parameter are looked up in the index of the column, hence only the rows which may match the where clause
+ * are copied. A table which is not looked up in an index is queried through its mirror in the table database, to
+ * which only the changes of the table since the last query are applied. The table database still evaluates the whole
+ * where clause, so the results of the query do not depend on which conditions are looked up.
+ *
+ * @since 1.0.0
+ */
+public class TableQueryPlanner {
+
+    private static final String TABLE_NAME_PLACEHOLDER = "[[tableName]]";
+    private static final String WHERE = "where";
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String BETWEEN = "between";
+    private static final char PARAM_MARKER = '?';
+
+    private static final Stats STATS = new Stats();
+
+    private TableQueryPlanner() {
+    }
+
+    /**
+     * Returns the table of the table database which has the rows of an in-memory table that may match the where
+     * clause of the table in a query. The rows looked up in an index are copied to a new table, while the mirror of
+     * the in-memory table is used otherwise.
+     *
+     * @param table           the in-memory table
+     * @param query           the query, in which the tables are referred to by the table name placeholder
+     * @param tableOccurrence position of the table among the tables referred to in the query
+     * @param params          parameters of the query
+     * @return name of the table, which is released by {@link #releaseTable} once the query is run
+     */
+    public static String exportTable(InMemoryTable table, String query, int tableOccurrence, ArrayValue params) {
+        DataIterator rows = createIndexScanIterator(table, query, tableOccurrence, params);
+        if (rows == null) {
+            STATS.rowsScanned.add(table.size());
+            return table.getMirrorTable();
+        }
+        TableProvider provider = TableProvider.getInstance();
+        String exportedTableName = provider.createTable(table.getType(), table.getPrimaryKeys());
+        long exportedRows = 0;
+        try {
+            exportedRows = provider.insertData(exportedTableName, rows);
+        } catch (ErrorValue e) {
+            provider.dropTable(exportedTableName);
+            throw e;
+        } finally {
+            STATS.rowsScanned.add(exportedRows);
+        }
+        return exportedTableName;
+    }
+
+    /**
+     * Drops a table returned by {@link #exportTable}, unless it is the mirror of the in-memory table.
+     *
+     * @param table             the in-memory table
+     * @param exportedTableName name of the table returned for the in-memory table
+     */
+    public static void releaseTable(InMemoryTable table, String exportedTableName) {
+        if (!table.isMirrorTable(exportedTableName)) {
+            TableProvider.getInstance().dropTable(exportedTableName);
+        }
+    }
+
+    /**
+     * Records a table query, whose results are held in the given table of the table database. The rows of the
+     * results are counted only when observability is enabled.
+     *
+     * @param resultTableName name of the table which holds the results of the query
+     */
+    public static void recordQuery(String resultTableName) {
+        STATS.queries.increment();
+        if (ObserveUtils.isObservabilityEnabled()) {
+            STATS.rowsReturned.add(TableProvider.getInstance().getRowCount(resultTableName));
+        }
+    }
+
+    public static Stats getStats() {
+        return STATS;
+    }
+
+    /**
+     * Creates an iterator over the rows of an in-memory table which may match the where clause of the table in a
+     * query, which are looked up in an index if the where clause compares an indexed column with a parameter.
+     *
+     * @param table           the in-memory table
+     * @param query           the query, in which the tables are referred to by the table name placeholder
+     * @param tableOccurrence position of the table among the tables referred to in the query
+     * @param params          parameters of the query
+     * @return iterator over the rows which may match the where clause
+     */
+    public static DataIterator createIterator(InMemoryTable table, String query, int tableOccurrence,
+                                              ArrayValue params) {
+        DataIterator rows = createIndexScanIterator(table, query, tableOccurrence, params);
+        return rows != null ? rows : table.createIterator();
+    }
+
+    private static DataIterator createIndexScanIterator(InMemoryTable table, String query, int tableOccurrence,
+                                                        ArrayValue params) {
+        for (IndexScan indexScan : getIndexScans(table, query, tableOccurrence, params)) {
+            DataIterator rows = table.createIterator(indexScan.column, indexScan.lowerBound, indexScan.lowerInclusive,
+                                                     indexScan.upperBound, indexScan.upperInclusive);
+            if (rows != null) {
+                STATS.indexScans.increment();
+                return rows;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the scans of the indexed columns which are compared with the parameters in the where clause of the
+     * table, from the most to the least selective.
+     */
+    private static List<IndexScan> getIndexScans(InMemoryTable table, String query, int tableOccurrence,
+                                                 ArrayValue params) {
+        List<IndexScan> indexScans = new ArrayList<>();
+        List<Token> tokens = tokenize(query);
+        int conditionStart = getConditionStart(tokens, tableOccurrence);
+        if (conditionStart < 0 || params == null) {
+            return indexScans;
+        }
+        List<IndexScan> rangeScans = new ArrayList<>();
+        int conditionEnd = getConditionEnd(tokens, conditionStart);
+        int depth = 0;
+        int conjunctStart = conditionStart;
+        boolean inBetween = false;
+        for (int i = conditionStart; i <= conditionEnd; i++) {
+            if (i < conditionEnd) {
+                Token token = tokens.get(i);
+                if (token.kind == TokenKind.OPEN) {
+                    depth++;
+                } else if (token.kind == TokenKind.CLOSE) {
+                    depth--;
+                }
+                if (depth > 0) {
+                    continue;
+                }
+                if (token.isKeyword(OR)) {
+                    // A disjunction may match the rows which none of its conditions are looked up with.
+                    return new ArrayList<>();
+                }
+                if (token.isKeyword(BETWEEN)) {
+                    inBetween = true;
+                    continue;
+                }
+                if (!token.isKeyword(AND)) {
+                    continue;
+                }
+                if (inBetween) {
+                    // The conjunction separates the bounds of a between condition.
+                    inBetween = false;
+                    continue;
+                }
+            }
+            IndexScan indexScan = getIndexScan(table, tokens.subList(conjunctStart, i), params);
+            if (indexScan != null) {
+                addIndexScan(indexScan, indexScans, rangeScans);
+            }
+            conjunctStart = i + 1;
+        }
+        indexScans.addAll(rangeScans);
+        return indexScans;
+    }
+
+    private static void addIndexScan(IndexScan indexScan, List<IndexScan> indexScans, List<IndexScan> rangeScans) {
+        if (indexScan.lowerBound == indexScan.upperBound) {
+            indexScans.add(indexScan);
+            return;
+        }
+        for (IndexScan rangeScan : rangeScans) {
+            // The lower and the upper bounds of a column are looked up together.
+            if (rangeScan.column.equalsIgnoreCase(indexScan.column)) {
+                if (rangeScan.lowerBound == null && indexScan.lowerBound != null) {
+                    rangeScan.lowerBound = indexScan.lowerBound;
+                    rangeScan.lowerInclusive = indexScan.lowerInclusive;
+                } else if (rangeScan.upperBound == null && indexScan.upperBound != null) {
+                    rangeScan.upperBound = indexScan.upperBound;
+                    rangeScan.upperInclusive = indexScan.upperInclusive;
+                }
+                return;
+            }
+        }
+        rangeScans.add(indexScan);
+    }
+
+    /**
+     * Returns the scan of a condition which compares a column with a parameter, or null if the condition is of any
+     * other form or the column is not indexed.
+     */
+    private static IndexScan getIndexScan(InMemoryTable table, List<Token> conjunct, ArrayValue params) {
+        if (conjunct.size() != 3 || conjunct.get(1).kind != TokenKind.OPERATOR) {
+            return null;
+        }
+        Token column;
+        Token param;
+        String operator;
+        if (conjunct.get(0).kind == TokenKind.WORD && conjunct.get(2).kind == TokenKind.PARAM) {
+            column = conjunct.get(0);
+            param = conjunct.get(2);
+            operator = conjunct.get(1).text;
+        } else if (conjunct.get(0).kind == TokenKind.PARAM && conjunct.get(2).kind == TokenKind.WORD) {
+            column = conjunct.get(2);
+            param = conjunct.get(0);
+            operator = reverse(conjunct.get(1).text);
+        } else {
+            return null;
+        }
+        // A column may be qualified by the name of the table.
+        String columnName = column.text.substring(column.text.lastIndexOf('.') + 1);
+        if (!table.isIndexed(columnName) || param.paramIndex >= params.size()) {
+            return null;
+        }
+        Object value = params.getRefValue(param.paramIndex);
+        if (value == null) {
+            return null;
+        }
+        switch (operator) {
+            case "=":
+                return new IndexScan(columnName, value, true, value, true);
+            case ">":
+                return new IndexScan(columnName, value, false, null, false);
+            case ">=":
+                return new IndexScan(columnName, value, true, null, false);
+            case "<":
+                return new IndexScan(columnName, null, false, value, false);
+            case "<=":
+                return new IndexScan(columnName, null, false, value, true);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the position of the first token of the where clause of the table at the given position among the
+     * tables in the query, or -1 if the table is not filtered.
+     */
+    private static int getConditionStart(List<Token> tokens, int tableOccurrence) {
+        int occurrence = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).kind != TokenKind.TABLE || occurrence++ < tableOccurrence) {
+                continue;
+            }
+            return i + 1 < tokens.size() && tokens.get(i + 1).isKeyword(WHERE) ? i + 2 : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the end of a where clause, which is the parenthesis closing the select statement of
+     * the table.
+     */
+    private static int getConditionEnd(List<Token> tokens, int conditionStart) {
+        int depth = 0;
+        for (int i = conditionStart; i < tokens.size(); i++) {
+            TokenKind kind = tokens.get(i).kind;
+            if (kind == TokenKind.OPEN) {
+                depth++;
+            } else if (kind == TokenKind.CLOSE) {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            }
+        }
+        return tokens.size();
+    }
+
+    /**
+     * Splits a query into tokens. The string literals, the quoted identifiers and the comments are skipped as a
+     * whole, so that a parameter marker or a keyword within them is not taken as such, and the parameters are
+     * numbered in the order they appear in the query, which is the order of the parameters of the query.
+     */
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int paramCount = 0;
+        int length = query.length();
+        int i = 0;
+        while (i < length) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (query.startsWith(TABLE_NAME_PLACEHOLDER, i)) {
+                tokens.add(new Token(TokenKind.TABLE, TABLE_NAME_PLACEHOLDER));
+                i += TABLE_NAME_PLACEHOLDER.length();
+            } else if (c == '\'' || c == '"') {
+                i = skipQuoted(query, i, c);
+                tokens.add(new Token(TokenKind.OTHER, null));
+            } else if (query.startsWith("--", i)) {
+                int lineEnd = query.indexOf('\n', i);
+                i = lineEnd < 0 ? length : lineEnd + 1;
+            } else if (query.startsWith("/*", i)) {
+                int commentEnd = query.indexOf("*/", i + 2);
+                i = commentEnd < 0 ? length : commentEnd + 2;
+            } else if (c == PARAM_MARKER) {
+                tokens.add(new Token(TokenKind.PARAM, String.valueOf(c), paramCount++));
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenKind.OPEN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenKind.CLOSE, ")"));
+                i++;
+            } else if (Character.isLetter(c) || c == '_') {
+                int wordEnd = i + 1;
+                while (wordEnd < length && isWordPart(query.charAt(wordEnd))) {
+                    wordEnd++;
+                }
+                tokens.add(new Token(TokenKind.WORD, query.substring(i, wordEnd)));
+                i = wordEnd;
+            } else if (c == '<' || c == '>' || c == '=' || c == '!') {
+                int operatorEnd = i + 1;
+                if (operatorEnd < length && (query.charAt(operatorEnd) == '=' ||
+                        (c == '<' && query.charAt(operatorEnd) == '>'))) {
+                    operatorEnd++;
+                }
+                tokens.add(new Token(TokenKind.OPERATOR, query.substring(i, operatorEnd)));
+                i = operatorEnd;
+            } else {
+                int otherEnd = i + 1;
+                if (Character.isDigit(c)) {
+                    while (otherEnd < length && isWordPart(query.charAt(otherEnd))) {
+                        otherEnd++;
+                    }
+                }
+                tokens.add(new Token(TokenKind.OTHER, query.substring(i, otherEnd)));
+                i = otherEnd;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the position after a quoted string, in which the quote is escaped by doubling it.
+     */
+    private static int skipQuoted(String query, int quoteStart, char quote) {
+        int i = quoteStart + 1;
+        while (i < query.length()) {
+            if (query.charAt(i) == quote) {
+                if (i + 1 < query.length() && query.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+    }
+
+    private static String reverse(String operator) {
+        switch (operator) {
+            case ">":
+                return "<";
+            case ">=":
+                return "<=";
+            case "<":
+                return ">";
+            case "<=":
+                return ">=";
+            default:
+                return operator;
+        }
+    }
+
+    /**
+     * Lookup of the rows whose value of an indexed column is within a range.
+     */
+    private static class IndexScan {
+
+        private final String column;
+        private Object lowerBound;
+        private boolean lowerInclusive;
+        private Object upperBound;
+        private boolean upperInclusive;
+
+        IndexScan(String column, Object lowerBound, boolean lowerInclusive, Object upperBound,
+                  boolean upperInclusive) {
+            this.column = column;
+            this.lowerBound = lowerBound;
+            this.lowerInclusive = lowerInclusive;
+            this.upperBound = upperBound;
+            this.upperInclusive = upperInclusive;
+        }
+    }
+
+    /**
+     * Kinds of the tokens of a query, of which only those that make up the comparisons of the columns with the
+     * parameters are told apart.
+     */
+    private enum TokenKind {
+        TABLE, WORD, PARAM, OPERATOR, OPEN, CLOSE, OTHER
+    }
+
+    /**
+     * Token of a query.
+     */
+    private static class Token {
+
+        private final TokenKind kind;
+        private final String text;
+        private final int paramIndex;
+
+        Token(TokenKind kind, String text) {
+            this(kind, text, -1);
+        }
+
+        Token(TokenKind kind, String text, int paramIndex) {
+            this.kind = kind;
+            this.text = text;
+            this.paramIndex = paramIndex;
+        }
+
+        boolean isKeyword(String keyword) {
+            // Keywords are case insensitive as in the table database.
+            return kind == TokenKind.WORD && text.equalsIgnoreCase(keyword);
+        }
+    }
+
+    /**
+     * Counts of the table queries and of the rows which they read, published through the metrics registry.
+     *
+     * @since 1.0.0
+     */
+    public static class Stats {
+
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder indexScans = new LongAdder();
+        private final LongAdder rowsScanned = new LongAdder();
+        private final LongAdder rowsReturned = new LongAdder();
+
+        public long getQueryCount() {
+            return queries.sum();
+        }
+
+        public long getIndexScanCount() {
+            return indexScans.sum();
+        }
+
+        public long getRowsScannedCount() {
+            return rowsScanned.sum();
+        }
+
+        public long getRowsReturnedCount() {
+            return rowsReturned.sum();
+        }
+    }
+}
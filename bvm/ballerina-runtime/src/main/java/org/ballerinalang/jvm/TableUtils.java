@@ -79,46 +79,50 @@ public class TableUtils {
 
     public static void prepareAndExecuteStatement(PreparedStatement stmt, MapValueImpl<?, ?> data) {
         try {
-            Collection<BField> structFields = ((BStructureType) data.getType()).getFields().values();
-            int index = 1;
-            for (BField sf : structFields) {
-                int type = sf.getFieldType().getTag();
-                String fieldName = sf.getFieldName();
-                switch (type) {
-                    case TypeTags.INT_TAG:
-                    case TypeTags.STRING_TAG:
-                    case TypeTags.FLOAT_TAG:
-                    case TypeTags.DECIMAL_TAG:
-                    case TypeTags.BOOLEAN_TAG:
-                    case TypeTags.XML_TAG:
-                    case TypeTags.JSON_TAG:
-                    case TypeTags.ARRAY_TAG:
-                        prepareAndExecuteStatement(stmt, data, index, sf, type, fieldName);
-                        break;
-                    case TypeTags.UNION_TAG:
-                        List<BType> members = ((BUnionType) sf.getFieldType()).getMemberTypes();
-                        if (members.size() != 2) {
-                            throw createTableOperationError(
-                                    "Corresponding Union type in the record is not an assignable nillable type");
-                        }
-                        if (members.get(0).getTag() == TypeTags.NULL_TAG) {
-                            prepareAndExecuteStatement(stmt, data, index, sf, members.get(1).getTag(), fieldName);
-                        } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
-                            prepareAndExecuteStatement(stmt, data, index, sf, members.get(0).getTag(), fieldName);
-                        } else {
-                            throw createTableOperationError(
-                                    "Corresponding Union type in the record is not an assignable nillable type");
-                        }
-                        break;
-                }
-                ++index;
-            }
+            setParameters(stmt, data);
             stmt.execute();
         } catch (SQLException e) {
             throw createTableOperationError("execute update failed: " + e.getMessage());
         }
     }
 
+    static void setParameters(PreparedStatement stmt, MapValueImpl<?, ?> data) throws SQLException {
+        Collection<BField> structFields = ((BStructureType) data.getType()).getFields().values();
+        int index = 1;
+        for (BField sf : structFields) {
+            int type = sf.getFieldType().getTag();
+            String fieldName = sf.getFieldName();
+            switch (type) {
+                case TypeTags.INT_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                case TypeTags.XML_TAG:
+                case TypeTags.JSON_TAG:
+                case TypeTags.ARRAY_TAG:
+                    prepareAndExecuteStatement(stmt, data, index, sf, type, fieldName);
+                    break;
+                case TypeTags.UNION_TAG:
+                    List<BType> members = ((BUnionType) sf.getFieldType()).getMemberTypes();
+                    if (members.size() != 2) {
+                        throw createTableOperationError(
+                                "Corresponding Union type in the record is not an assignable nillable type");
+                    }
+                    if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                        prepareAndExecuteStatement(stmt, data, index, sf, members.get(1).getTag(), fieldName);
+                    } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                        prepareAndExecuteStatement(stmt, data, index, sf, members.get(0).getTag(), fieldName);
+                    } else {
+                        throw createTableOperationError(
+                                "Corresponding Union type in the record is not an assignable nillable type");
+                    }
+                    break;
+            }
+            ++index;
+        }
+    }
+
     private static void prepareAndExecuteStatement(PreparedStatement stmt, MapValueImpl<?, ?> data, int index,
             BField sf, int type, String fieldName) throws SQLException {
         Object value = data.get(fieldName);
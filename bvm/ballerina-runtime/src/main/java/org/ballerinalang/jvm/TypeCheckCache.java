@@ -0,0 +1,215 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code TypeCheckCache} memoizes the results of structural type checks, keyed on the identity of the source and
+ * the target types. Only results computed without any outer assumptions on recursive types are stored, so the
+ * cached results are exact.
+ * <p>
+ * The cache is split into segments by the hash of the type pair, each of which evicts its least recently used
+ * results once full, so types created at runtime, such as anonymous tuple types of map iterators, cannot grow it
+ * indefinitely while the results of the types checked often are kept.
+ *
+ * @since 1.0.0
+ */
+public class TypeCheckCache {
+
+    /**
+     * Upper bound on the number of cached results.
+     */
+    public static final int MAX_SIZE = 4096;
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int MAX_SEGMENT_SIZE = MAX_SIZE / SEGMENT_COUNT;
+
+    private static final Stats STATS = new Stats();
+
+    private static final Segment[] SEGMENTS = new Segment[SEGMENT_COUNT];
+
+    static {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            SEGMENTS[i] = new Segment();
+        }
+    }
+
+    private TypeCheckCache() {
+    }
+
+    static Boolean get(BType sourceType, BType targetType) {
+        TypeIdentityPair key = new TypeIdentityPair(sourceType, targetType);
+        Segment segment = getSegment(key);
+        Boolean result;
+        synchronized (segment) {
+            result = segment.get(key);
+        }
+        if (result == null) {
+            STATS.misses.increment();
+        } else {
+            STATS.hits.increment();
+        }
+        return result;
+    }
+
+    static void put(BType sourceType, BType targetType, boolean result) {
+        TypeIdentityPair key = new TypeIdentityPair(sourceType, targetType);
+        Segment segment = getSegment(key);
+        synchronized (segment) {
+            segment.put(key, result);
+        }
+    }
+
+    /**
+     * Drops the cached results once a type is changed, e.g. when the fields of a type are set after it is created.
+     * The results of the other types may depend on the changed type through their members, hence all the results are
+     * dropped if any of them is of the changed type.
+     *
+     * @param type the changed type
+     */
+    public static void invalidate(BType type) {
+        boolean cached = false;
+        for (Segment segment : SEGMENTS) {
+            synchronized (segment) {
+                if (segment.containsType(type)) {
+                    cached = true;
+                    break;
+                }
+            }
+        }
+        if (!cached) {
+            return;
+        }
+        for (Segment segment : SEGMENTS) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        STATS.invalidations.increment();
+    }
+
+    public static Stats getStats() {
+        return STATS;
+    }
+
+    private static Segment getSegment(TypeIdentityPair key) {
+        int hash = key.hashCode();
+        return SEGMENTS[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Hit, miss and eviction counts of the type check cache, published through the metrics registry.
+     *
+     * @since 1.0.0
+     */
+    public static class Stats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        public long getEvictionCount() {
+            return evictions.sum();
+        }
+
+        public long getInvalidationCount() {
+            return invalidations.sum();
+        }
+
+        public long getSize() {
+            long size = 0;
+            for (Segment segment : SEGMENTS) {
+                synchronized (segment) {
+                    size += segment.size();
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Results of a segment of the cache, in the order from the least to the most recently used.
+     */
+    private static class Segment extends LinkedHashMap<TypeIdentityPair, Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        Segment() {
+            super(MAX_SEGMENT_SIZE, 0.75f, true);
+        }
+
+        boolean containsType(BType type) {
+            for (TypeIdentityPair pair : keySet()) {
+                if (pair.sourceType == type || pair.targetType == type) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TypeIdentityPair, Boolean> eldest) {
+            if (size() <= MAX_SEGMENT_SIZE) {
+                return false;
+            }
+            STATS.evictions.increment();
+            return true;
+        }
+    }
+
+    /**
+     * Source and target type pair compared by reference.
+     */
+    private static class TypeIdentityPair {
+        private final BType sourceType;
+        private final BType targetType;
+
+        TypeIdentityPair(BType sourceType, BType targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypeIdentityPair)) {
+                return false;
+            }
+            TypeIdentityPair other = (TypeIdentityPair) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+}
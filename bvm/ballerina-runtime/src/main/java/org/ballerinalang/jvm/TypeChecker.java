@@ -373,6 +373,41 @@ public class TypeChecker {
             return true;
         }
 
+        // Results of nested checks may depend on the recursive types being resolved by the outer checks, therefore
+        // only the results of the outermost structural checks are cached.
+        if (!unresolvedTypes.isEmpty() || !isStructuralType(targetType)) {
+            return checkIsTypeByTag(sourceType, targetType, unresolvedTypes);
+        }
+
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsTypeByTag(sourceType, targetType, unresolvedTypes);
+        TypeCheckCache.put(sourceType, targetType, result);
+        return result;
+    }
+
+    private static boolean isStructuralType(BType type) {
+        switch (type.getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.ERROR_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean checkIsTypeByTag(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         switch (targetType.getTag()) {
             case TypeTags.BYTE_TAG:
             case TypeTags.FLOAT_TAG:
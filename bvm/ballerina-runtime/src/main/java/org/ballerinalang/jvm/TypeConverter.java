@@ -349,7 +349,7 @@ public class TypeConverter {
         if (!isByteLiteral(sourceVal)) {
             throw BallerinaErrors.createNumericConversionError(sourceVal, BTypes.typeByte);
         }
-        return ((Long) sourceVal).intValue();
+        return (int) sourceVal;
     }
 
     public static int floatToByte(double sourceVal) {
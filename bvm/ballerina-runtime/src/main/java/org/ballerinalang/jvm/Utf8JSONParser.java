@@ -0,0 +1,1118 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.commons.ArrayState;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.RefValue;
+import org.ballerinalang.jvm.values.utils.ArrayUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents a JSON parser which reads UTF-8 encoded JSON content directly from bytes.
+ * <p>
+ * Unlike {@link JSONParser}, the content is not decoded to characters before it is parsed. Strings without escape
+ * sequences are created directly from the input bytes, numbers are accumulated from the digits without creating
+ * intermediate strings, and repeated object keys are shared between documents parsed by the same thread. The
+ * parsed values are the same as those of {@link JSONParser}, except that numbers with an exponent and without a
+ * fraction, such as {@code 1e5}, are parsed as decimals rather than being rejected.
+ * <p>
+ * The content can also be parsed directly into a value of a given type, such as a record, an array or a tuple. The
+ * type of each member is checked as it is read, hence a mismatch is rejected as soon as it is found, and no json
+ * value is created for the members whose type is known. A mismatch is reported as a conversion error, the same way
+ * as {@code constructFrom} reports it.
+ *
+ * @since 1.0.0
+ */
+@SuppressWarnings("unchecked")
+public class Utf8JSONParser {
+
+    private static ThreadLocal<Parser> tlParser = ThreadLocal.withInitial(Parser::new);
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given bytes and returns a json.
+     *
+     * @param bytes bytes which contain the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(byte[] bytes) throws BallerinaException {
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given range of bytes and returns a json.
+     *
+     * @param bytes  bytes which contain the JSON content
+     * @param offset index of the first byte of the JSON content
+     * @param length number of bytes of the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length) throws BallerinaException {
+        return execute(bytes, offset, length, null);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given bytes into a value of the given type. Numbers are
+     * converted to the numeric type of the member they are read into, and the default values of the record fields
+     * which are not in the content are added, the same way as {@code constructFrom} does.
+     *
+     * @param bytes      bytes which contain the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the given type
+     * @throws BallerinaException for any parsing error
+     * @throws ErrorValue         if the content does not match the given type
+     */
+    public static Object parse(byte[] bytes, BType targetType) throws BallerinaException {
+        return parse(bytes, 0, bytes.length, targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given range of bytes into a value of the given type.
+     *
+     * @param bytes      bytes which contain the JSON content
+     * @param offset     index of the first byte of the JSON content
+     * @param length     number of bytes of the JSON content
+     * @param targetType type of the value to be created
+     * @return value of the given type
+     * @throws BallerinaException for any parsing error
+     * @throws ErrorValue         if the content does not match the given type
+     */
+    public static Object parse(byte[] bytes, int offset, int length, BType targetType) throws BallerinaException {
+        return execute(bytes, offset, length, targetType);
+    }
+
+    private static Object execute(byte[] bytes, int offset, int length, BType targetType) {
+        Parser parser = tlParser.get();
+        try {
+            return parser.execute(bytes, offset, offset + length, targetType);
+        } finally {
+            // Need to reset the parser before leaving, so that it does not refer to the input.
+            parser.reset();
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the remaining bytes of the given buffer and returns a json. The
+     * content is parsed in place if the buffer is backed by an array. The position of the buffer is not changed.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BallerinaException {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return parse(bytes);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given {@link InputStream} and returns a json. The stream is read
+     * fully before the content is parsed.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(InputStream in) throws BallerinaException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buff = new byte[8192];
+        try {
+            int count;
+            while ((count = in.read(buff)) > 0) {
+                out.write(buff, 0, count);
+            }
+        } catch (IOException e) {
+            throw BallerinaErrors.createError("Error in parsing JSON data: " + e.getMessage());
+        }
+        return parse(out.toByteArray());
+    }
+
+    /**
+     * Represents a JSON parser related exception.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = -3420574052376361938L;
+
+        public JsonParserException(String msg) {
+            super(msg);
+        }
+
+    }
+
+    /**
+     * Represents a JSON value which does not match the type it is parsed into. It is reported as a conversion error
+     * of the whole document, the same way as {@code constructFrom} reports it.
+     */
+    private static class JsonConversionException extends JsonParserException {
+
+        private static final long serialVersionUID = 6150913525423532917L;
+
+        public JsonConversionException() {
+            super("incompatible JSON value");
+        }
+
+    }
+
+    /**
+     * Represents the parser of a single thread, which keeps the nesting of the current document and the cache of
+     * the object keys.
+     */
+    private static class Parser {
+
+        private static final byte QUOTES = '"';
+        private static final byte SINGLE_QUOTES = '\'';
+        private static final byte REV_SOL = '\\';
+        private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+        private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+        private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+        private static final char REPLACEMENT_CHAR = '\uFFFD';
+        private static final String NULL_TYPE_NAME = "()";
+
+        // Typed values are read recursively, hence the nesting is bounded to not overflow the stack.
+        private static final int MAX_TYPED_DEPTH = 1000;
+
+        // Keys longer than this are not cached, since they are unlikely to be repeated.
+        private static final int MAX_CACHED_KEY_LENGTH = 64;
+        private static final int KEY_CACHE_SIZE = 512;
+        private static final int KEY_CACHE_MASK = KEY_CACHE_SIZE - 1;
+
+        // Doubles with at most this many significant digits and powers of ten are exactly representable, hence they
+        // can be computed by a single multiplication or division without rounding errors.
+        private static final int MAX_EXACT_DIGITS = 15;
+        private static final double[] EXACT_POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17,
+                1e18, 1e19, 1e20, 1e21, 1e22
+        };
+
+        private final byte[][] cachedKeyBytes = new byte[KEY_CACHE_SIZE][];
+        private final String[] cachedKeys = new String[KEY_CACHE_SIZE];
+
+        private Object[] nodesStack = new Object[16];
+        private String[] fieldNames = new String[16];
+        private int depth;
+        private char[] charBuff = new char[256];
+
+        private byte[] buff;
+        // Name of the json type of the document, which is parsed into a value of another type.
+        private String documentTypeName;
+        private int start;
+        private int end;
+        private int index;
+
+        void reset() {
+            for (int i = 0; i < this.depth; i++) {
+                this.nodesStack[i] = null;
+                this.fieldNames[i] = null;
+            }
+            this.depth = 0;
+            this.buff = null;
+            this.documentTypeName = null;
+        }
+
+        Object execute(byte[] buff, int start, int end, BType targetType) throws BallerinaException {
+            this.buff = buff;
+            this.start = start;
+            this.end = end;
+            this.index = start;
+            try {
+                return this.parseDocument(targetType);
+            } catch (JsonConversionException e) {
+                throw this.createConversionError(targetType);
+            } catch (JsonParserException e) {
+                throw new BallerinaException(e.getMessage() + this.location());
+            }
+        }
+
+        private Object parseDocument(BType targetType) throws JsonParserException {
+            this.skipWhitespace();
+            if (this.index >= this.end) {
+                throw new JsonParserException("empty JSON document");
+            }
+            Object value;
+            if (targetType == null) {
+                value = this.parseValue();
+            } else {
+                this.documentTypeName = this.foundTypeName();
+                value = this.readValue(targetType, 0);
+            }
+            this.skipWhitespace();
+            if (this.index < this.end) {
+                throw new JsonParserException("JSON document has already ended");
+            }
+            return value;
+        }
+
+        private ErrorValue createConversionError(BType targetType) {
+            String message;
+            if (NULL_TYPE_NAME.equals(this.documentTypeName)) {
+                message = BLangExceptionHelper.getErrorMessage(RuntimeErrors.CANNOT_CONVERT_NIL, targetType);
+            } else {
+                message = BLangExceptionHelper.getErrorMessage(RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION,
+                                                               this.documentTypeName, targetType);
+            }
+            return BallerinaErrors.createError(BallerinaErrorReasons.CONSTRUCT_FROM_CONVERSION_ERROR, message);
+        }
+
+        /**
+         * Parses the json value which starts at the current index.
+         *
+         * @return the json value
+         */
+        private Object parseValue() throws JsonParserException {
+            Object value;
+            while (true) {
+                byte b = this.buff[this.index];
+                switch (b) {
+                    case '{':
+                        this.index++;
+                        MapValueImpl<String, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+                        this.skipWhitespace();
+                        if (this.peek() == '}') {
+                            this.index++;
+                            value = map;
+                            break;
+                        }
+                        this.push(map);
+                        this.readFieldName("\"", "}");
+                        continue;
+                    case '[':
+                        this.index++;
+                        ArrayValue array = new ArrayValue(new BArrayType(BTypes.typeJSON));
+                        this.skipWhitespace();
+                        if (this.peek() == ']') {
+                            this.index++;
+                            value = array;
+                            break;
+                        }
+                        this.push(array);
+                        continue;
+                    case QUOTES:
+                    case SINGLE_QUOTES:
+                        value = this.readString(b, false);
+                        break;
+                    case 't':
+                        value = this.readLiteral(TRUE) ? Boolean.TRUE : this.readNumber();
+                        break;
+                    case 'f':
+                        value = this.readLiteral(FALSE) ? Boolean.FALSE : this.readNumber();
+                        break;
+                    case 'n':
+                        value = this.readLiteral(NULL) ? null : this.readNumber();
+                        break;
+                    default:
+                        value = this.readNumber();
+                        break;
+                }
+
+                // Add the completed value to its parent, and complete the parents which end with it.
+                while (true) {
+                    if (this.depth == 0) {
+                        return value;
+                    }
+
+                    Object parent = this.nodesStack[this.depth - 1];
+                    this.skipWhitespace();
+                    byte next = this.peek();
+                    if (parent instanceof ArrayValue) {
+                        ((ArrayValue) parent).append(value);
+                        if (next != ',' && next != ']') {
+                            this.throwExpected(",", "]");
+                        }
+                    } else {
+                        ((MapValueImpl<String, Object>) parent).put(this.fieldNames[this.depth - 1], value);
+                        if (next != ',' && next != '}') {
+                            this.throwExpected(",", "}");
+                        }
+                    }
+                    this.index++;
+                    if (next == ',') {
+                        if (parent instanceof MapValueImpl) {
+                            this.skipWhitespace();
+                            this.readFieldName("\"");
+                        }
+                        break;
+                    }
+                    value = this.pop();
+                }
+                this.skipWhitespace();
+                if (this.index >= this.end) {
+                    throw new JsonParserException("unexpected end of JSON document");
+                }
+            }
+        }
+
+        private void push(Object node) {
+            if (this.depth == this.nodesStack.length) {
+                Object[] newNodesStack = new Object[this.depth * 2];
+                System.arraycopy(this.nodesStack, 0, newNodesStack, 0, this.depth);
+                this.nodesStack = newNodesStack;
+                String[] newFieldNames = new String[this.depth * 2];
+                System.arraycopy(this.fieldNames, 0, newFieldNames, 0, this.depth);
+                this.fieldNames = newFieldNames;
+            }
+            this.nodesStack[this.depth++] = node;
+        }
+
+        private Object pop() {
+            this.depth--;
+            Object node = this.nodesStack[this.depth];
+            this.nodesStack[this.depth] = null;
+            this.fieldNames[this.depth] = null;
+            return node;
+        }
+
+        private byte peek() throws JsonParserException {
+            if (this.index >= this.end) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            return this.buff[this.index];
+        }
+
+        private void skipWhitespace() {
+            while (this.index < this.end) {
+                byte b = this.buff[this.index];
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return;
+                }
+                this.index++;
+            }
+        }
+
+        private void throwExpected(String... chars) throws JsonParserException {
+            throw new JsonParserException("expected " + String.join(" or ", chars));
+        }
+
+        private void readFieldName(String... expected) throws JsonParserException {
+            this.fieldNames[this.depth - 1] = this.readKey(expected);
+        }
+
+        /**
+         * Reads the object key which starts at the current index, along with the colon after it.
+         *
+         * @param expected the tokens to report if there is no key at the current index
+         * @return the key
+         */
+        private String readKey(String... expected) throws JsonParserException {
+            byte quote = this.peek();
+            if (quote != QUOTES && quote != SINGLE_QUOTES) {
+                this.throwExpected(expected);
+            }
+            String key = this.readString(quote, true);
+            this.skipWhitespace();
+            if (this.peek() != ':') {
+                this.throwExpected(":");
+            }
+            this.index++;
+            this.skipWhitespace();
+            this.peek();
+            return key;
+        }
+
+        /**
+         * Reads the separator after a member of an object or an array.
+         *
+         * @param close the character which closes the object or the array
+         * @return true if another member follows, false if the object or the array is closed
+         */
+        private boolean readNextMember(byte close) throws JsonParserException {
+            this.skipWhitespace();
+            byte next = this.peek();
+            if (next != ',' && next != close) {
+                this.throwExpected(",", String.valueOf((char) close));
+            }
+            this.index++;
+            this.skipWhitespace();
+            if (next == close) {
+                return false;
+            }
+            this.peek();
+            return true;
+        }
+
+        /**
+         * Reads the value which starts at the current index as a value of the given type.
+         *
+         * @param type       type of the value
+         * @param typedDepth the number of typed values which enclose the value
+         * @return the value
+         */
+        private Object readValue(BType type, int typedDepth) throws JsonParserException {
+            if (typedDepth > MAX_TYPED_DEPTH) {
+                throw new JsonParserException("JSON document is nested too deeply");
+            }
+            byte b = this.peek();
+            if (b == 'n' && this.readLiteral(NULL)) {
+                if (type.isNilable()) {
+                    return null;
+                }
+                throw new JsonConversionException();
+            }
+
+            switch (type.getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.BYTE_TAG:
+                    if (b != '-' && (b < '0' || b > '9')) {
+                        throw new JsonConversionException();
+                    }
+                    return this.convert(this.readNumber(), type);
+                case TypeTags.STRING_TAG:
+                    if (b != QUOTES && b != SINGLE_QUOTES) {
+                        throw new JsonConversionException();
+                    }
+                    return this.readString(b, false);
+                case TypeTags.BOOLEAN_TAG:
+                    if (this.readLiteral(TRUE)) {
+                        return Boolean.TRUE;
+                    } else if (this.readLiteral(FALSE)) {
+                        return Boolean.FALSE;
+                    }
+                    throw new JsonConversionException();
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                case TypeTags.ANY_TAG:
+                    return this.parseValue();
+                case TypeTags.RECORD_TYPE_TAG:
+                    return this.readRecord((BRecordType) type, typedDepth);
+                case TypeTags.MAP_TAG:
+                    return this.readMap((BMapType) type, typedDepth);
+                case TypeTags.ARRAY_TAG:
+                    return this.readArray((BArrayType) type, typedDepth);
+                case TypeTags.TUPLE_TAG:
+                    return this.readTuple((BTupleType) type, typedDepth);
+                case TypeTags.UNION_TAG:
+                    BType memberType = this.getNonNilMemberType((BUnionType) type);
+                    if (memberType != null) {
+                        return this.readValue(memberType, typedDepth);
+                    }
+                    return this.readConvertedValue(type);
+                default:
+                    return this.readConvertedValue(type);
+            }
+        }
+
+        private MapValueImpl<String, Object> readRecord(BRecordType recordType, int typedDepth)
+                throws JsonParserException {
+            if (this.peek() != '{') {
+                throw new JsonConversionException();
+            }
+            this.index++;
+            this.skipWhitespace();
+            MapValueImpl<String, Object> record = new MapValueImpl<>(recordType);
+            Map<String, BField> fields = recordType.getFields();
+            if (this.peek() == '}') {
+                this.index++;
+            } else {
+                do {
+                    String key = this.readKey("\"");
+                    BField field = fields.get(key);
+                    BType fieldType;
+                    if (field != null) {
+                        fieldType = field.type;
+                    } else if (!recordType.sealed) {
+                        fieldType = recordType.restFieldType;
+                    } else {
+                        throw new JsonConversionException();
+                    }
+                    record.put(key, this.readValue(fieldType, typedDepth + 1));
+                } while (this.readNextMember((byte) '}'));
+            }
+
+            boolean defaultsMissing = false;
+            for (BField field : fields.values()) {
+                if (record.containsKey(field.name) || Flags.isFlagOn(field.flags, Flags.OPTIONAL)) {
+                    continue;
+                }
+                if (Flags.isFlagOn(field.flags, Flags.REQUIRED)) {
+                    throw new JsonConversionException();
+                }
+                defaultsMissing = true;
+            }
+            if (defaultsMissing) {
+                MapValueImpl<String, Object> recordWithDefaults = (MapValueImpl<String, Object>)
+                        BallerinaValues.createRecordValue(recordType.getPackage(), recordType.getName());
+                for (Map.Entry<String, Object> fieldEntry : recordWithDefaults.entrySet()) {
+                    if (!record.containsKey(fieldEntry.getKey())) {
+                        record.put(fieldEntry.getKey(), fieldEntry.getValue());
+                    }
+                }
+            }
+            return record;
+        }
+
+        private MapValueImpl<String, Object> readMap(BMapType mapType, int typedDepth) throws JsonParserException {
+            if (this.peek() != '{') {
+                throw new JsonConversionException();
+            }
+            this.index++;
+            this.skipWhitespace();
+            MapValueImpl<String, Object> map = new MapValueImpl<>(mapType);
+            if (this.peek() == '}') {
+                this.index++;
+                return map;
+            }
+            BType constraintType = mapType.getConstrainedType();
+            do {
+                String key = this.readKey("\"");
+                map.put(key, this.readValue(constraintType, typedDepth + 1));
+            } while (this.readNextMember((byte) '}'));
+            return map;
+        }
+
+        private ArrayValue readArray(BArrayType arrayType, int typedDepth) throws JsonParserException {
+            if (this.peek() != '[') {
+                throw new JsonConversionException();
+            }
+            this.index++;
+            this.skipWhitespace();
+            ArrayValue array = new ArrayValue(arrayType);
+            BType elementType = arrayType.getElementType();
+            int elementTypeTag = elementType.getTag();
+            boolean sealed = arrayType.getState() == ArrayState.CLOSED_SEALED;
+            int count = 0;
+            if (this.peek() == ']') {
+                this.index++;
+            } else {
+                do {
+                    if (sealed && count >= arrayType.getSize()) {
+                        throw new JsonConversionException();
+                    }
+                    Object element = this.readValue(elementType, typedDepth + 1);
+                    if (elementTypeTag == TypeTags.BYTE_TAG) {
+                        // Bytes are converted to ints, which are stored as bytes in a byte array.
+                        element = ((Number) element).byteValue();
+                    }
+                    ArrayUtils.add(array, elementTypeTag, count++, element);
+                } while (this.readNextMember((byte) ']'));
+            }
+            if (sealed && count != arrayType.getSize()) {
+                throw new JsonConversionException();
+            }
+            return array;
+        }
+
+        private ArrayValue readTuple(BTupleType tupleType, int typedDepth) throws JsonParserException {
+            if (this.peek() != '[') {
+                throw new JsonConversionException();
+            }
+            this.index++;
+            this.skipWhitespace();
+            ArrayValue tuple = new ArrayValue(tupleType);
+            List<BType> memberTypes = tupleType.getTupleTypes();
+            BType restType = tupleType.getRestType();
+            int count = 0;
+            if (this.peek() == ']') {
+                this.index++;
+            } else {
+                do {
+                    BType memberType = count < memberTypes.size() ? memberTypes.get(count) : restType;
+                    if (memberType == null) {
+                        throw new JsonConversionException();
+                    }
+                    tuple.add(count++, this.readValue(memberType, typedDepth + 1));
+                } while (this.readNextMember((byte) ']'));
+            }
+            if (count < memberTypes.size()) {
+                throw new JsonConversionException();
+            }
+            return tuple;
+        }
+
+        private BType getNonNilMemberType(BUnionType unionType) {
+            BType nonNilMemberType = null;
+            for (BType memberType : unionType.getMemberTypes()) {
+                if (memberType.getTag() == TypeTags.NULL_TAG) {
+                    continue;
+                }
+                if (nonNilMemberType != null) {
+                    return null;
+                }
+                nonNilMemberType = memberType;
+            }
+            return nonNilMemberType;
+        }
+
+        /**
+         * Reads the value which starts at the current index as a json, and converts it to the given type. This is
+         * used for the types which cannot be checked member by member, such as unions of structured types.
+         *
+         * @param type type of the value
+         * @return the converted value
+         */
+        private Object readConvertedValue(BType type) throws JsonParserException {
+            Object value = this.parseValue();
+            List<BType> convertibleTypes = TypeConverter.getConvertibleTypes(value, type);
+            if (convertibleTypes.size() != 1) {
+                throw new JsonConversionException();
+            }
+            BType convertibleType = convertibleTypes.get(0);
+            if (!(value instanceof RefValue)) {
+                return this.convert(value, convertibleType);
+            }
+            try {
+                // The value is not referred to by anything else, hence it is stamped in place.
+                ((RefValue) value).stamp(convertibleType, new ArrayList<>());
+                return value;
+            } catch (BallerinaException e) {
+                throw new JsonConversionException();
+            }
+        }
+
+        private Object convert(Object value, BType type) throws JsonConversionException {
+            if (TypeChecker.checkIsType(value, type)) {
+                return value;
+            }
+            try {
+                return TypeConverter.convertValues(type, value);
+            } catch (ErrorValue e) {
+                throw new JsonConversionException();
+            }
+        }
+
+        /**
+         * Returns the name of the json type of the value which starts at the current index, without reading it.
+         *
+         * @return the name of the type
+         */
+        private String foundTypeName() {
+            switch (this.buff[this.index]) {
+                case '{':
+                    return "map<json>";
+                case '[':
+                    return "json[]";
+                case QUOTES:
+                case SINGLE_QUOTES:
+                    return "string";
+                case 't':
+                case 'f':
+                    return "boolean";
+                case 'n':
+                    return NULL_TYPE_NAME;
+                default:
+                    for (int i = this.index; !this.isDelimiter(i); i++) {
+                        byte b = this.buff[i];
+                        if (b == '.' || b == 'e' || b == 'E') {
+                            return "float";
+                        }
+                    }
+                    return "int";
+            }
+        }
+
+        /**
+         * Reads the string which starts at the current index, including the quotes.
+         *
+         * @param quote the quote character which the string starts and ends with
+         * @param key   whether the string is an object key, which is looked up in the key cache
+         * @return the string
+         */
+        private String readString(byte quote, boolean key) throws JsonParserException {
+            int begin = ++this.index;
+            boolean ascii = true;
+            int hash = 0;
+            for (int i = begin; i < this.end; i++) {
+                byte b = this.buff[i];
+                if (b == quote) {
+                    this.index = i + 1;
+                    int length = i - begin;
+                    if (!ascii) {
+                        return new String(this.buff, begin, length, StandardCharsets.UTF_8);
+                    }
+                    if (key && length <= MAX_CACHED_KEY_LENGTH) {
+                        return this.cachedKey(begin, length, hash);
+                    }
+                    return new String(this.buff, begin, length, StandardCharsets.ISO_8859_1);
+                } else if (b == REV_SOL) {
+                    return this.readEscapedString(quote, begin, i);
+                }
+                ascii &= b >= 0;
+                hash = 31 * hash + b;
+            }
+            this.index = this.end;
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+
+        private String cachedKey(int begin, int length, int hash) {
+            int slot = (hash ^ (hash >>> 16)) & KEY_CACHE_MASK;
+            byte[] keyBytes = this.cachedKeyBytes[slot];
+            if (keyBytes != null && keyBytes.length == length) {
+                int i = 0;
+                while (i < length && keyBytes[i] == this.buff[begin + i]) {
+                    i++;
+                }
+                if (i == length) {
+                    return this.cachedKeys[slot];
+                }
+            }
+            keyBytes = new byte[length];
+            System.arraycopy(this.buff, begin, keyBytes, 0, length);
+            String key = new String(keyBytes, StandardCharsets.ISO_8859_1);
+            this.cachedKeyBytes[slot] = keyBytes;
+            this.cachedKeys[slot] = key;
+            return key;
+        }
+
+        /**
+         * Reads the rest of a string which contains escape sequences, decoding the UTF-8 bytes to characters.
+         *
+         * @param quote  the quote character which the string ends with
+         * @param begin  index of the first byte of the string
+         * @param escape index of the first escape sequence
+         * @return the string
+         */
+        private String readEscapedString(byte quote, int begin, int escape) throws JsonParserException {
+            int count = 0;
+            int i = begin;
+            while (i < this.end) {
+                if (count + 2 > this.charBuff.length) {
+                    this.growCharBuff();
+                }
+                int b = this.buff[i];
+                if (b == quote) {
+                    this.index = i + 1;
+                    return new String(this.charBuff, 0, count);
+                } else if (b == REV_SOL) {
+                    this.index = i + 1;
+                    this.charBuff[count++] = this.readEscapedChar();
+                    i = this.index;
+                } else if (b >= 0) {
+                    this.charBuff[count++] = (char) b;
+                    i++;
+                } else {
+                    i = this.decodeUtf8(i, count);
+                    count += Character.isHighSurrogate(this.charBuff[count]) ? 2 : 1;
+                }
+            }
+            this.index = this.end;
+            throw new JsonParserException("unexpected end of JSON document");
+        }
+
+        private char readEscapedChar() throws JsonParserException {
+            byte b = this.peek();
+            this.index++;
+            switch (b) {
+                case '"':
+                    return '"';
+                case '\\':
+                    return '\\';
+                case '/':
+                    return '/';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    int codePoint = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(this.peek(), 16);
+                        if (digit < 0) {
+                            this.throwExpected("hexadecimal value of an unicode character");
+                        }
+                        codePoint = (codePoint << 4) | digit;
+                        this.index++;
+                    }
+                    return (char) codePoint;
+                default:
+                    this.index--;
+                    this.throwExpected("escaped characters");
+                    return 0;
+            }
+        }
+
+        /**
+         * Decodes the multi-byte UTF-8 sequence at the given index to the char buffer. Malformed sequences are
+         * replaced by the replacement character, as a decoder of the input stream would.
+         *
+         * @param i     index of the first byte of the sequence
+         * @param count index of the char buffer to write to, which has room for two chars
+         * @return index of the byte after the sequence
+         */
+        private int decodeUtf8(int i, int count) {
+            int b = this.buff[i] & 0xFF;
+            int length;
+            int codePoint;
+            // The range of the second byte rules out overlong encodings and code points above U+10FFFF.
+            int secondMin = 0x80;
+            int secondMax = 0xBF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                length = 2;
+                codePoint = b & 0x1F;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                length = 3;
+                codePoint = b & 0x0F;
+                if (b == 0xE0) {
+                    secondMin = 0xA0;
+                }
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                length = 4;
+                codePoint = b & 0x07;
+                if (b == 0xF0) {
+                    secondMin = 0x90;
+                } else if (b == 0xF4) {
+                    secondMax = 0x8F;
+                }
+            } else {
+                this.charBuff[count] = REPLACEMENT_CHAR;
+                return i + 1;
+            }
+
+            for (int j = 1; j < length; j++) {
+                int next = i + j < this.end ? this.buff[i + j] & 0xFF : -1;
+                int min = j == 1 ? secondMin : 0x80;
+                int max = j == 1 ? secondMax : 0xBF;
+                if (next < min || next > max) {
+                    this.charBuff[count] = REPLACEMENT_CHAR;
+                    return i + j;
+                }
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+            if (length == 3 && Character.isSurrogate((char) codePoint)) {
+                this.charBuff[count] = REPLACEMENT_CHAR;
+            } else if (length == 4) {
+                this.charBuff[count] = Character.highSurrogate(codePoint);
+                this.charBuff[count + 1] = Character.lowSurrogate(codePoint);
+            } else {
+                this.charBuff[count] = (char) codePoint;
+            }
+            return i + length;
+        }
+
+        private void growCharBuff() {
+            char[] newBuff = new char[this.charBuff.length * 2];
+            System.arraycopy(this.charBuff, 0, newBuff, 0, this.charBuff.length);
+            this.charBuff = newBuff;
+        }
+
+        private boolean readLiteral(byte[] literal) {
+            int tokenEnd = this.index + literal.length;
+            if (tokenEnd > this.end || !this.isDelimiter(tokenEnd)) {
+                return false;
+            }
+            for (int i = 0; i < literal.length; i++) {
+                if (this.buff[this.index + i] != literal[i]) {
+                    return false;
+                }
+            }
+            this.index = tokenEnd;
+            return true;
+        }
+
+        private boolean isDelimiter(int i) {
+            if (i >= this.end) {
+                return true;
+            }
+            byte b = this.buff[i];
+            return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+
+        /**
+         * Reads the number which starts at the current index. Integers are accumulated to a long, and decimals which
+         * are exactly representable are computed from their digits. The rest of the numbers are parsed from their
+         * text, as they are by {@link JSONParser}.
+         *
+         * @return the number as a {@link Long} or a {@link Double}
+         */
+        private Object readNumber() throws JsonParserException {
+            int begin = this.index;
+            int i = begin;
+            boolean negative = false;
+            if (i < this.end && this.buff[i] == '-') {
+                negative = true;
+                i++;
+            }
+
+            long mantissa = 0;
+            int digits = 0;
+            int significantDigits = 0;
+            boolean overflow = false;
+            while (i < this.end && this.buff[i] >= '0' && this.buff[i] <= '9') {
+                int digit = this.buff[i++] - '0';
+                if (mantissa > (Long.MAX_VALUE - digit) / 10) {
+                    overflow = true;
+                }
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+                digits++;
+            }
+            if (digits == 0) {
+                return this.readNumberToken(begin);
+            }
+
+            boolean decimal = false;
+            int exponent = 0;
+            if (i < this.end && this.buff[i] == '.') {
+                decimal = true;
+                i++;
+                int fractionStart = i;
+                while (i < this.end && this.buff[i] >= '0' && this.buff[i] <= '9') {
+                    if (significantDigits < MAX_EXACT_DIGITS + 1) {
+                        mantissa = mantissa * 10 + (this.buff[i] - '0');
+                        if (mantissa != 0) {
+                            significantDigits++;
+                        }
+                        exponent--;
+                    } else if (this.buff[i] != '0') {
+                        significantDigits++;
+                    }
+                    i++;
+                }
+                if (i == fractionStart) {
+                    return this.readNumberToken(begin);
+                }
+            }
+            if (i < this.end && (this.buff[i] == 'e' || this.buff[i] == 'E')) {
+                decimal = true;
+                i++;
+                boolean negativeExponent = false;
+                if (i < this.end && (this.buff[i] == '+' || this.buff[i] == '-')) {
+                    negativeExponent = this.buff[i] == '-';
+                    i++;
+                }
+                int exponentStart = i;
+                int explicitExponent = 0;
+                while (i < this.end && this.buff[i] >= '0' && this.buff[i] <= '9') {
+                    explicitExponent = Math.min(explicitExponent * 10 + (this.buff[i++] - '0'), 1 << 20);
+                }
+                if (i == exponentStart) {
+                    return this.readNumberToken(begin);
+                }
+                exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            }
+            if (!this.isDelimiter(i)) {
+                return this.readNumberToken(begin);
+            }
+
+            this.index = i;
+            if (!decimal) {
+                if (overflow) {
+                    // Long.MIN_VALUE is the only value which overflows the positive accumulator.
+                    String token = this.token(begin, i);
+                    try {
+                        return Long.parseLong(token);
+                    } catch (NumberFormatException e) {
+                        this.index = begin;
+                        throw new JsonParserException("unrecognized token '" + token + "'");
+                    }
+                }
+                return negative ? -mantissa : mantissa;
+            }
+            if (overflow || significantDigits > MAX_EXACT_DIGITS || exponent < -22 || exponent > 22) {
+                return Double.parseDouble(this.token(begin, i));
+            }
+            double value = exponent < 0 ? mantissa / EXACT_POWERS_OF_TEN[-exponent] :
+                    mantissa * EXACT_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+
+        /**
+         * Reads the token which starts at the given index as a number, the same way as {@link JSONParser} does.
+         *
+         * @param begin index of the first byte of the token
+         * @return the number as a {@link Long} or a {@link Double}
+         */
+        private Object readNumberToken(int begin) throws JsonParserException {
+            int i = begin;
+            while (!this.isDelimiter(i)) {
+                i++;
+            }
+            if (i == begin) {
+                // The value starts with a delimiter, such as a comma after another comma.
+                this.index = begin;
+                throw new JsonParserException("unrecognized token '" + (char) this.buff[begin] + "'");
+            }
+            String token = new String(this.buff, begin, i - begin, StandardCharsets.UTF_8);
+            try {
+                Object value;
+                if (token.indexOf('.') >= 0) {
+                    value = Double.parseDouble(token);
+                } else {
+                    value = Long.parseLong(token);
+                }
+                this.index = i;
+                return value;
+            } catch (NumberFormatException e) {
+                this.index = begin;
+                throw new JsonParserException("unrecognized token '" + token + "'");
+            }
+        }
+
+        private String token(int begin, int end) {
+            return new String(this.buff, begin, end - begin, StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * Returns the location of the current index, which is computed only when an error is reported.
+         *
+         * @return the line and the column of the current index
+         */
+        private String location() {
+            int line = 1;
+            int column = 0;
+            int errorIndex = Math.min(this.index, this.end - 1);
+            for (int i = this.start; i <= errorIndex; i++) {
+                byte b = this.buff[i];
+                if (b == '\n') {
+                    line++;
+                    column = 0;
+                } else if ((b & 0xC0) != 0x80) {
+                    column++;
+                }
+            }
+            return " at line: " + line + " column: " + column;
+        }
+    }
+}
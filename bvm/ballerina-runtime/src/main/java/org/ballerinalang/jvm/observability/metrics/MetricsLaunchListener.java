@@ -18,6 +18,9 @@
 package org.ballerinalang.jvm.observability.metrics;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.TableQueryPlanner;
+import org.ballerinalang.jvm.TypeCheckCache;
 import org.ballerinalang.jvm.launch.LaunchListener;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
@@ -112,6 +115,41 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
+        final BLock.LockStats lockStats = BLock.getStats();
+        final String lockPrefix = "ballerina_lock_";
+        PolledGauge.builder(lockPrefix + "uncontended_acquisitions", lockStats,
+                BLock.LockStats::getUncontendedAcquisitionCount)
+                .description("Lock acquisitions that did not wait for another strand").register();
+        PolledGauge.builder(lockPrefix + "contended_acquisitions", lockStats,
+                BLock.LockStats::getContendedAcquisitionCount)
+                .description("Lock acquisition attempts that had to wait for another strand").register();
+        final TypeCheckCache.Stats typeCheckCacheStats = TypeCheckCache.getStats();
+        final String typeCheckCachePrefix = "ballerina_type_check_cache_";
+        PolledGauge.builder(typeCheckCachePrefix + "hits", typeCheckCacheStats, TypeCheckCache.Stats::getHitCount)
+                .description("Type checks served from the type check cache").register();
+        PolledGauge.builder(typeCheckCachePrefix + "misses", typeCheckCacheStats, TypeCheckCache.Stats::getMissCount)
+                .description("Type checks computed and added to the type check cache").register();
+        PolledGauge.builder(typeCheckCachePrefix + "size", typeCheckCacheStats, TypeCheckCache.Stats::getSize)
+                .description("Number of results in the type check cache").register();
+        PolledGauge.builder(typeCheckCachePrefix + "evictions", typeCheckCacheStats,
+                TypeCheckCache.Stats::getEvictionCount)
+                .description("Least recently used results evicted from the type check cache").register();
+        PolledGauge.builder(typeCheckCachePrefix + "invalidations", typeCheckCacheStats,
+                TypeCheckCache.Stats::getInvalidationCount)
+                .description("Type check cache clears due to changes of the cached types").register();
+        final TableQueryPlanner.Stats tableQueryStats = TableQueryPlanner.getStats();
+        final String tableQueryPrefix = "ballerina_table_query_";
+        PolledGauge.builder(tableQueryPrefix + "queries", tableQueryStats, TableQueryPlanner.Stats::getQueryCount)
+                .description("Queries run against in-memory tables").register();
+        PolledGauge.builder(tableQueryPrefix + "index_scans", tableQueryStats,
+                TableQueryPlanner.Stats::getIndexScanCount)
+                .description("Queried tables whose rows were looked up in an index instead of scanned").register();
+        PolledGauge.builder(tableQueryPrefix + "rows_scanned", tableQueryStats,
+                TableQueryPlanner.Stats::getRowsScannedCount)
+                .description("Rows of the queried tables which were read to evaluate the queries").register();
+        PolledGauge.builder(tableQueryPrefix + "rows_returned", tableQueryStats,
+                TableQueryPlanner.Stats::getRowsReturnedCount)
+                .description("Rows in the results of the table queries").register();
 //        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
 //        final String prefix = "ballerina_scheduler_";
 //        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
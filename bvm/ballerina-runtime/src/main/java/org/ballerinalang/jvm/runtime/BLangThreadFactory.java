@@ -17,7 +17,12 @@
  */
 package org.ballerinalang.jvm.runtime;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -27,24 +32,71 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class BLangThreadFactory implements ThreadFactory {
 
+    /**
+     * Executor backend which runs each blocking call on a JVM virtual thread, if the JVM supports them.
+     */
+    public static final String VIRTUAL_EXECUTOR = "virtual";
+    /**
+     * Executor backend which runs blocking calls on an unbounded pool of platform threads.
+     */
+    public static final String ELASTIC_EXECUTOR = "elastic";
+
+    private static final long ELASTIC_KEEP_ALIVE_SECONDS = 60;
+
     private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final ThreadGroup group;
     private final String namePrefix;
+    private final boolean daemon;
 
     public BLangThreadFactory(ThreadGroup group, String namePrefix) {
+        this(group, namePrefix, false);
+    }
+
+    public BLangThreadFactory(ThreadGroup group, String namePrefix, boolean daemon) {
         this.group = group;
         this.namePrefix = namePrefix + "-";
+        this.daemon = daemon;
     }
 
     public BLangThreadFactory(String namePrefix) {
         this(Thread.currentThread().getThreadGroup(), namePrefix);
     }
 
+    /**
+     * Creates an executor for running blocking calls outside the scheduler threads.
+     *
+     * @param backend    either {@link #VIRTUAL_EXECUTOR} or {@link #ELASTIC_EXECUTOR}
+     * @param namePrefix name prefix of the threads created by the executor
+     * @return executor service for the given backend, an elastic executor if virtual threads are not supported
+     */
+    public static ExecutorService newBlockingExecutor(String backend, String namePrefix) {
+        if (VIRTUAL_EXECUTOR.equals(backend)) {
+            ExecutorService virtualExecutor = newVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                return virtualExecutor;
+            }
+        }
+        // Idle threads are released after the keep alive time, so the pool only grows with the blocked calls.
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, ELASTIC_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                      new SynchronousQueue<>(), new BLangThreadFactory(
+                                              Thread.currentThread().getThreadGroup(), namePrefix, true));
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        // Looked up reflectively since the runtime is compiled against Java 8.
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
     @Override
     public Thread newThread(Runnable r) {
         Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-        if (t.isDaemon()) {
-            t.setDaemon(false);
+        if (t.isDaemon() != daemon) {
+            t.setDaemon(daemon);
         }
         if (t.getPriority() != Thread.NORM_PRIORITY) {
             t.setPriority(Thread.NORM_PRIORITY);
@@ -17,6 +17,7 @@
 package org.ballerinalang.jvm.scheduling;
 
 import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.runtime.BLangThreadFactory;
 import org.ballerinalang.jvm.transactions.TransactionLocalContext;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
@@ -32,14 +33,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintStream;
+import java.util.Deque;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.ballerinalang.jvm.runtime.RuntimeConstants.GLOBAL_TRANSACTION_ID;
 import static org.ballerinalang.jvm.runtime.RuntimeConstants.TRANSACTION_URL;
@@ -63,6 +72,19 @@ public class Scheduler {
      */
     private BlockingQueue<SchedulerItem> runnableList = new LinkedBlockingDeque<>();
 
+    /**
+     * Per worker run queues, only used in work stealing mode. In that mode {@code runnableList} only holds items
+     * submitted from non-worker threads and poison pills.
+     */
+    private Deque<SchedulerItem>[] localQueues;
+
+    /**
+     * Workers parked while waiting for runnable items in work stealing mode.
+     */
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     private static final boolean DEBUG = false;
 
     private static final BlockingQueue<String> DEBUG_LOG;
@@ -83,6 +105,17 @@ public class Scheduler {
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      */
     private int numThreads;
+    /**
+     * Whether each worker keeps its own run queue and steals from others when idle.
+     * This can be enabled by setting the BALLERINA_WORK_STEALING system variable to true.
+     */
+    private boolean workStealing;
+    /**
+     * Executor backend for blocking extern calls, either "elastic" (default) or "virtual".
+     * This can be changed by setting the BALLERINA_BLOCKING_EXECUTOR system variable.
+     */
+    private final String blockingExecutorBackend = getBlockingExecutorBackend();
+    private volatile ExecutorService blockingExecutor;
     private Semaphore mainBlockSem;
 
     public Scheduler(boolean immortal) {
@@ -96,12 +129,18 @@ public class Scheduler {
             logger.error("Error occurred in scheduler while reading system variable:" +
                     BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR, t);
         }
+        this.workStealing = Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_WORK_STEALING_ENV_VAR));
         this.immortal = immortal;
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, false);
+    }
+
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.workStealing = workStealing;
     }
 
     public static Strand getStrand() {
@@ -145,7 +184,7 @@ public class Scheduler {
         if (DEBUG) {
             debugLog(item + " scheduled");
         }
-        runnableList.add(item);
+        enqueue(item, false);
         return future;
     }
 
@@ -167,7 +206,7 @@ public class Scheduler {
         if (DEBUG) {
             debugLog(item + " scheduled");
         }
-        runnableList.add(item);
+        enqueue(item, false);
         return future;
     }
 
@@ -188,37 +227,113 @@ public class Scheduler {
             debugLogger.setDaemon(true);
             debugLogger.start();
         }
+        if (workStealing) {
+            initLocalQueues();
+        }
+        // The executor of the configured backend is created before any strand makes a blocking call.
+        getBlockingExecutor();
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
             logger.error("Error while waiting for poison to work", e);
         }
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Runs a blocking call of the given strand on the blocking executor instead of a scheduler thread.
+     * The strand is parked until the call completes and the scheduler thread is released to run other strands.
+     * The result of the call, or an error if the call fails, is set as the return value of the strand.
+     *
+     * @param strand       - strand making the blocking call
+     * @param blockingCall - call to be executed
+     */
+    public void executeBlocking(Strand strand, Supplier<Object> blockingCall) {
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        getBlockingExecutor().execute(() -> {
+            Object result;
+            try {
+                result = blockingCall.get();
+            } catch (Throwable t) {
+                result = BallerinaErrors.createError(t);
+            }
+            strand.setReturnValues(result);
+            unblockStrand(strand);
+        });
+    }
+
+    private ExecutorService getBlockingExecutor() {
+        ExecutorService executor = blockingExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = blockingExecutor;
+                if (executor == null) {
+                    executor = BLangThreadFactory.newBlockingExecutor(blockingExecutorBackend, "jbal-blocking-exec");
+                    blockingExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static String getBlockingExecutorBackend() {
+        String backend = System.getenv(BLangConstants.BALLERINA_BLOCKING_EXECUTOR_ENV_VAR);
+        if (backend == null || BLangThreadFactory.ELASTIC_EXECUTOR.equals(backend)) {
+            return BLangThreadFactory.ELASTIC_EXECUTOR;
+        }
+        if (BLangThreadFactory.VIRTUAL_EXECUTOR.equals(backend)) {
+            return BLangThreadFactory.VIRTUAL_EXECUTOR;
+        }
+        logger.warn("Unknown value '" + backend + "' for system variable:" +
+                BLangConstants.BALLERINA_BLOCKING_EXECUTOR_ENV_VAR + ", using " + BLangThreadFactory.ELASTIC_EXECUTOR);
+        return BLangThreadFactory.ELASTIC_EXECUTOR;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initLocalQueues() {
+        this.localQueues = new Deque[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            this.localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
     }
 
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        StrandHolder holder = strandHolder.get();
+        Scheduler prevScheduler = holder.scheduler;
+        int prevWorkerId = holder.workerId;
+        holder.scheduler = this;
+        holder.workerId = workerId;
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             logger.error("Error occurred in scheduler", t);
+        } finally {
+            // calling thread of start() goes back to what it was once this scheduler is done
+            holder.scheduler = prevScheduler;
+            holder.workerId = prevWorkerId;
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
         while (true) {
             SchedulerItem item;
             try {
-                item = runnableList.take();
+                item = workStealing ? nextItem(workerId) : runnableList.take();
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -339,9 +454,7 @@ public class Scheduler {
                         }
 
                         if (!immortal) {
-                            for (int i = 0; i < numThreads; i++) {
-                                runnableList.add(POISON_PILL);
-                            }
+                            poison();
                         }
                     }
                     break;
@@ -351,6 +464,80 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Returns the next item for the given worker in work stealing mode. Items are taken from the worker's own
+     * queue first, then from the shared queue and finally stolen from the other workers. Parks the worker
+     * until an item becomes available.
+     *
+     * @param workerId - index of the current worker
+     * @return - next runnable item
+     */
+    private SchedulerItem nextItem(int workerId) {
+        Thread current = Thread.currentThread();
+        while (true) {
+            SchedulerItem item = pollRunnable(workerId);
+            if (item != null) {
+                return item;
+            }
+            idleWorkers.add(current);
+            // need to recheck after going idle, an item may have been added before this worker was visible
+            item = pollRunnable(workerId);
+            if (item != null) {
+                idleWorkers.remove(current);
+                return item;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            idleWorkers.remove(current);
+            // interrupts are ignored same as in the shared queue mode
+            Thread.interrupted();
+        }
+    }
+
+    private SchedulerItem pollRunnable(int workerId) {
+        SchedulerItem item = localQueues[workerId].pollFirst();
+        if (item != null) {
+            return item;
+        }
+        item = runnableList.poll();
+        if (item != null) {
+            return item;
+        }
+        // steal the oldest item of another worker, the owner keeps working on the most recent ones
+        for (int i = 1; i < numThreads; i++) {
+            item = localQueues[(workerId + i) % numThreads].pollLast();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Makes the item available for execution. In work stealing mode items added from a worker of this scheduler
+     * go to that worker's own queue, at the head for rescheduled items and at the tail for new strands.
+     *
+     * @param item - item to be executed
+     * @param lifo - whether the item should be picked before the items already queued by the current worker
+     */
+    private void enqueue(SchedulerItem item, boolean lifo) {
+        if (!workStealing) {
+            runnableList.add(item);
+            return;
+        }
+        StrandHolder holder = strandHolder.get();
+        if (holder.scheduler != this || localQueues == null || item == POISON_PILL) {
+            runnableList.add(item);
+        } else if (lifo) {
+            localQueues[holder.workerId].addFirst(item);
+        } else {
+            localQueues[holder.workerId].addLast(item);
+        }
+        Thread idleWorker = idleWorkers.poll();
+        if (idleWorker != null) {
+            LockSupport.unpark(idleWorker);
+        }
+    }
+
     private Throwable createError(Throwable t) {
         if (t instanceof StackOverflowError) {
             ErrorValue error = BallerinaErrors.createError(BallerinaErrorReasons.STACK_OVERFLOW_ERROR);
@@ -415,7 +602,7 @@ public class Scheduler {
             if (!item.getState().equals(State.RUNNABLE)) {
                 // release if the same strand is waiting for others as well (wait multiple)
                 item.setState(State.RUNNABLE);
-                runnableList.add(item);
+                enqueue(item, true);
                 if (DEBUG) {
                     debugLog(item + " rescheduled");
                 }
@@ -438,7 +625,7 @@ public class Scheduler {
 
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+            enqueue(POISON_PILL, false);
         }
     }
 
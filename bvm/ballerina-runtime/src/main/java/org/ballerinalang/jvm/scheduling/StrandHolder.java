@@ -23,4 +23,12 @@ package org.ballerinalang.jvm.scheduling;
  */
 class StrandHolder {
     Strand strand;
+    /**
+     * Scheduler the current thread is a worker of, null for non-worker threads.
+     */
+    Scheduler scheduler;
+    /**
+     * Index of the current thread within the worker pool of {@code scheduler}.
+     */
+    int workerId = -1;
 }
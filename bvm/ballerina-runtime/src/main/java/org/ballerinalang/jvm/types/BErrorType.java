@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.types;
 
+import org.ballerinalang.jvm.TypeCheckCache;
 import org.ballerinalang.jvm.values.ErrorValue;
 
 /**
@@ -63,6 +64,7 @@ public class BErrorType extends AnnotatableType {
 
     public void setDetailType(BType detailType) {
         this.detailType = detailType;
+        TypeCheckCache.invalidate(this);
     }
 
     @Override
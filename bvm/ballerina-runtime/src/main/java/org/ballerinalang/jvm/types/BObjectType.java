@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm.types;
 
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.TypeCheckCache;
 
 import java.util.Map.Entry;
 import java.util.StringJoiner;
@@ -70,6 +71,7 @@ public class BObjectType extends BStructureType {
 
     public void setAttachedFunctions(AttachedFunction[] attachedFunctions) {
         this.attachedFunctions = attachedFunctions;
+        TypeCheckCache.invalidate(this);
     }
 
     public void setInitializer(AttachedFunction initializer) {
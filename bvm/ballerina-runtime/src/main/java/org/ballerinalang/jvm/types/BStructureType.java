@@ -17,6 +17,8 @@
  */
 package org.ballerinalang.jvm.types;
 
+import org.ballerinalang.jvm.TypeCheckCache;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -66,5 +68,6 @@ public abstract class BStructureType extends AnnotatableType {
 
     public void setFields(Map<String, BField> fields) {
         this.fields = fields;
+        TypeCheckCache.invalidate(this);
     }
 }
@@ -90,6 +90,8 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_WORK_STEALING_ENV_VAR = "BALLERINA_WORK_STEALING";
+    public static final String BALLERINA_BLOCKING_EXECUTOR_ENV_VAR = "BALLERINA_BLOCKING_EXECUTOR";
 
 
     public static final BPackage BALLERINA_BUILTIN_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
@@ -39,6 +39,7 @@ import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
 import org.ballerinalang.jvm.values.freeze.FreezeUtils;
 import org.ballerinalang.jvm.values.freeze.State;
 import org.ballerinalang.jvm.values.freeze.Status;
+import org.ballerinalang.jvm.values.utils.ArrayUtils;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.ByteArrayOutputStream;
@@ -46,6 +47,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Array;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -53,10 +55,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
-import static org.ballerinalang.jvm.TypeChecker.anyToByte;
 import static org.ballerinalang.jvm.TypeChecker.anyToDecimal;
-import static org.ballerinalang.jvm.TypeChecker.anyToFloat;
-import static org.ballerinalang.jvm.TypeChecker.anyToInt;
 import static org.ballerinalang.jvm.TypeConverter.getConvertibleTypes;
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -370,6 +369,44 @@ public class ArrayValue implements RefValue, CollectionValue {
         stringValues[(int) index] = value;
     }
 
+    /**
+     * Copies {@code length} members of this array starting at {@code srcPos} to the given array starting at
+     * {@code destPos}. If both arrays store members of the same basic type, the members are copied directly between
+     * the backing arrays without boxing. Both values are expected to be arrays, not tuples.
+     *
+     * @param srcPos  index of the first member to be copied
+     * @param dest    array to copy the members to
+     * @param destPos index in the destination array to copy the first member to
+     * @param length  number of members to be copied
+     */
+    public void copyTo(long srcPos, ArrayValue dest, long destPos, int length) {
+        if (length <= 0) {
+            return;
+        }
+        rangeCheckForGet(srcPos, size);
+        rangeCheckForGet(srcPos + length - 1, size);
+
+        BType destElementType = dest.elementType;
+        if (elementType == null || destElementType == null || !isBasicType(elementType) ||
+                elementType.getTag() != destElementType.getTag()) {
+            int destTypeTag = destElementType == null ? -1 : destElementType.getTag();
+            for (int i = 0; i < length; i++) {
+                ArrayUtils.add(dest, destTypeTag, destPos + i, getValue(srcPos + i));
+            }
+            return;
+        }
+
+        dest.handleFrozenArrayValue();
+        if (destPos > dest.size) {
+            // fills the gap up to the first member, same as adding it individually
+            dest.prepareForAdd(destPos, dest.getCurrentArrayLength());
+        }
+        dest.prepareForConsecutiveMultiAdd(destPos + length - 1, dest.getCurrentArrayLength());
+        int typeTag = elementType.getTag();
+        System.arraycopy(getArrayFromType(typeTag), (int) srcPos, dest.getArrayFromType(typeTag), (int) destPos,
+                         length);
+    }
+
     //-------------------------------------------------------------------------------------------------------------
 
     public void append(Object value) {
@@ -418,6 +455,10 @@ public class ArrayValue implements RefValue, CollectionValue {
     }
 
     private void addToIntArray(ArrayValue vals, int startIndex) {
+        if (vals.storesBasicType(TypeTags.INT_TAG)) {
+            System.arraycopy(vals.intValues, 0, this.intValues, startIndex, vals.size);
+            return;
+        }
         int endIndex = startIndex + vals.size;
         for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
             add(i, vals.getInt(j));
@@ -425,6 +466,10 @@ public class ArrayValue implements RefValue, CollectionValue {
     }
 
     private void addToFloatArray(ArrayValue vals, int startIndex) {
+        if (vals.storesBasicType(TypeTags.FLOAT_TAG)) {
+            System.arraycopy(vals.floatValues, 0, this.floatValues, startIndex, vals.size);
+            return;
+        }
         int endIndex = startIndex + vals.size;
         for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
             add(i, vals.getFloat(j));
@@ -432,6 +477,10 @@ public class ArrayValue implements RefValue, CollectionValue {
     }
 
     private void addToStringArray(ArrayValue vals, int startIndex) {
+        if (vals.storesBasicType(TypeTags.STRING_TAG)) {
+            System.arraycopy(vals.stringValues, 0, this.stringValues, startIndex, vals.size);
+            return;
+        }
         int endIndex = startIndex + vals.size;
         for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
             add(i, vals.getString(j));
@@ -439,14 +488,14 @@ public class ArrayValue implements RefValue, CollectionValue {
     }
 
     private void addToByteArray(ArrayValue vals, int startIndex) {
-        int endIndex = startIndex + vals.size;
-        byte[] bytes = vals.getBytes();
-        for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
-            this.byteValues[i] = bytes[j];
-        }
+        System.arraycopy(vals.getBytes(), 0, this.byteValues, startIndex, vals.size);
     }
 
     private void addToBooleanArray(ArrayValue vals, int startIndex) {
+        if (vals.storesBasicType(TypeTags.BOOLEAN_TAG)) {
+            System.arraycopy(vals.booleanValues, 0, this.booleanValues, startIndex, vals.size);
+            return;
+        }
         int endIndex = startIndex + vals.size;
         for (int i = startIndex, j = 0; i < endIndex; i++, j++) {
             add(i, vals.getBoolean(j));
@@ -752,7 +801,7 @@ public class ArrayValue implements RefValue, CollectionValue {
     public void serialize(OutputStream outputStream) {
         if (elementType.getTag() == TypeTags.BYTE_TAG) {
             try {
-                outputStream.write(byteValues);
+                outputStream.write(byteValues, 0, size);
             } catch (IOException e) {
                 throw new BallerinaException("error occurred while writing the binary content to the output stream", e);
             }
@@ -896,7 +945,7 @@ public class ArrayValue implements RefValue, CollectionValue {
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return new String(byteOut.toByteArray(), StandardCharsets.UTF_8);
     }
 
     private BType getElementType(BType type) {
@@ -1015,6 +1064,10 @@ public class ArrayValue implements RefValue, CollectionValue {
         return this.freezeStatus.isFrozen();
     }
 
+    private boolean storesBasicType(int typeTag) {
+        return elementType != null && elementType.getTag() == typeTag;
+    }
+
     private boolean isBasicType(BType type) {
         return type.getTag() <= TypeTags.BOOLEAN_TAG && type.getTag() != TypeTags.DECIMAL_TAG;
     }
@@ -1111,53 +1164,57 @@ public class ArrayValue implements RefValue, CollectionValue {
     }
 
     private void convertNumericTypeArray(BType type, BType arrayElementType) {
-        if (arrayElementType.getTag() == this.elementType.getTag()) {
+        int sourceTypeTag = this.elementType.getTag();
+        if (arrayElementType.getTag() == sourceTypeTag) {
             return;
         }
 
+        // The members are converted between the backing arrays, without boxing them.
         switch (arrayElementType.getTag()) {
             case TypeTags.BYTE_TAG:
                 byteValues = (byte[]) newArrayInstance(Byte.TYPE);
-                for (int i = 0; i < this.size(); i++) {
-                    byteValues[i] = (byte) anyToByte(this.get(i));
+                for (int i = 0; i < this.size; i++) {
+                    byteValues[i] = (byte) (sourceTypeTag == TypeTags.INT_TAG ? TypeConverter.intToByte(intValues[i]) :
+                            TypeConverter.floatToByte(floatValues[i]));
                 }
                 break;
             case TypeTags.INT_TAG:
                 intValues = (long[]) newArrayInstance(Long.TYPE);
-                for (int i = 0; i < this.size(); i++) {
-                    intValues[i] = anyToInt(this.get(i));
+                for (int i = 0; i < this.size; i++) {
+                    intValues[i] = sourceTypeTag == TypeTags.BYTE_TAG ? Byte.toUnsignedLong(byteValues[i]) :
+                            TypeConverter.floatToInt(floatValues[i]);
                 }
                 break;
             case TypeTags.FLOAT_TAG:
                 floatValues = (double[]) newArrayInstance(Double.TYPE);
-                for (int i = 0; i < this.size(); i++) {
-                    floatValues[i] = anyToFloat(this.get(i));
+                for (int i = 0; i < this.size; i++) {
+                    floatValues[i] = sourceTypeTag == TypeTags.BYTE_TAG ? Byte.toUnsignedInt(byteValues[i]) :
+                            intValues[i];
                 }
                 break;
             case TypeTags.DECIMAL_TAG:
                 for (int i = 0; i < this.size(); i++) {
                     refValues[i] = anyToDecimal(this.get(i));
                 }
-
-                switch (this.elementType.getTag()) {
-                    case TypeTags.BYTE_TAG:
-                        byteValues = null;
-                        break;
-                    case TypeTags.INT_TAG:
-                        intValues = null;
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        floatValues = null;
-                        break;
-                }
-                this.elementType = arrayElementType;
-                this.arrayType = type;
-                return;
+                break;
         }
 
+        switch (sourceTypeTag) {
+            case TypeTags.BYTE_TAG:
+                byteValues = null;
+                break;
+            case TypeTags.INT_TAG:
+                intValues = null;
+                break;
+            case TypeTags.FLOAT_TAG:
+                floatValues = null;
+                break;
+        }
         this.elementType = arrayElementType;
         this.arrayType = type;
-        refValues = null;
+        if (arrayElementType.getTag() != TypeTags.DECIMAL_TAG) {
+            refValues = null;
+        }
     }
     
     @Override
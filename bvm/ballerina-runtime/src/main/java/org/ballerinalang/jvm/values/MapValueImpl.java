@@ -45,6 +45,8 @@ import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -622,6 +624,27 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         }
     }
 
+    /**
+     * Writes a map out as JSON, which is serialized straight to the given stream rather than being built as a string
+     * first.
+     *
+     * @param outputStream Represent the output stream that the data will be written to.
+     */
+    @Override
+    public void serialize(OutputStream outputStream) {
+        if (TypeChecker.getType(this).getTag() != TypeTags.MAP_TAG) {
+            MapValue.super.serialize(outputStream);
+            return;
+        }
+        try {
+            JSONGenerator gen = new JSONGenerator(outputStream);
+            gen.serialize(this);
+            gen.flush();
+        } catch (IOException e) {
+            throw new BallerinaException("error occurred while serializing data", e);
+        }
+    }
+
     public String getJSONString() {
         ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
         JSONGenerator gen = new JSONGenerator(byteOut);
@@ -631,7 +654,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return new String(byteOut.toByteArray(), StandardCharsets.UTF_8);
     }
 
     @Override
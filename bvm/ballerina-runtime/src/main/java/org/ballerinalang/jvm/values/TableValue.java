@@ -20,7 +20,9 @@ package org.ballerinalang.jvm.values;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.ColumnDefinition;
 import org.ballerinalang.jvm.DataIterator;
+import org.ballerinalang.jvm.InMemoryTable;
 import org.ballerinalang.jvm.TableProvider;
+import org.ballerinalang.jvm.TableQueryPlanner;
 import org.ballerinalang.jvm.TableUtils;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BFunctionType;
@@ -44,6 +46,11 @@ import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
  * The {@code {@link TableValue}} represents a two dimensional data set in Ballerina.
  * </p>
  * <p>
+ * The rows of a table created in Ballerina are kept in an {@link InMemoryTable}. The table database of
+ * {@link TableProvider} holds the results of the table queries, which run against the mirrors of the queried tables
+ * or the rows of them looked up in an index.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p>
  *  
@@ -56,6 +63,7 @@ public class TableValue implements RefValue, CollectionValue {
     private boolean nextPrefetched;
     private TableProvider tableProvider;
     private String tableName;
+    private InMemoryTable inMemoryTable;
     private BStructureType constraintType;
     private ArrayValue primaryKeys;
     private boolean tableClosed;
@@ -90,26 +98,40 @@ public class TableValue implements RefValue, CollectionValue {
             throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
                     "Table query over a cursor table not supported");
         }
-        if (joinTable != null) {
-            if (!joinTable.isInMemoryTable()) {
-                throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
-                        "Table query over a cursor table not supported");
+        if (joinTable != null && !joinTable.isInMemoryTable()) {
+            throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
+                    "Table query over a cursor table not supported");
+        }
+        String fromTableName = fromTable.exportTable(query, 0, params);
+        String joinTableName = null;
+        try {
+            if (joinTable != null) {
+                joinTableName = joinTable.exportTable(query, 1, params);
+                this.tableName = tableProvider.createTable(fromTableName, joinTableName, query, constraintType,
+                                                           params);
+            } else {
+                this.tableName = tableProvider.createTable(fromTableName, query, constraintType, params);
+            }
+        } finally {
+            fromTable.dropExportedTable(fromTableName);
+            if (joinTableName != null) {
+                joinTable.dropExportedTable(joinTableName);
             }
-            this.tableName = tableProvider.createTable(fromTable.tableName, joinTable.tableName, query,
-                                                       constraintType, params);
-        } else {
-            this.tableName = tableProvider.createTable(fromTable.tableName, query, constraintType, params);
         }
+        TableQueryPlanner.recordQuery(tableName);
         this.constraintType = constraintType;
         this.type = new BTableType(constraintType);
     }
 
     public TableValue(BType type, ArrayValue keyColumns, ArrayValue dataRows) {
+        this(type, null, keyColumns, dataRows);
+    }
+
+    public TableValue(BType type, ArrayValue indexColumns, ArrayValue keyColumns, ArrayValue dataRows) {
         //Create table with given constraints.
         BType constrainedType = ((BTableType) type).getConstrainedType();
-        this.tableProvider = TableProvider.getInstance();
-        this.tableName = tableProvider.createTable(constrainedType, keyColumns);
         this.constraintType = (BStructureType) constrainedType;
+        this.inMemoryTable = new InMemoryTable(constraintType, indexColumns, keyColumns);
         this.type = new BTableType(constraintType);
         this.primaryKeys = keyColumns;
         //Insert initial data
@@ -118,6 +140,13 @@ public class TableValue implements RefValue, CollectionValue {
         }
     }
 
+    private TableValue(TableValue table) {
+        this.constraintType = table.constraintType;
+        this.type = new BTableType(constraintType);
+        this.primaryKeys = table.primaryKeys;
+        this.inMemoryTable = table.inMemoryTable.copy();
+    }
+
     @Override
     public String toString() {
         return stringValue();
@@ -225,7 +254,11 @@ public class TableValue implements RefValue, CollectionValue {
                     "incompatible types: record of type:" + data.getType().getName()
                             + " cannot be added to a table with type:" + this.constraintType.getName());
         }
-        tableProvider.insertData(tableName, data);
+        if (inMemoryTable != null) {
+            inMemoryTable.insert(data);
+        } else {
+            tableProvider.insertData(tableName, data);
+        }
         reset();
     }
 
@@ -242,6 +275,11 @@ public class TableValue implements RefValue, CollectionValue {
                             .getName() + " cannot be used to remove records from a table with type:"
                             + this.constraintType.getName()));
         }
+        if (inMemoryTable != null) {
+            int deletedCount = inMemoryTable.delete(row -> func.apply(new Object[] { strand, row, true }));
+            reset();
+            return deletedCount;
+        }
         int deletedCount = 0;
         while (this.hasNext()) {
             MapValueImpl<String, Object> row = this.getNext();
@@ -308,6 +346,12 @@ public class TableValue implements RefValue, CollectionValue {
             return refs.get(this);
         }
 
+        if (inMemoryTable != null) {
+            TableValue table = new TableValue(this);
+            refs.put(this, table);
+            return table;
+        }
+
         TableIterator cloneIterator = tableProvider.createIterator(this.tableName, this.constraintType);
         ArrayValue data = new ArrayValue();
         int cursor = 0;
@@ -341,7 +385,8 @@ public class TableValue implements RefValue, CollectionValue {
     }
 
     private void generateIterator() {
-        this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        this.iterator = inMemoryTable != null ? inMemoryTable.createIterator() :
+                tableProvider.createIterator(tableName, this.constraintType);
         resetIterationHelperAttributes();
     }
 
@@ -359,7 +404,30 @@ public class TableValue implements RefValue, CollectionValue {
         if (this.iterator != null) {
             this.iterator.close();
         }
-        tableProvider.dropTable(this.tableName);
+        if (tableProvider != null && tableName != null) {
+            tableProvider.dropTable(this.tableName);
+        }
+        if (inMemoryTable != null) {
+            inMemoryTable.dropMirrorTable();
+        }
+    }
+
+    /**
+     * Returns the name of the table in the table database, which the table queries run against. The rows of an
+     * in-memory table, which may match the where clause of the table in the query, are provided by
+     * {@link TableQueryPlanner}.
+     */
+    private String exportTable(String query, int tableOccurrence, ArrayValue params) {
+        if (inMemoryTable == null) {
+            return tableName;
+        }
+        return TableQueryPlanner.exportTable(inMemoryTable, query, tableOccurrence, params);
+    }
+
+    private void dropExportedTable(String exportedTableName) {
+        if (inMemoryTable != null) {
+            TableQueryPlanner.releaseTable(inMemoryTable, exportedTableName);
+        }
     }
 
     private void insertInitialData(ArrayValue data) {
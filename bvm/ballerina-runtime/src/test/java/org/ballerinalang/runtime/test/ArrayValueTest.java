@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Test cases for the conversions of the members of basic type {@link ArrayValue}s.
+ */
+public class ArrayValueTest {
+
+    @Test
+    public void testStampIntArrayAsFloatArray() {
+        ArrayValue array = new ArrayValue(new long[]{1, -2, 3});
+        array.stamp(new BArrayType(BTypes.typeFloat), new ArrayList<>());
+
+        Assert.assertEquals(getElementTypeTag(array), TypeTags.FLOAT_TAG);
+        Assert.assertEquals(array.size(), 3);
+        Assert.assertEquals(array.getFloat(0), 1.0);
+        Assert.assertEquals(array.getFloat(1), -2.0);
+        Assert.assertEquals(array.getFloat(2), 3.0);
+    }
+
+    @Test
+    public void testStampFloatArrayAsIntArray() {
+        ArrayValue array = new ArrayValue(new double[]{1.4, 2.5, -3.6});
+        array.stamp(new BArrayType(BTypes.typeInt), new ArrayList<>());
+
+        Assert.assertEquals(getElementTypeTag(array), TypeTags.INT_TAG);
+        Assert.assertEquals(array.getInt(0), 1);
+        Assert.assertEquals(array.getInt(1), 2);
+        Assert.assertEquals(array.getInt(2), -4);
+    }
+
+    @Test
+    public void testStampByteArrayAsIntArray() {
+        ArrayValue array = new ArrayValue(new byte[]{1, (byte) 200});
+        array.stamp(new BArrayType(BTypes.typeInt), new ArrayList<>());
+
+        Assert.assertEquals(array.getInt(0), 1);
+        Assert.assertEquals(array.getInt(1), 200);
+    }
+
+    @Test
+    public void testStampIntArrayAsByteArray() {
+        ArrayValue array = new ArrayValue(new long[]{0, 255});
+        array.stamp(new BArrayType(BTypes.typeByte), new ArrayList<>());
+
+        Assert.assertEquals(getElementTypeTag(array), TypeTags.BYTE_TAG);
+        Assert.assertEquals(Byte.toUnsignedInt(array.getByte(0)), 0);
+        Assert.assertEquals(Byte.toUnsignedInt(array.getByte(1)), 255);
+    }
+
+    @Test(expectedExceptions = ErrorValue.class)
+    public void testStampIntArrayWithNonByteMembersAsByteArray() {
+        ArrayValue array = new ArrayValue(new long[]{1, 256});
+        array.stamp(new BArrayType(BTypes.typeByte), new ArrayList<>());
+    }
+
+    @Test
+    public void testUnshiftMembersOfStampedArray() {
+        ArrayValue stamped = new ArrayValue(new long[]{1, 2});
+        stamped.stamp(new BArrayType(BTypes.typeFloat), new ArrayList<>());
+        ArrayValue array = new ArrayValue(new double[]{3.0});
+
+        array.unshift(0, stamped);
+
+        Assert.assertEquals(array.size(), 3);
+        Assert.assertEquals(array.getFloat(0), 1.0);
+        Assert.assertEquals(array.getFloat(1), 2.0);
+        Assert.assertEquals(array.getFloat(2), 3.0);
+    }
+
+    private static int getElementTypeTag(ArrayValue array) {
+        return ((BArrayType) array.getArrayType()).getElementType().getTag();
+    }
+}
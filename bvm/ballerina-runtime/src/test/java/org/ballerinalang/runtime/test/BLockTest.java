@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.function.Consumer;
+
+/**
+ * Test cases for {@link BLock}.
+ */
+public class BLockTest {
+
+    private static final int STRAND_COUNT = 200;
+
+    @Test
+    public void testReentrantLocking() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand owner = new Strand(scheduler);
+        Strand other = new Strand(scheduler);
+        BLock lock = new BLock();
+        long uncontended = BLock.getStats().getUncontendedAcquisitionCount();
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertTrue(lock.lock(owner));
+        lock.unlock();
+        Assert.assertTrue(lock.lock(owner));
+        lock.unlock();
+        lock.unlock();
+
+        // Released once every acquisition of the owner is unlocked.
+        Assert.assertTrue(lock.lock(other));
+        lock.unlock();
+        Assert.assertEquals(owner.getState(), State.RUNNABLE);
+        Assert.assertEquals(other.getState(), State.RUNNABLE);
+        Assert.assertEquals(BLock.getStats().getUncontendedAcquisitionCount(), uncontended + 4);
+    }
+
+    @Test
+    public void testContendedLockBlocksStrand() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand owner = new Strand(scheduler);
+        Strand waiter = new Strand(scheduler);
+        BLock lock = new BLock();
+        long contended = BLock.getStats().getContendedAcquisitionCount();
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiter));
+        Assert.assertEquals(waiter.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(BLock.getStats().getContendedAcquisitionCount(), contended + 1);
+    }
+
+    @Test
+    public void testMutualExclusionOfStrands() {
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLock();
+        int[] counter = new int[1];
+        long contended = BLock.getStats().getContendedAcquisitionCount();
+
+        // A strand blocked on the lock yields, and runs the function again once the lock is released.
+        Consumer<Object[]> increment = params -> {
+            Strand strand = (Strand) params[0];
+            if (!lock.lock(strand)) {
+                return;
+            }
+            try {
+                int value = counter[0];
+                Thread.sleep(1);
+                counter[0] = value + 1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        };
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            scheduler.schedule(new Object[1], increment, null, null);
+        }
+        // returns once all the strands are completed and the workers have taken the poison pill
+        scheduler.start();
+
+        Assert.assertEquals(counter[0], STRAND_COUNT);
+        Assert.assertTrue(BLock.getStats().getContendedAcquisitionCount() > contended);
+    }
+}
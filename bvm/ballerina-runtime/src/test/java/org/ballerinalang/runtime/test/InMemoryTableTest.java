@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.DataIterator;
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.TableProvider;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link InMemoryTable}.
+ */
+public class InMemoryTableTest {
+
+    private static final BRecordType PERSON_TYPE = createPersonType();
+
+    @Test
+    public void testRowsOrderedByIntPrimaryKey() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"id"}));
+        table.insert(createPerson(3, "john"));
+        table.insert(createPerson(1, "jane"));
+        table.insert(createPerson(2, "martin"));
+
+        Assert.assertEquals(getIds(table.createIterator()), "1,2,3");
+    }
+
+    @Test(expectedExceptions = ErrorValue.class)
+    public void testDuplicatePrimaryKey() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"id", "name"}));
+        table.insert(createPerson(1, "jane"));
+        table.insert(createPerson(1, "john"));
+        table.insert(createPerson(1, "jane"));
+    }
+
+    @Test
+    public void testIteratorReadsSnapshot() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, null);
+        table.insert(createPerson(2, "jane"));
+        DataIterator iterator = table.createIterator();
+        table.insert(createPerson(1, "john"));
+        table.delete(person -> (Long) person.get("id") == 2);
+
+        Assert.assertEquals(getIds(iterator), "2");
+        Assert.assertEquals(getIds(table.createIterator()), "1");
+    }
+
+    @Test
+    public void testRowsAreCopied() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, null);
+        MapValueImpl<String, Object> person = createPerson(1, "jane");
+        table.insert(person);
+        ((ArrayValue) person.get("scores")).add(0, 100L);
+
+        DataIterator iterator = table.createIterator();
+        Assert.assertTrue(iterator.next());
+        MapValueImpl<String, Object> row = (MapValueImpl<String, Object>) iterator.generateNext();
+        Assert.assertEquals(((ArrayValue) row.get("scores")).size(), 0);
+        ((ArrayValue) row.get("scores")).add(0, 100L);
+        Assert.assertEquals(((ArrayValue) ((MapValueImpl<?, ?>) iterator.generateNext()).get("scores")).size(), 0);
+
+        InMemoryTable copy = table.copy();
+        copy.insert(createPerson(2, "john"));
+        Assert.assertEquals(getIds(table.createIterator()), "1");
+        Assert.assertEquals(getIds(copy.createIterator()), "1,2");
+        Assert.assertEquals(table.createIterator().getColumnDefinitions().size(), 3);
+    }
+
+    @Test
+    public void testDeleteRows() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"id"}));
+        for (long id = 1; id <= 10; id++) {
+            table.insert(createPerson(id, "person" + id));
+        }
+        int deletedCount = table.delete(person -> (Long) person.get("id") % 2 == 0);
+        table.insert(createPerson(4, "john"));
+
+        Assert.assertEquals(deletedCount, 5);
+        Assert.assertEquals(table.size(), 6);
+        Assert.assertEquals(getIds(table.createIterator()), "1,3,4,5,7,9");
+    }
+
+    @Test
+    public void testIndexLookup() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"name"}),
+                                                new ArrayValue(new String[]{"id"}));
+        table.insert(createPerson(4, "john"));
+        table.insert(createPerson(1, "martin"));
+        table.insert(createPerson(3, "jane"));
+        table.insert(createPerson(2, "john"));
+
+        Assert.assertEquals(getIds(table.createIterator("name", "john", true, "john", true)), "2,4");
+        Assert.assertEquals(getIds(table.createIterator("NAME", "jane", false, null, false)), "1,2,4");
+        Assert.assertEquals(getIds(table.createIterator("name", null, false, "john", false)), "3");
+        Assert.assertEquals(getIds(table.createIterator("id", 3L, true, 3L, true)), "3");
+        Assert.assertNull(table.createIterator("id", 1L, true, 3L, true));
+        Assert.assertNull(table.createIterator("name", 1L, true, 1L, true));
+
+        table.delete(person -> "john".equals(person.get("name")) && (Long) person.get("id") == 4);
+        InMemoryTable copy = table.copy();
+        copy.insert(createPerson(5, "john"));
+        Assert.assertEquals(getIds(table.createIterator("name", "john", true, "john", true)), "2");
+        Assert.assertEquals(getIds(copy.createIterator("name", "john", true, "john", true)), "2,5");
+    }
+
+    @Test
+    public void testRowsShiftedInKeyOrder() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"id"}));
+        for (long id = 20; id > 10; id--) {
+            table.insert(createPerson(id, "person" + id));
+        }
+        DataIterator iterator = table.createIterator();
+        table.insert(createPerson(5, "john"));
+        table.insert(createPerson(15, "jane"));
+        table.insert(createPerson(16, "martin"));
+
+        Assert.assertEquals(getIds(iterator), "11,12,13,14,15,16,17,18,19,20");
+        Assert.assertEquals(getIds(table.createIterator()), "5,11,12,13,14,15,16,17,18,19,20");
+    }
+
+    @Test
+    public void testByteArrayPrimaryKey() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("data", new BField(new BArrayType(BTypes.typeByte), "data", Flags.REQUIRED));
+        BRecordType blobType = new BRecordType("Blob", new BPackage("test", "tables"), 0, fields, null, true, 0);
+        InMemoryTable table = new InMemoryTable(blobType, new ArrayValue(new String[]{"data"}));
+        // Neither of the values is valid UTF-8, hence they would be the same key if decoded as a string.
+        table.insert(createBlob(blobType, (byte) 0xFF));
+        table.insert(createBlob(blobType, (byte) 0xFE));
+
+        Assert.assertEquals(table.size(), 2);
+        try {
+            table.insert(createBlob(blobType, (byte) 0xFF));
+            Assert.fail("duplicate primary key inserted");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(table.size(), 2);
+        }
+    }
+
+    @Test
+    public void testMirrorTable() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"id"}));
+        table.insert(createPerson(1, "jane"));
+        table.insert(createPerson(2, "john"));
+        String mirrorTableName = table.getMirrorTable();
+        TableProvider provider = TableProvider.getInstance();
+        try {
+            Assert.assertTrue(table.isMirrorTable(mirrorTableName));
+            Assert.assertEquals(table.getMirrorTable(), mirrorTableName);
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 2);
+
+            // The mirror is brought up to date only when it is queried.
+            table.insert(createPerson(3, "martin"));
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 2);
+            Assert.assertEquals(table.getMirrorTable(), mirrorTableName);
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 3);
+
+            table.delete(person -> (Long) person.get("id") == 1);
+            table.insert(createPerson(4, "anne"));
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 3);
+            Assert.assertEquals(table.getMirrorTable(), mirrorTableName);
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 3);
+            table.delete(person -> (Long) person.get("id") == 2);
+            Assert.assertEquals(table.getMirrorTable(), mirrorTableName);
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 2);
+            Assert.assertFalse(table.copy().isMirrorTable(mirrorTableName));
+        } finally {
+            table.dropMirrorTable();
+        }
+        Assert.assertFalse(table.isMirrorTable(mirrorTableName));
+    }
+
+    private static MapValueImpl<String, Object> createBlob(BRecordType blobType, byte value) {
+        MapValueImpl<String, Object> blob = new MapValueImpl<>(blobType);
+        blob.put("data", new ArrayValue(new byte[]{value}));
+        return blob;
+    }
+
+    private static String getIds(DataIterator iterator) {
+        List<String> ids = new ArrayList<>();
+        while (iterator.next()) {
+            ids.add(String.valueOf(iterator.getInt(1)));
+        }
+        return String.join(",", ids);
+    }
+
+    private static MapValueImpl<String, Object> createPerson(long id, String name) {
+        MapValueImpl<String, Object> person = new MapValueImpl<>(PERSON_TYPE);
+        person.put("id", id);
+        person.put("name", name);
+        person.put("scores", new ArrayValue(new BArrayType(BTypes.typeInt)));
+        return person;
+    }
+
+    private static BRecordType createPersonType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("scores", new BField(new BArrayType(BTypes.typeInt), "scores", Flags.REQUIRED));
+        return new BRecordType("Person", new BPackage("test", "tables"), 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.Utf8JSONParser;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link JSONGenerator}.
+ */
+public class JSONGeneratorTest {
+
+    @Test
+    public void testUtf8OutputSameAsWriterOutput() throws IOException {
+        Object json = Utf8JSONParser.parse(("{\"name\":\"Ballerina ශ්‍රී é 😀\", \"escaped\":\"a\\\"b/c\\n\", " +
+                "\"values\":[1, -2.5, true, null, {}]}").getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONGenerator gen = new JSONGenerator(out);
+        gen.serialize(json);
+        gen.flush();
+
+        StringWriter writer = new StringWriter();
+        gen = new JSONGenerator(writer);
+        gen.serialize(json);
+        gen.flush();
+
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), writer.toString());
+        Assert.assertEquals(writer.toString(), "{\"name\":\"Ballerina ශ්‍රී é 😀\", \"escaped\":\"a\\\"b\\/c\\n\", " +
+                "\"values\":[1, -2.5, true, null, {}]}");
+    }
+
+    @Test
+    public void testLargeValueIsWrittenInChunks() {
+        ArrayValue array = new ArrayValue(new BArrayType(BTypes.typeJSON));
+        for (int i = 0; i < 10000; i++) {
+            MapValueImpl<String, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+            map.put("id", (long) i);
+            map.put("name", "näme " + i);
+            array.append(map);
+        }
+        MapValueImpl<String, Object> json = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+        json.put("items", array);
+
+        List<Integer> writes = new ArrayList<>();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        json.serialize(new OutputStream() {
+            @Override
+            public void write(int b) {
+                writes.add(1);
+                content.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                writes.add(len);
+                content.write(b, off, len);
+            }
+        });
+
+        Assert.assertTrue(writes.size() > 1);
+        Assert.assertTrue(writes.stream().allMatch(len -> len <= 8192));
+        Assert.assertEquals(new String(content.toByteArray(), StandardCharsets.UTF_8), json.getJSONString());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Test cases for {@link Scheduler}.
+ */
+public class SchedulerTest {
+
+    private static final int STRAND_COUNT = 1000;
+
+    @Test
+    public void testSharedQueueScheduling() {
+        Assert.assertEquals(runStrands(new Scheduler(4, false, false)), STRAND_COUNT);
+    }
+
+    @Test
+    public void testWorkStealingScheduling() {
+        Assert.assertEquals(runStrands(new Scheduler(4, false, true)), STRAND_COUNT);
+    }
+
+    private int runStrands(Scheduler scheduler) {
+        AtomicInteger executed = new AtomicInteger();
+        Consumer<Object[]> child = params -> executed.incrementAndGet();
+        // strands spawned from a worker go to that worker's own queue and get stolen by the idle ones
+        Consumer<Object[]> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < STRAND_COUNT; i++) {
+                scheduler.schedule(new Object[1], child, strand, null);
+            }
+        };
+        scheduler.schedule(new Object[1], parent, null, null);
+        // returns once all the strands are completed and the workers have taken the poison pill
+        scheduler.start();
+        return executed.get();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.DataIterator;
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.TableProvider;
+import org.ballerinalang.jvm.TableQueryPlanner;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the index lookups of {@link TableQueryPlanner}.
+ */
+public class TableQueryPlannerTest {
+
+    private static final BRecordType PERSON_TYPE = createPersonType();
+
+    private InMemoryTable table;
+
+    @BeforeClass
+    public void setup() {
+        table = new InMemoryTable(PERSON_TYPE, new ArrayValue(new String[]{"id"}), null);
+        for (long id = 1; id <= 10; id++) {
+            table.insert(createPerson(id, id % 2 == 0 ? "even" : "odd"));
+        }
+    }
+
+    @Test
+    public void testEqualityLookup() {
+        long indexScans = TableQueryPlanner.getStats().getIndexScanCount();
+
+        Assert.assertEquals(getIds("select * from [[tableName]] where id = ?", 4L), "4");
+        Assert.assertEquals(TableQueryPlanner.getStats().getIndexScanCount(), indexScans + 1);
+        Assert.assertEquals(getIds("select * from [[tableName]] where name = ? and id = ?", "odd", 5L), "5");
+    }
+
+    @Test
+    public void testRangeLookup() {
+        Assert.assertEquals(getIds("select * from [[tableName]] where id >= ? and id < ?", 3L, 6L), "3,4,5");
+        Assert.assertEquals(getIds("select * from [[tableName]] where id > ? and name = ? and id <= ?", 7L,
+                                   "even", 9L), "8,9");
+    }
+
+    @Test
+    public void testReversedComparison() {
+        Assert.assertEquals(getIds("select * from [[tableName]] where ? < id", 7L), "8,9,10");
+        Assert.assertEquals(getIds("select * from [[tableName]] where ? >= id and ? = name", 2L, "even"), "1,2");
+    }
+
+    @Test
+    public void testKeywordsAreCaseInsensitive() {
+        Assert.assertEquals(getIds("SELECT * FROM [[tableName]] WHERE ID > ? AND id <= ?", 1L, 3L), "2,3");
+        Assert.assertEquals(getIds("select * from [[tableName]] Where person.id = ?", 6L), "6");
+    }
+
+    @Test
+    public void testDisjunctionScansAllRows() {
+        Assert.assertEquals(getIds("select * from [[tableName]] where id = ? or name = ?", 1L, "even"),
+                            "1,2,3,4,5,6,7,8,9,10");
+        Assert.assertEquals(getIds("select * from [[tableName]] where id > ? AND name = ? OR id < ?", 8L, "odd",
+                                   2L), "1,2,3,4,5,6,7,8,9,10");
+        Assert.assertEquals(getIds("select * from [[tableName]] where (id = ? or id = ?) and id < ?", 1L, 9L, 5L),
+                            "1,2,3,4");
+    }
+
+    @Test
+    public void testParamMarkerInLiteral() {
+        Assert.assertEquals(getIds("select * from [[tableName]] where name <> '?' and id > ? and id < ?", 2L, 5L),
+                            "3,4");
+        Assert.assertEquals(getIds("select * from [[tableName]] where name <> 'it''s ? or' and id = ?", 7L), "7");
+        Assert.assertEquals(getIds("select * from [[tableName]] where \"?\" = ? and id = ?", "odd", 3L),
+                            "3");
+    }
+
+    @Test
+    public void testBetweenIsNotSplit() {
+        Assert.assertEquals(getIds("select * from [[tableName]] where id between ? and ? and id >= ?", 1L, 3L, 9L),
+                            "9,10");
+    }
+
+    @Test
+    public void testJoinedTableLookup() {
+        String query = "select * from (select * from [[tableName]] where id = ?) as p join (select * from " +
+                "[[tableName]] where id < ?) as q on p.id = q.id";
+
+        Assert.assertEquals(getIds(query, 0, 8L, 3L), "8");
+        Assert.assertEquals(getIds(query, 1, 8L, 3L), "1,2");
+    }
+
+    @Test
+    public void testUnfilteredTable() {
+        Assert.assertEquals(getIds("select * from [[tableName]] as p where p.id = ?", 2L), "1,2,3,4,5,6,7,8,9,10");
+    }
+
+    @Test
+    public void testExportTable() {
+        TableProvider provider = TableProvider.getInstance();
+        ArrayValue params = new ArrayValue(new Object[]{7L}, new BArrayType(BTypes.typeAny));
+        String exportedTableName = TableQueryPlanner.exportTable(table, "select * from [[tableName]] where id > ?", 0,
+                                                                 params);
+        Assert.assertFalse(table.isMirrorTable(exportedTableName));
+        Assert.assertEquals(provider.getRowCount(exportedTableName), 3);
+        TableQueryPlanner.releaseTable(table, exportedTableName);
+
+        String mirrorTableName = TableQueryPlanner.exportTable(table, "select * from [[tableName]] where name = ?",
+                                                               0, params);
+        try {
+            Assert.assertTrue(table.isMirrorTable(mirrorTableName));
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 10);
+            TableQueryPlanner.releaseTable(table, mirrorTableName);
+            Assert.assertEquals(provider.getRowCount(mirrorTableName), 10);
+        } finally {
+            table.dropMirrorTable();
+        }
+    }
+
+    private String getIds(String query, Object... params) {
+        return getIds(query, 0, params);
+    }
+
+    private String getIds(String query, int tableOccurrence, Object... params) {
+        ArrayValue queryParams = new ArrayValue(params, new BArrayType(BTypes.typeAny));
+        DataIterator iterator = TableQueryPlanner.createIterator(table, query, tableOccurrence, queryParams);
+        List<String> ids = new ArrayList<>();
+        while (iterator.next()) {
+            ids.add(String.valueOf(iterator.getInt(1)));
+        }
+        return String.join(",", ids);
+    }
+
+    private static MapValueImpl<String, Object> createPerson(long id, String name) {
+        MapValueImpl<String, Object> person = new MapValueImpl<>(PERSON_TYPE);
+        person.put("id", id);
+        person.put("name", name);
+        person.put("scores", new ArrayValue(new BArrayType(BTypes.typeInt)));
+        return person;
+    }
+
+    private static BRecordType createPersonType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("scores", new BField(new BArrayType(BTypes.typeInt), "scores", Flags.REQUIRED));
+        return new BRecordType("Person", new BPackage("test", "tables"), 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeCheckCache;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Test cases for the results of the structural type checks cached by {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTest {
+
+    private static final BPackage PKG = new BPackage("test", "types");
+
+    @Test
+    public void testRepeatedCheckIsServedFromCache() {
+        BMapType sourceType = new BMapType(BTypes.typeInt);
+        BMapType targetType = new BMapType(BTypes.typeAnydata);
+        TypeCheckCache.Stats stats = TypeCheckCache.getStats();
+
+        long misses = stats.getMissCount();
+        Assert.assertTrue(checkIsType(sourceType, targetType));
+        Assert.assertEquals(stats.getMissCount(), misses + 1);
+
+        long hits = stats.getHitCount();
+        Assert.assertTrue(checkIsType(sourceType, targetType));
+        Assert.assertEquals(stats.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void testChangedTypeInvalidatesCache() {
+        BRecordType sourceType = createRecordType("Source", BTypes.typeInt);
+        BRecordType targetType = createRecordType("Target", BTypes.typeInt);
+        Assert.assertTrue(checkIsType(sourceType, targetType));
+        Assert.assertTrue(checkIsType(sourceType, targetType));
+
+        long invalidations = TypeCheckCache.getStats().getInvalidationCount();
+        targetType.setFields(createFields(BTypes.typeString));
+        Assert.assertEquals(TypeCheckCache.getStats().getInvalidationCount(), invalidations + 1);
+        Assert.assertFalse(checkIsType(sourceType, targetType));
+
+        // Setting the fields of a type which has not been checked yet keeps the cached results.
+        createRecordType("Unchecked", BTypes.typeInt).setFields(createFields(BTypes.typeString));
+        Assert.assertEquals(TypeCheckCache.getStats().getInvalidationCount(), invalidations + 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultsAreEvicted() {
+        BMapType hotSourceType = new BMapType(BTypes.typeInt);
+        BMapType targetType = new BMapType(BTypes.typeAnydata);
+        Assert.assertTrue(checkIsType(hotSourceType, targetType));
+
+        TypeCheckCache.Stats stats = TypeCheckCache.getStats();
+        long evictions = stats.getEvictionCount();
+        for (int i = 0; i < TypeCheckCache.MAX_SIZE * 2; i++) {
+            checkIsType(new BMapType(BTypes.typeInt), targetType);
+            checkIsType(hotSourceType, targetType);
+        }
+        Assert.assertTrue(stats.getEvictionCount() > evictions);
+        Assert.assertTrue(stats.getSize() <= TypeCheckCache.MAX_SIZE);
+
+        long hits = stats.getHitCount();
+        Assert.assertTrue(checkIsType(hotSourceType, targetType));
+        Assert.assertEquals(stats.getHitCount(), hits + 1);
+    }
+
+    private static boolean checkIsType(BType sourceType, BType targetType) {
+        return TypeChecker.checkIsType(sourceType, targetType, new ArrayList<>());
+    }
+
+    private static BRecordType createRecordType(String name, BType fieldType) {
+        return new BRecordType(name, PKG, 0, createFields(fieldType), null, true, 0);
+    }
+
+    private static Map<String, BField> createFields(BType fieldType) {
+        return Collections.singletonMap("value", new BField(fieldType, "value", Flags.REQUIRED));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.Utf8JSONParser;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.RefValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link Utf8JSONParser}.
+ */
+public class Utf8JSONParserTest {
+
+    @Test
+    public void testParseSameAsJSONParser() {
+        String[] documents = {
+                "{\"name\":\"John\", \"age\":30, \"married\":true, \"spouse\":null, \"children\":[]}",
+                "[1, -2, 3.5, -0.25, 1.7976931348623157E308, 4.9e-324, 0.1, 123456789.123456789]",
+                " [ { } , [ [ ] ] , { \"a\" : { \"b\" : [ false ] } } ] ",
+                "{'single':'quoted'}",
+                "\"top level string\"",
+                "{\"escaped\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\ud83d\\ude00\"}",
+                "{\"unicode\":\"Ballerina ශ්‍රී é 😀\"}",
+                "[9223372036854775807, -9223372036854775808, 007]"
+        };
+        for (String document : documents) {
+            Object expected = JSONParser.parse(document);
+            Object actual = Utf8JSONParser.parse(document.getBytes(StandardCharsets.UTF_8));
+            Assert.assertEquals(stringValue(actual), stringValue(expected), document);
+        }
+    }
+
+    @Test
+    public void testParseNumbers() {
+        ArrayValue numbers = (ArrayValue) Utf8JSONParser.parse("[10, 2.5, 1e3, 12345678901234567.5]"
+                .getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(numbers.getRefValue(0), 10L);
+        Assert.assertEquals(numbers.getRefValue(1), 2.5);
+        Assert.assertEquals(numbers.getRefValue(2), 1000.0);
+        Assert.assertEquals(numbers.getRefValue(3), 12345678901234567.5);
+    }
+
+    @Test
+    public void testParseRange() {
+        byte[] bytes = "xx{\"a\":1}yy".getBytes(StandardCharsets.UTF_8);
+        MapValueImpl<?, ?> map = (MapValueImpl<?, ?>) Utf8JSONParser.parse(bytes, 2, 7);
+        Assert.assertEquals(map.get("a"), 1L);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.position(2);
+        buffer.limit(9);
+        map = (MapValueImpl<?, ?>) Utf8JSONParser.parse(buffer);
+        Assert.assertEquals(map.get("a"), 1L);
+        Assert.assertEquals(buffer.position(), 2);
+    }
+
+    @Test
+    public void testKeysAreShared() {
+        byte[] bytes = "{\"customerName\":\"A\"}".getBytes(StandardCharsets.UTF_8);
+        MapValueImpl<?, ?> first = (MapValueImpl<?, ?>) Utf8JSONParser.parse(bytes);
+        MapValueImpl<?, ?> second = (MapValueImpl<?, ?>) Utf8JSONParser.parse(bytes);
+        Assert.assertSame(second.keySet().iterator().next(), first.keySet().iterator().next());
+    }
+
+    @Test
+    public void testMalformedUtf8() {
+        byte[] bytes = { '"', '\\', 'n', (byte) 0xC3, (byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xF4, (byte) 0x90,
+                'a', (byte) 0xE0, (byte) 0x80, '"' };
+        Object expected = JSONParser.parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8.name());
+        Assert.assertEquals(Utf8JSONParser.parse(bytes), expected);
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "expected , or \\} at line: 2 column: 7")
+    public void testMissingComma() {
+        Utf8JSONParser.parse("{\"a\":1,\n\"b\":2 \"c\":3}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "unrecognized token 'tru' at line: 1 column: 2")
+    public void testUnrecognizedToken() {
+        Utf8JSONParser.parse("[tru]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "unexpected end of JSON document at line: 1 column: 5")
+    public void testUnterminatedString() {
+        Utf8JSONParser.parse("[\"abc".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testParseIntoRecord() {
+        byte[] bytes = "{\"name\":\"John\", \"age\":30, \"score\":4}".getBytes(StandardCharsets.UTF_8);
+        MapValueImpl<?, ?> person = (MapValueImpl<?, ?>) Utf8JSONParser.parse(bytes, createPersonType());
+        Assert.assertEquals(person.getType().getName(), "Person");
+        Assert.assertEquals(person.get("name"), "John");
+        Assert.assertEquals(person.get("age"), 30L);
+        Assert.assertEquals(person.get("score"), 4.0);
+    }
+
+    @Test
+    public void testParseIntoArrayAndTuple() {
+        byte[] bytes = "[{\"name\":\"John\",\"age\":30}, null]".getBytes(StandardCharsets.UTF_8);
+        BArrayType peopleType = new BArrayType(new BUnionType(Arrays.asList(createPersonType(), BTypes.typeNull)));
+        ArrayValue people = (ArrayValue) Utf8JSONParser.parse(bytes, peopleType);
+        Assert.assertEquals(people.size(), 2);
+        Assert.assertEquals(((MapValueImpl<?, ?>) people.getRefValue(0)).get("age"), 30L);
+        Assert.assertNull(people.getRefValue(1));
+
+        ArrayValue ints = (ArrayValue) Utf8JSONParser.parse("[1, 2.6, 3]".getBytes(StandardCharsets.UTF_8),
+                                                            new BArrayType(BTypes.typeInt, 3));
+        Assert.assertEquals(ints.getInt(1), 3L);
+        Assert.assertEquals(ints.size(), 3);
+
+        bytes = "[\"a\", true, 1, 2]".getBytes(StandardCharsets.UTF_8);
+        BTupleType tupleType = new BTupleType(Arrays.asList(BTypes.typeString, BTypes.typeBoolean), BTypes.typeFloat,
+                                              0);
+        ArrayValue tuple = (ArrayValue) Utf8JSONParser.parse(bytes, tupleType);
+        Assert.assertEquals(tuple.getRefValue(0), "a");
+        Assert.assertEquals(tuple.getRefValue(1), true);
+        Assert.assertEquals(tuple.getRefValue(3), 2.0);
+    }
+
+    @Test(expectedExceptions = ErrorValue.class,
+            expectedExceptionsMessageRegExp = ".*ConversionError")
+    public void testParseIntoRecordWithMismatchedField() {
+        Utf8JSONParser.parse("{\"name\":\"John\", \"age\":\"30\"}".getBytes(StandardCharsets.UTF_8),
+                             createPersonType());
+    }
+
+    @Test(expectedExceptions = ErrorValue.class,
+            expectedExceptionsMessageRegExp = ".*ConversionError")
+    public void testParseIntoRecordWithExtraField() {
+        Utf8JSONParser.parse("{\"name\":\"John\", \"age\":30, \"id\":1}".getBytes(StandardCharsets.UTF_8),
+                             createPersonType());
+    }
+
+    @Test(expectedExceptions = ErrorValue.class,
+            expectedExceptionsMessageRegExp = ".*ConversionError")
+    public void testParseIntoSealedArrayWithMoreMembers() {
+        Utf8JSONParser.parse("[1, 2, 3, 4]".getBytes(StandardCharsets.UTF_8), new BArrayType(BTypes.typeInt, 3));
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "expected , or \\] at line: 1 column: 4")
+    public void testParseIntoArrayWithSyntaxError() {
+        Utf8JSONParser.parse("[1 2]".getBytes(StandardCharsets.UTF_8), new BArrayType(BTypes.typeInt));
+    }
+
+    private static BRecordType createPersonType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        fields.put("score", new BField(BTypes.typeFloat, "score", Flags.OPTIONAL));
+        return new BRecordType("Person", new BPackage("test", "records"), 0, fields, null, true, 0);
+    }
+
+    private static String stringValue(Object value) {
+        return value instanceof RefValue ? ((RefValue) value).stringValue() : String.valueOf(value);
+    }
+}
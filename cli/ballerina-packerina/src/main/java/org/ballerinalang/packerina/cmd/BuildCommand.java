@@ -53,9 +53,12 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_OPTIMIZATION_STATS;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.INCREMENTAL_BUILD;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.OPTIMIZATION_LEVEL;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
@@ -143,6 +146,9 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
+    @CommandLine.Option(names = "--dump-optimization-stats", hidden = true)
+    private boolean dumpOptimizationStats;
+
     @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
     private boolean helpFlag;
 
@@ -152,8 +158,16 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = {"--config"}, description = "Path to the configuration file when running tests.")
     private String configFilePath;
 
+    @CommandLine.Option(names = {"--jobs", "-j"}, description = "Maximum number of modules to generate executables " +
+            "for in parallel.")
+    private int jobs = 1;
+
+    @CommandLine.Option(names = {"-O"}, description = "BIR optimization level. 0 disables the optimizations and 2 " +
+            "enables constant propagation, copy propagation and dead code removal.")
+    private int optimizationLevel = 1;
+
     private static final String buildCmd = "ballerina build [-o <output>] [--sourceroot] [--offline] [--skip-tests]\n" +
-            "                    [--skip-lock] {<ballerina-file | module-name> | -a | --all}";
+            "                    [--skip-lock] [--jobs <n>] [-O<level>] {<ballerina-file | module-name> | -a | --all}";
 
     public void execute() {
         if (this.helpFlag) {
@@ -181,6 +195,24 @@ public class BuildCommand implements BLauncherCmd {
             return;
         }
     
+        if (this.jobs < 1) {
+            CommandUtil.printError(this.errStream,
+                    "invalid value for '--jobs'. the number of parallel jobs should be a positive integer.",
+                    null,
+                    false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
+        if (this.optimizationLevel < 0 || this.optimizationLevel > 2) {
+            CommandUtil.printError(this.errStream,
+                    "invalid value for '-O'. the optimization level should be 0, 1 or 2.",
+                    null,
+                    false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         // if -a or --all flag is not given, then it is mandatory to give a module name or ballerina file as arg.
         if (!this.buildAll && (this.argList == null || this.argList.size() == 0)) {
             CommandUtil.printError(this.errStream,
@@ -368,11 +400,17 @@ public class BuildCommand implements BLauncherCmd {
         buildContext.setErr(errStream);
     
         boolean isSingleFileBuild = buildContext.getSourceType().equals(SINGLE_BAL_FILE);
+        // reuse the modules which are unchanged since the last build of the project. The entry modules are always
+        // compiled from source, hence only the modules they import are loaded from the cache.
+        options.put(INCREMENTAL_BUILD, Boolean.toString(!isSingleFileBuild));
+        options.put(OPTIMIZATION_LEVEL, Integer.toString(this.optimizationLevel));
+        options.put(DUMP_OPTIMIZATION_STATS, Boolean.toString(this.dumpOptimizationStats));
         // output path is the current directory if -o flag is not given.
         Path outputPath = null == this.output ? Paths.get(System.getProperty("user.dir")) : Paths.get(this.output);
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)   // clean the target directory(projects only)
+                .addTask(new CleanTargetDirTask(true), isSingleFileBuild)   // clean the target directory except the
+                                                                            // build caches(projects only)
                 .addTask(new CreateTargetDirTask()) // create target directory.
                 .addTask(new CompileTask()) // compile the modules
                 .addTask(new CreateLockFileTask(), this.skipLock || isSingleFileBuild)  // create a lock file if
@@ -380,7 +418,7 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new CreateBaloTask(), isSingleFileBuild)   // create the balos for modules(projects only)
                 .addTask(new CreateBirTask())   // create the bir
                 .addTask(new CopyNativeLibTask(skipCopyLibsFromDist))    // copy the native libs(projects only)
-                .addTask(new CreateJarTask(this.dumpBIR))    // create the jar
+                .addTask(new CreateJarTask(this.dumpBIR, this.jobs))    // create the jar
                 .addTask(new CopyModuleJarTask(skipCopyLibsFromDist))
                 .addTask(new RunTestsTask(), this.skipTests || isSingleFileBuild) // run tests
                                                                                                 // (projects only)
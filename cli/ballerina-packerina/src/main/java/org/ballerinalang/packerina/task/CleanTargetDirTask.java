@@ -20,10 +20,13 @@ package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
@@ -32,12 +35,43 @@ import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
  * Cleans up the target directory.
  */
 public class CleanTargetDirTask implements Task {
+    private final boolean preserveCaches;
+
+    public CleanTargetDirTask() {
+        this(false);
+    }
+
+    /**
+     * Creates the task.
+     *
+     * @param preserveCaches keep the bir and jar caches of the target directory for incremental builds
+     */
+    public CleanTargetDirTask(boolean preserveCaches) {
+        this.preserveCaches = preserveCaches;
+    }
+
     @Override
     public void execute(BuildContext buildContext) {
         Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
         try {
-            if (Files.exists(targetDir)) {
+            if (!Files.exists(targetDir)) {
+                return;
+            }
+            if (!this.preserveCaches) {
                 deleteDirectory(targetDir);
+                return;
+            }
+            try (Stream<Path> targetContent = Files.list(targetDir)) {
+                for (Path path : targetContent.collect(Collectors.toList())) {
+                    if (path.getFileName().toString().equals(ProjectDirConstants.CACHES_DIR_NAME)) {
+                        continue;
+                    }
+                    if (Files.isDirectory(path)) {
+                        deleteDirectory(path);
+                    } else {
+                        Files.delete(path);
+                    }
+                }
             }
         } catch (IOException e) {
             throw createLauncherException("unable to clean target'" + targetDir.toString() + "': " + targetDir);
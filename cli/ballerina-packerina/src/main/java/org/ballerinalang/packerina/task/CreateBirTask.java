@@ -18,18 +18,29 @@
 
 package org.ballerinalang.packerina.task;
 
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.writer.BirFileWriter;
+import org.ballerinalang.toml.parser.ManifestProcessor;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ModuleBuildManifest;
 import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.SINGLE_BAL_FILE;
 
 /**
  * Task for creating bir.
@@ -52,6 +63,53 @@ public class CreateBirTask implements Task {
             }
             writeImportBir(buildContext, module.symbol.imports, sourceRootPath, birFileWriter);
         }
+
+        // record the hashes of the project modules so that the next build can skip the unchanged ones
+        if (buildContext.getSourceType() != SINGLE_BAL_FILE) {
+            String buildSettings = ModuleBuildManifest.hashBuildSettings(CompilerOptions.getInstance(context),
+                    ManifestProcessor.getInstance(context).getManifest());
+            Set<PackageID> visited = new HashSet<>();
+            for (BLangPackage module : modules) {
+                Path testBir = module.testablePkgs.size() > 0 ?
+                        buildContext.getTestBirPathFromTargetCache(module.packageID) : null;
+                writeBuildManifest(buildContext, module.symbol, testBir, sourceRootPath, buildSettings, visited);
+            }
+        }
+    }
+
+    private void writeBuildManifest(BuildContext buildContext, BPackageSymbol module, Path testBir, Path project,
+                                    String buildSettings, Set<PackageID> visited) {
+        if (!visited.add(module.pkgID)) {
+            return;
+        }
+        Path birPath = buildContext.getBirPathFromTargetCache(module.pkgID);
+        if (Files.notExists(birPath)) {
+            return;
+        }
+
+        try {
+            Map<PackageID, byte[]> dependencies = new HashMap<>();
+            for (BPackageSymbol bimport : module.imports) {
+                PackageID id = bimport.pkgID;
+                if (id.orgName.value.equals("ballerina") || id.orgName.value.equals("ballerinax") ||
+                        !ProjectDirs.isModuleExist(project, id.name.value)) {
+                    continue;
+                }
+                writeBuildManifest(buildContext, bimport, null, project, buildSettings, visited);
+                dependencies.put(id, Files.readAllBytes(buildContext.getBirPathFromTargetCache(id)));
+            }
+
+            ModuleBuildManifest buildManifest = ModuleBuildManifest.load(birPath);
+            buildManifest.updateModule(project, module.pkgID.name.value, Files.readAllBytes(birPath), dependencies,
+                    buildSettings);
+            if (testBir != null && Files.exists(testBir)) {
+                buildManifest.updateTestModule(Files.readAllBytes(testBir));
+            }
+            buildManifest.write();
+        } catch (IOException e) {
+            throw new BLangCompilerException("error writing the build manifest of '" + module.pkgID + "': " +
+                    e.getMessage(), e);
+        }
     }
 
     private void writeImportBir(BuildContext buildContext, List<BPackageSymbol> importz, Path project,
@@ -25,12 +25,16 @@ import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.util.BootstrapRunner;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.ModuleBuildManifest;
 import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.SINGLE_BAL_FILE;
 
@@ -40,9 +44,21 @@ import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.
 public class CreateJarTask implements Task {
 
     private boolean dumpBir;
+    private int jobs;
 
     public CreateJarTask(boolean dumpBir) {
+        this(dumpBir, 1);
+    }
+
+    /**
+     * Creates the task.
+     *
+     * @param dumpBir whether to dump the BIR of the modules
+     * @param jobs    maximum number of module jars to generate concurrently
+     */
+    public CreateJarTask(boolean dumpBir, int jobs) {
         this.dumpBir = dumpBir;
+        this.jobs = jobs;
     }
     
     @Override
@@ -58,6 +74,12 @@ public class CreateJarTask implements Task {
         Path systemBIRCache = buildContext.getSystemRepoBirCache();
         
         List<BLangPackage> moduleBirMap = buildContext.getModules();
+        if (this.jobs > 1 && moduleBirMap.size() > 1) {
+            createJarsInParallel(moduleBirMap, tmpDir, sourceRoot, buildContext, projectBIRCache.toString(),
+                    homeBIRCache.toString(), systemBIRCache.toString());
+            ConfigRegistry.getInstance().setInitialized(false);
+            return;
+        }
         for (BLangPackage module : moduleBirMap) {
             writeImportJar(tmpDir, module.symbol.imports, sourceRoot, buildContext,
                     projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString());
@@ -67,10 +89,15 @@ public class CreateJarTask implements Task {
             
             // get the jar path of the module.
             Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
-    
-            BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir, entryBir.toString(), jarOutput.toString(),
-                    this.dumpBir, buildContext.getSourceType() == SINGLE_BAL_FILE, projectBIRCache.toString(),
-                    homeBIRCache.toString(), systemBIRCache.toString());
+
+            // skip the modules which are unchanged since the jar was generated
+            ModuleBuildManifest buildManifest = ModuleBuildManifest.load(entryBir);
+            if (!isJarUpToDate(jarOutput, buildManifest)) {
+                BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir, entryBir.toString(), jarOutput.toString(),
+                        this.dumpBir, buildContext.getSourceType() == SINGLE_BAL_FILE, projectBIRCache.toString(),
+                        homeBIRCache.toString(), systemBIRCache.toString());
+                buildManifest.markJarGenerated();
+            }
 
             // If there is a testable package we will create testable jar.
             if (module.hasTestablePackage()) {
@@ -80,22 +107,85 @@ public class CreateJarTask implements Task {
                 // get the jar path of the module.
                 Path testJarOutput = buildContext.getTestJarPathFromTargetCache(module.packageID);
 
-                BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir,
-                        testBir.toString(), testJarOutput.toString(), this.dumpBir,
-                        projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString());
+                if (!isTestJarUpToDate(testJarOutput, buildManifest)) {
+                    BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir,
+                            testBir.toString(), testJarOutput.toString(), this.dumpBir,
+                            projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString());
+                    buildManifest.markTestJarGenerated();
+                }
             }
+            buildManifest.write();
 
         }
         ConfigRegistry.getInstance().setInitialized(false);
     }
     
+    /**
+     * Generates the jars of the modules being built concurrently. A module's jar generation starts only after the
+     * jars of the modules it imports from the same build are generated. Each generation runs the compiler backend
+     * in a separate process as the in-process backend cannot be invoked concurrently.
+     */
+    private void createJarsInParallel(List<BLangPackage> modules, Path tmpDir, Path sourceRoot,
+                                      BuildContext buildContext, String... reps) {
+        Map<PackageID, BLangPackage> buildModules = new HashMap<>();
+        for (BLangPackage module : modules) {
+            buildModules.put(module.packageID, module);
+        }
+
+        // Jars of the dependencies which are not part of this build are generated upfront.
+        for (BLangPackage module : modules) {
+            writeImportJar(tmpDir, module.symbol.imports, sourceRoot, buildContext, buildModules, reps);
+        }
+
+        ModuleTaskExecutor<BLangPackage> executor = new ModuleTaskExecutor<>(this.jobs, module -> {
+            List<BLangPackage> imports = new ArrayList<>();
+            for (BPackageSymbol bimport : module.symbol.imports) {
+                BLangPackage importedModule = buildModules.get(bimport.pkgID);
+                if (importedModule != null) {
+                    imports.add(importedModule);
+                }
+            }
+            return imports;
+        });
+        executor.execute(modules, module -> {
+            Path entryBir = buildContext.getBirPathFromTargetCache(module.packageID);
+            Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
+            ModuleBuildManifest buildManifest = ModuleBuildManifest.load(entryBir);
+            if (!isJarUpToDate(jarOutput, buildManifest)) {
+                BootstrapRunner.generateJarBinaryInSeparateProcess(tmpDir, entryBir.toString(),
+                        jarOutput.toString(), this.dumpBir, reps);
+                buildManifest.markJarGenerated();
+            }
+
+            if (module.hasTestablePackage()) {
+                Path testBir = buildContext.getTestBirPathFromTargetCache(module.packageID);
+                Path testJarOutput = buildContext.getTestJarPathFromTargetCache(module.packageID);
+                if (!isTestJarUpToDate(testJarOutput, buildManifest)) {
+                    BootstrapRunner.generateJarBinaryInSeparateProcess(tmpDir, testBir.toString(),
+                            testJarOutput.toString(), this.dumpBir, reps);
+                    buildManifest.markTestJarGenerated();
+                }
+            }
+            buildManifest.write();
+        });
+    }
+
     private void writeImportJar(Path tmpDir, List<BPackageSymbol> imports, Path sourceRoot, BuildContext buildContext,
                                 String... reps) {
+        writeImportJar(tmpDir, imports, sourceRoot, buildContext, new HashMap<>(), reps);
+    }
+
+    private void writeImportJar(Path tmpDir, List<BPackageSymbol> imports, Path sourceRoot, BuildContext buildContext,
+                                Map<PackageID, BLangPackage> skippedModules, String... reps) {
         for (BPackageSymbol bimport : imports) {
             PackageID id = bimport.pkgID;
             if (id.orgName.value.equals("ballerina") || id.orgName.value.equals("ballerinax")) {
                 continue;
             }
+            // modules being built are generated by the build itself, along with their imports
+            if (skippedModules.containsKey(id)) {
+                continue;
+            }
             Path jarFilePath;
             Path birFilePath;
             // If the module is part of the project write it to project jar cache check if file exist
@@ -105,15 +195,31 @@ public class CreateJarTask implements Task {
                                                                 buildContext.getImportPathDependency(id).isPresent()) {
                 jarFilePath = buildContext.getJarPathFromTargetCache(id);
                 birFilePath = buildContext.getBirPathFromTargetCache(id);
+                // the target cache is kept between builds, hence check whether the jar is of the current bir
+                ModuleBuildManifest buildManifest = ModuleBuildManifest.load(birFilePath);
+                if (!isJarUpToDate(jarFilePath, buildManifest)) {
+                    BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir,
+                            birFilePath.toString(), jarFilePath.toString(), this.dumpBir, reps);
+                    buildManifest.markJarGenerated();
+                    buildManifest.write();
+                }
             } else {
                 jarFilePath = buildContext.getJarPathFromHomeCache(id);
                 birFilePath = buildContext.getBirPathFromHomeCache(id);
+                if (!Files.exists(jarFilePath)) {
+                    BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir,
+                            birFilePath.toString(), jarFilePath.toString(), this.dumpBir, reps);
+                }
             }
-            if (!Files.exists(jarFilePath)) {
-                BootstrapRunner.loadTargetAndGenerateJarBinary(tmpDir,
-                        birFilePath.toString(), jarFilePath.toString(), this.dumpBir, reps);
-            }
-            writeImportJar(tmpDir, bimport.imports, sourceRoot, buildContext, reps);
+            writeImportJar(tmpDir, bimport.imports, sourceRoot, buildContext, skippedModules, reps);
         }
     }
+
+    private static boolean isJarUpToDate(Path jarPath, ModuleBuildManifest buildManifest) {
+        return Files.exists(jarPath) && buildManifest.isJarUpToDate();
+    }
+
+    private static boolean isTestJarUpToDate(Path testJarPath, ModuleBuildManifest buildManifest) {
+        return Files.exists(testJarPath) && buildManifest.isTestJarUpToDate();
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a task for each of the modules of a build on a fixed pool of threads. The task of a module is started only
+ * after the tasks of the modules it imports from the same build are completed.
+ *
+ * @param <M> the type of the modules
+ * @since 1.0.0
+ */
+public class ModuleTaskExecutor<M> {
+
+    private final int jobs;
+    private final Function<M, Collection<M>> imports;
+
+    /**
+     * Creates the executor.
+     *
+     * @param jobs    maximum number of tasks to run concurrently
+     * @param imports returns the modules imported by a module
+     */
+    public ModuleTaskExecutor(int jobs, Function<M, Collection<M>> imports) {
+        this.jobs = jobs;
+        this.imports = imports;
+    }
+
+    /**
+     * Runs the task for each of the given modules, and returns once all of them are completed. If the task of a
+     * module fails, the tasks of the modules importing it are not run, and the failure is thrown.
+     *
+     * @param modules modules of the build
+     * @param task    task to run for a module
+     */
+    public void execute(Collection<M> modules, Consumer<M> task) {
+        Set<M> buildModules = new HashSet<>(modules);
+        ExecutorService executor = Executors.newFixedThreadPool(this.jobs);
+        try {
+            Map<M, CompletableFuture<Void>> moduleTasks = new HashMap<>();
+            for (M module : modules) {
+                schedule(module, buildModules, moduleTasks, executor, task);
+            }
+            CompletableFuture.allOf(moduleTasks.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BLangCompilerException("failed to build the modules", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> schedule(M module, Set<M> buildModules, Map<M, CompletableFuture<Void>> moduleTasks,
+                                             ExecutorService executor, Consumer<M> task) {
+        CompletableFuture<Void> moduleTask = moduleTasks.get(module);
+        if (moduleTask != null) {
+            return moduleTask;
+        }
+
+        List<CompletableFuture<Void>> importTasks = new ArrayList<>();
+        for (M importedModule : this.imports.apply(module)) {
+            if (buildModules.contains(importedModule)) {
+                importTasks.add(schedule(importedModule, buildModules, moduleTasks, executor, task));
+            }
+        }
+
+        moduleTask = CompletableFuture.allOf(importTasks.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> task.accept(module), executor);
+        moduleTasks.put(module, moduleTask);
+        return moduleTask;
+    }
+}
@@ -254,6 +254,17 @@ public class BuildCommandTest extends CommandTest {
                                       "' Ballerina file does not exist.\n");
     }
     
+    @Test(description = "Build a bal file with an invalid number of parallel jobs")
+    public void testBuildBalFileWithInvalidJobs() throws IOException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file");
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--jobs", "0", "hello_world.bal");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertEquals(buildLog.replaceAll("\r", ""), "ballerina: invalid value for '--jobs'. the number of " +
+                                      "parallel jobs should be a positive integer.\n");
+    }
+    
     @Test(description = "Build a bal file without passing bal file name as arg")
     public void testBuildBalFileWithNoArg() throws IOException {
         // valid source root path
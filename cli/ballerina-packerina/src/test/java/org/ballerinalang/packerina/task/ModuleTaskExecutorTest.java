@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Test the order in which {@link ModuleTaskExecutor} runs the tasks of the modules of a build.
+ *
+ * @since 1.0.0
+ */
+public class ModuleTaskExecutorTest {
+
+    @Test(description = "Test that a module is built after the modules it imports")
+    public void testImportedModulesAreBuiltFirst() {
+        Map<String, Collection<String>> imports = new HashMap<>();
+        imports.put("app", Arrays.asList("service", "utils", "ballerina/http"));
+        imports.put("service", Collections.singletonList("utils"));
+        imports.put("utils", Collections.emptyList());
+        imports.put("docs", Collections.emptyList());
+
+        List<String> builtModules = Collections.synchronizedList(new ArrayList<>());
+        new ModuleTaskExecutor<String>(4, imports::get).execute(Arrays.asList("app", "docs", "service", "utils"),
+                                                                builtModules::add);
+
+        Assert.assertEquals(builtModules.size(), 4);
+        Assert.assertTrue(builtModules.indexOf("utils") < builtModules.indexOf("service"), builtModules.toString());
+        Assert.assertTrue(builtModules.indexOf("service") < builtModules.indexOf("app"), builtModules.toString());
+        Assert.assertFalse(builtModules.contains("ballerina/http"));
+    }
+
+    @Test(description = "Test that independent modules are built concurrently")
+    public void testIndependentModulesAreBuiltConcurrently() {
+        CountDownLatch started = new CountDownLatch(2);
+        List<String> builtAlone = Collections.synchronizedList(new ArrayList<>());
+        Consumer<String> build = module -> {
+            started.countDown();
+            try {
+                // Only returns in time if the other module is built at the same time.
+                if (!started.await(10, TimeUnit.SECONDS)) {
+                    builtAlone.add(module);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ModuleTaskExecutor<String> executor = new ModuleTaskExecutor<>(2, module -> Collections.emptyList());
+        executor.execute(Arrays.asList("foo", "bar"), build);
+        Assert.assertTrue(builtAlone.isEmpty(), builtAlone.toString());
+    }
+
+    @Test(description = "Test that the modules importing a failed module are not built")
+    public void testFailedModuleStopsImportingModules() {
+        Map<String, Collection<String>> imports = new HashMap<>();
+        imports.put("app", Collections.singletonList("utils"));
+        imports.put("utils", Collections.emptyList());
+
+        List<String> builtModules = Collections.synchronizedList(new ArrayList<>());
+        try {
+            new ModuleTaskExecutor<String>(2, imports::get).execute(Arrays.asList("app", "utils"), module -> {
+                if (module.equals("utils")) {
+                    throw new IllegalStateException("failed to generate the jar of " + module);
+                }
+                builtModules.add(module);
+            });
+            Assert.fail("failure of the module was not thrown");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(e.getMessage(), "failed to generate the jar of utils");
+        }
+        Assert.assertTrue(builtModules.isEmpty(), builtModules.toString());
+    }
+}
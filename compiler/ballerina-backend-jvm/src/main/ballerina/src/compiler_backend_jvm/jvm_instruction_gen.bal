@@ -18,6 +18,11 @@ import ballerina/io;
 import ballerina/bir;
 import ballerina/jvm;
 
+// JVM local variables used to hold the operands and the result of int arithmetic while checking for overflow
+bir:VariableDcl INT_ARITHMETIC_LHS_VAR = { typeValue: "int", name: { value: "$_int_lhs_$" }, kind: "TEMP" };
+bir:VariableDcl INT_ARITHMETIC_RHS_VAR = { typeValue: "int", name: { value: "$_int_rhs_$" }, kind: "TEMP" };
+bir:VariableDcl INT_ARITHMETIC_RESULT_VAR = { typeValue: "int", name: { value: "$_int_result_$" }, kind: "TEMP" };
+
 type InstructionGenerator object {
     jvm:MethodVisitor mv;
     BalToJVMIndexMap indexMap;
@@ -383,7 +388,7 @@ type InstructionGenerator object {
         bir:BType bType = binaryIns.lhsOp.typeValue;
         self.generateBinaryRhsAndLhsLoad(binaryIns);
         if (bType is bir:BTypeInt) {
-            self.mv.visitInsn(LADD);
+            self.generateCheckedIntAddOrSub(LADD);
         } else if (bType is bir:BTypeByte) {
             self.mv.visitInsn(IADD);
         } else if (bType is bir:BTypeString) {
@@ -410,7 +415,7 @@ type InstructionGenerator object {
         bir:BType bType = binaryIns.lhsOp.typeValue;
         self.generateBinaryRhsAndLhsLoad(binaryIns);
         if (bType is bir:BTypeInt) {
-            self.mv.visitInsn(LSUB);
+            self.generateCheckedIntAddOrSub(LSUB);
         } else if (bType is bir:BTypeFloat) {
             self.mv.visitInsn(DSUB);
         } else if (bType is bir:BTypeDecimal) {
@@ -424,6 +429,50 @@ type InstructionGenerator object {
         self.storeToVar(binaryIns.lhsOp.variableDcl);
     }
 
+    # Generate an int addition or subtraction of the two operands on top of the stack, leaving the result on the
+    # stack. The overflow check is inlined, so that the JIT can compile it to the arithmetic instruction followed by
+    # a check of the overflow flag.
+    #
+    # + opcode - `LADD` or `LSUB`
+    private function generateCheckedIntAddOrSub(int opcode) {
+        int rhsIndex = self.indexMap.getIndex(INT_ARITHMETIC_RHS_VAR);
+        int lhsIndex = self.indexMap.getIndex(INT_ARITHMETIC_LHS_VAR);
+        int resultIndex = self.indexMap.getIndex(INT_ARITHMETIC_RESULT_VAR);
+        self.mv.visitVarInsn(LSTORE, rhsIndex);
+        self.mv.visitVarInsn(LSTORE, lhsIndex);
+        self.mv.visitVarInsn(LLOAD, lhsIndex);
+        self.mv.visitVarInsn(LLOAD, rhsIndex);
+        self.mv.visitInsn(opcode);
+        self.mv.visitVarInsn(LSTORE, resultIndex);
+
+        // addition overflows if both operands have a sign different from the result, i.e. ((l ^ r) & (rhs ^ r)) < 0
+        // subtraction overflows if the operands have different signs and the result does not have the sign of the
+        // lhs, i.e. ((l ^ rhs) & (l ^ r)) < 0
+        if (opcode == LADD) {
+            self.mv.visitVarInsn(LLOAD, lhsIndex);
+            self.mv.visitVarInsn(LLOAD, resultIndex);
+            self.mv.visitInsn(LXOR);
+            self.mv.visitVarInsn(LLOAD, rhsIndex);
+        } else {
+            self.mv.visitVarInsn(LLOAD, lhsIndex);
+            self.mv.visitVarInsn(LLOAD, rhsIndex);
+            self.mv.visitInsn(LXOR);
+            self.mv.visitVarInsn(LLOAD, lhsIndex);
+        }
+        self.mv.visitVarInsn(LLOAD, resultIndex);
+        self.mv.visitInsn(LXOR);
+        self.mv.visitInsn(LAND);
+        self.mv.visitInsn(LCONST_0);
+        self.mv.visitInsn(LCMP);
+        jvm:Label noOverflow = new;
+        self.mv.visitJumpInsn(IFGE, noOverflow);
+        self.mv.visitMethodInsn(INVOKESTATIC, MATH_UTILS, "getIntOverflowError", io:sprintf("()L%s;", ERROR_VALUE),
+                                false);
+        self.mv.visitInsn(ATHROW);
+        self.mv.visitLabel(noOverflow);
+        self.mv.visitVarInsn(LLOAD, resultIndex);
+    }
+
     function generateDivIns(bir:BinaryOp binaryIns) {
         bir:BType bType = binaryIns.lhsOp.typeValue;
         self.generateBinaryRhsAndLhsLoad(binaryIns);
@@ -446,7 +495,7 @@ type InstructionGenerator object {
         bir:BType bType = binaryIns.lhsOp.typeValue;
         self.generateBinaryRhsAndLhsLoad(binaryIns);
         if (bType is bir:BTypeInt) {
-            self.mv.visitInsn(LMUL);
+            self.mv.visitMethodInsn(INVOKESTATIC, MATH_UTILS, "multiply", "(JJ)J", false);
         } else if (bType is bir:BTypeFloat) {
             self.mv.visitInsn(DMUL);
         } else if (bType is bir:BTypeDecimal) {
@@ -618,10 +667,11 @@ type InstructionGenerator object {
         self.mv.visitTypeInsn(NEW, TABLE_VALUE);
         self.mv.visitInsn(DUP);
         loadType(self.mv, tableNewIns.typeValue);
+        self.loadVar(tableNewIns.indexColOp.variableDcl);
         self.loadVar(tableNewIns.keyColOp.variableDcl);
         self.loadVar(tableNewIns.dataOp.variableDcl);
-        self.mv.visitMethodInsn(INVOKESPECIAL, TABLE_VALUE, "<init>", io:sprintf("(L%s;L%s;L%s;)V", BTYPE,
-                ARRAY_VALUE, ARRAY_VALUE), false);
+        self.mv.visitMethodInsn(INVOKESPECIAL, TABLE_VALUE, "<init>", io:sprintf("(L%s;L%s;L%s;L%s;)V", BTYPE,
+                ARRAY_VALUE, ARRAY_VALUE, ARRAY_VALUE), false);
         self.storeToVar(tableNewIns.lhsOp.variableDcl);
     }
 
@@ -761,9 +811,20 @@ type InstructionGenerator object {
         self.loadVar(inst.lhsOp.variableDcl);
         self.loadVar(inst.keyOp.variableDcl);
         self.loadVar(inst.rhsOp.variableDcl);
-        addBoxInsn(self.mv, inst.rhsOp.variableDcl.typeValue);
 
         bir:BType varRefType = inst.lhsOp.variableDcl.typeValue;
+        bir:BType valueType = inst.rhsOp.variableDcl.typeValue;
+        if (varRefType is bir:BArrayType && !(varRefType.eType is bir:BJSONType)) {
+            // add int, float, boolean and string values without boxing them
+            string? valueDesc = getUnboxedListValueDesc(valueType);
+            if (valueDesc is string) {
+                self.mv.visitMethodInsn(INVOKESTATIC, LIST_UTILS, "add",
+                                        io:sprintf("(L%s;J%s)V", ARRAY_VALUE, valueDesc), false);
+                return;
+            }
+        }
+
+        addBoxInsn(self.mv, valueType);
         if (varRefType is bir:BJSONType ||
                 (varRefType is bir:BArrayType && varRefType.eType  is bir:BJSONType)) {
             self.mv.visitMethodInsn(INVOKESTATIC, JSON_UTILS, "setArrayElement",
@@ -1123,6 +1184,23 @@ function addBoxInsn(jvm:MethodVisitor mv, bir:BType? bType) {
     }
 }
 
+# Get the JVM type descriptor of a value which can be added to a list without boxing it.
+#
+# + bType - static type of the value
+# + return - descriptor of the unboxed value, or nil if the value has to be boxed
+function getUnboxedListValueDesc(bir:BType bType) returns string? {
+    if (bType is bir:BTypeInt) {
+        return "J";
+    } else if (bType is bir:BTypeFloat) {
+        return "D";
+    } else if (bType is bir:BTypeBoolean) {
+        return "Z";
+    } else if (bType is bir:BTypeString) {
+        return io:sprintf("L%s;", STRING_VALUE);
+    }
+    return ();
+}
+
 function addUnboxInsn(jvm:MethodVisitor mv, bir:BType? bType) {
     if (bType is ()) {
         return;
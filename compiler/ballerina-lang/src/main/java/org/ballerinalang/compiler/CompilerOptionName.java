@@ -50,7 +50,13 @@ public enum CompilerOptionName {
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    INCREMENTAL_BUILD("incrementalBuild"),
+
+    OPTIMIZATION_LEVEL("optimizationLevel"),
+
+    DUMP_OPTIMIZATION_STATS("dumpOptimizationStats");
 
     public final String name;
 
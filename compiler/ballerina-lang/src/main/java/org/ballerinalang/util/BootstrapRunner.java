@@ -88,13 +88,39 @@ public class BootstrapRunner {
         }
     }
 
+    /**
+     * Generates the jar of the given BIR in a separate JVM. Unlike the in-process backend invocation, this can be
+     * called concurrently for different modules since each invocation gets its own compiler backend instance.
+     *
+     * @param tmpDir        directory holding pre-compiled jars required by the backend, added to the class path
+     * @param entryBir      path of the BIR file to generate the jar for
+     * @param jarOutputPath path of the jar to be generated
+     * @param dumpBir       whether to dump the BIR
+     * @param birCachePaths BIR caches to resolve the imports from
+     */
+    public static void generateJarBinaryInSeparateProcess(Path tmpDir, String entryBir, String jarOutputPath,
+                                                          boolean dumpBir, String... birCachePaths) {
+        StringJoiner classPath = new StringJoiner(File.pathSeparator);
+        classPath.add(System.getProperty("java.class.path"));
+        if (Files.exists(tmpDir)) {
+            addAllJarsInTarget(tmpDir.toFile(), classPath);
+        }
+        generateJarBinaryInProc(classPath.toString(), entryBir, jarOutputPath, dumpBir, birCachePaths);
+    }
+
     private static void generateJarBinaryInProc(String entryBir, String jarOutputPath, boolean dumpBir,
                                                 String... birCachePaths) {
+        generateJarBinaryInProc(System.getProperty("java.class.path"), entryBir, jarOutputPath, dumpBir,
+                birCachePaths);
+    }
+
+    private static void generateJarBinaryInProc(String classPath, String entryBir, String jarOutputPath,
+                                                boolean dumpBir, String... birCachePaths) {
         try {
             List<String> commands = new ArrayList<>();
             commands.add("java");
             commands.add("-cp");
-            commands.add(System.getProperty("java.class.path"));
+            commands.add(classPath);
             commands.add("ballerina.compiler_backend_jvm.___init");
             commands.addAll(createArgsForCompilerBackend(entryBir, jarOutputPath, dumpBir, birCachePaths));
 
@@ -152,6 +178,16 @@ public class BootstrapRunner {
         }
     }
 
+    private static void addAllJarsInTarget(final File targetFolder, StringJoiner classPath) {
+        for (final File file : targetFolder.listFiles()) {
+            if (file.isDirectory()) {
+                addAllJarsInTarget(file, classPath);
+            } else {
+                classPath.add(file.getAbsolutePath());
+            }
+        }
+    }
+
     private static String getMapPath() {
         String ballerinaNativeMap = System.getenv("BALLERINA_NATIVE_MAP");
         return ballerinaNativeMap == null ? "" : ballerinaNativeMap;
@@ -21,6 +21,7 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.toml.model.Manifest;
 import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.bir.BIROptimizer;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.ProjectDirs;
@@ -48,6 +49,7 @@ public class Compiler {
     private final DependencyTree dependencyTree;
     private final BLangDiagnosticLog dlog;
     private final PackageLoader pkgLoader;
+    private final BIROptimizer birOptimizer;
     private final Manifest manifest;
     private boolean langLibsLoaded;
     private PrintStream outStream;
@@ -60,8 +62,10 @@ public class Compiler {
         this.dependencyTree = DependencyTree.getInstance(context);
         this.dlog = BLangDiagnosticLog.getInstance(context);
         this.pkgLoader = PackageLoader.getInstance(context);
+        this.birOptimizer = BIROptimizer.getInstance(context);
         this.manifest = ManifestProcessor.getInstance(context).getManifest();
         this.outStream = System.out;
+        this.birOptimizer.setOutStream(this.outStream);
         this.langLibsLoaded = false;
     }
 
@@ -75,6 +79,7 @@ public class Compiler {
     
     public void setOutStream(PrintStream outStream) {
         this.outStream = outStream;
+        this.birOptimizer.setOutStream(outStream);
     }
 
     public BLangPackage compile(String sourcePackage) {
@@ -158,6 +163,7 @@ public class Compiler {
             this.langLibsLoaded = true;
         }
         this.compilerDriver.loadUtilsPackage();
+        this.pkgLoader.addEntryPackages(pkgIdList);
 
         // 1) Load all source packages. i.e. source-code -> BLangPackageNode
         // 2) Define all package level symbols for all the packages including imported packages in the AST
@@ -58,6 +58,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ModuleBuildManifest;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
@@ -65,6 +66,7 @@ import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.util.RepoUtils;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.net.URI;
 import java.nio.file.Files;
@@ -73,15 +75,18 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.ballerinalang.compiler.CompilerOptionName.INCREMENTAL_BUILD;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
@@ -104,6 +109,7 @@ public class PackageLoader {
     private final boolean offline;
     private final boolean testEnabled;
     private final boolean lockEnabled;
+    private final boolean incrementalBuild;
     
     /**
      * Manifest of the current project.
@@ -128,6 +134,16 @@ public class PackageLoader {
      */
     private Map<PackageID, Manifest> dependencyManifests = new HashMap<>();
 
+    /**
+     * Names of the project modules which are compiled from source in the current build.
+     */
+    private final Set<String> entryModuleNames = new HashSet<>();
+
+    /**
+     * Hash of the settings of the current build, computed when a module is first looked up in the build cache.
+     */
+    private String buildSettings;
+
     public static PackageLoader getInstance(CompilerContext context) {
         PackageLoader loader = context.get(PACKAGE_LOADER_KEY);
         if (loader == null) {
@@ -157,6 +173,7 @@ public class PackageLoader {
         this.offline = Boolean.parseBoolean(options.get(OFFLINE));
         this.testEnabled = Boolean.parseBoolean(options.get(TEST_ENABLED));
         this.lockEnabled = Boolean.parseBoolean(options.get(LOCK_ENABLED));
+        this.incrementalBuild = Boolean.parseBoolean(options.get(INCREMENTAL_BUILD));
         this.manifest = ManifestProcessor.getInstance(context).getManifest();
         this.repos = genRepoHierarchy(Paths.get(options.get(PROJECT_DIR)));
         this.lockFile = LockFileProcessor.getInstance(context, this.lockEnabled).getLockFile();
@@ -371,6 +388,16 @@ public class PackageLoader {
         }
     }
 
+    /**
+     * Marks the modules which are compiled from source in the current build. An entry module imported by another
+     * entry module is then compiled once, instead of being loaded from the build cache as well.
+     *
+     * @param pkgIds IDs of the entry modules
+     */
+    public void addEntryPackages(List<PackageID> pkgIds) {
+        pkgIds.forEach(pkgId -> this.entryModuleNames.add(pkgId.name.value));
+    }
+
     public BLangPackage loadEntryPackage(PackageID pkgId, PackageID enclPackageId, PrintStream outStream) {
         if (null == outStream) {
             outStream = System.out;
@@ -445,6 +472,10 @@ public class PackageLoader {
         }
 
         if (pkgEntity.getKind() == PackageEntity.Kind.SOURCE) {
+            BPackageSymbol cachedSymbol = loadFromBuildCache(packageId, pkgEntity.getRepoHierarchy());
+            if (cachedSymbol != null) {
+                return cachedSymbol;
+            }
             return parseAndDefine(packageId, (PackageSource) pkgEntity);
         } else if (pkgEntity.getKind() == Kind.COMPILED || pkgEntity.getKind() == Kind.COMPILED_BIR) {
             return loadCompiledPackageAndDefine(packageId, (PackageBinary) pkgEntity);
@@ -509,6 +540,45 @@ public class PackageLoader {
         return packageNode;
     }
 
+    /**
+     * Loads an imported project module from the bir written by the previous build of the project, if neither the
+     * sources of the module, the build settings nor the modules it depends on have changed since then. The modules
+     * compiled from source in the current build are never loaded from the cache, since the later build tasks need
+     * their syntax trees. Hence when all the modules of a project are built, none of them is loaded from the cache.
+     *
+     * @param pkgId         ID of the module
+     * @param repoHierarchy repository hierarchy to resolve the imports of the module
+     * @return the module symbol, or null if the module needs to be compiled
+     */
+    private BPackageSymbol loadFromBuildCache(PackageID pkgId, RepoHierarchy repoHierarchy) {
+        if (!this.incrementalBuild || null == this.manifest ||
+                !pkgId.orgName.value.equals(this.manifest.getProject().getOrgName()) ||
+                this.entryModuleNames.contains(pkgId.name.value)) {
+            return null;
+        }
+
+        Path sourceRoot = Paths.get(this.options.get(PROJECT_DIR));
+        if (!ProjectDirs.isModuleExist(sourceRoot, pkgId.name.value)) {
+            return null;
+        }
+        if (null == this.buildSettings) {
+            this.buildSettings = ModuleBuildManifest.hashBuildSettings(this.options, this.manifest);
+        }
+        if (!ModuleBuildManifest.isUpToDate(sourceRoot, pkgId, this.buildSettings)) {
+            return null;
+        }
+
+        byte[] birContent;
+        try {
+            birContent = Files.readAllBytes(ModuleBuildManifest.getTargetBirPath(sourceRoot, pkgId));
+        } catch (IOException e) {
+            return null;
+        }
+        BPackageSymbol pkgSymbol = this.birPackageSymbolEnter.definePackage(pkgId, repoHierarchy, birContent);
+        this.packageCache.putSymbol(pkgId, pkgSymbol);
+        return pkgSymbol;
+    }
+
     private BPackageSymbol loadCompiledPackageAndDefine(PackageID pkgId, PackageBinary pkgBinary) {
         byte[] pkgBinaryContent = pkgBinary.getCompilerInput().getCode();
         BPackageSymbol pkgSymbol;
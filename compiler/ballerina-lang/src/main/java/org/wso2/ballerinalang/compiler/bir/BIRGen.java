@@ -2132,12 +2132,13 @@ public class BIRGen extends BLangNodeVisitor {
         BIROperand dataOp = this.env.targetOperand;
 
         tableLiteral.indexColumnsArrayLiteral.accept(this);
+        BIROperand indexColOp = this.env.targetOperand;
 
         tableLiteral.keyColumnsArrayLiteral.accept(this);
         BIROperand keyColOp = this.env.targetOperand;
 
         emit(new BIRNonTerminator.NewTable(tableLiteral.pos, tableLiteral.type, toVarRef, columnsOp, dataOp,
-                keyColOp));
+                indexColOp, keyColOp));
 
         this.env.targetOperand = toVarRef;
     }
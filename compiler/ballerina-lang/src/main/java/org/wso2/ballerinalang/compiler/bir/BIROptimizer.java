@@ -17,6 +17,7 @@
  */
 package org.wso2.ballerinalang.compiler.bir;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
@@ -29,9 +30,19 @@ import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIROptimizationPass;
+import org.wso2.ballerinalang.compiler.bir.optimizer.ConstantPropagator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.CopyPropagator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.DeadTempEliminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.RedundantTypeCheckEliminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.UnreachableBasicBlockEliminator;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +56,16 @@ import java.util.Map;
 public class BIROptimizer extends BIRVisitor {
 
     private static final CompilerContext.Key<BIROptimizer> BIR_OPTIMIZER = new CompilerContext.Key<>();
+
+    /**
+     * Only the redundant temporary moves are removed by default. The optimization pipeline runs from level 2 on.
+     */
+    private static final int DEFAULT_OPTIMIZATION_LEVEL = 1;
+    private static final int PIPELINE_OPTIMIZATION_LEVEL = 2;
+
+    private final CompilerOptions compilerOptions;
+    private final List<BIROptimizationPass> passes;
+    private PrintStream outStream;
     private Map<BIROperand, List<BIRAbstractInstruction>> tempVarUpdateInstructions = new HashMap<>();
     private Map<BIROperand, List<BIRErrorEntry>> errorEntries = new HashMap<>();
     private List<BIRVariableDcl> removedTempVars = new ArrayList<>();
@@ -58,14 +79,67 @@ public class BIROptimizer extends BIRVisitor {
         return birGen;
     }
 
+    public void setOutStream(PrintStream outStream) {
+        this.outStream = outStream;
+    }
+
     private BIROptimizer(CompilerContext context) {
         context.put(BIR_OPTIMIZER, this);
+        this.compilerOptions = CompilerOptions.getInstance(context);
+        this.passes = Lists.of(new RedundantTypeCheckEliminator(Types.getInstance(context),
+                                                                SymbolTable.getInstance(context)),
+                               new CopyPropagator(),
+                               new ConstantPropagator(),
+                               new UnreachableBasicBlockEliminator(),
+                               new DeadTempEliminator());
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        int optimizationLevel = getOptimizationLevel();
+        if (optimizationLevel <= 0) {
+            return;
+        }
+
         for (BIRFunction func : pkg.functions) {
             func.accept(this);
         }
+
+        if (optimizationLevel < PIPELINE_OPTIMIZATION_LEVEL) {
+            return;
+        }
+        boolean dumpStats = Boolean.parseBoolean(this.compilerOptions.get(CompilerOptionName.DUMP_OPTIMIZATION_STATS));
+        int insCountBefore = dumpStats ? countInstructions(pkg) : 0;
+        for (BIRFunction func : pkg.functions) {
+            for (BIROptimizationPass pass : this.passes) {
+                pass.optimize(func);
+            }
+        }
+        if (dumpStats && this.outStream != null) {
+            this.outStream.println("\t" + pkg.org.value + "/" + pkg.name.value + ": BIR instructions " +
+                    insCountBefore + " -> " + countInstructions(pkg));
+        }
+    }
+
+    private int getOptimizationLevel() {
+        String level = this.compilerOptions.get(CompilerOptionName.OPTIMIZATION_LEVEL);
+        if (level == null) {
+            return DEFAULT_OPTIMIZATION_LEVEL;
+        }
+        try {
+            return Integer.parseInt(level);
+        } catch (NumberFormatException e) {
+            return DEFAULT_OPTIMIZATION_LEVEL;
+        }
+    }
+
+    private int countInstructions(BIRPackage pkg) {
+        int count = 0;
+        for (BIRFunction func : pkg.functions) {
+            for (BIRBasicBlock bb : func.basicBlocks) {
+                count += bb.instructions.size() + (bb.terminator == null ? 0 : 1);
+            }
+        }
+        return count;
     }
 
     @Override
@@ -0,0 +1,263 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propagates constants within basic blocks and folds the binary and unary operations whose operands are all
+ * constants. A branch on a constant condition is replaced with a goto, leaving the other target to be removed by
+ * {@link UnreachableBasicBlockEliminator}.
+ * <p>
+ * Folding follows the semantics of the generated code. Operations which would panic or overflow at runtime are not
+ * folded, so that they still fail at runtime.
+ *
+ * @since 1.0.0
+ */
+public class ConstantPropagator implements BIROptimizationPass {
+
+    @Override
+    public void optimize(BIRFunction birFunction) {
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            optimize(basicBlock);
+        }
+    }
+
+    private void optimize(BIRBasicBlock basicBlock) {
+        Map<BIRVariableDcl, ConstantLoad> constants = new HashMap<>();
+        List<BIRInstruction> instructions = basicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRAbstractInstruction ins = (BIRAbstractInstruction) instructions.get(i);
+            ConstantLoad folded = fold(ins, constants);
+            if (folded != null) {
+                instructions.set(i, folded);
+                ins = folded;
+            }
+
+            if (ins.lhsOp == null) {
+                continue;
+            }
+            // Any write to a variable invalidates what is known about it.
+            constants.remove(ins.lhsOp.variableDcl);
+            if (ins instanceof ConstantLoad && isTrackable((ConstantLoad) ins)) {
+                constants.put(ins.lhsOp.variableDcl, (ConstantLoad) ins);
+            }
+        }
+
+        BIRTerminator terminator = basicBlock.terminator;
+        if (terminator instanceof BIRTerminator.Branch) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+            ConstantLoad condition = constants.get(branch.op.variableDcl);
+            if (condition != null && condition.value instanceof Boolean) {
+                basicBlock.terminator = new BIRTerminator.GOTO(branch.pos,
+                        (Boolean) condition.value ? branch.trueBB : branch.falseBB);
+            }
+        }
+    }
+
+    private ConstantLoad fold(BIRAbstractInstruction ins, Map<BIRVariableDcl, ConstantLoad> constants) {
+        if (ins instanceof Move) {
+            ConstantLoad rhs = constants.get(((Move) ins).rhsOp.variableDcl);
+            if (rhs == null || !isTrackableVar(ins.lhsOp) || ins.lhsOp.variableDcl.type.tag != rhs.type.tag) {
+                return null;
+            }
+            return new ConstantLoad(ins.pos, rhs.value, rhs.type, ins.lhsOp);
+        }
+
+        if (ins instanceof UnaryOP) {
+            ConstantLoad rhs = constants.get(((UnaryOP) ins).rhsOp.variableDcl);
+            if (rhs == null) {
+                return null;
+            }
+            return createConstant(ins, foldUnary((UnaryOP) ins, rhs));
+        }
+
+        if (ins instanceof BinaryOp) {
+            ConstantLoad rhs1 = constants.get(((BinaryOp) ins).rhsOp1.variableDcl);
+            ConstantLoad rhs2 = constants.get(((BinaryOp) ins).rhsOp2.variableDcl);
+            if (rhs1 == null || rhs2 == null || rhs1.type.tag != rhs2.type.tag) {
+                return null;
+            }
+            return createConstant(ins, foldBinary((BinaryOp) ins, rhs1, rhs2));
+        }
+
+        return null;
+    }
+
+    private Object foldUnary(UnaryOP unaryOp, ConstantLoad rhs) {
+        switch (unaryOp.kind) {
+            case NOT:
+                return rhs.type.tag == TypeTags.BOOLEAN ? !(Boolean) rhs.value : null;
+            case NEGATE:
+                if (rhs.type.tag == TypeTags.INT) {
+                    long value = (Long) rhs.value;
+                    return value == Long.MIN_VALUE ? null : -value;
+                }
+                return rhs.type.tag == TypeTags.FLOAT ? -toDouble(rhs.value) : null;
+            default:
+                return null;
+        }
+    }
+
+    private Object foldBinary(BinaryOp binaryOp, ConstantLoad rhs1, ConstantLoad rhs2) {
+        switch (rhs1.type.tag) {
+            case TypeTags.INT:
+                return foldIntBinary(binaryOp, (Long) rhs1.value, (Long) rhs2.value);
+            case TypeTags.FLOAT:
+                return foldFloatBinary(binaryOp, toDouble(rhs1.value), toDouble(rhs2.value));
+            case TypeTags.STRING:
+                switch (binaryOp.kind) {
+                    case ADD:
+                        return rhs1.value.toString().concat(rhs2.value.toString());
+                    case EQUAL:
+                        return rhs1.value.equals(rhs2.value);
+                    case NOT_EQUAL:
+                        return !rhs1.value.equals(rhs2.value);
+                    default:
+                        return null;
+                }
+            case TypeTags.BOOLEAN:
+                switch (binaryOp.kind) {
+                    case EQUAL:
+                        return rhs1.value.equals(rhs2.value);
+                    case NOT_EQUAL:
+                        return !rhs1.value.equals(rhs2.value);
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    private Object foldIntBinary(BinaryOp binaryOp, long lhs, long rhs) {
+        try {
+            switch (binaryOp.kind) {
+                case ADD:
+                    return Math.addExact(lhs, rhs);
+                case SUB:
+                    return Math.subtractExact(lhs, rhs);
+                case MUL:
+                    return Math.multiplyExact(lhs, rhs);
+                case DIV:
+                    return rhs == 0 ? null : lhs / rhs;
+                case MOD:
+                    return rhs == 0 ? null : lhs % rhs;
+                case EQUAL:
+                    return lhs == rhs;
+                case NOT_EQUAL:
+                    return lhs != rhs;
+                case GREATER_THAN:
+                    return lhs > rhs;
+                case GREATER_EQUAL:
+                    return lhs >= rhs;
+                case LESS_THAN:
+                    return lhs < rhs;
+                case LESS_EQUAL:
+                    return lhs <= rhs;
+                default:
+                    return null;
+            }
+        } catch (ArithmeticException e) {
+            // Let the overflow happen at runtime.
+            return null;
+        }
+    }
+
+    private Object foldFloatBinary(BinaryOp binaryOp, double lhs, double rhs) {
+        switch (binaryOp.kind) {
+            case ADD:
+                return lhs + rhs;
+            case SUB:
+                return lhs - rhs;
+            case MUL:
+                return lhs * rhs;
+            case DIV:
+                return lhs / rhs;
+            case MOD:
+                return lhs % rhs;
+            case GREATER_THAN:
+                return lhs > rhs;
+            case GREATER_EQUAL:
+                return lhs >= rhs;
+            case LESS_THAN:
+                return lhs < rhs;
+            case LESS_EQUAL:
+                return lhs <= rhs;
+            default:
+                return null;
+        }
+    }
+
+    private ConstantLoad createConstant(BIRAbstractInstruction ins, Object value) {
+        if (value == null || !isTrackableVar(ins.lhsOp)) {
+            return null;
+        }
+
+        BType lhsType = ins.lhsOp.variableDcl.type;
+        if (getTypeTag(value) != lhsType.tag) {
+            return null;
+        }
+        return new ConstantLoad(ins.pos, value, lhsType, ins.lhsOp);
+    }
+
+    private boolean isTrackable(ConstantLoad constantLoad) {
+        return isTrackableVar(constantLoad.lhsOp) && constantLoad.type.tag == constantLoad.lhsOp.variableDcl.type.tag
+                && getTypeTag(constantLoad.value) == constantLoad.type.tag;
+    }
+
+    private boolean isTrackableVar(BIROperand operand) {
+        // Globals may be updated by other strands, hence only function level variables are tracked.
+        VarKind kind = operand.variableDcl.kind;
+        return kind == VarKind.TEMP || kind == VarKind.LOCAL || kind == VarKind.ARG;
+    }
+
+    private int getTypeTag(Object value) {
+        if (value instanceof Long) {
+            return TypeTags.INT;
+        } else if (value instanceof Double) {
+            return TypeTags.FLOAT;
+        } else if (value instanceof Boolean) {
+            return TypeTags.BOOLEAN;
+        } else if (value instanceof String) {
+            return TypeTags.STRING;
+        }
+        return TypeTags.NONE;
+    }
+
+    private double toDouble(Object value) {
+        return value instanceof Double ? (Double) value : Double.parseDouble(value.toString());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replaces the reads of a variable which was assigned from another variable within the same basic block, with reads
+ * of the source variable. This leaves the copies into temporary variables unused, to be removed by
+ * {@link DeadTempEliminator}.
+ * <p>
+ * Temporary variables are never propagated, since the temp var elimination of the {@code BIROptimizer} expects each
+ * temporary variable to be read only once.
+ *
+ * @since 1.0.0
+ */
+public class CopyPropagator implements BIROptimizationPass {
+
+    @Override
+    public void optimize(BIRFunction birFunction) {
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            optimize(basicBlock);
+        }
+    }
+
+    private void optimize(BIRBasicBlock basicBlock) {
+        Map<BIRVariableDcl, BIRVariableDcl> copies = new HashMap<>();
+        for (BIRInstruction instruction : basicBlock.instructions) {
+            BIRAbstractInstruction ins = (BIRAbstractInstruction) instruction;
+            propagate(ins, copies);
+            if (ins.lhsOp == null) {
+                continue;
+            }
+
+            BIRVariableDcl lhs = ins.lhsOp.variableDcl;
+            copies.remove(lhs);
+            copies.values().removeIf(source -> source.equals(lhs));
+            if (ins instanceof Move && isPropagatable((Move) ins)) {
+                copies.put(lhs, ((Move) ins).rhsOp.variableDcl);
+            }
+        }
+
+        if (basicBlock.terminator instanceof BIRTerminator.Branch) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) basicBlock.terminator;
+            branch.op = replace(branch.op, copies);
+        }
+    }
+
+    private void propagate(BIRAbstractInstruction ins, Map<BIRVariableDcl, BIRVariableDcl> copies) {
+        if (copies.isEmpty()) {
+            return;
+        }
+
+        // The operands may be shared with other instructions, hence they are replaced rather than updated.
+        if (ins instanceof Move) {
+            ((Move) ins).rhsOp = replace(((Move) ins).rhsOp, copies);
+        } else if (ins instanceof BinaryOp) {
+            ((BinaryOp) ins).rhsOp1 = replace(((BinaryOp) ins).rhsOp1, copies);
+            ((BinaryOp) ins).rhsOp2 = replace(((BinaryOp) ins).rhsOp2, copies);
+        } else if (ins instanceof UnaryOP) {
+            ((UnaryOP) ins).rhsOp = replace(((UnaryOP) ins).rhsOp, copies);
+        } else if (ins instanceof TypeCast) {
+            ((TypeCast) ins).rhsOp = replace(((TypeCast) ins).rhsOp, copies);
+        } else if (ins instanceof TypeTest) {
+            ((TypeTest) ins).rhsOp = replace(((TypeTest) ins).rhsOp, copies);
+        } else if (ins instanceof IsLike) {
+            ((IsLike) ins).rhsOp = replace(((IsLike) ins).rhsOp, copies);
+        }
+    }
+
+    private BIROperand replace(BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> copies) {
+        BIRVariableDcl source = copies.get(operand.variableDcl);
+        return source == null ? operand : new BIROperand(source);
+    }
+
+    private boolean isPropagatable(Move move) {
+        BIRVariableDcl lhs = move.lhsOp.variableDcl;
+        BIRVariableDcl rhs = move.rhsOp.variableDcl;
+        return isFunctionVar(lhs) && isFunctionVar(rhs) && rhs.kind != VarKind.TEMP && lhs.type == rhs.type &&
+                !lhs.equals(rhs);
+    }
+
+    private boolean isFunctionVar(BIRVariableDcl var) {
+        return var.kind == VarKind.TEMP || var.kind == VarKind.LOCAL || var.kind == VarKind.ARG;
+    }
+}
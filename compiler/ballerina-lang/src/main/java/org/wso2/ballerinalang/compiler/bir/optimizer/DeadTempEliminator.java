@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Removes the instructions which assign to temporary variables that are never read, and the temporary variables
+ * themselves. Only the instructions which cannot panic are removed.
+ * <p>
+ * The instruction offsets of local variables are updated to keep the debug ranges generated by the backend valid.
+ *
+ * @since 1.0.0
+ */
+public class DeadTempEliminator implements BIROptimizationPass {
+
+    @Override
+    public void optimize(BIRFunction birFunction) {
+        Set<BIRVariableDcl> usedVars = new HashSet<>();
+        if (!collectUses(birFunction, usedVars)) {
+            // Uses of an unknown instruction cannot be determined, hence nothing is safe to remove.
+            return;
+        }
+
+        boolean removed;
+        do {
+            removed = false;
+            for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+                removed |= removeDeadInstructions(birFunction, basicBlock, usedVars);
+            }
+            if (removed) {
+                usedVars.clear();
+                collectUses(birFunction, usedVars);
+            }
+        } while (removed);
+
+        Set<BIRVariableDcl> assignedVars = getAssignedVars(birFunction);
+        birFunction.localVars = birFunction.localVars.stream()
+                .filter(var -> var.kind != VarKind.TEMP || usedVars.contains(var) || assignedVars.contains(var))
+                .collect(Collectors.toList());
+    }
+
+    private boolean removeDeadInstructions(BIRFunction birFunction, BIRBasicBlock basicBlock,
+                                           Set<BIRVariableDcl> usedVars) {
+        List<BIRInstruction> instructions = basicBlock.instructions;
+        List<BIRInstruction> newInstructions = new ArrayList<>(instructions.size());
+        int[] newOffsets = new int[instructions.size()];
+        for (int i = 0; i < instructions.size(); i++) {
+            newOffsets[i] = newInstructions.size();
+            BIRInstruction ins = instructions.get(i);
+            if (!isDead(ins, usedVars)) {
+                newInstructions.add(ins);
+            }
+        }
+        if (newInstructions.size() == instructions.size()) {
+            return false;
+        }
+
+        List<BIRVariableDcl> scopedVars = birFunction.localVars.stream()
+                .filter(var -> var.startBB == basicBlock)
+                .collect(Collectors.toList());
+        if (newInstructions.isEmpty() && !scopedVars.isEmpty()) {
+            // The backend labels each instruction by its offset, hence the scope of a variable has to start at an
+            // instruction which is still there.
+            return false;
+        }
+
+        for (BIRVariableDcl var : scopedVars) {
+            if (var.insOffset < instructions.size()) {
+                var.insOffset = Math.min(newOffsets[var.insOffset], newInstructions.size() - 1);
+            }
+        }
+        basicBlock.instructions = newInstructions;
+        return true;
+    }
+
+    private boolean isDead(BIRInstruction ins, Set<BIRVariableDcl> usedVars) {
+        if (!(ins instanceof ConstantLoad || ins instanceof Move || ins instanceof TypeTest ||
+                ins instanceof IsLike)) {
+            return false;
+        }
+
+        BIRVariableDcl lhs = ((BIRAbstractInstruction) ins).lhsOp.variableDcl;
+        return lhs.kind == VarKind.TEMP && !usedVars.contains(lhs);
+    }
+
+    private boolean collectUses(BIRFunction birFunction, Set<BIRVariableDcl> usedVars) {
+        List<BIRVariableDcl> uses = new ArrayList<>();
+        for (BIRBasicBlock basicBlock : getAllBasicBlocks(birFunction)) {
+            for (BIRInstruction ins : basicBlock.instructions) {
+                if (!OperandUses.collect(ins, uses)) {
+                    return false;
+                }
+            }
+            if (basicBlock.terminator != null && !OperandUses.collect(basicBlock.terminator, uses)) {
+                return false;
+            }
+        }
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            if (errorEntry.errorOp != null) {
+                uses.add(errorEntry.errorOp.variableDcl);
+            }
+        }
+        usedVars.addAll(uses);
+        return true;
+    }
+
+    private Set<BIRVariableDcl> getAssignedVars(BIRFunction birFunction) {
+        Set<BIRVariableDcl> assignedVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : getAllBasicBlocks(birFunction)) {
+            basicBlock.instructions.forEach(ins -> addAssignedVar(ins, assignedVars));
+            addAssignedVar(basicBlock.terminator, assignedVars);
+        }
+        return assignedVars;
+    }
+
+    private void addAssignedVar(BIRInstruction ins, Set<BIRVariableDcl> assignedVars) {
+        if (ins instanceof BIRAbstractInstruction && ((BIRAbstractInstruction) ins).lhsOp != null) {
+            assignedVars.add(((BIRAbstractInstruction) ins).lhsOp.variableDcl);
+        }
+    }
+
+    private List<BIRBasicBlock> getAllBasicBlocks(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(birFunction.basicBlocks);
+        birFunction.parameters.values().forEach(basicBlocks::addAll);
+        return basicBlocks;
+    }
+}
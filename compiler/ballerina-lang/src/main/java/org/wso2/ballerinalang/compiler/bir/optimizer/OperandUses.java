@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.util.List;
+
+/**
+ * Finds the variables read by BIR instructions.
+ *
+ * @since 1.0.0
+ */
+class OperandUses {
+
+    private OperandUses() {
+    }
+
+    /**
+     * Adds the variables read by the given instruction to the given list. Stores into structures, such as map and
+     * array stores, keep the structure in the lhs operand, hence the lhs is considered as read for them.
+     *
+     * @param ins  instruction
+     * @param uses list to add the read variables to
+     * @return false if the instruction is not known, in which case the uses cannot be determined
+     */
+    static boolean collect(BIRInstruction ins, List<BIRVariableDcl> uses) {
+        if (ins instanceof BIRNonTerminator.Move) {
+            add(uses, ((BIRNonTerminator.Move) ins).rhsOp);
+        } else if (ins instanceof BIRNonTerminator.BinaryOp) {
+            add(uses, ((BIRNonTerminator.BinaryOp) ins).rhsOp1);
+            add(uses, ((BIRNonTerminator.BinaryOp) ins).rhsOp2);
+        } else if (ins instanceof BIRNonTerminator.UnaryOP) {
+            add(uses, ((BIRNonTerminator.UnaryOP) ins).rhsOp);
+        } else if (ins instanceof BIRNonTerminator.ConstantLoad || ins instanceof BIRNonTerminator.NewStructure ||
+                ins instanceof BIRNonTerminator.NewInstance || ins instanceof BIRNonTerminator.NewTypeDesc ||
+                ins instanceof BIRNonTerminator.NewStream) {
+            return true;
+        } else if (ins instanceof BIRNonTerminator.NewArray) {
+            add(uses, ((BIRNonTerminator.NewArray) ins).sizeOp);
+        } else if (ins instanceof BIRNonTerminator.FieldAccess) {
+            BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) ins;
+            add(uses, fieldAccess.lhsOp);
+            add(uses, fieldAccess.keyOp);
+            add(uses, fieldAccess.rhsOp);
+        } else if (ins instanceof BIRNonTerminator.NewError) {
+            add(uses, ((BIRNonTerminator.NewError) ins).reasonOp);
+            add(uses, ((BIRNonTerminator.NewError) ins).detailOp);
+        } else if (ins instanceof BIRNonTerminator.TypeCast) {
+            add(uses, ((BIRNonTerminator.TypeCast) ins).rhsOp);
+        } else if (ins instanceof BIRNonTerminator.IsLike) {
+            add(uses, ((BIRNonTerminator.IsLike) ins).rhsOp);
+        } else if (ins instanceof BIRNonTerminator.TypeTest) {
+            add(uses, ((BIRNonTerminator.TypeTest) ins).rhsOp);
+        } else if (ins instanceof BIRNonTerminator.NewXMLElement) {
+            BIRNonTerminator.NewXMLElement newXMLElement = (BIRNonTerminator.NewXMLElement) ins;
+            add(uses, newXMLElement.startTagOp);
+            add(uses, newXMLElement.endTagOp);
+            add(uses, newXMLElement.defaultNsURIOp);
+        } else if (ins instanceof BIRNonTerminator.NewXMLQName) {
+            BIRNonTerminator.NewXMLQName newXMLQName = (BIRNonTerminator.NewXMLQName) ins;
+            add(uses, newXMLQName.localnameOp);
+            add(uses, newXMLQName.nsURIOp);
+            add(uses, newXMLQName.prefixOp);
+        } else if (ins instanceof BIRNonTerminator.NewStringXMLQName) {
+            add(uses, ((BIRNonTerminator.NewStringXMLQName) ins).stringQNameOP);
+        } else if (ins instanceof BIRNonTerminator.NewXMLText) {
+            add(uses, ((BIRNonTerminator.NewXMLText) ins).textOp);
+        } else if (ins instanceof BIRNonTerminator.NewXMLProcIns) {
+            add(uses, ((BIRNonTerminator.NewXMLProcIns) ins).dataOp);
+            add(uses, ((BIRNonTerminator.NewXMLProcIns) ins).targetOp);
+        } else if (ins instanceof BIRNonTerminator.NewXMLComment) {
+            add(uses, ((BIRNonTerminator.NewXMLComment) ins).textOp);
+        } else if (ins instanceof BIRNonTerminator.XMLAccess) {
+            add(uses, ((BIRNonTerminator.XMLAccess) ins).lhsOp);
+            add(uses, ((BIRNonTerminator.XMLAccess) ins).rhsOp);
+        } else if (ins instanceof BIRNonTerminator.FPLoad) {
+            ((BIRNonTerminator.FPLoad) ins).closureMaps.forEach(closureMap -> add(uses, closureMap));
+        } else if (ins instanceof BIRNonTerminator.NewTable) {
+            BIRNonTerminator.NewTable newTable = (BIRNonTerminator.NewTable) ins;
+            add(uses, newTable.columnsOp);
+            add(uses, newTable.dataOp);
+            add(uses, newTable.indexColOp);
+            add(uses, newTable.keyColOp);
+        } else if (ins instanceof BIRTerminator) {
+            return collectTerminatorUses((BIRTerminator) ins, uses);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean collectTerminatorUses(BIRTerminator terminator, List<BIRVariableDcl> uses) {
+        if (terminator instanceof BIRTerminator.Call) {
+            ((BIRTerminator.Call) terminator).args.forEach(arg -> add(uses, arg));
+        } else if (terminator instanceof BIRTerminator.FPCall) {
+            add(uses, ((BIRTerminator.FPCall) terminator).fp);
+            ((BIRTerminator.FPCall) terminator).args.forEach(arg -> add(uses, arg));
+        } else if (terminator instanceof BIRTerminator.Branch) {
+            add(uses, ((BIRTerminator.Branch) terminator).op);
+        } else if (terminator instanceof BIRTerminator.Panic) {
+            add(uses, ((BIRTerminator.Panic) terminator).errorOp);
+        } else if (terminator instanceof BIRTerminator.Wait) {
+            ((BIRTerminator.Wait) terminator).exprList.forEach(expr -> add(uses, expr));
+        } else if (terminator instanceof BIRTerminator.WaitAll) {
+            ((BIRTerminator.WaitAll) terminator).valueExprs.forEach(expr -> add(uses, expr));
+        } else if (terminator instanceof BIRTerminator.WorkerSend) {
+            add(uses, ((BIRTerminator.WorkerSend) terminator).data);
+        } else if (terminator instanceof BIRTerminator.FieldLock) {
+            uses.add(((BIRTerminator.FieldLock) terminator).localVar);
+        } else if (terminator instanceof BIRTerminator.Unlock) {
+            if (((BIRTerminator.Unlock) terminator).fieldLocks != null) {
+                uses.addAll(((BIRTerminator.Unlock) terminator).fieldLocks.keySet());
+            }
+        } else if (!(terminator instanceof BIRTerminator.GOTO || terminator instanceof BIRTerminator.Return ||
+                terminator instanceof BIRTerminator.Lock || terminator instanceof BIRTerminator.Flush ||
+                terminator instanceof BIRTerminator.WorkerReceive)) {
+            return false;
+        }
+        return true;
+    }
+
+    private static void add(List<BIRVariableDcl> uses, BIROperand operand) {
+        if (operand != null) {
+            uses.add(operand.variableDcl);
+        }
+    }
+}
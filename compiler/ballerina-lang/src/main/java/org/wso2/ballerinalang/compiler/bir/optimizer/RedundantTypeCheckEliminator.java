@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.List;
+
+/**
+ * Removes type casts and type tests whose outcome is already known from the static type of the operand.
+ * <p>
+ * A cast to the same type as the operand is replaced with a move. A type test is replaced with a constant true only
+ * if the operand is of a simple basic type, since the runtime value of such an operand always has the static type.
+ * Values of structured types may be of a narrower type at runtime, hence tests on them are left as they are.
+ *
+ * @since 1.0.0
+ */
+public class RedundantTypeCheckEliminator implements BIROptimizationPass {
+
+    private final Types types;
+    private final SymbolTable symTable;
+
+    public RedundantTypeCheckEliminator(Types types, SymbolTable symTable) {
+        this.types = types;
+        this.symTable = symTable;
+    }
+
+    @Override
+    public void optimize(BIRFunction birFunction) {
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            List<BIRInstruction> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRInstruction ins = instructions.get(i);
+                if (ins instanceof TypeCast) {
+                    TypeCast typeCast = (TypeCast) ins;
+                    if (isRedundantCast(typeCast)) {
+                        instructions.set(i, new Move(typeCast.pos, typeCast.rhsOp, typeCast.lhsOp));
+                    }
+                } else if (ins instanceof TypeTest) {
+                    TypeTest typeTest = (TypeTest) ins;
+                    if (isRedundantTest(typeTest)) {
+                        instructions.set(i, new ConstantLoad(typeTest.pos, true, symTable.booleanType,
+                                typeTest.lhsOp));
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isRedundantCast(TypeCast typeCast) {
+        BType sourceType = typeCast.rhsOp.variableDcl.type;
+        return types.isSameType(sourceType, typeCast.type) &&
+                types.isSameType(typeCast.type, typeCast.lhsOp.variableDcl.type);
+    }
+
+    private boolean isRedundantTest(TypeTest typeTest) {
+        BType sourceType = typeTest.rhsOp.variableDcl.type;
+        return isSimpleBasicType(sourceType) && typeTest.lhsOp.variableDcl.type.tag == TypeTags.BOOLEAN &&
+                types.isAssignable(sourceType, typeTest.type);
+    }
+
+    private boolean isSimpleBasicType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.BOOLEAN:
+            case TypeTags.STRING:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Removes the basic blocks which cannot be reached from the entry block of a function.
+ * <p>
+ * The blocks referred by the error table and the blocks marking the scopes of local variables are kept, since the
+ * backend generates labels for them.
+ *
+ * @since 1.0.0
+ */
+public class UnreachableBasicBlockEliminator implements BIROptimizationPass {
+
+    @Override
+    public void optimize(BIRFunction birFunction) {
+        if (birFunction.basicBlocks.isEmpty()) {
+            return;
+        }
+
+        Set<BIRBasicBlock> reachable = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.push(birFunction.basicBlocks.get(0));
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            push(worklist, errorEntry.trapBB);
+            push(worklist, errorEntry.targetBB);
+        }
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            push(worklist, localVar.startBB);
+            push(worklist, localVar.endBB);
+        }
+
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock basicBlock = worklist.pop();
+            if (!reachable.add(basicBlock) || basicBlock.terminator == null) {
+                continue;
+            }
+            pushSuccessors(worklist, basicBlock.terminator);
+        }
+
+        birFunction.basicBlocks = birFunction.basicBlocks.stream()
+                .filter(reachable::contains)
+                .collect(Collectors.toList());
+    }
+
+    private void pushSuccessors(Deque<BIRBasicBlock> worklist, BIRTerminator terminator) {
+        push(worklist, terminator.thenBB);
+        if (terminator instanceof BIRTerminator.GOTO) {
+            push(worklist, ((BIRTerminator.GOTO) terminator).targetBB);
+        } else if (terminator instanceof BIRTerminator.Branch) {
+            push(worklist, ((BIRTerminator.Branch) terminator).trueBB);
+            push(worklist, ((BIRTerminator.Branch) terminator).falseBB);
+        } else if (terminator instanceof BIRTerminator.Lock) {
+            push(worklist, ((BIRTerminator.Lock) terminator).lockedBB);
+        } else if (terminator instanceof BIRTerminator.FieldLock) {
+            push(worklist, ((BIRTerminator.FieldLock) terminator).lockedBB);
+        } else if (terminator instanceof BIRTerminator.Unlock) {
+            push(worklist, ((BIRTerminator.Unlock) terminator).unlockBB);
+        }
+    }
+
+    private void push(Deque<BIRBasicBlock> worklist, BIRBasicBlock basicBlock) {
+        if (basicBlock != null) {
+            worklist.push(basicBlock);
+        }
+    }
+}
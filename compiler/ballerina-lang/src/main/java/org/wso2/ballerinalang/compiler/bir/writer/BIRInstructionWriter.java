@@ -419,6 +419,7 @@ public class BIRInstructionWriter extends BIRVisitor {
         newTable.lhsOp.accept(this);
         newTable.columnsOp.accept(this);
         newTable.dataOp.accept(this);
+        newTable.indexColOp.accept(this);
         newTable.keyColOp.accept(this);
     }
 
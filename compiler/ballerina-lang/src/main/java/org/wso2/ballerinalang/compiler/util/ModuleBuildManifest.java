@@ -0,0 +1,345 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.util;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.toml.model.Dependency;
+import org.ballerinalang.toml.model.Manifest;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content hashes of a project module, kept beside the module's bir in the target bir cache. Incremental builds use
+ * it to decide whether the cached bir and jar of a module can be reused instead of compiling the module again.
+ *
+ * @since 1.0.0
+ */
+public class ModuleBuildManifest {
+
+    public static final String MANIFEST_EXT = ".hash";
+
+    private static final String COMPILER_VERSION_KEY = "compiler";
+    private static final String SOURCE_KEY = "source";
+    private static final String BUILD_SETTINGS_KEY = "settings";
+    private static final String BIR_KEY = "bir";
+    private static final String JAR_KEY = "jar";
+    private static final String TEST_BIR_KEY = "test.bir";
+    private static final String TEST_JAR_KEY = "test.jar";
+    private static final String DEPENDENCY_KEY_PREFIX = "dependency.";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    // Compiler options which change the bir generated for the same sources.
+    private static final CompilerOptionName[] BIR_OPTIONS = {CompilerOptionName.OPTIMIZATION_LEVEL,
+            CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED};
+
+    private final Path manifestPath;
+    private final Properties entries = new Properties();
+
+    private ModuleBuildManifest(Path manifestPath) {
+        this.manifestPath = manifestPath;
+    }
+
+    /**
+     * Loads the manifest kept beside the given bir file. An empty manifest is returned if there is none.
+     *
+     * @param birPath path of the bir file of the module
+     * @return manifest of the module
+     */
+    public static ModuleBuildManifest load(Path birPath) {
+        String birFileName = birPath.getFileName().toString();
+        String moduleFileName = birFileName.endsWith(ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT) ?
+                birFileName.substring(0, birFileName.lastIndexOf('.')) : birFileName;
+        ModuleBuildManifest manifest = new ModuleBuildManifest(birPath.resolveSibling(moduleFileName +
+                MANIFEST_EXT));
+        if (Files.exists(manifest.manifestPath)) {
+            try (InputStream in = Files.newInputStream(manifest.manifestPath)) {
+                manifest.entries.load(in);
+            } catch (IOException e) {
+                // A manifest which cannot be read is the same as not having one, the module will be rebuilt.
+                manifest.entries.clear();
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Get the path of the bir of a project module in the target bir cache.
+     *
+     * @param sourceRoot project root
+     * @param moduleID   module
+     * @return bir path
+     */
+    public static Path getTargetBirPath(Path sourceRoot, PackageID moduleID) {
+        return getTargetBirCacheDir(sourceRoot).resolve(getModuleCachePath(moduleID))
+                .resolve(moduleID.name.value + ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT);
+    }
+
+    /**
+     * Hashes the settings of a build which change the bir of a module without changing its sources, i.e. the
+     * compiler options which affect code generation and the balos of the dependencies resolved by path.
+     *
+     * @param options  compiler options of the build
+     * @param manifest manifest of the project
+     * @return hash of the build settings
+     */
+    public static String hashBuildSettings(CompilerOptions options, Manifest manifest) {
+        MessageDigest digest = newDigest();
+        for (CompilerOptionName option : BIR_OPTIONS) {
+            digest.update((option + "=" + options.get(option) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        if (manifest != null) {
+            for (Dependency dependency : manifest.getDependencies()) {
+                if (dependency.getMetadata() == null || dependency.getMetadata().getPath() == null) {
+                    continue;
+                }
+                Path baloPath = dependency.getMetadata().getPath();
+                digest.update((dependency.getModuleID() + "=" + baloPath + "\n").getBytes(StandardCharsets.UTF_8));
+                // A missing balo is reported when the dependency is resolved, hence the path alone is hashed.
+                if (Files.isRegularFile(baloPath)) {
+                    try {
+                        digest.update(Files.readAllBytes(baloPath));
+                    } catch (IOException e) {
+                        throw new BLangCompilerException("error reading the balo of the dependency '" +
+                                dependency.getModuleID() + "': " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Checks whether the cached bir of the given project module is valid for the current sources of the module, for
+     * the current build settings and for the cached birs of the project modules it depends on.
+     *
+     * @param sourceRoot    project root
+     * @param moduleID      module
+     * @param buildSettings hash of the build settings, see {@link #hashBuildSettings(CompilerOptions, Manifest)}
+     * @return true if the cached bir can be used instead of compiling the module
+     */
+    public static boolean isUpToDate(Path sourceRoot, PackageID moduleID, String buildSettings) {
+        return isUpToDate(sourceRoot, getModuleCachePath(moduleID), moduleID.name.value, buildSettings,
+                new HashSet<>());
+    }
+
+    private static boolean isUpToDate(Path sourceRoot, String moduleCachePath, String moduleName,
+                                      String buildSettings, Set<String> visited) {
+        if (!visited.add(moduleCachePath)) {
+            return true;
+        }
+
+        Path birPath = getTargetBirCacheDir(sourceRoot).resolve(moduleCachePath)
+                .resolve(moduleName + ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        if (!Files.exists(birPath)) {
+            return false;
+        }
+
+        ModuleBuildManifest manifest = load(birPath);
+        try {
+            if (!manifest.isSourceUpToDate(sourceRoot, moduleName) ||
+                    !buildSettings.equals(manifest.entries.getProperty(BUILD_SETTINGS_KEY)) ||
+                    !hash(Files.readAllBytes(birPath)).equals(manifest.entries.getProperty(BIR_KEY))) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        for (Map.Entry<String, String> dependency : manifest.getDependencies().entrySet()) {
+            String dependencyCachePath = dependency.getKey();
+            String dependencyName = dependencyCachePath.split("/")[1];
+            Path dependencyBir = getTargetBirCacheDir(sourceRoot).resolve(dependencyCachePath)
+                    .resolve(dependencyName + ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT);
+            if (!dependency.getValue().equals(load(dependencyBir).entries.getProperty(BIR_KEY)) ||
+                    !isUpToDate(sourceRoot, dependencyCachePath, dependencyName, buildSettings, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the hashes of a module which was compiled from its sources.
+     *
+     * @param sourceRoot    project root
+     * @param moduleName    name of the module
+     * @param bir           bir of the module
+     * @param dependencies  project modules the module imports along with their birs
+     * @param buildSettings hash of the settings of the build which compiled the module
+     */
+    public void updateModule(Path sourceRoot, String moduleName, byte[] bir, Map<PackageID, byte[]> dependencies,
+                             String buildSettings) {
+        this.entries.setProperty(COMPILER_VERSION_KEY, getCompilerVersion());
+        this.entries.setProperty(SOURCE_KEY, hashModuleSources(sourceRoot, moduleName));
+        this.entries.setProperty(BUILD_SETTINGS_KEY, buildSettings);
+        this.entries.setProperty(BIR_KEY, hash(bir));
+        this.entries.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(DEPENDENCY_KEY_PREFIX))
+                .forEach(this.entries::remove);
+        dependencies.forEach((id, dependencyBir) ->
+                this.entries.setProperty(DEPENDENCY_KEY_PREFIX + getModuleCachePath(id), hash(dependencyBir)));
+    }
+
+    public void updateTestModule(byte[] testBir) {
+        this.entries.setProperty(TEST_BIR_KEY, hash(testBir));
+    }
+
+    /**
+     * Checks whether the jar of the module was generated from the current bir of the module and the current birs of
+     * its dependencies.
+     *
+     * @return true if jar generation can be skipped
+     */
+    public boolean isJarUpToDate() {
+        String jarInputs = getJarInputsHash(BIR_KEY);
+        return jarInputs != null && jarInputs.equals(this.entries.getProperty(JAR_KEY));
+    }
+
+    public boolean isTestJarUpToDate() {
+        String jarInputs = getJarInputsHash(TEST_BIR_KEY);
+        return jarInputs != null && jarInputs.equals(this.entries.getProperty(TEST_JAR_KEY));
+    }
+
+    public void markJarGenerated() {
+        String jarInputs = getJarInputsHash(BIR_KEY);
+        if (jarInputs != null) {
+            this.entries.setProperty(JAR_KEY, jarInputs);
+        }
+    }
+
+    public void markTestJarGenerated() {
+        String jarInputs = getJarInputsHash(TEST_BIR_KEY);
+        if (jarInputs != null) {
+            this.entries.setProperty(TEST_JAR_KEY, jarInputs);
+        }
+    }
+
+    public void write() {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        try (OutputStream out = Files.newOutputStream(this.manifestPath)) {
+            this.entries.store(out, null);
+        } catch (IOException e) {
+            throw new BLangCompilerException("error writing the build manifest '" + this.manifestPath + "': " +
+                    e.getMessage(), e);
+        }
+    }
+
+    private boolean isSourceUpToDate(Path sourceRoot, String moduleName) {
+        return getCompilerVersion().equals(this.entries.getProperty(COMPILER_VERSION_KEY)) &&
+                hashModuleSources(sourceRoot, moduleName).equals(this.entries.getProperty(SOURCE_KEY));
+    }
+
+    private Map<String, String> getDependencies() {
+        return this.entries.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(DEPENDENCY_KEY_PREFIX))
+                .collect(Collectors.toMap(key -> key.substring(DEPENDENCY_KEY_PREFIX.length()),
+                        this.entries::getProperty, (a, b) -> a, TreeMap::new));
+    }
+
+    private String getJarInputsHash(String birKey) {
+        String birHash = this.entries.getProperty(birKey);
+        if (birHash == null) {
+            return null;
+        }
+        // The generated code of a module depends on the types of the modules it imports as well.
+        StringBuilder jarInputs = new StringBuilder(birHash);
+        getDependencies().forEach((module, hash) -> jarInputs.append('\n').append(module).append('=').append(hash));
+        return hash(jarInputs.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hashes all the files of a module, including its tests and resources, along with the project's Ballerina.toml
+     * and Ballerina.lock which decide the versions of the module's dependencies.
+     */
+    private static String hashModuleSources(Path sourceRoot, String moduleName) {
+        MessageDigest digest = newDigest();
+        Path moduleDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(moduleName);
+        try (Stream<Path> paths = Files.walk(moduleDir)) {
+            List<Path> files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            for (Path file : files) {
+                digest.update(moduleDir.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+            for (String projectFile : new String[]{ProjectDirConstants.MANIFEST_FILE_NAME,
+                    ProjectDirConstants.LOCK_FILE_NAME}) {
+                Path projectFilePath = sourceRoot.resolve(projectFile);
+                if (Files.exists(projectFilePath)) {
+                    digest.update(Files.readAllBytes(projectFilePath));
+                }
+            }
+        } catch (IOException e) {
+            // Force a rebuild when the sources cannot be read. The compilation will report the actual error.
+            return "";
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String getCompilerVersion() {
+        return String.valueOf(RepoUtils.getBallerinaVersion());
+    }
+
+    private static Path getTargetBirCacheDir(Path sourceRoot) {
+        return sourceRoot.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                .resolve(ProjectDirConstants.BIR_CACHE_DIR_NAME);
+    }
+
+    private static String getModuleCachePath(PackageID moduleID) {
+        return moduleID.orgName.value + "/" + moduleID.name.value + "/" + moduleID.version.value;
+    }
+
+    private static String hash(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("unable to hash module sources", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
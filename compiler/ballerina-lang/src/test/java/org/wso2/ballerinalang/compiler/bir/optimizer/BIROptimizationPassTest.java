@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.BIROptimizer;
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Lists;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the BIR optimization passes, which compare the BIR of a function before and after a pass.
+ *
+ * @since 1.0.0
+ */
+public class BIROptimizationPassTest {
+
+    private SymbolTable symTable;
+    private Types types;
+    private BIRFunction function;
+
+    @BeforeMethod
+    public void setUp() {
+        CompilerContext context = new CompilerContext();
+        symTable = SymbolTable.getInstance(context);
+        types = Types.getInstance(context);
+        function = new BIRFunction(null, new Name("test"), 0, null, new Name("default"), 0, null);
+    }
+
+    @Test
+    public void testRedundantTypeCheckElimination() {
+        BIRVariableDcl x = var("x", symTable.intType, VarKind.ARG);
+        BIRVariableDcl a = var("a", symTable.anydataType, VarKind.ARG);
+        BIRVariableDcl t1 = var("%1", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t2 = var("%2", symTable.booleanType, VarKind.TEMP);
+        BIRVariableDcl t3 = var("%3", symTable.booleanType, VarKind.TEMP);
+        BIRVariableDcl t4 = var("%4", symTable.intType, VarKind.TEMP);
+        BIRBasicBlock bb0 = basicBlock("bb0");
+        bb0.instructions.add(new TypeCast(null, op(t1), op(x), symTable.intType, true));
+        bb0.instructions.add(new TypeTest(null, symTable.intType, op(t2), op(x)));
+        bb0.instructions.add(new TypeTest(null, symTable.intType, op(t3), op(a)));
+        bb0.instructions.add(new TypeCast(null, op(t4), op(a), symTable.intType, true));
+        bb0.terminator = new BIRTerminator.Return(null);
+
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  %1 = <int> x\n" +
+                "  %2 = x is int\n" +
+                "  %3 = a is int\n" +
+                "  %4 = <int> a\n" +
+                "  return\n");
+        new RedundantTypeCheckEliminator(types, symTable).optimize(function);
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  %1 = x\n" +
+                "  %2 = const true\n" +
+                "  %3 = a is int\n" +
+                "  %4 = <int> a\n" +
+                "  return\n");
+    }
+
+    @Test
+    public void testCopyPropagation() {
+        BIRVariableDcl x = var("x", symTable.intType, VarKind.ARG);
+        BIRVariableDcl c = var("c", symTable.booleanType, VarKind.ARG);
+        BIRVariableDcl y = var("y", symTable.intType, VarKind.LOCAL);
+        BIRVariableDcl b = var("b", symTable.booleanType, VarKind.LOCAL);
+        BIRVariableDcl t1 = var("%1", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t2 = var("%2", symTable.intType, VarKind.TEMP);
+        BIRBasicBlock bb0 = basicBlock("bb0");
+        BIRBasicBlock bb1 = basicBlock("bb1");
+        BIRBasicBlock bb2 = basicBlock("bb2");
+        bb0.instructions.add(new Move(null, op(x), op(y)));
+        bb0.instructions.add(new BinaryOp(null, InstructionKind.ADD, symTable.intType, op(t1), op(y), op(y)));
+        bb0.instructions.add(new Move(null, op(t1), op(y)));
+        bb0.instructions.add(new BinaryOp(null, InstructionKind.ADD, symTable.intType, op(t2), op(y), op(x)));
+        bb0.instructions.add(new Move(null, op(c), op(b)));
+        bb0.terminator = new BIRTerminator.Branch(null, op(b), bb1, bb2);
+        bb1.instructions.add(new Move(null, op(b), op(c)));
+        bb1.terminator = new BIRTerminator.Return(null);
+        bb2.terminator = new BIRTerminator.Return(null);
+
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  y = x\n" +
+                "  %1 = y ADD y\n" +
+                "  y = %1\n" +
+                "  %2 = y ADD x\n" +
+                "  b = c\n" +
+                "  branch b ? bb1 : bb2\n" +
+                "bb1:\n" +
+                "  c = b\n" +
+                "  return\n" +
+                "bb2:\n" +
+                "  return\n");
+        new CopyPropagator().optimize(function);
+        // The copy from a temporary variable is not propagated, and the copies do not outlive the basic block.
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  y = x\n" +
+                "  %1 = x ADD x\n" +
+                "  y = %1\n" +
+                "  %2 = y ADD x\n" +
+                "  b = c\n" +
+                "  branch c ? bb1 : bb2\n" +
+                "bb1:\n" +
+                "  c = b\n" +
+                "  return\n" +
+                "bb2:\n" +
+                "  return\n");
+    }
+
+    @Test
+    public void testConstantPropagation() {
+        BIRVariableDcl t1 = var("%1", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t2 = var("%2", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t3 = var("%3", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t4 = var("%4", symTable.booleanType, VarKind.TEMP);
+        BIRVariableDcl t5 = var("%5", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t6 = var("%6", symTable.intType, VarKind.TEMP);
+        BIRBasicBlock bb0 = basicBlock("bb0");
+        BIRBasicBlock bb1 = basicBlock("bb1");
+        BIRBasicBlock bb2 = basicBlock("bb2");
+        bb0.instructions.add(new ConstantLoad(null, 2L, symTable.intType, op(t1)));
+        bb0.instructions.add(new ConstantLoad(null, 3L, symTable.intType, op(t2)));
+        bb0.instructions.add(new BinaryOp(null, InstructionKind.ADD, symTable.intType, op(t3), op(t1), op(t2)));
+        bb0.instructions.add(new BinaryOp(null, InstructionKind.GREATER_THAN, symTable.booleanType, op(t4), op(t3),
+                op(t1)));
+        bb0.instructions.add(new ConstantLoad(null, Long.MAX_VALUE, symTable.intType, op(t5)));
+        bb0.instructions.add(new BinaryOp(null, InstructionKind.ADD, symTable.intType, op(t6), op(t5), op(t1)));
+        bb0.terminator = new BIRTerminator.Branch(null, op(t4), bb1, bb2);
+        bb1.terminator = new BIRTerminator.Return(null);
+        bb2.terminator = new BIRTerminator.Return(null);
+
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  %1 = const 2\n" +
+                "  %2 = const 3\n" +
+                "  %3 = %1 ADD %2\n" +
+                "  %4 = %3 GREATER_THAN %1\n" +
+                "  %5 = const 9223372036854775807\n" +
+                "  %6 = %5 ADD %1\n" +
+                "  branch %4 ? bb1 : bb2\n" +
+                "bb1:\n" +
+                "  return\n" +
+                "bb2:\n" +
+                "  return\n");
+        new ConstantPropagator().optimize(function);
+        // The addition which overflows is left to fail at runtime.
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  %1 = const 2\n" +
+                "  %2 = const 3\n" +
+                "  %3 = const 5\n" +
+                "  %4 = const true\n" +
+                "  %5 = const 9223372036854775807\n" +
+                "  %6 = %5 ADD %1\n" +
+                "  goto bb1\n" +
+                "bb1:\n" +
+                "  return\n" +
+                "bb2:\n" +
+                "  return\n");
+    }
+
+    @Test
+    public void testUnreachableBasicBlockElimination() {
+        BIRVariableDcl x = var("x", symTable.intType, VarKind.LOCAL);
+        BIRBasicBlock bb0 = basicBlock("bb0");
+        BIRBasicBlock bb1 = basicBlock("bb1");
+        BIRBasicBlock bb2 = basicBlock("bb2");
+        BIRBasicBlock bb3 = basicBlock("bb3");
+        bb0.terminator = new BIRTerminator.GOTO(null, bb2);
+        bb1.terminator = new BIRTerminator.GOTO(null, bb2);
+        bb2.terminator = new BIRTerminator.Return(null);
+        bb3.terminator = new BIRTerminator.Return(null);
+        // The end of the scope of a variable is kept, as the backend generates a label for it.
+        x.startBB = bb0;
+        x.endBB = bb3;
+
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  goto bb2\n" +
+                "bb1:\n" +
+                "  goto bb2\n" +
+                "bb2:\n" +
+                "  return\n" +
+                "bb3:\n" +
+                "  return\n");
+        new UnreachableBasicBlockEliminator().optimize(function);
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  goto bb2\n" +
+                "bb2:\n" +
+                "  return\n" +
+                "bb3:\n" +
+                "  return\n");
+    }
+
+    @Test
+    public void testDeadTempElimination() {
+        BIRVariableDcl x = var("x", symTable.intType, VarKind.LOCAL);
+        BIRVariableDcl t1 = var("%1", symTable.intType, VarKind.TEMP);
+        BIRVariableDcl t2 = var("%2", symTable.intType, VarKind.TEMP);
+        var("%3", symTable.intType, VarKind.TEMP);
+        BIRBasicBlock bb0 = basicBlock("bb0");
+        bb0.instructions.add(new ConstantLoad(null, 1L, symTable.intType, op(t1)));
+        bb0.instructions.add(new ConstantLoad(null, 2L, symTable.intType, op(t2)));
+        bb0.instructions.add(new Move(null, op(t2), op(x)));
+        bb0.terminator = new BIRTerminator.Return(null);
+        x.startBB = bb0;
+        x.insOffset = 2;
+
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  %1 = const 1\n" +
+                "  %2 = const 2\n" +
+                "  x = %2\n" +
+                "  return\n");
+        new DeadTempEliminator().optimize(function);
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  %2 = const 2\n" +
+                "  x = %2\n" +
+                "  return\n");
+        Assert.assertEquals(function.localVars.stream().map(var -> var.name.value).collect(Collectors.toList()),
+                Lists.of("x", "%2"));
+        // The scope of the variable still starts at the move into it.
+        Assert.assertEquals(x.insOffset, 1);
+    }
+
+    @Test
+    public void testInstructionCountsAreReported() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.OPTIMIZATION_LEVEL, "2");
+        options.put(CompilerOptionName.DUMP_OPTIMIZATION_STATS, "true");
+        symTable = SymbolTable.getInstance(context);
+        BIRVariableDcl x = var("x", symTable.intType, VarKind.ARG);
+        BIRVariableDcl t1 = var("%1", symTable.booleanType, VarKind.TEMP);
+        BIRBasicBlock bb0 = basicBlock("bb0");
+        bb0.instructions.add(new TypeTest(null, symTable.intType, op(t1), op(x)));
+        bb0.terminator = new BIRTerminator.Return(null);
+        BIRPackage pkg = new BIRPackage(null, new Name("test"), new Name("demo"), new Name("0.1.0"), null);
+        pkg.functions.add(function);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BIROptimizer optimizer = BIROptimizer.getInstance(context);
+        optimizer.setOutStream(new PrintStream(out, true));
+        optimizer.optimizePackage(pkg);
+        Assert.assertEquals(print(function), "bb0:\n" +
+                "  return\n");
+        Assert.assertEquals(out.toString().trim(), "test/demo: BIR instructions 2 -> 1");
+    }
+
+    private BIRVariableDcl var(String name, BType type, VarKind kind) {
+        BIRVariableDcl var = new BIRVariableDcl(type, new Name(name), VarScope.FUNCTION, kind);
+        function.localVars.add(var);
+        return var;
+    }
+
+    private BIRBasicBlock basicBlock(String id) {
+        BIRBasicBlock basicBlock = new BIRBasicBlock(new Name(id));
+        function.basicBlocks.add(basicBlock);
+        return basicBlock;
+    }
+
+    private static BIROperand op(BIRVariableDcl var) {
+        return new BIROperand(var);
+    }
+
+    private static String print(BIRFunction birFunction) {
+        StringBuilder out = new StringBuilder();
+        for (BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+            out.append(basicBlock.id).append(":\n");
+            for (BIRInstruction ins : basicBlock.instructions) {
+                out.append("  ").append(print(ins)).append("\n");
+            }
+            out.append("  ").append(print(basicBlock.terminator)).append("\n");
+        }
+        return out.toString();
+    }
+
+    private static String print(BIRInstruction ins) {
+        if (ins instanceof ConstantLoad) {
+            return ((ConstantLoad) ins).lhsOp + " = const " + ((ConstantLoad) ins).value;
+        } else if (ins instanceof Move) {
+            return ((Move) ins).lhsOp + " = " + ((Move) ins).rhsOp;
+        } else if (ins instanceof BinaryOp) {
+            BinaryOp binaryOp = (BinaryOp) ins;
+            return binaryOp.lhsOp + " = " + binaryOp.rhsOp1 + " " + binaryOp.kind + " " + binaryOp.rhsOp2;
+        } else if (ins instanceof TypeCast) {
+            return ((TypeCast) ins).lhsOp + " = <" + ((TypeCast) ins).type + "> " + ((TypeCast) ins).rhsOp;
+        } else if (ins instanceof TypeTest) {
+            return ((TypeTest) ins).lhsOp + " = " + ((TypeTest) ins).rhsOp + " is " + ((TypeTest) ins).type;
+        } else if (ins instanceof BIRTerminator.GOTO) {
+            return "goto " + ((BIRTerminator.GOTO) ins).targetBB.id;
+        } else if (ins instanceof BIRTerminator.Branch) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) ins;
+            return "branch " + branch.op + " ? " + branch.trueBB.id + " : " + branch.falseBB.id;
+        } else if (ins instanceof BIRTerminator.Return) {
+            return "return";
+        }
+        throw new IllegalArgumentException("unexpected instruction: " + ins.getKind());
+    }
+}
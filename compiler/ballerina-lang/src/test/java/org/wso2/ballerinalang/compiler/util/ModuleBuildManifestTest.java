@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.ballerinalang.compiler.util;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.toml.exceptions.TomlException;
+import org.ballerinalang.toml.model.Manifest;
+import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Tests for the {@link ModuleBuildManifest} class.
+ *
+ * @since 1.0.0
+ */
+public class ModuleBuildManifestTest {
+
+    private Path projectRoot;
+    private PackageID foo;
+    private PackageID bar;
+    private CompilerOptions options;
+    private String settings;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        projectRoot = Files.createTempDirectory("incremental-build-");
+        options = CompilerOptions.getInstance(new CompilerContext());
+        options.put(CompilerOptionName.OPTIMIZATION_LEVEL, "0");
+        settings = ModuleBuildManifest.hashBuildSettings(options, null);
+        foo = new PackageID(new Name("testorg"), new Name("foo"), new Name("0.1.0"));
+        bar = new PackageID(new Name("testorg"), new Name("bar"), new Name("0.1.0"));
+        writeSource("foo", "public function foo() {}");
+        writeSource("bar", "import testorg/foo; public function bar() { foo:foo(); }");
+        writeModule(foo, "foo-bir", Collections.emptyMap());
+        writeModule(bar, "bar-bir", Collections.singletonMap(foo, bytes("foo-bir")));
+    }
+
+    @Test
+    public void testUnchangedModules() {
+        Assert.assertTrue(ModuleBuildManifest.isUpToDate(projectRoot, foo, settings));
+        Assert.assertTrue(ModuleBuildManifest.isUpToDate(projectRoot, bar, settings));
+    }
+
+    @Test
+    public void testChangedSource() throws IOException {
+        writeSource("bar", "public function bar() {}");
+        Assert.assertTrue(ModuleBuildManifest.isUpToDate(projectRoot, foo, settings));
+        Assert.assertFalse(ModuleBuildManifest.isUpToDate(projectRoot, bar, settings));
+    }
+
+    @Test
+    public void testChangedDependency() throws IOException {
+        writeSource("foo", "public function foo() { int i = 0; }");
+        Assert.assertFalse(ModuleBuildManifest.isUpToDate(projectRoot, foo, settings));
+        Assert.assertFalse(ModuleBuildManifest.isUpToDate(projectRoot, bar, settings));
+
+        // the dependency is rebuilt, but the dependent is not rebuilt against it yet
+        writeModule(foo, "foo-bir-changed", Collections.emptyMap());
+        Assert.assertTrue(ModuleBuildManifest.isUpToDate(projectRoot, foo, settings));
+        Assert.assertFalse(ModuleBuildManifest.isUpToDate(projectRoot, bar, settings));
+    }
+
+    @Test
+    public void testChangedCompilerOptions() {
+        options.put(CompilerOptionName.OPTIMIZATION_LEVEL, "1");
+        String optimizedSettings = ModuleBuildManifest.hashBuildSettings(options, null);
+        Assert.assertNotEquals(optimizedSettings, settings);
+        Assert.assertFalse(ModuleBuildManifest.isUpToDate(projectRoot, foo, optimizedSettings));
+        Assert.assertFalse(ModuleBuildManifest.isUpToDate(projectRoot, bar, optimizedSettings));
+    }
+
+    @Test
+    public void testChangedPathDependency() throws IOException, TomlException {
+        Path balo = projectRoot.resolve("baz.balo");
+        Files.write(balo, bytes("baz-balo"));
+        Manifest manifest = ManifestProcessor.parseTomlContentFromString("[project]\norg-name = \"testorg\"\n" +
+                "version = \"0.1.0\"\n[dependencies]\n\"testorg/baz\" = { path = \"" + balo + "\" }\n");
+        String pathDependencySettings = ModuleBuildManifest.hashBuildSettings(options, manifest);
+        Assert.assertNotEquals(pathDependencySettings, settings);
+        Assert.assertEquals(ModuleBuildManifest.hashBuildSettings(options, manifest), pathDependencySettings);
+
+        Files.write(balo, bytes("baz-balo-changed"));
+        Assert.assertNotEquals(ModuleBuildManifest.hashBuildSettings(options, manifest), pathDependencySettings);
+    }
+
+    @Test
+    public void testJarUpToDate() throws IOException {
+        Path barBir = ModuleBuildManifest.getTargetBirPath(projectRoot, bar);
+        ModuleBuildManifest manifest = ModuleBuildManifest.load(barBir);
+        Assert.assertFalse(manifest.isJarUpToDate());
+        manifest.markJarGenerated();
+        manifest.write();
+        Assert.assertTrue(ModuleBuildManifest.load(barBir).isJarUpToDate());
+
+        // a changed dependency makes the jar stale even if the bir of the module is the same
+        writeModule(bar, "bar-bir", Collections.singletonMap(foo, bytes("foo-bir-changed")));
+        Assert.assertFalse(ModuleBuildManifest.load(barBir).isJarUpToDate());
+    }
+
+    private void writeSource(String module, String content) throws IOException {
+        Path moduleDir = Files.createDirectories(projectRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME)
+                .resolve(module));
+        Files.write(moduleDir.resolve("main.bal"), bytes(content));
+    }
+
+    private void writeModule(PackageID id, String bir, Map<PackageID, byte[]> dependencies) throws IOException {
+        Path birPath = ModuleBuildManifest.getTargetBirPath(projectRoot, id);
+        Files.createDirectories(birPath.getParent());
+        Files.write(birPath, bytes(bir));
+        ModuleBuildManifest manifest = ModuleBuildManifest.load(birPath);
+        manifest.updateModule(projectRoot, id.name.value, bytes(bir), dependencies, settings);
+        manifest.write();
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
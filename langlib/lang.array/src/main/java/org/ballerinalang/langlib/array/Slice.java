@@ -77,9 +77,8 @@ public class Slice {
         switch (arrType.getTag()) {
             case TypeTags.ARRAY_TAG:
                 slicedArr = new ArrayValue(arrType);
-                elemTypeTag = ((BArrayType) arrType).getElementType().getTag();
-                getFn = ArrayValue::get;
-                break;
+                arr.copyTo(startIndex, slicedArr, 0, (int) sliceSize);
+                return slicedArr;
             case TypeTags.TUPLE_TAG:
                 BTupleType tupleType = (BTupleType) arrType;
                 BUnionType unionType = new BUnionType(tupleType.getTupleTypes(), tupleType.getTypeFlags());
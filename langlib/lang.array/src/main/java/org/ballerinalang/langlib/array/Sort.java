@@ -68,9 +68,7 @@ public class Sort {
                               FPValue<Object, Long> comparator) {
         int elemTypeTag = input.elementType.getTag();
 
-        for (int i = lo; i <= hi; i++) {
-            add(aux, elemTypeTag, i, input.get(i));
-        }
+        input.copyTo(lo, aux, lo, hi - lo + 1);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             if (i > mid) {
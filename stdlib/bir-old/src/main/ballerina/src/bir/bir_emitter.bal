@@ -314,6 +314,8 @@ type InstructionEmitter object {
             print(", ");
             self.opEmitter.emitOp(ins.dataOp);
             print(", ");
+            self.opEmitter.emitOp(ins.indexColOp);
+            print(", ");
             self.opEmitter.emitOp(ins.keyColOp);
             println(";");
         } else if (ins is NewInstance) {
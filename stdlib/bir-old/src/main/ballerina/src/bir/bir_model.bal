@@ -521,6 +521,7 @@ public type NewTable record {|
     VarRef lhsOp;
     VarRef columnsOp;
     VarRef dataOp;
+    VarRef indexColOp;
     VarRef keyColOp;
     BType typeValue;
 |};
@@ -46,7 +46,7 @@ function checkMagic(ChannelReader reader) {
 
 function checkVersion(ChannelReader reader) {
     var birVersion = reader.readInt32();
-    var supportedBirVersion = 51;
+    var supportedBirVersion = 52;
     if (birVersion != supportedBirVersion){
         error err = error( "Unsupported BIR version " + birVersion.toString() + ", supports version " +
                             supportedBirVersion.toString());
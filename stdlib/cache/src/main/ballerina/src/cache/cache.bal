@@ -14,52 +14,52 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/system;
-import ballerina/task;
-import ballerina/time;
-
-# Cache cleanup task starting delay in ms.
-const int CACHE_CLEANUP_START_DELAY = 0;
-
-# Cache cleanup task invoking interval in ms.
-const int CACHE_CLEANUP_INTERVAL = 5000;
-
-# Map which stores all of the caches.
-map<Cache> cacheMap = {};
-
-task:TimerConfiguration cacheCleanupTimerConfiguration = {
-    intervalInMillis: CACHE_CLEANUP_INTERVAL,
-    initialDelayInMillis: CACHE_CLEANUP_START_DELAY
-};
-
-task:Scheduler cacheCleanupTimer = new(cacheCleanupTimerConfiguration);
-
-boolean timerStarted = false;
-
-# Represents a cache entry.
+# Represents the statistics of a `Cache`. The counts are cumulative since the cache was created.
 #
-# + value - cache value
-# + lastAccessedTime - last accessed time in ms of this value which is used to remove LRU cached values
-type CacheEntry record {|
-    any value;
-    int lastAccessedTime;
+# + hitCount - Number of lookups which returned a cached value
+# + missCount - Number of lookups which did not find a cached value, including the lookups of expired values
+# + evictionCount - Number of entries evicted since the cache was full
+# + expiryCount - Number of entries removed since they were expired
+# + loadSuccessCount - Number of values loaded into the cache
+# + loadFailureCount - Number of values which failed to load into the cache
+# + totalLoadTimeInNanos - Total time spent loading values into the cache in nanoseconds
+# + size - Current number of entries in the cache
+# + weight - Current total weight of the entries in the cache
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
+    int expiryCount;
+    int loadSuccessCount;
+    int loadFailureCount;
+    int totalLoadTimeInNanos;
+    int size;
+    int weight;
 |};
 
 # Represents a Ballerina `Cache` which can hold multiple entries and remove entries based on time and size.
+#
+# The entries are held by a native cache engine. When the cache is full, the least recently used entries are evicted
+# in constant time per entry, and expired entries are removed periodically in the order of their last access.
 public type Cache object {
 
     private int capacity;
-    map<CacheEntry> entries = {};
     int expiryTimeInMillis;
     private float evictionFactor;
-    private string uuid;
+    private int maxWeight;
+    private string name;
 
     # Creates a new `Cache`.
     #
     # + expiryTimeInMillis - Time since its last access in which the cache will be expired.
     # + capacity - Maximum number of entries allowed.
     # + evictionFactor - The factor which the entries will be evicted once the cache full.
-    public function __init(public int expiryTimeInMillis = 900000, public int capacity = 100, public float evictionFactor = 0.25) {
+    # + maxWeight - Maximum total weight of the entries allowed, where the weight of each entry is given when it is
+    #               added. The cache is bounded only by the number of entries if this is 0.
+    # + name - Name of the cache, which is used to publish the statistics of the cache as metrics. The statistics are
+    #          not published if the cache is not named.
+    public function __init(public int expiryTimeInMillis = 900000, public int capacity = 100, public float evictionFactor = 0.25,
+                           public int maxWeight = 0, public string name = "") {
 
         // Cache expiry time must be a positive value.
         if (expiryTimeInMillis <= 0) {
@@ -76,277 +76,72 @@ public type Cache object {
             Error e = error(CACHE_ERROR, message = "Cache eviction factor must be between 0.0 (exclusive) and 1.0 (inclusive).");
             panic e;
         }
-        // We remove empty caches to prevent OOM issues. So in such scenarios, the cache will not be in the `cacheMap`
-        // when we are trying to add a new cache entry to that cache. So we need to create a new cache. For that, keep
-        // track of the UUID.
-        self.uuid = system:uuid();
-        cacheMap[self.uuid] = self;
+        // Maximum weight must not be a negative value.
+        if (maxWeight < 0) {
+            Error e = error(CACHE_ERROR, message = "Maximum weight must not be negative.");
+            panic e;
+        }
         self.expiryTimeInMillis = expiryTimeInMillis;
         self.capacity = capacity;
         self.evictionFactor = evictionFactor;
-
-        var attachCacheCleanerResult = cacheCleanupTimer.attach(cacheCleanupService);
-        if (attachCacheCleanerResult is error) {
-            record {| string message?; anydata|error...; |} detail = attachCacheCleanerResult.detail();
-            Error e = error(CACHE_ERROR, message = "Failed to create the cache cleanup task: " +  <string> detail["message"]);
-            panic e;
-        }
-
-        if (!timerStarted && !cacheCleanupTimer.isStarted()) {
-            lock {
-                if(!cacheCleanupTimer.isStarted()) {
-                    var timerStartResult = cacheCleanupTimer.start();
-                    if (timerStartResult is error) {
-                        record {| string message?; anydata|error...; |} detail = timerStartResult.detail();
-                        Error e = error(CACHE_ERROR, message = "Failed to start the cache cleanup task: " +  <string> detail["message"]);
-                        panic e;
-                    }
-                    timerStarted = true;
-                }
-            }
-        }
+        self.maxWeight = maxWeight;
+        self.name = name;
+        self.initCache(expiryTimeInMillis, capacity, evictionFactor, maxWeight, name);
     }
 
+    # Creates the native cache engine which holds the entries of this cache.
+    #
+    # + expiryTimeInMillis - Time since its last access in which the cache will be expired.
+    # + capacity - Maximum number of entries allowed.
+    # + evictionFactor - The factor which the entries will be evicted once the cache full.
+    # + maxWeight - Maximum total weight of the entries allowed, or 0 if the weight is not bounded.
+    # + name - Name of the cache used to publish its metrics.
+    function initCache(int expiryTimeInMillis, int capacity, float evictionFactor, int maxWeight, string name) = external;
+
     # Checks whether the given key has an associated cache value.
     #
     # + key - The key to be checked.
     # + return - `true` if the given key has an associated value, `false` otherwise.
-    public function hasKey(string key) returns boolean {
-        return self.entries.hasKey(key);
-    }
+    public function hasKey(string key) returns boolean = external;
 
     # Returns the size of the cache.
     #
     # + return - The size of the cache.
-    public function size() returns int {
-        return self.entries.length();
-    }
+    public function size() returns int = external;
 
-    # Adds the given key, value pair to the provided cache.
+    # Adds the given key, value pair to the provided cache. If the cache is full, the least recently used entries are
+    # evicted based on the eviction factor. An entry which is heavier than the maximum weight is not kept.
     #
     # + key - Value which should be used as the key.
     # + value - Value to be cached.
-    public function put(string key, any value) {
-        // We need to synchronize this process otherwise concurrency might cause issues.
-         lock {
-            int cacheCapacity = self.capacity;
-            int cacheSize = self.entries.length();
+    # + weight - Weight of the entry, such as its size in bytes, which counts towards the maximum weight of the cache.
+    public function put(string key, any value, int weight = 1) = external;
 
-            // If the current cache is full, evict cache.
-            if (cacheCapacity <= cacheSize) {
-                self.evict();
-            }
-            // Add the new cache entry.
-            int time = time:currentTime().time;
-            CacheEntry entry = { value: value, lastAccessedTime: time };
-            self.entries[key] = entry;
-
-            // If the UUID is not found, that means that cache was removed after being empty. So we need to create a
-            // new cache with the current cache object.
-            if (!cacheMap.hasKey(self.uuid)) {
-                cacheMap[self.uuid] = self;
-            }
-         }
-    }
-
-    # Evicts the cache when the cache is full.
-    function evict() {
-        int maxCapacity = self.capacity;
-        float ef = self.evictionFactor;
-        int numberOfKeysToEvict = <int>(maxCapacity * ef);
-        // Get the above number of least recently used cache entry keys from the cache
-        string[] cacheKeys = self.getLRUCacheKeys(numberOfKeysToEvict);
-        // Iterate through the map and remove entries.
-        foreach var c in cacheKeys {
-            // These cache values are ignored. So it is not needed to check the return value for the remove function.
-            var tempVar = self.entries.remove(c);
-        }
-    }
-
-    # Returns the cached value associated with the given key. If the provided cache key is not found,
-    # () will be returned.
+    # Returns the cached value associated with the given key. If the provided cache key is not found or the cached
+    # value is expired, () will be returned.
     #
     # + key - Key which is used to retrieve the cached value.
     # + return - The cached value associated with the given key.
-    public function get(string key) returns any? {
-        // Check whether the requested cache is available.
-        if (!self.hasKey(key)) {
-            return ();
-        }
-        // Get the requested cache entry from the map.
-        CacheEntry? cacheEntry = self.entries[key];
-
-        if (cacheEntry is CacheEntry) {
-            // Check whether the cache entry is already expired. Since the cache cleaning task runs in predefined intervals,
-            // sometimes the cache entry might not have been removed at this point even though it is expired. So this check
-            // guarantees that the expired cache entries will not be returned.
-            int currentSystemTime = time:currentTime().time;
-            if (currentSystemTime >= cacheEntry.lastAccessedTime + self.expiryTimeInMillis) {
-                // If it is expired, remove the cache and return nil.
-                self.remove(key);
-                return ();
-            }
-            // Modify the last accessed time and return the cache if it is not expired.
-            cacheEntry.lastAccessedTime = time:currentTime().time;
-            return cacheEntry.value;
-        } else {
-            return ();
-        }
-    }
+    public function get(string key) returns any? = external;
 
     # Removes a cached value from a cache.
     #
     # + key - Key of the cache entry which needs to be removed.
-    public function remove(string key) {
-        // Cache might already be removed by the cache clearing task. So no need to check the return value.
-        if (self.entries.hasKey(key)) {
-            var tempVar = self.entries.remove(key);
-        }
-    }
+    public function remove(string key) = external;
 
     # Returns all keys from current cache.
     #
     # + return - Array of all keys from the current cache.
-    public function keys() returns string[] {
-        return self.entries.keys();
-    }
+    public function keys() returns string[] = external;
 
-    # Returns the key of the least recently used cache entry.
-    # This is used to remove entries if the cache is full.
+    # Records a load of a value into the cache, which is counted in the statistics of the cache.
     #
-    # + numberOfKeysToEvict - The number of keys which should be evicted.
-    # + return - Number of keys to be evicted.
-    function getLRUCacheKeys(int numberOfKeysToEvict) returns string[] {
-        // Create new arrays to hold keys to be removed and hold the corresponding timestamps.
-        string[] cacheKeysToBeRemoved = [];
-        int[] timestamps = [];
-        string[] keys = self.entries.keys();
-        // Iterate through the keys.
-        foreach var key in keys {
-            CacheEntry? cacheEntry = self.entries[key];
-            if (cacheEntry is CacheEntry) {
-                // Check and add the key to the cacheKeysToBeRemoved if it matches the conditions.
-                checkAndAdd(numberOfKeysToEvict, cacheKeysToBeRemoved, timestamps, key, cacheEntry.lastAccessedTime);
-            }
-            // If the key is not found in the map, that means that the corresponding cache is already removed
-            // (possibly by a another worker).
-        }
-        // Return the array.
-        return cacheKeysToBeRemoved;
-    }
-};
-
-# Removes expired cache entries from all caches.
-function runCacheExpiry() {
-
-    // We need to keep track of empty caches. We remove these to prevent OOM issues.
-    int emptyCacheCount = 0;
-    string[] emptyCacheKeys = [];
-
-    // Iterate through all caches.
-    int keyIndex = 0;
-    string[] currentCacheKeys = cacheMap.keys();
-    int cacheKeysLength = currentCacheKeys.length();
-    while (keyIndex < cacheKeysLength) {
-
-        string currentCacheKey = currentCacheKeys[keyIndex];
-        keyIndex += 1;
-        Cache? currentCache = cacheMap[currentCacheKey];
-        if (currentCache is ()) {
-            continue;
-        } else {
-            // Get the expiry time of the current cache
-            int currentCacheExpiryTime = currentCache.expiryTimeInMillis;
-
-            // Create a new array to store keys of cache entries which needs to be removed.
-            string[] cachesToBeRemoved = [];
-
-            int cachesToBeRemovedIndex = 0;
-            // Iterate through all keys.
-            int entrykeyIndex = 0;
-            string[] entryKeys = currentCache.entries.keys();
-            int entryKeysLength = entryKeys.length();
-            while (entrykeyIndex < entryKeysLength) {
+    # + success - `true` if the value was loaded, `false` if the load failed.
+    # + loadTimeInNanos - Time taken to load the value in nanoseconds.
+    function recordLoad(boolean success, int loadTimeInNanos) = external;
 
-                var key = entryKeys[entrykeyIndex];
-                entrykeyIndex += 1;
-                CacheEntry? entry = currentCache.entries[key];
-                if (entry is ()) {
-                    continue;
-                } else {
-                    // Get the current system time.
-                    int currentSystemTime = time:currentTime().time;
-
-                    // Check whether the cache entry needs to be removed.
-                    if (currentSystemTime >= entry.lastAccessedTime + currentCacheExpiryTime) {
-                        cachesToBeRemoved[cachesToBeRemovedIndex] = key;
-                        cachesToBeRemovedIndex += 1;
-                    }
-                }
-            }
-
-            // Iterate through the key list which needs to be removed.
-            int currentKeyIndex = 0;
-            while(currentKeyIndex < cachesToBeRemovedIndex) {
-                string key = cachesToBeRemoved[currentKeyIndex];
-                // Remove the cache entry.
-                var tempVar = currentCache.entries.remove(key);
-                currentKeyIndex += 1;
-            }
-
-            // If there are no entries, we add that cache key to the `emptyCacheKeys`.
-            int size = currentCache.entries.length();
-            if (size == 0) {
-                emptyCacheKeys[emptyCacheCount] = currentCacheKey;
-                emptyCacheCount += 1;
-            }
-        }
-    }
-
-    // We iterate though all empty cache keys and remove them from the `cacheMap`.
-    foreach var emptyCacheKey in emptyCacheKeys {
-        if (cacheMap.hasKey(emptyCacheKey)) {
-            var tempVar = cacheMap.remove(emptyCacheKey);
-        }
-    }
-    return ();
-}
-
-# Utility function to identify which cache entries should be evicted.
-function checkAndAdd(int numberOfKeysToEvict, string[] cacheKeys, int[] timestamps, string key, int lastAccessTime) {
-    string myKey = key;
-    int myLastAccessTime = lastAccessTime;
-
-    // Iterate while we count all values from 0 to numberOfKeysToEvict exclusive of numberOfKeysToEvict since the
-    // array size should be numberOfKeysToEvict.
-    foreach var index in 0..<numberOfKeysToEvict {
-        // If we have encountered the end of the array, that means we can add the new values to the end of the
-        // array since we haven’t reached the numberOfKeysToEvict limit.
-        if (cacheKeys.length() == index) {
-            cacheKeys[index] = myKey;
-            timestamps[index] = myLastAccessTime;
-            // Break the loop since we don't have any more elements to compare since we are at the end
-            break;
-        } else {
-            // If the timestamps[index] > lastAccessTime, that means the cache which corresponds to the 'key' is
-            // older than the current entry at the array which we are checking.
-            if (timestamps[index] > myLastAccessTime) {
-                // Swap the values. We use the swapped value to continue to check whether we can find any place to
-                // add it in the array.
-                string tempKey = cacheKeys[index];
-                int tempTimeStamp = timestamps[index];
-                cacheKeys[index] = myKey;
-                timestamps[index] = myLastAccessTime;
-                myKey = tempKey;
-                myLastAccessTime = tempTimeStamp;
-            }
-        }
-    }
-}
-
-# Cleanup service which cleans the cache periodically.
-service cacheCleanupService = service {
-    resource function onTrigger() {
-        runCacheExpiry();
-    }
+    # Returns the statistics of the cache, such as the number of hits and misses.
+    #
+    # + return - The statistics of the cache.
+    public function stats() returns CacheStats = external;
 };
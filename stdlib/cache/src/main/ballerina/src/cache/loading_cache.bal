@@ -0,0 +1,229 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/time;
+
+# Represents a function which loads the value of a key, which is not in a `LoadingCache`.
+public type LoaderFunction function (string key) returns any|error;
+
+# Represents a function which loads the values of multiple keys, which are not in a `LoadingCache`, at once. Keys
+# which do not have a value can be left out of the returned map.
+public type BulkLoaderFunction function (string[] keys) returns map<any>|error;
+
+# Represents a loaded value along with the time it was loaded.
+#
+# + value - loaded value
+# + loadedTime - time in ms at which the value was loaded, which is used to refresh the value ahead of its expiry
+type LoadedValue record {|
+    any value;
+    int loadedTime;
+|};
+
+# Represents a cache which loads the values of the keys that are not in the cache, using a loader function.
+#
+# Concurrent lookups of a key which is being loaded wait for the same load rather than loading the value again. The
+# waiting strands yield to the scheduler, hence no thread is blocked while a value is loaded.
+public type LoadingCache object {
+
+    private Cache cache;
+    private LoaderFunction loader;
+    private BulkLoaderFunction? bulkLoader;
+    private int refreshAheadTimeInMillis;
+    private map<future<any|error>> inFlightLoads = {};
+
+    # Creates a new `LoadingCache`.
+    #
+    # + loader - Function which loads the value of a key.
+    # + expiryTimeInMillis - Time since its last access in which the cache will be expired.
+    # + capacity - Maximum number of entries allowed.
+    # + evictionFactor - The factor which the entries will be evicted once the cache full.
+    # + refreshAheadTimeInMillis - Time since a value was loaded after which it is reloaded in the background the next
+    #                              time it is accessed, while the current value is returned. Values are not refreshed
+    #                              ahead if this is 0.
+    # + bulkLoader - Function which loads the values of multiple keys at once for `getAll`. The values are loaded one
+    #                by one using the `loader` if this is not given.
+    # + name - Name of the cache, which is used to publish the statistics of the cache as metrics.
+    public function __init(LoaderFunction loader, public int expiryTimeInMillis = 900000, public int capacity = 100,
+                           public float evictionFactor = 0.25, public int refreshAheadTimeInMillis = 0,
+                           BulkLoaderFunction? bulkLoader = (), string name = "") {
+        // Refresh ahead time must not be a negative value.
+        if (refreshAheadTimeInMillis < 0) {
+            Error e = error(CACHE_ERROR, message = "Refresh ahead time must not be negative.");
+            panic e;
+        }
+        self.cache = new(expiryTimeInMillis, capacity, evictionFactor, name = name);
+        self.loader = loader;
+        self.bulkLoader = bulkLoader;
+        self.refreshAheadTimeInMillis = refreshAheadTimeInMillis;
+    }
+
+    # Returns the value associated with the given key, loading it if it is not in the cache.
+    #
+    # + key - Key which is used to retrieve the value.
+    # + return - The value associated with the given key, or an `error` if the value could not be loaded.
+    public function get(string key) returns any|error {
+        any? cachedValue = self.cache.get(key);
+        if (cachedValue is LoadedValue) {
+            if (self.isRefreshDue(cachedValue)) {
+                // The refreshed value is put to the cache once it is loaded. Until then, the current value is used.
+                _ = self.load(key);
+            }
+            return cachedValue.value;
+        }
+        future<any|error> loading = self.load(key);
+        return wait loading;
+    }
+
+    # Returns the values associated with the given keys, loading the values which are not in the cache.
+    #
+    # + keys - Keys which are used to retrieve the values.
+    # + return - The values associated with the given keys, or an `error` if any of the values could not be loaded.
+    public function getAll(string[] keys) returns map<any>|error {
+        map<any> values = {};
+        string[] missingKeys = [];
+        foreach var key in keys {
+            any? cachedValue = self.cache.get(key);
+            if (cachedValue is LoadedValue) {
+                values[key] = cachedValue.value;
+            } else {
+                missingKeys[missingKeys.length()] = key;
+            }
+        }
+        if (missingKeys.length() == 0) {
+            return values;
+        }
+
+        BulkLoaderFunction? bulkLoader = self.bulkLoader;
+        if (bulkLoader is BulkLoaderFunction) {
+            map<any> loadedValues = check self.loadAll(bulkLoader, missingKeys);
+            foreach var [key, value] in loadedValues.entries() {
+                values[key] = value;
+            }
+            return values;
+        }
+
+        // Start all the loads before waiting for any of them, so that the values are loaded concurrently.
+        map<future<any|error>> loads = {};
+        foreach var key in missingKeys {
+            loads[key] = self.load(key);
+        }
+        foreach var [key, loading] in loads.entries() {
+            values[key] = check wait loading;
+        }
+        return values;
+    }
+
+    # Checks whether the given key has an associated cache value.
+    #
+    # + key - The key to be checked.
+    # + return - `true` if the given key has an associated value, `false` otherwise.
+    public function hasKey(string key) returns boolean {
+        return self.cache.hasKey(key);
+    }
+
+    # Returns the size of the cache.
+    #
+    # + return - The size of the cache.
+    public function size() returns int {
+        return self.cache.size();
+    }
+
+    # Removes a cached value from a cache. The value is loaded again the next time it is accessed.
+    #
+    # + key - Key of the cache entry which needs to be removed.
+    public function remove(string key) {
+        self.cache.remove(key);
+    }
+
+    # Returns all keys from current cache.
+    #
+    # + return - Array of all keys from the current cache.
+    public function keys() returns string[] {
+        return self.cache.keys();
+    }
+
+    # Returns the statistics of the cache, including the number and the time of the loads.
+    #
+    # + return - The statistics of the cache.
+    public function stats() returns CacheStats {
+        return self.cache.stats();
+    }
+
+    # Returns the in-flight load of the given key, or starts loading the key if it is not being loaded.
+    #
+    # + key - Key of the value to be loaded.
+    # + return - The future of the loaded value.
+    function load(string key) returns future<any|error> {
+        future<any|error>? inFlightLoad = ();
+        lock {
+            inFlightLoad = self.inFlightLoads[key];
+            if (inFlightLoad is ()) {
+                future<any|error> loading = start self.loadValue(key);
+                self.inFlightLoads[key] = loading;
+                inFlightLoad = loading;
+            }
+        }
+        return <future<any|error>> inFlightLoad;
+    }
+
+    # Loads the value of the given key using the loader and puts it to the cache.
+    #
+    # + key - Key of the value to be loaded.
+    # + return - The loaded value, or an `error` if the value could not be loaded.
+    function loadValue(string key) returns any|error {
+        LoaderFunction loader = self.loader;
+        int startTime = time:nanoTime();
+        any|error value = loader(key);
+        if (value is error) {
+            self.cache.recordLoad(false, time:nanoTime() - startTime);
+        } else {
+            self.cache.put(key, <LoadedValue>{ value: value, loadedTime: time:currentTime().time });
+            self.cache.recordLoad(true, time:nanoTime() - startTime);
+        }
+        // The value is already in the cache, hence the lookups which come after this will not load it again.
+        lock {
+            if (self.inFlightLoads.hasKey(key)) {
+                _ = self.inFlightLoads.remove(key);
+            }
+        }
+        return value;
+    }
+
+    # Loads the values of the given keys at once using the bulk loader and puts them to the cache.
+    #
+    # + bulkLoader - Function which loads the values.
+    # + keys - Keys of the values to be loaded.
+    # + return - The loaded values, or an `error` if the values could not be loaded.
+    function loadAll(BulkLoaderFunction bulkLoader, string[] keys) returns map<any>|error {
+        int startTime = time:nanoTime();
+        map<any>|error values = bulkLoader(keys);
+        if (values is error) {
+            self.cache.recordLoad(false, time:nanoTime() - startTime);
+            return values;
+        }
+        int loadedTime = time:currentTime().time;
+        foreach var [key, value] in values.entries() {
+            self.cache.put(key, <LoadedValue>{ value: value, loadedTime: loadedTime });
+        }
+        self.cache.recordLoad(true, time:nanoTime() - startTime);
+        return values;
+    }
+
+    function isRefreshDue(LoadedValue cachedValue) returns boolean {
+        return self.refreshAheadTimeInMillis > 0 &&
+            time:currentTime().time - cachedValue.loadedTime >= self.refreshAheadTimeInMillis;
+    }
+};
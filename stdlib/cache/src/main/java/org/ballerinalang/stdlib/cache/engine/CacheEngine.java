@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The storage of a ballerina/cache:Cache, which evicts the least recently used entries once the capacity or the
+ * maximum weight is exceeded and expires the entries which are not accessed within the expiry time.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap}, hence lookups do not lock. The eviction policy is a doubly linked
+ * list in the order of access guarded by a single lock, which makes each eviction and expiry O(1) per entry. Reads
+ * do not reorder the list themselves. They are recorded in a buffer, which is drained to the list by whoever holds
+ * the lock next, and always before entries are evicted or expired.
+ * <p>
+ * The single lock serializes the writers of a cache, which hold it only for a few pointer updates per entry. The lock
+ * is not striped, since the least recently used entries are evicted across the whole cache and the keys are returned
+ * in the order they were added, which would both become per stripe orders. A cache with many concurrent writers
+ * trades that write throughput for the exact eviction order.
+ *
+ * @since 1.0.0
+ */
+public class CacheEngine {
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    private final long expiryTimeInMillis;
+    private final int capacity;
+    private final int evictionBatchSize;
+    private final long maxWeight;
+    private final long weightEvictionTarget;
+    private final CacheStats stats = new CacheStats();
+    private final ConcurrentHashMap<String, CacheNode> entries;
+    private final ReentrantLock policyLock = new ReentrantLock();
+    // Sentinel of both the access order and the insertion order lists. The eldest entries are next to it.
+    private final CacheNode head = new CacheNode(null, null, 0, 0);
+    // Guarded by the policy lock.
+    private volatile long totalWeight;
+
+    private final AtomicReferenceArray<CacheNode> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+    private volatile long readBufferReadCount;
+
+    public CacheEngine(long expiryTimeInMillis, int capacity, double evictionFactor) {
+        this(expiryTimeInMillis, capacity, evictionFactor, 0, null);
+    }
+
+    /**
+     * Creates a cache engine and registers it for the periodic removal of expired entries. The statistics of the
+     * cache are published as metrics if it is named.
+     *
+     * @param expiryTimeInMillis time since the last access after which an entry is expired
+     * @param capacity           maximum number of entries
+     * @param evictionFactor     fraction of the capacity, or of the maximum weight, to be evicted once the cache is
+     *                           full
+     * @param maxWeight          maximum total weight of the entries, or 0 if the cache is bounded only by the number
+     *                           of entries
+     * @param name               name of the cache used to tag its metrics, or null if the metrics are not published
+     */
+    public CacheEngine(long expiryTimeInMillis, int capacity, double evictionFactor, long maxWeight, String name) {
+        this.expiryTimeInMillis = expiryTimeInMillis;
+        this.capacity = capacity;
+        this.evictionBatchSize = Math.max(1, (int) Math.rint(capacity * evictionFactor));
+        this.maxWeight = maxWeight;
+        this.weightEvictionTarget = maxWeight - (long) Math.rint(maxWeight * evictionFactor);
+        this.entries = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+        head.accessPrev = head.accessNext = head;
+        head.insertionPrev = head.insertionNext = head;
+        CacheMetrics metrics = name != null && !name.isEmpty() ? CacheMetrics.register(name, this) : null;
+        CacheExpiryScheduler.register(this, metrics);
+    }
+
+    /**
+     * Returns the value of the given key, or null if there is no value or the value is expired.
+     *
+     * @param key key of the entry
+     * @return cached value
+     */
+    public Object get(String key) {
+        CacheNode node = entries.get(key);
+        if (node == null) {
+            stats.recordMiss();
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (isExpired(node, now)) {
+            stats.recordMiss();
+            remove(node);
+            return null;
+        }
+        node.lastAccessedTime = now;
+        recordRead(node);
+        stats.recordHit();
+        return node.value;
+    }
+
+    public void put(String key, Object value) {
+        put(key, value, 1);
+    }
+
+    /**
+     * Adds or replaces the value of the given key. If the cache is full, the least recently used entries are evicted.
+     * An entry which is heavier than the maximum weight by itself is evicted right away.
+     *
+     * @param key    key of the entry
+     * @param value  value to be cached
+     * @param weight weight of the entry, which is not negative
+     */
+    public void put(String key, Object value, long weight) {
+        CacheNode node = new CacheNode(key, value, weight, System.currentTimeMillis());
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            CacheNode prior = entries.put(key, node);
+            if (prior != null) {
+                replace(prior, node);
+            } else {
+                linkLast(node);
+            }
+            totalWeight += prior == null ? weight : weight - prior.weight;
+            evict(node);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public boolean hasKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        return totalWeight;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    public void remove(String key) {
+        policyLock.lock();
+        try {
+            CacheNode node = entries.remove(key);
+            if (node != null) {
+                unlink(node);
+                totalWeight -= node.weight;
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the keys of the cache in the order the entries were added.
+     *
+     * @return keys of the cache
+     */
+    public String[] keys() {
+        List<String> keys = new ArrayList<>(entries.size());
+        policyLock.lock();
+        try {
+            for (CacheNode node = head.insertionNext; node != head; node = node.insertionNext) {
+                keys.add(node.key);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    /**
+     * Removes the expired entries. Since the entries are in the order of access, only the expired entries and the
+     * first unexpired entry are visited.
+     */
+    void expire() {
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            long now = System.currentTimeMillis();
+            CacheNode node = head.accessNext;
+            while (node != head && isExpired(node, now)) {
+                CacheNode next = node.accessNext;
+                removeEntry(node);
+                stats.recordExpiry();
+                node = next;
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void remove(CacheNode node) {
+        policyLock.lock();
+        try {
+            // The entry may have been replaced or removed by another strand in the meantime.
+            if (node.isLinked()) {
+                removeEntry(node);
+                stats.recordExpiry();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private boolean isExpired(CacheNode node, long now) {
+        return now >= node.lastAccessedTime + expiryTimeInMillis;
+    }
+
+    private void evict(CacheNode added) {
+        // The entry which was just added is the most recently used one, hence it is evicted only if it cannot fit in
+        // the cache at all.
+        if (entries.size() > capacity) {
+            int count = Math.min(evictionBatchSize, entries.size() - 1);
+            for (int i = 0; i < count; i++) {
+                evictEntry(head.accessNext);
+            }
+        }
+        if (maxWeight <= 0 || totalWeight <= maxWeight) {
+            return;
+        }
+        if (added.weight > maxWeight) {
+            evictEntry(added);
+            return;
+        }
+        while (totalWeight > weightEvictionTarget && head.accessNext != added) {
+            evictEntry(head.accessNext);
+        }
+    }
+
+    private void evictEntry(CacheNode node) {
+        removeEntry(node);
+        stats.recordEviction();
+    }
+
+    private void removeEntry(CacheNode node) {
+        entries.remove(node.key, node);
+        unlink(node);
+        totalWeight -= node.weight;
+    }
+
+    private void recordRead(CacheNode node) {
+        long writeCount = readBufferWriteCount.get();
+        long pending = writeCount - readBufferReadCount;
+        if (pending < READ_BUFFER_SIZE && readBufferWriteCount.compareAndSet(writeCount, writeCount + 1)) {
+            readBuffer.lazySet((int) (writeCount & READ_BUFFER_MASK), node);
+            if (pending + 1 >= READ_BUFFER_DRAIN_THRESHOLD && policyLock.tryLock()) {
+                try {
+                    drainReadBuffer();
+                } finally {
+                    policyLock.unlock();
+                }
+            }
+            return;
+        }
+
+        // The buffer is full or contended. Reorder directly rather than dropping the read, so that the eviction
+        // order stays exact.
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            if (node.isLinked()) {
+                moveToLast(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void drainReadBuffer() {
+        long readCount = readBufferReadCount;
+        long writeCount = readBufferWriteCount.get();
+        for (; readCount < writeCount; readCount++) {
+            int index = (int) (readCount & READ_BUFFER_MASK);
+            CacheNode node = readBuffer.get(index);
+            if (node == null) {
+                // The slot is claimed but the read is not published yet.
+                break;
+            }
+            readBuffer.lazySet(index, null);
+            if (node.isLinked()) {
+                moveToLast(node);
+            }
+        }
+        readBufferReadCount = readCount;
+    }
+
+    private void linkLast(CacheNode node) {
+        node.accessPrev = head.accessPrev;
+        node.accessNext = head;
+        head.accessPrev.accessNext = node;
+        head.accessPrev = node;
+
+        node.insertionPrev = head.insertionPrev;
+        node.insertionNext = head;
+        head.insertionPrev.insertionNext = node;
+        head.insertionPrev = node;
+    }
+
+    private void moveToLast(CacheNode node) {
+        node.accessPrev.accessNext = node.accessNext;
+        node.accessNext.accessPrev = node.accessPrev;
+        node.accessPrev = head.accessPrev;
+        node.accessNext = head;
+        head.accessPrev.accessNext = node;
+        head.accessPrev = node;
+    }
+
+    private void replace(CacheNode prior, CacheNode node) {
+        // An updated entry keeps its insertion position, but becomes the most recently used one.
+        node.insertionPrev = prior.insertionPrev;
+        node.insertionNext = prior.insertionNext;
+        prior.insertionPrev.insertionNext = node;
+        prior.insertionNext.insertionPrev = node;
+        prior.insertionPrev = prior.insertionNext = null;
+
+        prior.accessPrev.accessNext = prior.accessNext;
+        prior.accessNext.accessPrev = prior.accessPrev;
+        prior.accessPrev = prior.accessNext = null;
+        node.accessPrev = head.accessPrev;
+        node.accessNext = head;
+        head.accessPrev.accessNext = node;
+        head.accessPrev = node;
+    }
+
+    private void unlink(CacheNode node) {
+        node.accessPrev.accessNext = node.accessNext;
+        node.accessNext.accessPrev = node.accessPrev;
+        node.insertionPrev.insertionNext = node.insertionNext;
+        node.insertionNext.insertionPrev = node.insertionPrev;
+        node.accessPrev = node.accessNext = null;
+        node.insertionPrev = node.insertionNext = null;
+    }
+}
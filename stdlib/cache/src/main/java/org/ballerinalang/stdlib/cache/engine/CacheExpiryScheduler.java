@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically removes the expired entries of all the cache engines, using a single daemon thread.
+ * <p>
+ * The engines are weakly referenced, so that a cache which is no longer used by the program can be garbage collected
+ * without being removed explicitly. The metrics of a collected cache are unregistered when its reference is removed.
+ * A failure to expire the entries of an engine is logged and does not stop the removal for the other engines, nor
+ * the later runs.
+ *
+ * @since 1.0.0
+ */
+class CacheExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheExpiryScheduler.class);
+    private static final long CACHE_CLEANUP_INTERVAL = 5000;
+
+    private static final Queue<EngineReference> ENGINES = new ConcurrentLinkedQueue<>();
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-cache-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EXECUTOR.scheduleWithFixedDelay(CacheExpiryScheduler::expireAll, CACHE_CLEANUP_INTERVAL,
+                CACHE_CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private CacheExpiryScheduler() {
+    }
+
+    static void register(CacheEngine engine, CacheMetrics metrics) {
+        ENGINES.add(new EngineReference(engine, metrics));
+    }
+
+    private static void expireAll() {
+        Iterator<EngineReference> iterator = ENGINES.iterator();
+        while (iterator.hasNext()) {
+            EngineReference engineRef = iterator.next();
+            CacheEngine engine = engineRef.get();
+            if (engine == null) {
+                iterator.remove();
+                if (engineRef.metrics != null) {
+                    try {
+                        engineRef.metrics.unregister();
+                    } catch (Throwable e) {
+                        log.error("failed to unregister the metrics of a collected cache", e);
+                    }
+                }
+                continue;
+            }
+            // An exception thrown out of this method would cancel all the later runs of the scheduled task.
+            try {
+                engine.expire();
+            } catch (Throwable e) {
+                log.error("failed to remove the expired entries of a cache", e);
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a cache engine, along with the metrics published for the engine.
+     */
+    private static class EngineReference extends WeakReference<CacheEngine> {
+
+        private final CacheMetrics metrics;
+
+        EngineReference(CacheEngine engine, CacheMetrics metrics) {
+            super(engine);
+            this.metrics = metrics;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.engine;
+
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the statistics of named caches to the default {@link MetricRegistry}, tagged by the cache name.
+ * <p>
+ * The cumulative counters are published as polled gauges which read the {@link CacheStats} of the cache, hence
+ * recording a statistic does not go through the metric provider. The metrics of a cache refer to the cache weakly,
+ * so that publishing them does not keep the cache alive, and they are unregistered once the cache is garbage
+ * collected. As several caches may share a name, the metrics of each cache are also tagged by a unique cache id.
+ *
+ * @since 1.0.0
+ */
+class CacheMetrics {
+
+    private static final String METRIC_PREFIX = "ballerina_cache_";
+    private static final String CACHE_NAME_TAG = "cache_name";
+    private static final String CACHE_ID_TAG = "cache_id";
+
+    private static final AtomicLong NEXT_CACHE_ID = new AtomicLong();
+
+    private final MetricRegistry registry;
+    private final String cacheName;
+    private final String cacheId;
+    private final List<PolledGauge> gauges = new ArrayList<>();
+
+    private CacheMetrics(MetricRegistry registry, String cacheName) {
+        this.registry = registry;
+        this.cacheName = cacheName;
+        this.cacheId = String.valueOf(NEXT_CACHE_ID.incrementAndGet());
+    }
+
+    /**
+     * Publishes the metrics of a cache.
+     *
+     * @param name   name of the cache
+     * @param engine the cache
+     * @return the published metrics, or null if the metrics are not initialized
+     */
+    static CacheMetrics register(String name, CacheEngine engine) {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (registry == null) {
+            // Metrics are not initialized, e.g. when the cache is used without running a program.
+            return null;
+        }
+
+        CacheMetrics metrics = new CacheMetrics(registry, name);
+        CacheStats stats = engine.getStats();
+        metrics.register("hits", "Lookups which returned a cached value", stats, CacheStats::getHitCount);
+        metrics.register("misses", "Lookups which did not find a cached value", stats, CacheStats::getMissCount);
+        metrics.register("evictions", "Entries evicted since the cache was full", stats,
+                CacheStats::getEvictionCount);
+        metrics.register("expirations", "Entries removed since they were expired", stats,
+                CacheStats::getExpiryCount);
+        metrics.register("load_successes", "Values loaded into the cache", stats, CacheStats::getLoadSuccessCount);
+        metrics.register("load_failures", "Values which failed to load into the cache", stats,
+                CacheStats::getLoadFailureCount);
+        metrics.register("load_time_nanoseconds", "Total time spent loading values into the cache", stats,
+                CacheStats::getTotalLoadTime);
+
+        WeakReference<CacheEngine> engineRef = new WeakReference<>(engine);
+        metrics.register("size", "Number of entries in the cache", engineRef, CacheMetrics::getSize);
+        metrics.register("weight", "Total weight of the entries in the cache", engineRef, CacheMetrics::getWeight);
+        return metrics;
+    }
+
+    /**
+     * Removes the metrics of the cache from the registry.
+     */
+    void unregister() {
+        for (PolledGauge gauge : gauges) {
+            registry.unregister(gauge);
+        }
+        gauges.clear();
+    }
+
+    private static double getSize(WeakReference<CacheEngine> engineRef) {
+        CacheEngine engine = engineRef.get();
+        return engine == null ? 0 : engine.size();
+    }
+
+    private static double getWeight(WeakReference<CacheEngine> engineRef) {
+        CacheEngine engine = engineRef.get();
+        return engine == null ? 0 : engine.weight();
+    }
+
+    private <T> void register(String metricName, String description, T obj, ToDoubleFunction<T> valueFunction) {
+        gauges.add(PolledGauge.builder(METRIC_PREFIX + metricName, obj, valueFunction)
+                .description(description)
+                .tag(CACHE_NAME_TAG, cacheName)
+                .tag(CACHE_ID_TAG, cacheId)
+                .register(registry));
+    }
+}
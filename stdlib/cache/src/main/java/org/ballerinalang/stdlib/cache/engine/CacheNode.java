@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.engine;
+
+/**
+ * An entry of a {@link CacheEngine}. Each entry is linked into two lists of the engine, one in the order of access
+ * which is used for eviction and expiry, and one in the order of insertion which is used to list the keys.
+ * <p>
+ * The links are guarded by the policy lock of the engine, while the value and the last accessed time are read
+ * without it.
+ *
+ * @since 1.0.0
+ */
+class CacheNode {
+
+    final String key;
+    final Object value;
+    final long weight;
+    volatile long lastAccessedTime;
+
+    CacheNode accessPrev;
+    CacheNode accessNext;
+    CacheNode insertionPrev;
+    CacheNode insertionNext;
+
+    CacheNode(String key, Object value, long weight, long lastAccessedTime) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        this.lastAccessedTime = lastAccessedTime;
+    }
+
+    boolean isLinked() {
+        return accessNext != null;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.stdlib.cache.engine.CacheEngine;
+import org.ballerinalang.stdlib.cache.utils.CacheConstants;
+import org.ballerinalang.stdlib.cache.utils.CacheUtils;
+
+/**
+ * External function for ballerina.cache:Cache.initCache.
+ *
+ * @since 1.0.0
+ */
+@BallerinaFunction(
+        orgName = CacheConstants.ORG_NAME,
+        packageName = CacheConstants.PACKAGE_NAME,
+        functionName = "initCache",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = CacheConstants.CACHE_TYPE,
+                structPackage = CacheConstants.CACHE_PACKAGE_PATH)
+)
+public class InitCache {
+
+    public static void initCache(Strand strand, ObjectValue cache, long expiryTimeInMillis, long capacity,
+                                 double evictionFactor, long maxWeight, String name) {
+        int maxEntries = (int) Math.min(capacity, Integer.MAX_VALUE);
+        CacheUtils.setCacheEngine(cache, new CacheEngine(expiryTimeInMillis, maxEntries, evictionFactor, maxWeight,
+                name));
+    }
+}
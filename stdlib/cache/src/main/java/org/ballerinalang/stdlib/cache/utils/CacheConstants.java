@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.utils;
+
+import org.ballerinalang.jvm.types.BPackage;
+
+import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+
+/**
+ * Constants for cache package functions.
+ *
+ * @since 1.0.0
+ */
+public class CacheConstants {
+    /**
+     * Organization name.
+     */
+    public static final String ORG_NAME = "ballerina";
+
+    /**
+     * Package name.
+     */
+    public static final String PACKAGE_NAME = "cache";
+
+    public static final String CACHE_TYPE = "Cache";
+    public static final String CACHE_PACKAGE_PATH = ORG_NAME + "/" + PACKAGE_NAME;
+    public static final BPackage CACHE_PACKAGE_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, PACKAGE_NAME);
+
+    public static final String CACHE_ERROR = "{ballerina/cache}Error";
+    public static final String CACHE_STATS_TYPE = "CacheStats";
+
+    static final String CACHE_ENGINE = "CacheEngine";
+
+    private CacheConstants() {
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.utils;
+
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.cache.engine.CacheEngine;
+
+import static org.ballerinalang.stdlib.cache.utils.CacheConstants.CACHE_ENGINE;
+
+/**
+ * Utility functions of the cache package.
+ *
+ * @since 1.0.0
+ */
+public class CacheUtils {
+
+    private CacheUtils() {
+    }
+
+    public static void setCacheEngine(ObjectValue cache, CacheEngine engine) {
+        cache.addNativeData(CACHE_ENGINE, engine);
+    }
+
+    public static CacheEngine getCacheEngine(ObjectValue cache) {
+        return (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+    }
+}
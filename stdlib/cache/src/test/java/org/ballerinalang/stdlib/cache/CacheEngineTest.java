@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.stdlib.cache.engine.CacheEngine;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the native cache engine.
+ */
+public class CacheEngineTest {
+
+    @Test(description = "Test evicting the least recently used entries after many buffered reads")
+    public void testEvictionAfterBufferedReads() {
+        CacheEngine cache = new CacheEngine(20000, 4, 0.5);
+        cache.put("A", "A");
+        cache.put("B", "B");
+        cache.put("C", "C");
+        cache.put("D", "D");
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i % 2 == 0 ? "A" : "C");
+        }
+        cache.put("E", "E");
+        Assert.assertEquals(cache.keys(), new String[]{"A", "C", "E"});
+    }
+
+    @Test(description = "Test updating an entry keeps its position in the keys")
+    public void testUpdateKeepsInsertionOrder() {
+        CacheEngine cache = new CacheEngine(20000, 3, 0.34);
+        cache.put("A", "A");
+        cache.put("B", "B");
+        cache.put("C", "C");
+        cache.put("A", "A2");
+        cache.put("D", "D");
+        Assert.assertEquals(cache.keys(), new String[]{"A", "C", "D"});
+        Assert.assertEquals(cache.get("A"), "A2");
+    }
+
+    @Test(description = "Test evicting entries by weight")
+    public void testEvictionByWeight() {
+        CacheEngine cache = new CacheEngine(20000, 100, 0.2, 100, null);
+        cache.put("A", "A", 30);
+        cache.put("B", "B", 30);
+        cache.put("C", "C", 30);
+        cache.get("A");
+        cache.put("D", "D", 30);
+        Assert.assertEquals(cache.keys(), new String[]{"A", "D"});
+        Assert.assertEquals(cache.weight(), 60);
+
+        cache.put("E", "E", 101);
+        Assert.assertEquals(cache.keys(), new String[]{"A", "D"});
+        Assert.assertEquals(cache.getStats().getEvictionCount(), 3);
+    }
+
+    @Test(description = "Test concurrent access does not exceed the capacity")
+    public void testConcurrentAccess() throws InterruptedException {
+        CacheEngine cache = new CacheEngine(20000, 100, 0.1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    String key = "key" + ((i * 31 + offset) % 500);
+                    if (i % 3 == 0) {
+                        cache.put(key, key);
+                    } else {
+                        cache.get(key);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertTrue(cache.size() <= 100);
+        Assert.assertEquals(cache.keys().length, cache.size());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Metric;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
+import org.ballerinalang.stdlib.cache.engine.CacheEngine;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test class for the metrics published for the named caches.
+ */
+public class CacheMetricsTest {
+
+    private MetricRegistry registry;
+
+    @BeforeClass
+    public void setup() {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new NoOpMetricProvider()));
+        }
+        registry = DefaultMetricRegistry.getInstance();
+    }
+
+    @Test(description = "Test publishing the metrics of caches which share a name")
+    public void testCachesWithSameName() {
+        CacheEngine firstCache = new CacheEngine(20000, 10, 0.5, 0, "sameNameCache");
+        CacheEngine secondCache = new CacheEngine(20000, 10, 0.5, 0, "sameNameCache");
+        firstCache.put("A", "A");
+        Assert.assertEquals(getCacheIds("sameNameCache").size(), 2);
+        Assert.assertEquals(firstCache.size() + secondCache.size(), 1);
+    }
+
+    @Test(description = "Test unregistering the metrics of a garbage collected cache")
+    public void testMetricsOfCollectedCache() {
+        CacheEngine cache = new CacheEngine(20000, 10, 0.5, 0, "collectedCache");
+        cache.put("A", "A");
+        Assert.assertEquals(getCacheIds("collectedCache").size(), 1);
+
+        cache = null;
+        await().atMost(30000, TimeUnit.MILLISECONDS).pollInterval(500, TimeUnit.MILLISECONDS).until(() -> {
+            System.gc();
+            return getCacheIds("collectedCache").isEmpty();
+        });
+    }
+
+    private Set<String> getCacheIds(String cacheName) {
+        Set<String> cacheIds = new HashSet<>();
+        for (Metric metric : registry.getAllMetrics()) {
+            if (!metric.getId().getName().equals("ballerina_cache_size")) {
+                continue;
+            }
+            Set<Tag> tags = metric.getId().getTags();
+            if (tags.contains(new Tag("cache_name", cacheName))) {
+                tags.stream().filter(tag -> tag.getKey().equals("cache_id"))
+                        .forEach(tag -> cacheIds.add(tag.getValue()));
+            }
+        }
+        return cacheIds;
+    }
+}
@@ -19,6 +19,7 @@ package org.ballerinalang.stdlib.cache;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
@@ -202,6 +203,73 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[0]).intValue(), 0);
     }
 
+    @Test
+    public void testCacheEvictionByWeight() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionByWeight");
+        Assert.assertEquals(returns.length, 2);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertEquals(((BValueArray) returns[0]).size(), 2);
+        Assert.assertEquals(((BValueArray) returns[0]).getString(0), "A");
+        Assert.assertEquals(((BValueArray) returns[0]).getString(1), "D");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 60);
+    }
+
+    @Test
+    public void testCacheStats() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheStats");
+        Assert.assertEquals(returns.length, 4);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 2);
+    }
+
+    @Test
+    public void testLoadingCacheCoalescesLoads() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCacheCoalescesLoads");
+        Assert.assertEquals(returns.length, 4);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertEquals(returns[1].stringValue(), "value-A");
+        Assert.assertEquals(returns[2].stringValue(), "value-A");
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 1);
+    }
+
+    @Test
+    public void testLoadingCacheLoadError() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCacheLoadError");
+        Assert.assertEquals(returns.length, 3);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 0);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+    }
+
+    @Test
+    public void testLoadingCacheGetAll() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCacheGetAll");
+        Assert.assertEquals(returns.length, 3);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(returns[1].stringValue(), "value-A");
+        Assert.assertEquals(returns[2].stringValue(), "bulk-C");
+    }
+
+    @Test
+    public void testLoadingCacheRefreshAhead() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCacheRefreshAhead");
+        Assert.assertEquals(returns.length, 2);
+        Assert.assertEquals(returns[0].stringValue(), "value-A");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class)
+    public void testCreateCacheWithNegativeMaxWeight() {
+        BRunUtil.invoke(compileResult, "testCreateCacheWithNegativeMaxWeight");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class)
+    public void testPutWithNegativeWeight() {
+        BRunUtil.invoke(compileResult, "testPutWithNegativeWeight");
+    }
+
     @Test(expectedExceptions = BLangRuntimeException.class)
     public void testCreateCacheWithZeroExpiryTime() {
         BRunUtil.invoke(compileResult, "testCreateCacheWithZeroExpiryTime");
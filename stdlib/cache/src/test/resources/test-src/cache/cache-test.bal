@@ -154,6 +154,103 @@ function testExpiredCacheAccess() returns (int) {
     return cache.size();
 }
 
+function testCacheEvictionByWeight() returns [string[], int] {
+    cache:Cache cache = new(20000, 100, 0.2, maxWeight = 100);
+    cache.put("A", "A", 30);
+    cache.put("B", "B", 30);
+    cache.put("C", "C", 30);
+    _ = cache.get("A");
+    cache.put("D", "D", 30);
+    return [cache.keys(), cache.stats().weight];
+}
+
+function testCacheStats() returns [int, int, int, int] {
+    cache:Cache cache = new(20000, 2, 0.5);
+    cache.put("A", "A");
+    cache.put("B", "B");
+    _ = cache.get("A");
+    _ = cache.get("C");
+    cache.put("C", "C");
+    cache:CacheStats stats = cache.stats();
+    return [stats.hitCount, stats.missCount, stats.evictionCount, stats.size];
+}
+
+int loadCount = 0;
+
+function loadValue(string key) returns any|error {
+    lock {
+        loadCount += 1;
+    }
+    runtime:sleep(100);
+    if (key == "invalid") {
+        return error("Invalid key");
+    }
+    return "value-" + key;
+}
+
+function loadValues(string[] keys) returns map<any>|error {
+    lock {
+        loadCount += 1;
+    }
+    map<any> values = {};
+    foreach var key in keys {
+        values[key] = "bulk-" + key;
+    }
+    return values;
+}
+
+function getFromLoadingCache(cache:LoadingCache cache, string key) returns any|error {
+    return cache.get(key);
+}
+
+function testLoadingCacheCoalescesLoads() returns [int, string, string, int] {
+    loadCount = 0;
+    cache:LoadingCache cache = new(loadValue);
+    future<any|error> f1 = start getFromLoadingCache(cache, "A");
+    future<any|error> f2 = start getFromLoadingCache(cache, "A");
+    future<any|error> f3 = start getFromLoadingCache(cache, "A");
+    any|error v1 = wait f1;
+    any|error v2 = wait f2;
+    any|error v3 = wait f3;
+    string value = <string> checkpanic cache.get("A");
+    return [loadCount, value, <string> checkpanic v3, cache.stats().loadSuccessCount];
+}
+
+function testLoadingCacheLoadError() returns [boolean, int, int] {
+    loadCount = 0;
+    cache:LoadingCache cache = new(loadValue);
+    any|error value = cache.get("invalid");
+    return [value is error, cache.size(), cache.stats().loadFailureCount];
+}
+
+function testLoadingCacheGetAll() returns [int, string, string] {
+    loadCount = 0;
+    cache:LoadingCache cache = new(loadValue, bulkLoader = loadValues);
+    _ = checkpanic cache.get("A");
+    map<any> values = checkpanic cache.getAll(["A", "B", "C"]);
+    return [loadCount, <string> values["A"], <string> values["C"]];
+}
+
+function testLoadingCacheRefreshAhead() returns [string, int] {
+    loadCount = 0;
+    cache:LoadingCache cache = new(loadValue, refreshAheadTimeInMillis = 200);
+    _ = checkpanic cache.get("A");
+    runtime:sleep(300);
+    // The current value is returned, while it is reloaded in the background.
+    string value = <string> checkpanic cache.get("A");
+    runtime:sleep(300);
+    return [value, loadCount];
+}
+
+function testCreateCacheWithNegativeMaxWeight() {
+    cache:Cache c = new(900000, 100, 0.25, maxWeight = -1);
+}
+
+function testPutWithNegativeWeight() {
+    cache:Cache c = new;
+    c.put("A", "A", -1);
+}
+
 function testCreateCacheWithZeroExpiryTime() {
     cache:Cache c = new(0, 100, 0.25);
 }
@@ -16,10 +16,43 @@
 
 import ballerina/cache;
 import ballerina/log;
+import ballerina/stringutils;
+import ballerina/time;
+
+// The shared HTTP caches of the caching clients, by the origin of the clients and the configurations of the caches.
+map<HttpCache> httpCaches = {};
+
+# Represents a response stored in an `HttpCache`, along with the details of the response which are computed once when
+# the response is stored. The stored response is never served as it is, since it is shared by the clients which use
+# the cache. A copy of the response is served instead.
+#
+# + response - The stored response
+# + payload - The read-only payload of the response, which is shared by the copies of the response
+# + freshnessLifetime - The time in seconds for which the response is fresh, since it was generated
+# + correctedInitialAge - The age of the response in milliseconds, when it was received
+# + receivedTime - The time in milliseconds at which the response was received
+# + varyFields - The names of the request headers nominated by the `vary` header of the response
+# + varyValues - The values of the request headers nominated by the `vary` header of the response, which were sent in
+#                the request of the response
+# + varyAll - Whether the `vary` header of the response is `*`, in which case the response is not served from the cache
+type CacheEntry record {|
+    Response response;
+    byte[] payload;
+    int freshnessLifetime;
+    int correctedInitialAge;
+    int receivedTime;
+    string[] varyFields;
+    map<string> varyValues;
+    boolean varyAll;
+|};
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
 # HTTP caching in the HTTP client endpoint.
 #
+# The caching clients which connect to the same origin share a shared cache, provided that they are configured with the
+# same cache configurations. Hence, the responses cached by a client are served to the other clients as well. A private
+# cache is never shared.
+#
 # + cache - The underlying cache used for storing HTTP responses
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
@@ -30,12 +63,16 @@ public type HttpCache object {
     public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
+    private map<boolean> revalidatingKeys = {};
 
-    # Creates the HTTP cache.
+    # Creates the HTTP cache. The cache is bounded by the total size of the cached payloads and by the number of
+    # cached responses.
     #
     # + config - The configurations for the HTTP cache
-    public function __init(CacheConfig cacheConfig) {
-            self.cache = new cache:Cache(cacheConfig.expiryTimeInMillis, cacheConfig.capacity, cacheConfig.evictionFactor);
+    # + name - The name of the cache, which is used to publish the statistics of the cache as metrics
+    public function __init(CacheConfig cacheConfig, string name = "") {
+            self.cache = new cache:Cache(cacheConfig.expiryTimeInMillis, cacheConfig.maxEntries,
+                                         cacheConfig.evictionFactor, maxWeight = cacheConfig.capacity, name = name);
             self.policy = cacheConfig.policy;
             self.isShared = cacheConfig.isShared;
     }
@@ -48,8 +85,8 @@ public type HttpCache object {
         return true;
     }
 
-    function put(string key, RequestCacheControl? requestCacheControl, Response inboundResponse) {
-        if (self.isNonCacheableResponse(requestCacheControl, inboundResponse.cacheControl)) {
+    function put(string key, Request request, Response inboundResponse) {
+        if (self.isNonCacheableResponse(request.cacheControl, inboundResponse.cacheControl)) {
             return;
         }
 
@@ -57,10 +94,13 @@ public type HttpCache object {
             // IMPT: The call to getBinaryPayload() builds the payload from the stream. If this is not done, the stream
             // will be read by the client and the response will be after the first cache hit.
             var binaryPayload = inboundResponse.getBinaryPayload();
+            byte[] payload = binaryPayload is byte[] ? binaryPayload.cloneReadOnly() : [];
+            CacheEntry cacheEntry = createCacheEntry(inboundResponse, payload, self.isShared);
+            setVaryHeaders(cacheEntry, request);
             log:printDebug(function() returns string {
                 return "Adding new cache entry for: " + key;
             });
-            addEntry(self.cache, key, inboundResponse);
+            addEntry(self.cache, key, cacheEntry);
         }
     }
 
@@ -94,57 +134,129 @@ public type HttpCache object {
         return self.cache.hasKey(key);
     }
 
-    function get(string key) returns Response {
-        Response[] cacheEntry = <Response[]> self.cache.get(key);
-        return cacheEntry[cacheEntry.length() - 1];
+    # Returns the most recent stored response which can be served for the given request, as per
+    # https://tools.ietf.org/html/rfc7234#section-4.1.
+    #
+    # + key - The key of the request
+    # + request - The request, whose headers are matched against the headers nominated by the `vary` header of the
+    #             stored responses
+    # + return - The stored response, or `()` if there is no stored response which can be served for the request
+    function get(string key, Request request) returns CacheEntry? {
+        CacheEntry[] cacheEntries = self.getAll(key);
+        int i = cacheEntries.length() - 1;
+        while (i >= 0) {
+            CacheEntry cacheEntry = cacheEntries[i];
+            if (isMatchingVariant(cacheEntry, request)) {
+                return cacheEntry;
+            }
+            i = i - 1;
+        }
+        return ();
     }
 
-    function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> self.cache.get(key);
-        if (cacheEntry is Response[]) {
-            return cacheEntry;
+    function getAll(string key) returns CacheEntry[] {
+        var cacheEntries = self.cache.get(key);
+        if (cacheEntries is CacheEntry[]) {
+            return cacheEntries;
         }
-        return ();
+        return [];
     }
 
-    function getAllByETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
+    function getAllByETag(string key, string etag) returns CacheEntry[] {
+        CacheEntry[] matchingEntries = [];
         int i = 0;
 
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.getHeader(ETAG) == etag && !etag.startsWith(WEAK_VALIDATOR_TAG)) {
-                matchingResponses[i] = cachedResp;
+        foreach var cacheEntry in self.getAll(key) {
+            if (cacheEntry.response.getHeader(ETAG) == etag && !etag.startsWith(WEAK_VALIDATOR_TAG)) {
+                matchingEntries[i] = cacheEntry;
                 i = i + 1;
             }
         }
 
-        return matchingResponses;
+        return matchingEntries;
     }
 
-    function getAllByWeakETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
+    function getAllByWeakETag(string key, string etag) returns CacheEntry[] {
+        CacheEntry[] matchingEntries = [];
         int i = 0;
 
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
+        foreach var cacheEntry in self.getAll(key) {
+            Response cachedResp = cacheEntry.response;
             if (cachedResp.hasHeader(ETAG) && weakValidatorEquals(etag, cachedResp.getHeader(ETAG))) {
-                matchingResponses[i] = cachedResp;
+                matchingEntries[i] = cacheEntry;
                 i = i + 1;
             }
         }
 
-        return matchingResponses;
+        return matchingEntries;
+    }
+
+    # Updates a stored response using a `304 Not Modified` response, as per
+    # https://tools.ietf.org/html/rfc7234#section-4.3.4. The freshness of the stored response is computed again
+    # using the updated headers.
+    #
+    # + key - The key of the stored response
+    # + cacheEntry - The stored response to be updated
+    # + validationResponse - The `304 Not Modified` response
+    # + return - The updated response, which replaces the stored response
+    function refresh(string key, CacheEntry cacheEntry, Response validationResponse) returns CacheEntry {
+        // The stored response may be being copied by the other clients, hence it is replaced by an updated copy.
+        Response updatedResponse = copyResponse(cacheEntry.response, cacheEntry.payload);
+        updateResponse(updatedResponse, validationResponse);
+        if (validationResponse.cacheControl is ResponseCacheControl) {
+            updatedResponse.cacheControl = validationResponse.cacheControl;
+        }
+        updateResponseTimestamps(updatedResponse, validationResponse.requestTime, validationResponse.receivedTime);
+        CacheEntry refreshedEntry = createCacheEntry(updatedResponse, cacheEntry.payload, self.isShared);
+        refreshedEntry.varyFields = cacheEntry.varyFields;
+        refreshedEntry.varyValues = cacheEntry.varyValues;
+        refreshedEntry.varyAll = cacheEntry.varyAll;
+        addEntry(self.cache, key, refreshedEntry);
+        return refreshedEntry;
+    }
+
+    # Validates a stored response with the origin server in the background, unless the response of the same key is
+    # already being validated. The stored response is updated or replaced once the validation response is received.
+    #
+    # + httpClient - The client used to send the validation request
+    # + key - The key of the stored response
+    # + path - The resource path of the stored response
+    # + cacheEntry - The stored response to be validated
+    # + request - The request which the stored response is served for
+    function revalidateInBackground(HttpClient httpClient, string key, string path, CacheEntry cacheEntry,
+                                    Request request) {
+        boolean isRevalidating = true;
+        lock {
+            isRevalidating = self.revalidatingKeys.hasKey(key);
+            if (!isRevalidating) {
+                self.revalidatingKeys[key] = true;
+            }
+        }
+        if (!isRevalidating) {
+            _ = start self.revalidate(httpClient, key, path, cacheEntry, request);
+        }
+    }
+
+    function revalidate(HttpClient httpClient, string key, string path, CacheEntry cacheEntry, Request request) {
+        int requestTime = time:currentTime().time;
+        var validationResponse = sendValidationRequest(httpClient, path, cacheEntry, request);
+        if (validationResponse is Response) {
+            updateResponseTimestamps(validationResponse, requestTime, time:currentTime().time);
+            if (validationResponse.statusCode == STATUS_NOT_MODIFIED) {
+                log:printDebug("Background validation of a stale response succeeded. Response updated");
+                _ = self.refresh(key, cacheEntry, validationResponse);
+            } else if (validationResponse.statusCode < 500 && self.isAllowedToCache(validationResponse)) {
+                // The vary header of the full response is matched against the request of the stored response, as
+                // it may nominate other headers than the vary header of the stored response.
+                log:printDebug("Background validation of a stale response received a full response. Response replaced");
+                self.put(key, request, validationResponse);
+            }
+        } else {
+            log:printDebug("Cannot reach origin server. Background validation of a stale response failed");
+        }
+        lock {
+            _ = self.revalidatingKeys.remove(key);
+        }
     }
 
     function remove (string key) {
@@ -152,6 +264,53 @@ public type HttpCache object {
     }
 };
 
+# Returns the HTTP cache of a caching client. A shared cache is shared by the caching clients which connect to the
+# origin of the given URL with the same cache configurations, while a private cache is created for each client, since
+# it may store the responses to the authenticated requests of the client.
+#
+# + url - The URL of the caching client
+# + cacheConfig - The configurations for the HTTP cache of the caching client
+# + return - The HTTP cache of the caching client
+function getHttpCache(string url, CacheConfig cacheConfig) returns HttpCache {
+    string origin = getOrigin(url);
+    if (!cacheConfig.isShared) {
+        return new(cacheConfig, name = origin);
+    }
+    string cacheKey = origin + " " + cacheConfig.policy + " " + cacheConfig.capacity.toString() + " " +
+                      cacheConfig.maxEntries.toString() + " " + cacheConfig.expiryTimeInMillis.toString() + " " +
+                      cacheConfig.evictionFactor.toString();
+    HttpCache? httpCache = ();
+    lock {
+        httpCache = httpCaches[cacheKey];
+        if (httpCache is ()) {
+            removeEmptyHttpCaches();
+            HttpCache newCache = new(cacheConfig, name = origin);
+            httpCaches[cacheKey] = newCache;
+            httpCache = newCache;
+        }
+    }
+    return <HttpCache> httpCache;
+}
+
+// Removes the shared caches which have no entries, e.g. as their clients are no longer used, so that the shared caches
+// do not accumulate. A client which still uses a removed cache keeps it, but no longer shares it with the new clients.
+function removeEmptyHttpCaches() {
+    foreach var cacheKey in httpCaches.keys() {
+        if (httpCaches.get(cacheKey).cache.size() == 0) {
+            _ = httpCaches.remove(cacheKey);
+        }
+    }
+}
+
+// Returns the scheme, the host and the port of the URL, which identify the origin server.
+function getOrigin(string url) returns string {
+    int? schemeEnd = url.indexOf("://");
+    int hostStart = schemeEnd is int ? schemeEnd + 3 : 0;
+    int? pathStart = url.indexOf("/", hostStart);
+    string origin = pathStart is int ? url.substring(0, pathStart) : url;
+    return origin.toLowerAscii();
+}
+
 function isCacheableStatusCode(int statusCode) returns boolean {
     return statusCode == STATUS_OK || statusCode == STATUS_NON_AUTHORITATIVE_INFORMATION ||
            statusCode == STATUS_NO_CONTENT || statusCode == STATUS_PARTIAL_CONTENT ||
@@ -161,14 +320,156 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    var existingResponses = cache.get(key);
-    if (existingResponses is Response[]) {
-        existingResponses[existingResponses.length()] = inboundResponse;
-    } else if (existingResponses is ()) {
-        Response[] cachedResponses = [inboundResponse];
-        cache.put(key, cachedResponses);
+// Computes the freshness lifetime and the initial age of the response once, since these do not change while the
+// response is stored. Based on https://tools.ietf.org/html/rfc7234#section-4.2
+function createCacheEntry(Response response, byte[] payload, boolean isShared) returns CacheEntry {
+    int dateValue = getDateValue(response);
+    int apparentAge = response.receivedTime - dateValue;
+    apparentAge = apparentAge > 0 ? apparentAge : 0;
+    int correctedAgeValue = getResponseAge(response) * 1000 + (response.receivedTime - response.requestTime);
+    return {
+        response: response,
+        payload: payload,
+        freshnessLifetime: getFreshnessLifetime(response, isShared),
+        correctedInitialAge: apparentAge > correctedAgeValue ? apparentAge : correctedAgeValue,
+        receivedTime: response.receivedTime,
+        varyFields: [],
+        varyValues: {},
+        varyAll: false
+    };
+}
+
+// Records the values of the request headers nominated by the `vary` header of the response.
+function setVaryHeaders(CacheEntry cacheEntry, Request request) {
+    Response response = cacheEntry.response;
+    if (!response.hasHeader(VARY)) {
+        return;
+    }
+    string[] varyFields = [];
+    map<string> varyValues = {};
+    foreach var varyHeader in response.getHeaders(VARY) {
+        foreach var field in stringutils:split(varyHeader, ",") {
+            string fieldName = field.trim().toLowerAscii();
+            if (fieldName == "*") {
+                cacheEntry.varyAll = true;
+                return;
+            }
+            if (fieldName == "") {
+                continue;
+            }
+            varyFields[varyFields.length()] = fieldName;
+            if (request.hasHeader(fieldName)) {
+                varyValues[fieldName] = getNormalizedHeaderValue(request.getHeaders(fieldName));
+            }
+        }
+    }
+    cacheEntry.varyFields = varyFields;
+    cacheEntry.varyValues = varyValues;
+}
+
+// Based on https://tools.ietf.org/html/rfc7234#section-4.1
+function isMatchingVariant(CacheEntry cacheEntry, Request request) returns boolean {
+    if (cacheEntry.varyAll) {
+        return false;
+    }
+    foreach var fieldName in cacheEntry.varyFields {
+        string? storedValue = cacheEntry.varyValues[fieldName];
+        if (request.hasHeader(fieldName)) {
+            if (storedValue is () || storedValue != getNormalizedHeaderValue(request.getHeaders(fieldName))) {
+                return false;
+            }
+        } else if (storedValue is string) {
+            return false;
+        }
+    }
+    return true;
+}
+
+function getNormalizedHeaderValue(string[] headerValues) returns string {
+    string normalizedValue = "";
+    foreach var headerValue in headerValues {
+        normalizedValue = normalizedValue == "" ? headerValue.trim() : normalizedValue + ", " + headerValue.trim();
+    }
+    return normalizedValue;
+}
+
+function isSameVariant(CacheEntry entry1, CacheEntry entry2) returns boolean {
+    if (entry1.varyFields.length() != entry2.varyFields.length()) {
+        return false;
+    }
+    foreach var fieldName in entry1.varyFields {
+        if (entry1.varyValues[fieldName] != entry2.varyValues[fieldName]) {
+            return false;
+        }
+    }
+    return true;
+}
+
+// The new response replaces the stored response of the same variant, as per
+// https://tools.ietf.org/html/rfc7234#section-4.1
+function addEntry(cache:Cache cache, string key, CacheEntry cacheEntry) {
+    CacheEntry[] cacheEntries = [];
+    var existingEntries = cache.get(key);
+    if (existingEntries is CacheEntry[]) {
+        foreach var existingEntry in existingEntries {
+            if (!isSameVariant(existingEntry, cacheEntry)) {
+                cacheEntries[cacheEntries.length()] = existingEntry;
+            }
+        }
+    }
+    cacheEntries[cacheEntries.length()] = cacheEntry;
+    // Put the entries again, so that the weight of the entry includes the new payload.
+    cache.put(key, cacheEntries, getEntryWeight(cacheEntries));
+}
+
+// Returns the total size of the payloads of the responses in bytes. An entry weighs at least a byte, so that the
+// responses without a payload are bounded as well.
+function getEntryWeight(CacheEntry[] cacheEntries) returns int {
+    int weight = 0;
+    foreach var cacheEntry in cacheEntries {
+        weight += cacheEntry.payload.length();
+    }
+    return weight > 0 ? weight : 1;
+}
+
+// Based on https://tools.ietf.org/html/rfc7234#section-4.2.3
+function getCurrentAge(CacheEntry cacheEntry, int now) returns int {
+    return (cacheEntry.correctedInitialAge + (now - cacheEntry.receivedTime)) / 1000;
+}
+
+function isFreshEntry(CacheEntry cacheEntry, int now) returns boolean {
+    return cacheEntry.freshnessLifetime > getCurrentAge(cacheEntry, now);
+}
+
+// Creates the response to be served for a stored response, with the current age of the stored response in the `age`
+// header. The payload of the stored response is shared as it is read-only.
+function createCachedResponse(CacheEntry cacheEntry, int now) returns Response {
+    Response cachedResponse = copyResponse(cacheEntry.response, cacheEntry.payload);
+    cachedResponse.setHeader(AGE, getCurrentAge(cacheEntry, now).toString());
+    return cachedResponse;
+}
+
+function copyResponse(Response response, byte[] payload) returns Response {
+    Response copy = new;
+    copy.statusCode = response.statusCode;
+    copy.reasonPhrase = response.reasonPhrase;
+    copy.server = response.server;
+    copy.resolvedRequestedURI = response.resolvedRequestedURI;
+    copy.cacheControl = response.cacheControl;
+    updateResponseTimestamps(copy, response.requestTime, response.receivedTime);
+    if (payload.length() > 0) {
+        copy.setBinaryPayload(payload);
+    }
+    foreach var headerName in response.getHeaderNames() {
+        copy.removeHeader(headerName);
+        foreach var headerValue in response.getHeaders(headerName) {
+            copy.addHeader(headerName, headerValue);
+        }
+    }
+    if (!response.hasHeader(CONTENT_TYPE)) {
+        copy.removeHeader(CONTENT_TYPE);
     }
+    return copy;
 }
 
 function weakValidatorEquals(string etag1, string etag2) returns boolean {
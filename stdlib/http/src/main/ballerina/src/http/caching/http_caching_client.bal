@@ -53,7 +53,8 @@ public const RFC_7234 = "RFC_7234";
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 # + expiryTimeInMillis - The number of milliseconds to keep an entry in the cache
-# + capacity - The capacity of the cache
+# + capacity - The capacity of the cache, which is the maximum total size of the cached payloads in bytes
+# + maxEntries - The maximum number of responses to keep in the cache
 # + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
 #                    between 0 (exclusive) and 1 (inclusive).
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
@@ -64,6 +65,7 @@ public type CacheConfig record {|
     boolean isShared = false;
     int expiryTimeInMillis = 86400;
     int capacity = 8388608; // 8MB
+    int maxEntries = 16384;
     float evictionFactor = 0.2;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
 |};
@@ -84,8 +86,8 @@ public type HttpCachingClient client object {
     public CacheConfig cacheConfig = {};
 
     # Takes a service URL, a `CliendEndpointConfig` and a `CacheConfig` and builds an HTTP client capable of
-    # caching responses. The `CacheConfig` instance is used for initializing a new HTTP cache for the client and
-    # the `ClientConfiguration` is used for creating the underlying HTTP client.
+    # caching responses. The `CacheConfig` instance is used for initializing the HTTP cache which is shared by the
+    # caching clients of the same origin, and the `ClientConfiguration` is used for creating the underlying HTTP client.
     #
     # + url - The URL of the HTTP endpoint to connect to
     # + config - The configurations for the client endpoint associated with the caching client
@@ -98,7 +100,10 @@ public type HttpCachingClient client object {
             error clientError = httpSecureClient;
             panic <error> httpSecureClient;
         }
-        self.cache = new HttpCache(cacheConfig);
+        self.url = url;
+        self.config = config;
+        self.cacheConfig = cacheConfig;
+        self.cache = getHttpCache(url, cacheConfig);
     }
 
     # Responses returned for POST requests are not cacheable. Therefore, the requests are simply directed to the
@@ -114,7 +119,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->post(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -129,7 +134,8 @@ public type HttpCachingClient client object {
     public remote function head(string path, public RequestMessage message = ()) returns @tainted Response|ClientError {
         Request req = <Request>message;
         setRequestCacheControlHeader(req);
-        return getCachedResponse(self.cache, self.httpClient, req, HEAD, path, self.cacheConfig.isShared, false);
+        return getCachedResponse(self.cache, self.httpClient, req, HEAD, self.url, path, self.cacheConfig.isShared,
+                                 false);
     }
 
     # Responses returned for PUT requests are not cacheable. Therefore, the requests are simply directed to the
@@ -145,7 +151,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->put(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -164,13 +170,13 @@ public type HttpCachingClient client object {
         setRequestCacheControlHeader(request);
 
         if (httpMethod == GET || httpMethod == HEAD) {
-            return getCachedResponse(self.cache, self.httpClient, request, httpMethod, path,
+            return getCachedResponse(self.cache, self.httpClient, request, httpMethod, self.url, path,
                                      self.cacheConfig.isShared, false);
         }
 
         var inboundResponse = self.httpClient->execute(httpMethod, path, request);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -188,7 +194,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->patch(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -206,7 +212,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->delete(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -221,7 +227,8 @@ public type HttpCachingClient client object {
     public remote function get(string path, public RequestMessage message = ()) returns @tainted Response|ClientError {
         Request req = <Request>message;
         setRequestCacheControlHeader(req);
-        return getCachedResponse(self.cache, self.httpClient, req, GET, path, self.cacheConfig.isShared, false);
+        return getCachedResponse(self.cache, self.httpClient, req, GET, self.url, path, self.cacheConfig.isShared,
+                                 false);
     }
 
     # Responses returned for OPTIONS requests are not cacheable. Therefore, the requests are simply directed to the
@@ -237,7 +244,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->options(path, message = req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -250,13 +257,13 @@ public type HttpCachingClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream server
     public remote function forward(string path, @tainted Request request) returns @tainted Response|ClientError {
         if (request.method == GET || request.method == HEAD) {
-            return getCachedResponse(self.cache, self.httpClient, request, request.method, path,
+            return getCachedResponse(self.cache, self.httpClient, request, request.method, self.url, path,
                                      self.cacheConfig.isShared, true);
         }
 
         var inboundResponse = self.httpClient->forward(path, request);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url, path);
         }
         return inboundResponse;
     }
@@ -328,25 +335,27 @@ public function createHttpCachingClient(string url, ClientConfiguration config,
     return httpCachingClient;
 }
 
-function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Request req, string httpMethod, string path,
-                           boolean isShared, boolean forwardRequest) returns @tainted Response|ClientError {
+function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Request req, string httpMethod, string url,
+                           string path, boolean isShared, boolean forwardRequest)
+                                                                                returns @tainted Response|ClientError {
     time:Time currentT = time:currentTime();
     req.parseCacheControlHeader();
+    string key = getCacheKey(httpMethod, url + path);
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    CacheEntry? storedEntry = cache.get(key, req);
+    if (storedEntry is CacheEntry) {
         // Based on https://tools.ietf.org/html/rfc7234#section-4
         log:printDebug(function() returns string {
             return "Cached response found for: '" + httpMethod + " " + path + "'";
         });
 
-        updateResponseTimestamps(cachedResponse, currentT.time, currentT.time);
-        setAgeHeader(<@untainted> cachedResponse);
+        CacheEntry cacheEntry = storedEntry;
+        Response cachedResponse = createCachedResponse(cacheEntry, currentT.time);
 
         RequestCacheControl? reqCache = req.cacheControl;
         ResponseCacheControl? resCache = cachedResponse.cacheControl;
 
-        if (isFreshResponse(cachedResponse, isShared)) {
+        if (isFreshEntry(cacheEntry, currentT.time)) {
             // If the no-cache directive is not set, responses can be served straight from the cache, without
             // validating with the origin server.
             if (!isNoCacheSet(reqCache, resCache) && !req.hasHeader(PRAGMA)) {
@@ -355,7 +364,7 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
             }
 
             log:printDebug("Serving a cached fresh response after validating with the origin server");
-            return getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path, httpMethod, true);
+            return getValidationResponse(httpClient, req, key, cacheEntry, cachedResponse, cache, currentT, path, true);
         }
 
         // If a fresh response is not available, serve a stale response, provided that it is not prohibited by
@@ -363,10 +372,12 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         if (isAllowedToBeServedStale(req.cacheControl, cachedResponse, isShared)) {
 
             // If the no-cache directive is not set, responses can be served straight from the cache, without
-            // validating with the origin server.
+            // validating with the origin server. The stale response is validated in the background, so that the
+            // following requests are served a fresh response.
             if (!isNoCacheSet(reqCache, resCache) && !req.hasHeader(PRAGMA)) {
                 log:printDebug("Serving cached stale response without validating with the origin server");
                 cachedResponse.setHeader(WARNING, WARNING_110_RESPONSE_IS_STALE);
+                cache.revalidateInBackground(httpClient, key, path, cacheEntry, <@untainted> req);
                 return cachedResponse;
             }
         }
@@ -374,13 +385,7 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         log:printDebug(function() returns string {
             return "Validating a stale response for '" + path + "' with the origin server.";
         });
-        var validatedResponse = getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path,
-                                                            httpMethod, false);
-        if (validatedResponse is Response) {
-            updateResponseTimestamps(validatedResponse, currentT.time, time:currentTime().time);
-            setAgeHeader(validatedResponse);
-        }
-        return validatedResponse;
+        return getValidationResponse(httpClient, req, key, cacheEntry, cachedResponse, cache, currentT, path, false);
     } else {
         log:printDebug(function() returns string {
             return "Cached response not found for: '" + httpMethod + " " + path + "'";
@@ -393,9 +398,8 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     var response = sendNewRequest(httpClient, req, path, httpMethod, forwardRequest);
     if (response is Response) {
         if (cache.isAllowedToCache(response)) {
-            response.requestTime = currentT.time;
-            response.receivedTime = time:currentTime().time;
-            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req.cacheControl, <@untainted> response);
+            updateResponseTimestamps(response, currentT.time, time:currentTime().time);
+            cache.put(<@untainted> key, <@untainted> req, <@untainted> response);
         }
     }
     return response;
@@ -413,9 +417,9 @@ function isNoCacheSet(RequestCacheControl? reqCC, ResponseCacheControl? resCC) r
     return false;
 }
 
-function getValidationResponse(HttpClient httpClient, Request req, Response cachedResponse, HttpCache cache,
-                               time:Time currentT, string path, string httpMethod, boolean isFreshResponse)
-                                                                                returns @tainted Response|ClientError {
+function getValidationResponse(HttpClient httpClient, Request req, string key, CacheEntry cacheEntry,
+                               Response cachedResponse, HttpCache cache, time:Time currentT, string path,
+                               boolean isFreshResponse) returns @tainted Response|ClientError {
     // If the no-cache directive is set, always validate the response before serving
     Response validationResponse = new; // TODO: May have to make this Response?
 
@@ -425,7 +429,7 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
         log:printDebug("Sending validation request for a stale response");
     }
 
-    var response = sendValidationRequest(httpClient, path, cachedResponse);
+    var response = sendValidationRequest(httpClient, path, cacheEntry, req);
     if (response is Response) {
         validationResponse = response;
     } else {
@@ -434,8 +438,7 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
     // if the connection is refused or the connection times out.
     // TODO: Verify that this behaviour is valid: returning a fresh response when 'no-cache' is present and
     // origin server couldn't be reached.
-    updateResponseTimestamps(cachedResponse, currentT.time, time:currentTime().time);
-    setAgeHeader(<@untainted> cachedResponse);
+    cachedResponse.setHeader(AGE, getCurrentAge(cacheEntry, time:currentTime().time).toString());
     if (!isFreshResponse) {
         // If the origin server cannot be reached and a fresh response is unavailable, serve a stale
         // response (unless it is prohibited through a directive).
@@ -448,9 +451,10 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
     }
 
     log:printDebug("Response for validation request received");
+    updateResponseTimestamps(validationResponse, currentT.time, time:currentTime().time);
     // Based on https://tools.ietf.org/html/rfc7234#section-4.3.3
     if (validationResponse.statusCode == STATUS_NOT_MODIFIED) {
-        return handle304Response(validationResponse, cachedResponse, cache, path, httpMethod);
+        return handle304Response(validationResponse, key, cacheEntry, cache);
     } else if (validationResponse.statusCode >= 500 && validationResponse.statusCode < 600) {
         // May forward the response or act as if the origin server failed to respond and serve a
         // stored response
@@ -458,9 +462,8 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
         return validationResponse;
     } else {
         // Forward the received response and replace the stored responses
-        validationResponse.requestTime = currentT.time;
-        if (req.cacheControl is RequestCacheControl) {
-            cache.put(getCacheKey(httpMethod, path), req.cacheControl, validationResponse);
+        if (cache.isAllowedToCache(validationResponse)) {
+            cache.put(key, req, validationResponse);
         }
         log:printDebug("Received a full response. Storing it in cache and forwarding to the client");
         return validationResponse;
@@ -468,52 +471,54 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
 }
 
 // Based on https://tools.ietf.org/html/rfc7234#section-4.3.4
-function handle304Response(Response validationResponse, Response cachedResponse, HttpCache cache, string path,
-                           string httpMethod) returns @tainted Response|ClientError {
+function handle304Response(Response validationResponse, string key, CacheEntry cacheEntry, HttpCache cache)
+                                                                                returns @tainted Response|ClientError {
+    int now = time:currentTime().time;
     if (validationResponse.hasHeader(ETAG)) {
         string etag = validationResponse.getHeader(ETAG);
 
+        CacheEntry[] matchingEntries = [];
         if (isAStrongValidator(etag)) {
             // Assuming ETags are the only strong validators
-            Response[] matchingCachedResponses = cache.getAllByETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, <@untainted> validationResponse);
-            }
+            matchingEntries = cache.getAllByETag(key, etag);
             log:printDebug("304 response received, with a strong validator. Response(s) updated");
-            return cachedResponse;
         } else if (hasAWeakValidator(validationResponse, etag)) {
             // The weak validator should be either an ETag or a last modified date. Precedence given to ETag
-            Response[] matchingCachedResponses = cache.getAllByWeakETag(getCacheKey(httpMethod, path), etag);
+            matchingEntries = cache.getAllByWeakETag(key, etag);
+            log:printDebug("304 response received, with a weak validator. Response(s) updated");
+        }
 
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+        CacheEntry servedEntry = cacheEntry;
+        foreach var matchingEntry in matchingEntries {
+            CacheEntry refreshedEntry = cache.refresh(key, matchingEntry, <@untainted> validationResponse);
+            if (matchingEntry === cacheEntry) {
+                servedEntry = refreshedEntry;
             }
-            log:printDebug("304 response received, with a weak validator. Response(s) updated");
-            return cachedResponse;
         }
+        return createCachedResponse(servedEntry, now);
     }
 
     // Not checking the ETag in validation since it's already checked above.
     // TODO: Need to check whether cachedResponse is the only matching response
+    Response cachedResponse = cacheEntry.response;
     if (!cachedResponse.hasHeader(ETAG) && !cachedResponse.hasHeader(LAST_MODIFIED) &&
                                                         !validationResponse.hasHeader(LAST_MODIFIED)) {
         log:printDebug("304 response received and stored response do not have validators. Updating the stored response.");
-        updateResponse(<@untainted> cachedResponse, validationResponse);
+        return createCachedResponse(cache.refresh(key, cacheEntry, <@untainted> validationResponse), now);
     }
 
     log:printDebug("304 response received, but stored responses were not updated.");
     // TODO: Check if this behaviour is the expected one
-    return cachedResponse;
+    return createCachedResponse(cacheEntry, now);
 }
 
 // Based on https://tools.ietf.org/html/rfc7234#section-4.4
-function invalidateResponses(HttpCache httpCache, Response inboundResponse, string path) {
+function invalidateResponses(HttpCache httpCache, Response inboundResponse, string url, string path) {
     // TODO: Improve this logic in accordance with the spec
     if (isCacheableStatusCode(inboundResponse.statusCode) &&
         inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400) {
-        httpCache.cache.remove(getCacheKey(GET, path));
-        httpCache.cache.remove(getCacheKey(HEAD, path));
+        httpCache.remove(getCacheKey(GET, url + path));
+        httpCache.remove(getCacheKey(HEAD, url + path));
     }
 }
 
@@ -611,8 +616,19 @@ function isStaleResponseAccepted(RequestCacheControl? requestCacheControl, Respo
 }
 
 // Based https://tools.ietf.org/html/rfc7234#section-4.3.1
-function sendValidationRequest(HttpClient httpClient, string path, Response cachedResponse) returns Response|ClientError {
+function sendValidationRequest(HttpClient httpClient, string path, CacheEntry cacheEntry, Request request)
+                                                                                returns Response|ClientError {
     Request validationRequest = new;
+    Response cachedResponse = cacheEntry.response;
+
+    // The headers nominated by the vary header of the stored response select the same response at the origin server.
+    foreach var fieldName in cacheEntry.varyFields {
+        if (request.hasHeader(fieldName)) {
+            foreach var headerValue in request.getHeaders(fieldName) {
+                validationRequest.addHeader(fieldName, headerValue);
+            }
+        }
+    }
 
     if (cachedResponse.hasHeader(ETAG)) {
         validationRequest.setHeader(IF_NONE_MATCH, cachedResponse.getHeader(ETAG));
@@ -643,29 +659,6 @@ function sendNewRequest(HttpClient httpClient, Request request, string path, str
     }
 }
 
-function setAgeHeader(Response cachedResponse) {
-    cachedResponse.setHeader(<@untainted> AGE, <@untainted> calculateCurrentResponseAge(cachedResponse).toString());
-}
-
-// Based on https://tools.ietf.org/html/rfc7234#section-4.2.3
-function calculateCurrentResponseAge(Response cachedResponse) returns @tainted int {
-    int ageValue = getResponseAge(cachedResponse);
-    int dateValue = getDateValue(cachedResponse);
-    int now = time:currentTime().time;
-    int responseTime = cachedResponse.receivedTime;
-    int requestTime = cachedResponse.requestTime;
-
-    int apparentAge = (responseTime - dateValue) >= 0 ? (responseTime - dateValue) : 0;
-
-    int responseDelay = responseTime - requestTime;
-    int correctedAgeValue = ageValue + responseDelay;
-
-    int correctedInitialAge = apparentAge > correctedAgeValue ? apparentAge : correctedAgeValue;
-    int residentTime = now - responseTime;
-
-    return (correctedInitialAge + residentTime) / 1000;
-}
-
 // Based on https://tools.ietf.org/html/rfc7234#section-4.3.4
 function updateResponse(Response cachedResponse, Response validationResponse) {
     // 1 - delete warning headers with warn codes 1xx
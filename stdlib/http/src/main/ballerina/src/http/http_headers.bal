@@ -75,6 +75,10 @@ public const string PRAGMA = "pragma";
 # HTTP header key `server`. Specifies the details of the origin server.
 public const string SERVER = "server";
 
+# HTTP header key `vary`. Specifies the request headers, other than the method and the URI, which were used to select
+# the response. A cached response is used only for the requests with the same values for these headers.
+public const string VARY = "vary";
+
 # HTTP header key `warning`. Specifies warnings generated when serving stale responses from HTTP caches. 
 public const string WARNING = "warning";
 
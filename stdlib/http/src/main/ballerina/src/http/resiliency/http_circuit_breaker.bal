@@ -41,12 +41,14 @@ public const CB_CLOSED_STATE = "CLOSED";
 #
 # + lastRequestSuccess - Whether last request is success or not
 # + totalRequestCount - Total request count received within the `RollingWindow`
-# + lastUsedBucketId - ID of the last bucket used in Circuit Breaker calculations
+# + lastUsedBucketId - **Deprecated API**. ID of the last bucket used in Circuit Breaker calculations. The buckets
+#                      are kept by the Circuit Breaker internally, hence this is no longer updated.
 # + startTime - Circuit Breaker start time
 # + lastRequestTime - The time that the last request received
 # + lastErrorTime - The time that the last error occurred
 # + lastForcedOpenTime - The time that circuit forcefully opened at last
-# + totalBuckets - The discrete time buckets into which the time window is divided
+# + totalBuckets - **Deprecated API**. The discrete time buckets into which the time window is divided. The buckets
+#                  are kept by the Circuit Breaker internally, hence these are no longer updated.
 public type CircuitHealth record {|
     boolean lastRequestSuccess = false;
     int totalRequestCount = 0;
@@ -84,7 +86,8 @@ public type RollingWindow record {|
     int bucketSizeInMillis = 10000;
 |};
 
-# Represents a discrete sub-part of the time window (Bucket).
+# **Deprecated API**. Represents a discrete sub-part of the time window (Bucket). The buckets are kept by the Circuit
+# Breaker internally, hence the `CircuitHealth.totalBuckets` are no longer updated.
 #
 # + totalCount - Total number of requests received during the sub-window time frame
 # + failureCount - Number of failed requests during the sub-window time frame
@@ -97,6 +100,41 @@ public type Bucket record {|
     time:Time lastUpdatedTime?;
 |};
 
+# The request statistics of a Circuit Breaker within the `RollingWindow`. The time window is divided into buckets, which
+# are kept natively in a ring and counted with striped counters, so that the concurrent requests update the statistics
+# without locking.
+type CircuitHealthWindow object {
+
+    # Creates the buckets of the time window.
+    #
+    # + noOfBuckets - Number of buckets into which the time window is divided
+    # + bucketSizeInMillis - The time period covered by a bucket in milliseconds
+    function __init(int noOfBuckets, int bucketSizeInMillis) {
+        self.initWindow(noOfBuckets, bucketSizeInMillis);
+    }
+
+    function initWindow(int noOfBuckets, int bucketSizeInMillis) = external;
+
+    # Counts a request in the current bucket.
+    function recordRequest() = external;
+
+    # Counts a failed request in the current bucket.
+    function recordFailure() = external;
+
+    # Counts a request rejected by the open circuit in the current bucket.
+    function recordRejection() = external;
+
+    # Returns the number of requests received within the time window.
+    #
+    # + return - Total requests count
+    function getTotalRequestCount() returns int = external;
+
+    # Returns the ratio of the failed requests to the requests which were not rejected within the time window.
+    #
+    # + return - Current failure ratio
+    function getFailureRatio() returns float = external;
+};
+
 # Derived set of configurations from the `CircuitBreakerConfig`.
 #
 # + failureThreshold - The threshold for request failures. When this threshold exceeds, the circuit trips.
@@ -122,6 +160,7 @@ public type CircuitBreakerInferredConfig record {|
 # + httpClient - The underlying `HttpActions` instance which will be making the actual network calls
 # + circuitHealth - The circuit health monitor
 # + currentCircuitState - The current state the circuit is in
+# + healthWindow - The request statistics of the circuit within the `RollingWindow`
 public type CircuitBreakerClient client object {
 
     public string url;
@@ -130,6 +169,7 @@ public type CircuitBreakerClient client object {
     public HttpClient httpClient;
     public CircuitHealth circuitHealth;
     public CircuitState currentCircuitState = CB_CLOSED_STATE;
+    CircuitHealthWindow healthWindow;
 
     # A Circuit Breaker implementation which can be used to gracefully handle network failures.
     #
@@ -145,6 +185,8 @@ public type CircuitBreakerClient client object {
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig;
         self.httpClient = httpClient;
         self.circuitHealth = circuitHealth;
+        self.healthWindow = new(circuitBreakerInferredConfig.noOfBuckets,
+                                circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis);
     }
 
     # The POST remote function implementation of the Circuit Breaker. This wraps the `post()` function of the underlying
@@ -157,14 +199,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function post(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->post(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -178,14 +221,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function head(string path, public RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->head(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -199,14 +243,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function put(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->put(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -221,14 +266,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function execute(string httpVerb, string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->execute(httpVerb, path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -242,14 +288,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function patch(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->patch(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -263,14 +310,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function delete(string path, public RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->delete(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -284,14 +332,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function get(string path, public RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->get(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -305,14 +354,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function options(string path, public RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->options(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -325,14 +375,15 @@ public type CircuitBreakerClient client object {
     #            server
     public function forward(string path, Request request) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceResponse = self.httpClient->forward(path, request);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow, cbic);
         }
     }
 
@@ -348,18 +399,20 @@ public type CircuitBreakerClient client object {
     #            fails
     public function submit(string httpVerb, string path, RequestMessage message) returns HttpFuture|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.healthWindow, self.currentCircuitState,
+                                                      cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self.circuitHealth, self.healthWindow, cbic);
         } else {
             var serviceFuture = self.httpClient->submit(httpVerb, path, <Request>message);
             if (serviceFuture is HttpFuture) {
                 var serviceResponse = self.httpClient->getResponse(serviceFuture);
-                var result = updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+                var result = updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, self.healthWindow,
+                                                           cbic);
             } else {
-                updateCircuitHealthFailure(self.circuitHealth, cbic);
+                updateCircuitHealthFailure(self.circuitHealth, self.healthWindow, cbic);
             }
             return serviceFuture;
         }
@@ -432,18 +485,17 @@ public type CircuitBreakerClient client object {
 # Update circuit state.
 #
 # + circuitHealth - Circuit Breaker health status
+# + healthWindow - Request statistics of the circuit
 # + currentStateValue - Circuit Breaker current state value
 # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
 # + return - State of the circuit
-function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
-                            CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
+function updateCircuitState(CircuitHealth circuitHealth, CircuitHealthWindow healthWindow,
+                            CircuitState currentStateValue, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
+                            returns CircuitState {
     lock {
         CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
         circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
+        int totalRequestsCount = healthWindow.getTotalRequestCount();
         circuitHealth.totalRequestCount = totalRequestsCount;
         if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
             if (currentState == CB_OPEN_STATE) {
@@ -462,7 +514,7 @@ function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentSta
                         "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
                 }
             } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
+                float currentFailureRate = healthWindow.getFailureRatio();
 
                 if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
                     currentState = CB_OPEN_STATE;
@@ -474,72 +526,49 @@ function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentSta
             currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
                                                                                     circuitHealth, currentState);
         }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
+        healthWindow.recordRequest();
         return currentState;
     }
 }
 
 function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
-                               CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns Response|ClientError {
+                                       CircuitHealthWindow healthWindow,
+                                       CircuitBreakerInferredConfig circuitBreakerInferredConfig)
+                                       returns Response|ClientError {
     if (serviceResponse is Response) {
         if (circuitBreakerInferredConfig.statusCodes[serviceResponse.statusCode]) {
-            updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+            updateCircuitHealthFailure(circuitHealth, healthWindow, circuitBreakerInferredConfig);
         } else {
-            updateCircuitHealthSuccess(circuitHealth, circuitBreakerInferredConfig);
+            updateCircuitHealthSuccess(circuitHealth);
         }
     } else {
-        updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+        updateCircuitHealthFailure(circuitHealth, healthWindow, circuitBreakerInferredConfig);
     }
     return serviceResponse;
 }
 
-function updateCircuitHealthFailure(CircuitHealth circuitHealth,
+function updateCircuitHealthFailure(CircuitHealth circuitHealth, CircuitHealthWindow healthWindow,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
+    healthWindow.recordFailure();
     lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
         circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
+        circuitHealth.lastErrorTime = time:currentTime();
     }
 }
 
-function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
-                                    CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
+function updateCircuitHealthSuccess(CircuitHealth circuitHealth) {
     lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
         circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
     }
 }
 
 // Handles open circuit state.
-function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns (ClientError) {
+function handleOpenCircuit(CircuitHealth circuitHealth, CircuitHealthWindow healthWindow,
+                           CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns (ClientError) {
     time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
     int timeDif = time:currentTime().time - effectiveErrorTime.time;
     int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+    healthWindow.recordRejection();
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     UpstreamServiceUnavailableError httpConnectorErr = error(UPSTREAM_SERVICE_UNAVAILABLE, message = errorMessage);
@@ -557,76 +586,6 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculate Failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculate total requests count within `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculate the current bucket Id.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Update rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Reset the bucket values to default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
 function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
     time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
     time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
@@ -638,79 +597,6 @@ function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
     return time:currentTime();
 }
 
-# Populate the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
-        }
-    }
-}
-
-# Reinitialize the Buckets to default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
 # Switches circuit state from open to half open state when reset time exceeded.
 #
 # + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
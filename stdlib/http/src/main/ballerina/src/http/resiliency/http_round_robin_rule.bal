@@ -14,29 +14,32 @@
 // specific language governing permissions and limitations
 // under the License.
 
-# Implementation of round robin load balancing strategy.
+# Implementation of round robin load balancing strategy. The position of the next client is advanced natively with an
+# atomic counter, hence the concurrent requests do not wait for each other when choosing a client.
 #
-# + index - Keep tracks the current point of the Client[]
+# + index - **Deprecated API**. Keep tracks the current point of the Client[]. The clients are chosen with the
+#           native counter, hence this only reflects the position of the next client and changing it has no effect.
 public type LoadBalancerRoundRobinRule object {
 
     public int index = 0;
 
+    public function __init() {
+        self.initCounter();
+    }
+
     # Provides an HTTP client which is chosen according to the round robin algorithm.
     #
     # + loadBalanceCallerActionsArray - Array of HTTP clients which needs to be load balanced
     # + return - Chosen `Client` from the algorithm or an `http:ClientError` for a failure in
     #            the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-        lock {
-            if (self.index == ((loadBalanceCallerActionsArray.length()) - 1)) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
-            }
-        }
-        return httpClient;
+        int noOfClients = loadBalanceCallerActionsArray.length();
+        int nextIndex = self.getNextIndex(noOfClients);
+        self.index = (nextIndex + 1) % noOfClients;
+        return <Client>loadBalanceCallerActionsArray[nextIndex];
     }
+
+    function initCounter() = external;
+
+    function getNextIndex(int noOfClients) returns int = external;
 };
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.List;
+
+/**
+ * Radix tree of the service base paths of a host, which finds the most specific base path of a request path in a
+ * single pass over the path, without creating any intermediate strings.
+ * <p>
+ * A base path whose characters match the request path ignoring case is the most specific. Otherwise, the longest base
+ * path which is followed by a '/' in the request path is the most specific. The tree is immutable, hence it is rebuilt
+ * whenever the base paths of the host change.
+ *
+ * @since 1.0.0
+ */
+public class BasePathTrie {
+
+    private final Node root = new Node("");
+    private final String[] exactMatchTable;
+    private final String defaultBasePath;
+
+    /**
+     * Builds the tree of the given base paths.
+     *
+     * @param basePaths base paths sorted by the length in descending order. Out of the base paths which match a
+     *                  request path ignoring case, the one which comes first is used
+     */
+    public BasePathTrie(List<String> basePaths) {
+        exactMatchTable = new String[tableSize(basePaths.size())];
+        String defaultPath = null;
+        for (String basePath : basePaths) {
+            insert(basePath);
+            addExactMatch(basePath);
+            if (HttpConstants.DEFAULT_BASE_PATH.equals(basePath)) {
+                defaultPath = basePath;
+            }
+        }
+        defaultBasePath = defaultPath;
+    }
+
+    /**
+     * Finds the most specific base path of the given request path.
+     *
+     * @param requestURIPath path of the request URI
+     * @return the most specific base path, or the default base path if no base path matches and the default base path
+     * is registered. null otherwise
+     */
+    public String match(String requestURIPath) {
+        String basePath = findExactMatch(requestURIPath);
+        if (basePath != null) {
+            return basePath;
+        }
+        basePath = findLongestPrefixMatch(requestURIPath);
+        return basePath != null ? basePath : defaultBasePath;
+    }
+
+    private String findExactMatch(String path) {
+        int mask = exactMatchTable.length - 1;
+        for (int i = foldedHashCode(path) & mask; exactMatchTable[i] != null; i = (i + 1) & mask) {
+            if (exactMatchTable[i].equalsIgnoreCase(path)) {
+                return exactMatchTable[i];
+            }
+        }
+        return null;
+    }
+
+    private String findLongestPrefixMatch(String path) {
+        int length = path.length();
+        String basePath = null;
+        Node node = root;
+        int index = 0;
+        while (true) {
+            if (node.basePath != null && index < length && path.charAt(index) == '/') {
+                basePath = node.basePath;
+            }
+            if (index >= length) {
+                return basePath;
+            }
+            Node child = node.getChild(path.charAt(index));
+            if (child == null || !path.regionMatches(index, child.label, 0, child.label.length())) {
+                return basePath;
+            }
+            index += child.label.length();
+            node = child;
+        }
+    }
+
+    private void insert(String basePath) {
+        Node node = root;
+        int index = 0;
+        while (index < basePath.length()) {
+            Node child = node.getChild(basePath.charAt(index));
+            if (child == null) {
+                child = new Node(basePath.substring(index));
+                node.addChild(child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, basePath, index);
+            if (common < child.label.length()) {
+                child = node.splitChild(child, common);
+            }
+            index += common;
+            node = child;
+        }
+        if (node.basePath == null) {
+            node.basePath = basePath;
+        }
+    }
+
+    private void addExactMatch(String basePath) {
+        int mask = exactMatchTable.length - 1;
+        int i = foldedHashCode(basePath) & mask;
+        for (; exactMatchTable[i] != null; i = (i + 1) & mask) {
+            if (exactMatchTable[i].equalsIgnoreCase(basePath)) {
+                return;
+            }
+        }
+        exactMatchTable[i] = basePath;
+    }
+
+    private static int commonPrefixLength(String label, String basePath, int offset) {
+        int max = Math.min(label.length(), basePath.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == basePath.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Hash code which is the same for the strings which are equal ignoring case, as in
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    private static int foldedHashCode(String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSize(int entries) {
+        int size = 2;
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Node of the tree, which is reached by a non-empty label, except for the root.
+     */
+    private static class Node {
+        private String label;
+        private String basePath;
+        private Node[] children = new Node[0];
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node getChild(char firstChar) {
+            for (Node child : children) {
+                if (child.label.charAt(0) == firstChar) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, children.length);
+            newChildren[children.length] = child;
+            children = newChildren;
+        }
+
+        Node splitChild(Node child, int labelLength) {
+            Node parent = new Node(child.label.substring(0, labelLength));
+            child.label = child.label.substring(labelLength);
+            parent.children = new Node[]{child};
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    children[i] = parent;
+                }
+            }
+            return parent;
+        }
+    }
+}
@@ -127,6 +127,7 @@ public class HTTPServicesRegistry {
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            getServicesMapHolder(hostName).refreshBasePathTrie();
             registerUpgradableWebSocketService(httpService);
         }
     }
@@ -163,23 +164,15 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
+    /**
+     * Find the most specific base path of the given request path, out of the services of a host.
+     *
+     * @param requestURIPath path of the request URI
+     * @param servicesMapHolder services of the host
+     * @return the most specific base path if exists else null
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        return servicesMapHolder.basePathTrie.match(requestURIPath);
     }
 
     public void setScheduler(Scheduler scheduler) {
@@ -196,10 +189,19 @@ public class HTTPServicesRegistry {
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            refreshBasePathTrie();
+        }
+
+        /**
+         * Rebuild the base path tree used to dispatch the requests, once the sorted base path list is changed.
+         */
+        public void refreshBasePathTrie() {
+            basePathTrie = new BasePathTrie(sortedServiceURIs);
         }
     }
 
@@ -230,6 +232,7 @@ public class HTTPServicesRegistry {
                                            basePath));
             }
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.refreshBasePathTrie();
         }
     }
 }
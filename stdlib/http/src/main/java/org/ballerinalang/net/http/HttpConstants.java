@@ -189,6 +189,8 @@ public class HttpConstants {
     public static final String ENTITY = "Entity";
     public static final String RESPONSE_CACHE_CONTROL = "ResponseCacheControl";
     public static final String REQUEST_CACHE_CONTROL = "RequestCacheControl";
+    public static final String CIRCUIT_HEALTH_WINDOW = "CircuitHealthWindow";
+    public static final String LOAD_BALANCER_ROUND_ROBIN_RULE = "LoadBalancerRoundRobinRule";
     public static final String STRUCT_GENERIC_ERROR = "error";
     public static final String HTTP_TIMEOUT_ERROR = "HttpTimeoutError";
     public static final String TYPE_STRING = "string";
@@ -196,6 +198,8 @@ public class HttpConstants {
     public static final String QUERY_PARAM_MAP = "queryParamMap";
     public static final String TRANSPORT_HANDLE = "transport_handle";
     public static final String TRANSPORT_PUSH_PROMISE = "transport_push_promise";
+    public static final String HEALTH_WINDOW = "health_window";
+    public static final String ROUND_ROBIN_COUNTER = "round_robin_counter";
     public static final String MESSAGE_OUTPUT_STREAM = "message_output_stream";
     public static final String HTTP_SESSION = "http_session";
     public static final String MUTUAL_SSL_HANDSHAKE_RECORD = "MutualSslHandshake";
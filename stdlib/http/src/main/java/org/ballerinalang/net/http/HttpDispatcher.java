@@ -28,7 +28,6 @@ import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.XMLValue;
-import org.ballerinalang.langlib.typedesc.ConstructFrom;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.net.uri.URIUtil;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
@@ -38,7 +37,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
@@ -59,14 +57,14 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            HTTPServicesRegistry.ServicesMapHolder servicesMapHolder;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(hostName);
             } else {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(DEFAULT_HOST);
             }
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
@@ -80,7 +78,7 @@ public class HttpDispatcher {
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
             String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getPath(),
-                    servicesOnInterface, sortedServiceURIs);
+                    servicesMapHolder);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
@@ -255,40 +253,15 @@ public class HttpDispatcher {
         return null;
     }
 
-    private static Object getRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) {
-        Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
-        if (result instanceof ErrorValue) {
-            throw (ErrorValue) result;
-        }
-        return result;
-    }
-
-    /**
-     * Convert a json to the relevant record type.
-     *
-     * @param entityBodyType Represents entity body type
-     * @param bjson          Represents the json value that needs to be converted
-     * @return the relevant ballerina record or object
-     */
-    private static Object getRecord(BType entityBodyType, Object bjson) {
-        try {
-            return ConstructFrom.convert(entityBodyType, bjson);
-        } catch (NullPointerException ex) {
-            throw new BallerinaConnectorException("cannot convert payload to record type: " +
-                    entityBodyType.getName());
-        }
-    }
-
     /**
-     * Given an inbound request entity construct the ballerina json.
+     * Construct a value of the given record or record array type directly from the JSON payload of the entity.
      *
      * @param inRequestEntity Represents inbound request entity
-     * @return a ballerina json value
+     * @param entityBodyType  Represents entity body type
+     * @return the relevant ballerina record or record array
      */
-    private static Object getBJsonValue(ObjectValue inRequestEntity) {
-        Object bjson = EntityBodyHandler.constructJsonDataSource(inRequestEntity);
-        EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
-        return bjson;
+    private static Object getRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) {
+        return EntityBodyHandler.constructJsonDataSource(inRequestEntity, entityBodyType);
     }
 
     public static boolean shouldDiffer(HttpResource httpResource) {
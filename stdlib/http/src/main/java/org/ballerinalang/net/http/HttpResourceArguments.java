@@ -28,11 +28,7 @@ import java.util.Map;
  */
 public class HttpResourceArguments {
 
-    private Map<String, String> resourceArgumentValues = new HashMap<>();
-
-    public HttpResourceArguments() {
-        resourceArgumentValues = new HashMap<>();
-    }
+    private final Map<String, String> resourceArgumentValues = new HashMap<>();
 
     public Map<String, String> getMap() {
         return resourceArgumentValues;
@@ -28,7 +28,9 @@ import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +39,9 @@ import java.util.stream.Collectors;
 public class HttpResourceDataElement implements DataElement<HttpResource, HttpCarbonMessage> {
 
     private List<HttpResource> resource;
+    // Index of the resources by the HTTP method, so that a request is dispatched without going through the resources.
+    private Map<String, HttpResource> resourcesByMethod = new HashMap<>();
+    private HttpResource defaultResource;
     private boolean isFirstTraverse = true;
     private boolean hasData = false;
 
@@ -50,6 +55,7 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
         if (isFirstTraverse) {
             this.resource = new ArrayList<>();
             this.resource.add(newResource);
+            indexResource(newResource);
             isFirstTraverse = false;
             hasData = true;
             return;
@@ -64,6 +70,7 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
                 }
             }
             this.resource.add(newResource);
+            indexResource(newResource);
             hasData = true;
             return;
         }
@@ -76,16 +83,30 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
             }
         });
         this.resource.add(newResource);
+        indexResource(newResource);
         hasData = true;
     }
 
+    private void indexResource(HttpResource newResource) {
+        List<String> methods = newResource.getMethods();
+        if (methods == null) {
+            if (defaultResource == null) {
+                defaultResource = newResource;
+            }
+            return;
+        }
+        for (String method : methods) {
+            resourcesByMethod.putIfAbsent(method, newResource);
+        }
+    }
+
     @Override
     public boolean getData(HttpCarbonMessage carbonMessage, DataReturnAgent<HttpResource> dataReturnAgent) {
         try {
             if (this.resource == null) {
                 return false;
             }
-            HttpResource httpResource = validateHTTPMethod(this.resource, carbonMessage);
+            HttpResource httpResource = validateHTTPMethod(carbonMessage);
             if (httpResource == null) {
                 return isOptionsRequest(carbonMessage);
             }
@@ -105,18 +126,13 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
         return inboundMessage.getHeader(HttpHeaderNames.ALLOW.toString()) != null;
     }
 
-    private HttpResource validateHTTPMethod(List<HttpResource> resources, HttpCarbonMessage carbonMessage) {
-        HttpResource httpResource = null;
+    private HttpResource validateHTTPMethod(HttpCarbonMessage carbonMessage) {
         boolean isOptionsRequest = false;
         String httpMethod = carbonMessage.getHttpMethod();
-        for (HttpResource resourceInfo : resources) {
-            if (DispatcherUtil.isMatchingMethodExist(resourceInfo, httpMethod)) {
-                httpResource = resourceInfo;
-                break;
-            }
-        }
+        HttpResource httpResource = resourcesByMethod.get(httpMethod);
         if (httpResource == null) {
-            httpResource = tryMatchingToDefaultVerb(resources);
+            //this means, no resource has the method, hence the resource which has all the methods by default is used.
+            httpResource = defaultResource;
         }
         if (httpResource == null) {
             isOptionsRequest = setAllowHeadersIfOPTIONS(httpMethod, carbonMessage);
@@ -131,16 +147,6 @@ public class HttpResourceDataElement implements DataElement<HttpResource, HttpCa
         return null;
     }
 
-    private HttpResource tryMatchingToDefaultVerb(List<HttpResource> resources) {
-        for (HttpResource resourceInfo : resources) {
-            if (resourceInfo.getMethods() == null) {
-                //this means, no method mentioned in the dataElement, hence it has all the methods by default.
-                return resourceInfo;
-            }
-        }
-        return null;
-    }
-
     private boolean setAllowHeadersIfOPTIONS(String httpMethod, HttpCarbonMessage cMsg) {
         if (httpMethod.equals(HttpConstants.HTTP_METHOD_OPTIONS)) {
             cMsg.setHeader(HttpHeaderNames.ALLOW.toString(), getAllowHeaderValues(cMsg));
@@ -42,6 +42,7 @@ import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.clientendpoint.ConnectionPoolMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.Constants;
@@ -59,6 +60,7 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.ACCEPT_ENCODING;
 import static org.ballerinalang.jvm.runtime.RuntimeConstants.BALLERINA_VERSION;
@@ -329,7 +331,16 @@ public abstract class AbstractHTTPAction {
             }
         }
 
-        HttpResponseFuture future = clientConnector.send(outboundRequestMsg);
+        httpClientConnectorLister.requestStarted();
+        HttpResponseFuture future;
+        try {
+            future = clientConnector.send(outboundRequestMsg);
+        } catch (RuntimeException e) {
+            httpClientConnectorLister.requestCompleted();
+            throw e;
+        } finally {
+            httpClientConnectorLister.requestSent();
+        }
         if (async) {
             future.setResponseHandleListener(httpClientConnectorLister);
         } else {
@@ -421,6 +432,15 @@ public abstract class AbstractHTTPAction {
             this.dataContext = dataContext;
         }
 
+        void requestStarted() {
+        }
+
+        void requestSent() {
+        }
+
+        void requestCompleted() {
+        }
+
         @Override
         public void onMessage(HttpCarbonMessage inboundResponseMessage) {
             this.dataContext.notifyInboundResponseStatus
@@ -453,26 +473,63 @@ public abstract class AbstractHTTPAction {
     }
 
     /**
-     * Observe {@link HTTPClientConnectorListener} and add HTTP status code as a tag to {@link ObserverContext}.
+     * Observe {@link HTTPClientConnectorListener} and add HTTP status code as a tag to {@link ObserverContext}. The
+     * request is also counted in the connection pool of the client, as being sent until the transport accepts it, and
+     * as in flight until the response or an error is received.
      */
     private static class ObservableHttpClientConnectorListener extends HTTPClientConnectorListener {
 
         private final DataContext context;
+        private final ConnectionPoolMetrics.Pool pool;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private long sendStartTime;
 
         private ObservableHttpClientConnectorListener(DataContext dataContext) {
             super(dataContext);
             this.context = dataContext;
+            this.pool = ConnectionPoolMetrics.getPool(dataContext.getClientConnector());
+        }
+
+        @Override
+        void requestStarted() {
+            if (pool != null) {
+                pool.requestStarted();
+                pool.sendStarted();
+                sendStartTime = System.nanoTime();
+            }
+        }
+
+        @Override
+        void requestSent() {
+            if (pool != null) {
+                pool.sendCompleted(System.nanoTime() - sendStartTime);
+            }
+        }
+
+        @Override
+        void requestCompleted() {
+            if (pool != null && completed.compareAndSet(false, true)) {
+                pool.requestCompleted();
+            }
         }
 
         @Override
         public void onMessage(HttpCarbonMessage httpCarbonMessage) {
+            requestCompleted();
             super.onMessage(httpCarbonMessage);
             int statusCode = httpCarbonMessage.getHttpStatusCode();
             addHttpStatusCode(statusCode);
         }
 
+        @Override
+        public void onResponseHandle(ResponseHandle responseHandle) {
+            requestCompleted();
+            super.onResponseHandle(responseHandle);
+        }
+
         @Override
         public void onError(Throwable throwable) {
+            requestCompleted();
             super.onError(throwable);
             if (throwable instanceof ClientConnectorException) {
                 ClientConnectorException clientConnectorException = (ClientConnectorException) throwable;
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.clientendpoint;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Gauge;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
+import org.ballerinalang.net.http.HttpConstants;
+import org.wso2.transport.http.netty.contract.HttpClientConnector;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the usage of the client connection pools to the default {@link MetricRegistry}, tagged by the id of the
+ * pool, when observability is enabled.
+ * <p>
+ * A pool is the connection manager of a pool configuration, which is shared by the clients using the configuration.
+ * The requests are counted from the time they are handed over to the transport until their response or an error is
+ * received. The time taken by the transport to accept a request is summarized as well, which includes borrowing a
+ * connection from the pool, but also the other work done by the transport before the request is written. The
+ * connections of the pool and the HTTP/2 streams per connection are kept by the transport, which does not expose
+ * them, hence they are not published.
+ *
+ * @since 1.0.0
+ */
+public class ConnectionPoolMetrics {
+
+    private static final String METRIC_PREFIX = "ballerina_http_client_pool_";
+    private static final String POOL_ID_TAG = "pool_id";
+
+    private static final StatisticConfig[] SEND_TIME_STATISTIC_CONFIGS = new StatisticConfig[]{
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build(),
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(5))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build()
+    };
+
+    private static final AtomicLong NEXT_POOL_ID = new AtomicLong();
+    // The connection managers are kept by the pool configurations, hence the pools are weakly keyed by them.
+    private static final Map<Object, Pool> pools = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<HttpClientConnector, Pool> clientPools = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<Pool> publishedPools = ConcurrentHashMap.newKeySet();
+
+    private ConnectionPoolMetrics() {
+    }
+
+    /**
+     * Registers a client along with the pool from which it borrows the connections.
+     *
+     * @param client            the client connector
+     * @param connectionManager connection manager of the pool
+     * @param poolConfig        configurations of the pool
+     */
+    static void registerClient(HttpClientConnector client, Object connectionManager, Map<String, Long> poolConfig) {
+        if (!ObserveUtils.isObservabilityEnabled()) {
+            return;
+        }
+        Pool pool = getPool(connectionManager, poolConfig);
+        clientPools.put(client, pool);
+        pool.publish();
+    }
+
+    /**
+     * Returns the pool from which a client borrows the connections.
+     *
+     * @param client the client connector
+     * @return the pool of the client, or null if the requests of the client are not counted
+     */
+    public static Pool getPool(HttpClientConnector client) {
+        return ObserveUtils.isObservabilityEnabled() ? clientPools.get(client) : null;
+    }
+
+    /**
+     * Returns the pool of a connection manager, which is created using the given configurations if the connection
+     * manager has no pool yet.
+     *
+     * @param connectionManager connection manager of the pool
+     * @param poolConfig        configurations of the pool
+     * @return the pool of the connection manager
+     */
+    public static Pool getPool(Object connectionManager, Map<String, Long> poolConfig) {
+        synchronized (pools) {
+            Pool pool = pools.get(connectionManager);
+            if (pool == null) {
+                Long maxActiveConnections = poolConfig.get(HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_CONNECTIONS);
+                pool = new Pool(connectionManager, maxActiveConnections == null ? -1 : maxActiveConnections);
+                pools.put(connectionManager, pool);
+                unregisterCollectedPools();
+            }
+            return pool;
+        }
+    }
+
+    private static void unregisterCollectedPools() {
+        publishedPools.removeIf(pool -> {
+            if (pool.connectionManager.get() != null) {
+                return false;
+            }
+            pool.unregister();
+            return true;
+        });
+    }
+
+    /**
+     * Counts of the requests sent using the pool of a connection manager.
+     *
+     * @since 1.0.0
+     */
+    public static class Pool {
+
+        private final String id;
+        private final WeakReference<Object> connectionManager;
+        private final long maxActiveConnections;
+        private final LongAdder inFlightRequests = new LongAdder();
+        private final LongAdder sendingRequests = new LongAdder();
+        private final LongAdder sends = new LongAdder();
+        private final LongAdder sendTime = new LongAdder();
+        private final List<PolledGauge> gauges = new ArrayList<>();
+        private MetricRegistry registry;
+        private volatile Gauge sendTimeGauge;
+        private boolean published;
+
+        private Pool(Object connectionManager, long maxActiveConnections) {
+            this.id = String.valueOf(NEXT_POOL_ID.incrementAndGet());
+            this.connectionManager = new WeakReference<>(connectionManager);
+            this.maxActiveConnections = maxActiveConnections;
+        }
+
+        public void requestStarted() {
+            inFlightRequests.increment();
+        }
+
+        public void requestCompleted() {
+            inFlightRequests.decrement();
+        }
+
+        public void sendStarted() {
+            sendingRequests.increment();
+        }
+
+        public void sendCompleted(long nanoTime) {
+            sendingRequests.decrement();
+            sends.increment();
+            sendTime.add(nanoTime);
+            Gauge gauge = sendTimeGauge;
+            if (gauge != null) {
+                gauge.setValue(nanoTime);
+            }
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public long getMaxActiveConnections() {
+            return maxActiveConnections;
+        }
+
+        public long getInFlightRequests() {
+            return Math.max(inFlightRequests.sum(), 0);
+        }
+
+        public long getSendingRequests() {
+            return Math.max(sendingRequests.sum(), 0);
+        }
+
+        public long getSendCount() {
+            return sends.sum();
+        }
+
+        public long getTotalSendTime() {
+            return sendTime.sum();
+        }
+
+        private synchronized void publish() {
+            if (published) {
+                return;
+            }
+            registry = DefaultMetricRegistry.getInstance();
+            if (registry == null) {
+                return;
+            }
+            register("max_active_connections", "Maximum active connections per route of the pool",
+                     Pool::getMaxActiveConnections);
+            register("in_flight_requests", "Requests sent using the pool, which are awaiting a response",
+                     Pool::getInFlightRequests);
+            register("sending_requests", "Requests being accepted by the transport, including borrowing a connection",
+                     Pool::getSendingRequests);
+            register("request_sends", "Requests accepted by the transport", Pool::getSendCount);
+            register("request_send_time_total_nanoseconds", "Total time taken by the transport to accept the requests",
+                     Pool::getTotalSendTime);
+            sendTimeGauge = Gauge.builder(METRIC_PREFIX + "request_send_time_nanoseconds")
+                    .description("Time taken by the transport to accept a request, including borrowing a connection")
+                    .tag(POOL_ID_TAG, id)
+                    .summarize(SEND_TIME_STATISTIC_CONFIGS[0])
+                    .summarize(SEND_TIME_STATISTIC_CONFIGS[1])
+                    .register(registry);
+            publishedPools.add(this);
+            published = true;
+        }
+
+        private void register(String metricName, String description, ToDoubleFunction<Pool> valueFunction) {
+            gauges.add(PolledGauge.builder(METRIC_PREFIX + metricName, this, valueFunction)
+                               .description(description)
+                               .tag(POOL_ID_TAG, id)
+                               .register(registry));
+        }
+
+        private synchronized void unregister() {
+            for (PolledGauge gauge : gauges) {
+                registry.unregister(gauge);
+            }
+            gauges.clear();
+            if (sendTimeGauge != null) {
+                registry.unregister(sendTimeGauge);
+                sendTimeGauge = null;
+            }
+        }
+    }
+}
@@ -106,14 +106,12 @@ public class CreateSimpleHttpClient {
         MapValue<String, Long> userDefinedPoolConfig = (MapValue<String, Long>) clientEndpointConfig.get(
                 HttpConstants.USER_DEFINED_POOL_CONFIG);
 
-        if (userDefinedPoolConfig == null) {
-            poolManager = getConnectionManager(globalPoolConfig);
-        } else {
-            poolManager = getConnectionManager(userDefinedPoolConfig);
-        }
+        MapValue<String, Long> poolConfig = userDefinedPoolConfig == null ? globalPoolConfig : userDefinedPoolConfig;
+        poolManager = getConnectionManager(poolConfig);
 
         HttpClientConnector httpClientConnector = HttpUtil.createHttpWsConnectionFactory()
                 .createHttpClientConnector(properties, senderConfiguration, poolManager);
+        ConnectionPoolMetrics.registerClient(httpClientConnector, poolManager, poolConfig);
         httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
     }
 }
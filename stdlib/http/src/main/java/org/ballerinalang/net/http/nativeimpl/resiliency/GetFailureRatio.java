@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.resiliency.CircuitHealthWindow;
+
+/**
+ * {@code GetFailureRatio} is the extern function which returns the failure ratio of a circuit breaker
+ * within its time window.
+ *
+ * @since 1.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "getFailureRatio",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = HttpConstants.CIRCUIT_HEALTH_WINDOW,
+                structPackage = "ballerina/http"),
+        returnType = {@ReturnType(type = TypeKind.FLOAT)}
+)
+public class GetFailureRatio {
+
+    public static double getFailureRatio(Strand strand, ObjectValue healthWindow) {
+        return ((CircuitHealthWindow) healthWindow.getNativeData(HttpConstants.HEALTH_WINDOW)).getFailureRatio();
+    }
+}
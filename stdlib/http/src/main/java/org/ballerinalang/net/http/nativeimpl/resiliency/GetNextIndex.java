@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.net.http.HttpConstants;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code GetNextIndex} is the extern function which advances the counter of a round robin load balancer
+ * rule and returns the position of the next client.
+ *
+ * @since 1.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "getNextIndex",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = HttpConstants.LOAD_BALANCER_ROUND_ROBIN_RULE,
+                structPackage = "ballerina/http"),
+        args = {@Argument(name = "noOfClients", type = TypeKind.INT)},
+        returnType = {@ReturnType(type = TypeKind.INT)}
+)
+public class GetNextIndex {
+
+    public static long getNextIndex(Strand strand, ObjectValue roundRobinRule, long noOfClients) {
+        AtomicLong counter = (AtomicLong) roundRobinRule.getNativeData(HttpConstants.ROUND_ROBIN_COUNTER);
+        return Math.floorMod(counter.getAndIncrement(), noOfClients);
+    }
+}
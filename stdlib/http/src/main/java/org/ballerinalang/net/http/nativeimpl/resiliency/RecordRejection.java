@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.resiliency;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.resiliency.CircuitHealthWindow;
+
+/**
+ * {@code RecordRejection} is the extern function which counts a request rejected by the open circuit in the current
+ * bucket of a circuit breaker.
+ *
+ * @since 1.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "recordRejection",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = HttpConstants.CIRCUIT_HEALTH_WINDOW,
+                structPackage = "ballerina/http")
+)
+public class RecordRejection {
+
+    public static void recordRejection(Strand strand, ObjectValue healthWindow) {
+        ((CircuitHealthWindow) healthWindow.getNativeData(HttpConstants.HEALTH_WINDOW)).recordRejection();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request statistics of a circuit breaker within its rolling time window.
+ * <p>
+ * The time window is divided into buckets of a fixed period, which are kept in a ring. A bucket of the ring is
+ * replaced with a compare-and-set once its period has passed, and the requests are counted with striped counters,
+ * hence the concurrent requests update the statistics without locking. A bucket whose period is not within the time
+ * window anymore is ignored, so the statistics of an idle circuit expire without resetting the ring.
+ *
+ * @since 1.0.0
+ */
+public class CircuitHealthWindow {
+
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final int noOfBuckets;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public CircuitHealthWindow(int noOfBuckets, long bucketSizeInMillis) {
+        this(noOfBuckets, bucketSizeInMillis, System.currentTimeMillis());
+    }
+
+    CircuitHealthWindow(int noOfBuckets, long bucketSizeInMillis, long startTime) {
+        this.startTime = startTime;
+        this.bucketSizeInMillis = Math.max(bucketSizeInMillis, 1);
+        this.noOfBuckets = Math.max(noOfBuckets, 1);
+        this.buckets = new AtomicReferenceArray<>(this.noOfBuckets);
+        for (int i = 0; i < this.noOfBuckets; i++) {
+            buckets.set(i, new Bucket(i - this.noOfBuckets));
+        }
+    }
+
+    public void recordRequest() {
+        getCurrentBucket(System.currentTimeMillis()).totalCount.increment();
+    }
+
+    public void recordFailure() {
+        getCurrentBucket(System.currentTimeMillis()).failureCount.increment();
+    }
+
+    public void recordRejection() {
+        getCurrentBucket(System.currentTimeMillis()).rejectedCount.increment();
+    }
+
+    /**
+     * Returns the number of requests received within the time window.
+     *
+     * @return total requests count
+     */
+    public long getTotalRequestCount() {
+        return getTotalRequestCount(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the ratio of the failed requests to the requests which were not rejected, within the time window.
+     *
+     * @return failure ratio, or 0 if no request was let through within the time window
+     */
+    public double getFailureRatio() {
+        return getFailureRatio(System.currentTimeMillis());
+    }
+
+    long getTotalRequestCount(long currentTime) {
+        long period = getPeriod(currentTime);
+        long totalCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isWithinWindow(bucket, period)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    double getFailureRatio(long currentTime) {
+        long period = getPeriod(currentTime);
+        long totalCount = 0;
+        long totalFailures = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isWithinWindow(bucket, period)) {
+                totalCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                totalFailures += bucket.failureCount.sum();
+            }
+        }
+        return totalCount > 0 ? (double) totalFailures / totalCount : 0.0;
+    }
+
+    Bucket getCurrentBucket(long currentTime) {
+        long period = getPeriod(currentTime);
+        int index = (int) (period % noOfBuckets);
+        Bucket bucket = buckets.get(index);
+        while (bucket.period < period) {
+            Bucket newBucket = new Bucket(period);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+            // Another request has already started the bucket of this period.
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    private boolean isWithinWindow(Bucket bucket, long period) {
+        return bucket.period > period - noOfBuckets && bucket.period <= period;
+    }
+
+    private long getPeriod(long currentTime) {
+        return Math.max(currentTime - startTime, 0) / bucketSizeInMillis;
+    }
+
+    /**
+     * Request counts of a period of the time window.
+     */
+    static class Bucket {
+        final long period;
+        final LongAdder totalCount = new LongAdder();
+        final LongAdder failureCount = new LongAdder();
+        final LongAdder rejectedCount = new LongAdder();
+
+        Bucket(long period) {
+            this.period = period;
+        }
+    }
+}
@@ -81,8 +81,12 @@ public abstract class Expression<DataType, InboundMsgType> extends Node<DataType
     }
 
     protected String decodeValue(String value) {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            // Nothing to decode, which is the common case of a path param.
+            return value;
+        }
         try {
-            return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
+            return URLDecoder.decode(value.replace("+", "%2B"), "UTF-8");
         } catch (UnsupportedEncodingException e) {
             throw new RuntimeException("Error while encoding value: " + value, e);
         }
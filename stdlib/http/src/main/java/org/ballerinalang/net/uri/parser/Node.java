@@ -63,50 +63,58 @@ public abstract class Node<DataType, InboundMsgType> {
         return node;
     }
 
-    public boolean matchAll(String uriFragment, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
+    /**
+     * Match the uri, starting from the given index, against this node and its child nodes. The uri is traversed using
+     * indexes, hence no intermediate fragments of the uri are created while matching.
+     *
+     * @param uri uri to be matched
+     * @param variables path params found while matching
+     * @param start index of the uri from which this node is matched
+     * @param inboundMsg inbound message, which is used for the additional checks of the matching data
+     * @param dataReturnAgent agent which holds the matching data
+     * @return true if a matching data is found
+     */
+    public boolean matchAll(String uri, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
                             DataReturnAgent<DataType> dataReturnAgent) {
-        int matchLength = match(uriFragment, variables);
+        int matchLength = match(uri, start, variables);
         if (matchLength < 0) {
             return false;
         }
-        if (matchLength == uriFragment.length()) {
+        int fragmentLength = uri.length() - start;
+        if (matchLength == fragmentLength) {
             return dataElement.getData(inboundMsg, dataReturnAgent);
         }
-        if (matchLength >= uriFragment.length()) {
+        if (matchLength >= fragmentLength) {
             return false;
         }
-        String subUriFragment = nextURIFragment(uriFragment, matchLength);
-        String subPath = nextSubPath(subUriFragment);
+        int subFragmentStart = nextURIFragment(uri, start, matchLength);
+        int subPathEnd = nextSubPathEnd(uri, subFragmentStart);
 
         boolean isFound;
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
+                String literal = childNode.getToken();
+                if (literal.equals("*")) {
+                    if (containsLineTerminator(uri, subFragmentStart, subPathEnd)) {
                         continue;
                     }
-                    isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                                 dataReturnAgent);
+                    isFound = childNode.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent);
                     if (isFound) {
-                        setUriPostFix(variables, subUriFragment);
+                        setUriPostFix(variables, uri, subFragmentStart);
                         return true;
                     }
                     continue;
                 }
-                if (!subPath.contains(regex)) {
+                if (!regionContains(uri, subFragmentStart, subPathEnd, literal)) {
                     continue;
                 }
-                isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                             dataReturnAgent);
+                isFound = childNode.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent);
                 if (isFound) {
                     return true;
                 }
                 continue;
             }
-            isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                         dataReturnAgent);
+            isFound = childNode.matchAll(uri, variables, subFragmentStart, inboundMsg, dataReturnAgent);
             if (isFound) {
                 return true;
             }
@@ -118,13 +126,23 @@ public abstract class Node<DataType, InboundMsgType> {
         return dataElement != null && dataElement.hasData();
     }
 
-    private void setUriPostFix(HttpResourceArguments variables, String subUriFragment) {
-        variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + subUriFragment);
+    private void setUriPostFix(HttpResourceArguments variables, String uri, int subFragmentStart) {
+        if (!variables.getMap().containsKey(HttpConstants.EXTRA_PATH_INFO)) {
+            variables.getMap().put(HttpConstants.EXTRA_PATH_INFO, "/" + uri.substring(subFragmentStart));
+        }
     }
 
     abstract String expand(Map<String, String> variables);
 
-    abstract int match(String uriFragment, HttpResourceArguments variables);
+    /**
+     * Match the fragment of the uri which starts from the given index against this node.
+     *
+     * @param uri uri to be matched
+     * @param start index of the uri from which the fragment starts
+     * @param variables path params found while matching
+     * @return the number of characters of the fragment which are matched, or -1 if the fragment does not match
+     */
+    abstract int match(String uri, int start, HttpResourceArguments variables);
 
     abstract String getToken();
 
@@ -161,29 +179,42 @@ public abstract class Node<DataType, InboundMsgType> {
         }
     }
 
-    private String nextURIFragment(String uri, int matchLength) {
-        String uriFragment = uri;
-        if (uriFragment.startsWith("/")) {
-            uriFragment = uriFragment.substring(matchLength);
-        } else if (uriFragment.contains("/")) {
-            if (uriFragment.charAt(matchLength) == '/') {
-                uriFragment = uriFragment.substring(matchLength + 1);
-            } else {
-                uriFragment = uriFragment.substring(matchLength);
+    private int nextURIFragment(String uri, int start, int matchLength) {
+        int next = start + matchLength;
+        if (uri.charAt(start) == '/') {
+            return next;
+        }
+        if (uri.indexOf('/', start) >= 0 && uri.charAt(next) == '/') {
+            return next + 1;
+        }
+        return next;
+    }
+
+    private int nextSubPathEnd(String uri, int start) {
+        int end = uri.indexOf('/', start);
+        return end < 0 ? uri.length() : end;
+    }
+
+    private static boolean regionContains(String uri, int from, int to, String literal) {
+        int last = to - literal.length();
+        for (int i = from; i <= last; i++) {
+            if (uri.regionMatches(i, literal, 0, literal.length())) {
+                return true;
             }
-        } else {
-            uriFragment = uriFragment.substring(matchLength);
         }
-        return uriFragment;
+        return false;
     }
 
-    private String nextSubPath(String uriFragment) {
-        String subPath;
-        if (uriFragment.contains("/")) {
-            subPath = uriFragment.substring(0, uriFragment.indexOf("/"));
-        } else {
-            subPath = uriFragment;
+    /**
+     * Checks for the characters which are not matched by the '.' of a regular expression.
+     */
+    private static boolean containsLineTerminator(String uri, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char ch = uri.charAt(i);
+            if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029') {
+                return true;
+            }
         }
-        return subPath;
+        return false;
     }
 }
@@ -67,24 +67,24 @@ public class SimpleStringExpression<DataType, InboundMsgType> extends Expression
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
-        int length = uriFragment.length();
-        for (int i = 0; i < length; i++) {
-            char ch = uriFragment.charAt(i);
+    int match(String uri, int start, HttpResourceArguments variables) {
+        int length = uri.length();
+        for (int i = start; i < length; i++) {
+            char ch = uri.charAt(i);
             if (isEndCharacter(ch)) {
                 if (ch == getSeparator() && variableList.size() > 0) {
                     continue;
                 }
 
-                if (!setVariables(uriFragment.substring(0, i), variables)) {
+                if (!setVariables(uri.substring(start, i), variables)) {
                     return -1;
                 }
-                return i;
+                return i - start;
             } else if (i == length - 1) {
-                if (!setVariables(uriFragment, variables)) {
+                if (!setVariables(uri.substring(start), variables)) {
                     return -1;
                 }
-                return length;
+                return length - start;
             }
         }
         return 0;
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.connectionpool;
+
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.clientendpoint.ConnectionPoolMetrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Test the counts of the client connection pools published by {@link ConnectionPoolMetrics}.
+ *
+ * @since 1.0.0
+ */
+public class ConnectionPoolMetricsTest {
+
+    @Test
+    public void testPoolsAreKeptPerConnectionManager() {
+        FakeConnectionManager firstManager = new FakeConnectionManager();
+        FakeConnectionManager secondManager = new FakeConnectionManager();
+
+        ConnectionPoolMetrics.Pool firstPool = ConnectionPoolMetrics.getPool(firstManager, createPoolConfig(5));
+        ConnectionPoolMetrics.Pool secondPool = ConnectionPoolMetrics.getPool(secondManager, createPoolConfig(20));
+
+        Assert.assertNotSame(firstPool, secondPool);
+        Assert.assertNotEquals(firstPool.getId(), secondPool.getId());
+        Assert.assertSame(ConnectionPoolMetrics.getPool(firstManager, createPoolConfig(50)), firstPool);
+        Assert.assertEquals(firstPool.getMaxActiveConnections(), 5);
+        Assert.assertEquals(secondPool.getMaxActiveConnections(), 20);
+    }
+
+    @Test
+    public void testRequestCounts() {
+        ConnectionPoolMetrics.Pool pool = ConnectionPoolMetrics.getPool(new FakeConnectionManager(),
+                                                                        createPoolConfig(-1));
+        pool.requestStarted();
+        pool.sendStarted();
+        pool.requestStarted();
+        pool.sendStarted();
+        Assert.assertEquals(pool.getInFlightRequests(), 2);
+        Assert.assertEquals(pool.getSendingRequests(), 2);
+
+        pool.sendCompleted(300);
+        pool.sendCompleted(500);
+        Assert.assertEquals(pool.getSendingRequests(), 0);
+        Assert.assertEquals(pool.getSendCount(), 2);
+        Assert.assertEquals(pool.getTotalSendTime(), 800);
+        Assert.assertEquals(pool.getInFlightRequests(), 2);
+
+        pool.requestCompleted();
+        pool.requestCompleted();
+        Assert.assertEquals(pool.getInFlightRequests(), 0);
+    }
+
+    private static Map<String, Long> createPoolConfig(long maxActiveConnections) {
+        return Collections.singletonMap(HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_CONNECTIONS, maxActiveConnections);
+    }
+
+    /**
+     * A connection manager of a pool configuration.
+     */
+    private static class FakeConnectionManager {
+    }
+}
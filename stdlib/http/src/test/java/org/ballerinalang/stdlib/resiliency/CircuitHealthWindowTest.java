@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.CircuitHealthWindow;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the request statistics of the Circuit Breaker.
+ */
+public class CircuitHealthWindowTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 10000;
+
+    @Test(description = "Test the failure ratio, which excludes the rejected requests")
+    public void testFailureRatio() {
+        CircuitHealthWindow healthWindow = new CircuitHealthWindow(5, 60000);
+        for (int i = 0; i < 5; i++) {
+            healthWindow.recordRequest();
+        }
+        healthWindow.recordFailure();
+        healthWindow.recordRejection();
+
+        Assert.assertEquals(healthWindow.getTotalRequestCount(), 5L);
+        Assert.assertEquals(healthWindow.getFailureRatio(), 0.25);
+    }
+
+    @Test(description = "Test counting the requests of concurrent callers")
+    public void testConcurrentRequests() throws InterruptedException {
+        CircuitHealthWindow healthWindow = new CircuitHealthWindow(6, 60000);
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Thread caller = new Thread(() -> {
+                for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                    healthWindow.recordRequest();
+                    if (j % 4 == 0) {
+                        healthWindow.recordFailure();
+                    }
+                }
+            });
+            callers.add(caller);
+            caller.start();
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        Assert.assertEquals(healthWindow.getTotalRequestCount(), (long) THREADS * REQUESTS_PER_THREAD);
+        Assert.assertEquals(healthWindow.getFailureRatio(), 0.25);
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.ballerinalang.stdlib.services.dispatching;
 
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.util.exceptions.BallerinaConnectorException;
@@ -36,6 +38,8 @@ import org.testng.annotations.Test;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_JSON;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_XML;
 import static org.ballerinalang.mime.util.MimeConstants.OCTET_STREAM;
@@ -151,6 +155,24 @@ public class DataBindingTest {
                 "{\"name\":\"ballerina\", \"age\":3}]");
     }
 
+    @Test(description = "Test reading the payload of a UTF-16 request after binding it to a record")
+    public void testDataBindingWithUtf16Payload() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessageForMultiparts("/echo/body9", "POST");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON + "; charset=UTF-16");
+        byte[] payload = "{\"name\":\"ballerina\u00e9\",\"age\":3}".getBytes(StandardCharsets.UTF_16);
+        requestMsg.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(payload)));
+        requestMsg.setLastHttpContentArrived();
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        Object bJson = JSONParser.parse(new HttpMessageDataStreamer(responseMsg).getInputStream());
+        MapValue<String, Object> response = (MapValue<String, Object>) bJson;
+        Assert.assertEquals(response.get("Key").toString(), "ballerina\u00e9", "Key variable not set properly.");
+        MapValue<String, Object> jsonPayload = (MapValue<String, Object>) response.get("Payload");
+        Assert.assertEquals(jsonPayload.get("name").toString(), "ballerina\u00e9");
+        Assert.assertEquals(jsonPayload.get("age"), 3L);
+    }
+
     @Test(description = "Test data binding without content-type header")
     public void testDataBindingWithoutContentType() {
         HTTPTestRequest requestMsg = MessageUtils
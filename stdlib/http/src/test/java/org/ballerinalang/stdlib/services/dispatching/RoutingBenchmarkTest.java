@@ -0,0 +1,165 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.URIUtil;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the cost of routing a request to a resource, when there are 600 resources across 60 services.
+ */
+public class RoutingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RoutingBenchmarkTest.class);
+
+    private static final int SERVICE_COUNT = 60;
+    private static final String[] RESOURCE_PATHS = {
+            "/orders", "/orders/{orderId}", "/orders/{orderId}/items", "/orders/{orderId}/items/{itemId}",
+            "/customers/{customerId}", "/customers/{customerId}/orders", "/products", "/products/{productId}/reviews",
+            "/health", "/files/*"
+    };
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    private BasePathTrie basePathTrie;
+    private Map<String, URITemplate<String, Object>> templatesByBasePath = new HashMap<>();
+    private List<String> requestPaths = new ArrayList<>();
+
+    @BeforeClass
+    public void setup() throws Exception {
+        List<String> basePaths = new ArrayList<>();
+        for (int i = 0; i < SERVICE_COUNT; i++) {
+            String basePath = "/service" + i + "/v1";
+            URITemplate<String, Object> template = new URITemplate<>(new Literal<>(new ResourceElement(), "/"));
+            for (String resourcePath : RESOURCE_PATHS) {
+                template.parse(resourcePath, basePath + resourcePath, ResourceElement::new);
+            }
+            basePaths.add(basePath);
+            templatesByBasePath.put(basePath, template);
+
+            requestPaths.add(basePath + "/orders");
+            requestPaths.add(basePath + "/orders/" + i + "/items/" + (i * 7));
+            requestPaths.add(basePath + "/customers/c" + i + "/orders");
+            requestPaths.add(basePath + "/products/p" + i + "/reviews");
+            requestPaths.add(basePath + "/files/reports/" + i + ".csv");
+            requestPaths.add(basePath + "/unknown");
+        }
+        basePaths.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        basePathTrie = new BasePathTrie(basePaths);
+    }
+
+    @Test(description = "Test routing requests to the most specific resources")
+    public void testRouting() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(route("/service42/v1/orders/7/items/3", arguments),
+                            "/service42/v1/orders/{orderId}/items/{itemId}");
+        Assert.assertEquals(arguments.getMap().get("orderId"), "7");
+        Assert.assertEquals(arguments.getMap().get("itemId"), "3");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(route("/service7/v1/files/a/b.txt", arguments), "/service7/v1/files/*");
+        Assert.assertEquals(arguments.getMap().get(HttpConstants.EXTRA_PATH_INFO), "/a/b.txt");
+
+        Assert.assertEquals(route("/service7/v1/health/", new HttpResourceArguments()), "/service7/v1/health");
+        Assert.assertNull(route("/service7/v1/unknown", new HttpResourceArguments()));
+        Assert.assertNull(route("/service7/v2/orders", new HttpResourceArguments()));
+    }
+
+    // A measurement rather than a unit test, hence it is enabled only when comparing routing changes.
+    @Test(description = "Measure the time taken to route a request", enabled = false)
+    public void testRoutingCost() {
+        int routed = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            routed += routeAll();
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            routed += routeAll();
+        }
+        long timePerRequest = (System.nanoTime() - startTime) / ((long) MEASURED_ITERATIONS * requestPaths.size());
+        log.info("Routed {} requests among {} resources in {} ns per request", requestPaths.size(),
+                 SERVICE_COUNT * RESOURCE_PATHS.length, timePerRequest);
+        Assert.assertEquals(routed, (WARMUP_ITERATIONS + MEASURED_ITERATIONS) * SERVICE_COUNT * 5);
+    }
+
+    private int routeAll() {
+        int routed = 0;
+        for (String requestPath : requestPaths) {
+            if (route(requestPath, new HttpResourceArguments()) != null) {
+                routed++;
+            }
+        }
+        return routed;
+    }
+
+    private String route(String requestPath, HttpResourceArguments arguments) {
+        String basePath = basePathTrie.match(requestPath);
+        if (basePath == null) {
+            return null;
+        }
+        String subPath = URIUtil.getSubPath(requestPath, basePath);
+        if (subPath.length() > 1 && subPath.endsWith("/")) {
+            subPath = subPath.substring(0, subPath.length() - 1);
+        }
+        return templatesByBasePath.get(basePath).matches(subPath, arguments, null);
+    }
+
+    /**
+     * Holds the template of a resource as its data, without any further checks of the request.
+     */
+    private static class ResourceElement implements DataElement<String, Object> {
+
+        private String resource;
+
+        @Override
+        public void setData(String resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean hasData() {
+            return resource != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (resource == null) {
+                return false;
+            }
+            dataReturnAgent.setData(resource);
+            return true;
+        }
+    }
+}
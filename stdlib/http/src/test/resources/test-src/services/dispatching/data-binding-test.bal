@@ -101,4 +101,17 @@ service echo on testEP {
             checkpanic caller->respond(<@untainted string> jsonPayload.detail().message);
         }
     }
+
+    @http:ResourceConfig {
+        methods: ["POST"],
+        body: "person"
+    }
+    resource function body9(http:Caller caller, http:Request req, Person person) {
+        json|error payload = req.getJsonPayload();
+        if (payload is json) {
+            checkpanic caller->respond({ Key: <@untainted string> person.name, Payload: <@untainted json> payload });
+        } else {
+            checkpanic caller->respond(<@untainted string> payload.reason());
+        }
+    }
 }
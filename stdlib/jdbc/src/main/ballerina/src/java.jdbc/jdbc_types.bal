@@ -24,12 +24,32 @@ import ballerina/config;
 # + poolOptions - Properties for the connection pool configuration. Refer `PoolOptions` for more details
 # + dbOptions - A map of DB specific properties. These properties will have an effect only if the dataSourceClassName is
 #               provided in poolOptions
+# + fetchSize - Number of rows fetched from the database at a time while iterating the table returned by a select
+#               query. The default value -1 streams the rows one at a time from MySQL and uses the default fetch size
+#               of the JDBC driver for the other databases. A value of 0 uses the default fetch size of the JDBC driver
+#               for all the databases. A positive value is given to the JDBC driver as the fetch size, e.g., to read
+#               the rows through a cursor in PostgreSQL, which requires auto-commit to be disabled, or to prefetch the
+#               rows in Oracle. MySQL reads the rows through a cursor with a positive fetch size only when
+#               `useCursorFetch=true` is set in the URL.
+# + batchSize - Maximum number of parameter sets sent to the database in one JDBC batch by a batch update. A batch
+#               update with more parameter sets is executed in chunks of this size, so that the JDBC driver holds the
+#               parameters and the generated keys of one chunk at a time. The default value 0 sends all the parameter
+#               sets in one batch. Batch rewriting options of the JDBC drivers, e.g., `rewriteBatchedStatements` of
+#               MySQL or `reWriteBatchedInserts` of PostgreSQL, can be given in `dbOptions` and apply to each chunk.
+#               When a batch update is not in a transaction and `rollbackAllInFailure` is false, each chunk is
+#               committed once executed, and the chunks after a failed chunk are not executed.
+# + batchParallelism - Maximum number of chunks of a batch update executed concurrently, each on a pooled connection
+#               of its own. The chunks are executed concurrently only when the batch update is not in a transaction
+#               and `rollbackAllInFailure` is false. The default value 1 executes the chunks one after the other.
 public type ClientConfiguration record {|
     string url = "";
     string username = "";
     string password = "";
     PoolOptions poolOptions?;
     map<anydata> dbOptions = {};
+    int fetchSize = -1;
+    int batchSize = 0;
+    int batchParallelism = 1;
 |};
 
 # Represents the properties which are used to configure DB connection pool.
@@ -69,6 +89,10 @@ public type ClientConfiguration record {|
 # + validationTimeoutInMillis - The maximum duration of time that a connection will be tested for aliveness. Default
 #                       value is 5000 (5 seconds) and it can be changed through the configuration API with the key
 #                       `b7a.jdbc.pool.validationTimeoutInMillis`.  Lowest acceptable validation timeout is 250 ms.
+# + statementCacheSize - The maximum number of prepared statements cached per connection, which are reused when the
+#                        same query is executed again on the connection. Default value is 0, which disables the cache,
+#                        and it can be changed through the configuration API with the key
+#                        `b7a.jdbc.pool.statementCacheSize`. Statements are not cached for the XA connections.
 public type PoolOptions record {|
     string connectionInitSql = config:getAsString("b7a.jdbc.pool.connectionInitSql", "");
     string dataSourceClassName = config:getAsString("b7a.jdbc.pool.dataSourceClassName", "");
@@ -80,6 +104,7 @@ public type PoolOptions record {|
     int minimumIdle = config:getAsInt("b7a.jdbc.pool.minimumIdle", 15);
     int maxLifetimeInMillis = config:getAsInt("b7a.jdbc.pool.maxLifetimeInMillis", 1800000);
     int validationTimeoutInMillis = config:getAsInt("\"b7a.jdbc.pool.validationTimeoutInMillis\"", 5000);
+    int statementCacheSize = config:getAsInt("b7a.jdbc.pool.statementCacheSize", 0);
 |};
 
 // This is a container object that holds the global pool config and initilizes the internal map of connection pools
@@ -131,6 +131,9 @@ public final class Constants {
         public static final String PASSWORD = "password";
         public static final String POOL_OPTIONS = "poolOptions";
         public static final String DB_OPTIONS = "dbOptions";
+        public static final String FETCH_SIZE = "fetchSize";
+        public static final String BATCH_SIZE = "batchSize";
+        public static final String BATCH_PARALLELISM = "batchParallelism";
     }
 
     /**
@@ -153,6 +156,7 @@ public final class Constants {
         public static final String MINIMUM_IDLE = "minimumIdle";
         public static final String MAX_LIFETIME_IN_MILLIS = "maxLifetimeInMillis";
         public static final String VALIDATION_TIMEOUT_IN_MILLIS = "validationTimeoutInMillis";
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
     }
 
     /**
@@ -19,13 +19,13 @@ package org.ballerinax.jdbc.actions;
 
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinax.jdbc.Constants;
 import org.ballerinax.jdbc.datasource.SQLDatasource;
 import org.ballerinax.jdbc.statement.BatchUpdateStatement;
-import org.ballerinax.jdbc.statement.SQLStatement;
 
 /**
  * {@code BatchUpdate} is the Batch update remote function implementation of the JDBC client.
@@ -41,9 +41,17 @@ public class BatchUpdate {
     public static MapValue<String, Object> nativeBatchUpdate(Strand strand, ObjectValue client, String sqlQuery,
                                                              boolean rollbackAllInFailure, ArrayValue parameters) {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
-        SQLStatement batchUpdateStatement = new BatchUpdateStatement(client, datasource, sqlQuery, parameters,
-                rollbackAllInFailure, strand);
-        return (MapValue<String, Object>) batchUpdateStatement.execute();
+        BatchUpdateStatement batchUpdateStatement = new BatchUpdateStatement(client, datasource, sqlQuery,
+                parameters, rollbackAllInFailure, strand);
+        strand.scheduler.executeBlocking(strand, () -> {
+            try {
+                return batchUpdateStatement.execute();
+            } catch (ErrorValue e) {
+                // The result of a batch update is not an error, hence the failure is returned as part of the result.
+                return batchUpdateStatement.createFailedResult(e);
+            }
+        });
+        return null;
     }
 
     private BatchUpdate() {
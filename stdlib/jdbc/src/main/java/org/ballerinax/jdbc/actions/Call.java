@@ -42,7 +42,8 @@ public class Call {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement callStatement = new CallStatement(client, datasource, sqlQuery, (ArrayValue) recordType,
                 parameters, strand);
-        return callStatement.execute();
+        strand.scheduler.executeBlocking(strand, callStatement::execute);
+        return null;
     }
 
     private Call() {
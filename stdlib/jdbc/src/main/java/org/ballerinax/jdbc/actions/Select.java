@@ -43,7 +43,8 @@ public class Select {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement selectStatement = new SelectStatement(client, sqlDatasource, query, parameters,
                 (TypedescValue) recordType, strand);
-        return selectStatement.execute();
+        strand.scheduler.executeBlocking(strand, selectStatement::execute);
+        return null;
     }
 
     private Select() {
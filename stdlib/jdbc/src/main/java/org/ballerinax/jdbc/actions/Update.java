@@ -40,7 +40,8 @@ public class Update {
     public static Object nativeUpdate(Strand strand, ObjectValue client, String query, ArrayValue parameters) {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement updateStatement = new UpdateStatement(client, sqlDatasource, query, parameters, strand);
-        return updateStatement.execute();
+        strand.scheduler.executeBlocking(strand, updateStatement::execute);
+        return null;
     }
 
     private Update() {
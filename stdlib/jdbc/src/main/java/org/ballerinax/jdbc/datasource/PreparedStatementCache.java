@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.datasource;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_PEER_ADDRESS;
+
+/**
+ * Caches the prepared statements of the pooled connections of a {@link SQLDatasource}, so that a query which is
+ * executed repeatedly is prepared once per connection.
+ * <p>
+ * The statements are prepared on the physical connections, which outlive the borrowing of the connections from the
+ * pool. A cached statement is checked out of the cache of its connection while in use, and closing it resets it and
+ * returns it to the cache, from which the least recently used statements are closed once the cache is full. The hits
+ * and the misses of the caches are published to the default {@link MetricRegistry}, tagged by the peer address of
+ * the datasource, when observability is enabled.
+ *
+ * @since 1.0.0
+ */
+public class PreparedStatementCache {
+
+    private static final String METRIC_PREFIX = "ballerina_jdbc_statement_cache_";
+
+    private static final Map<String, Stats> statsByPeerAddress = new ConcurrentHashMap<>();
+
+    private final int maxStatementsPerConnection;
+    private final Stats stats;
+    private final Map<Connection, ConnectionStatements> connectionStatements = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    PreparedStatementCache(int maxStatementsPerConnection, String peerAddress) {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+        this.stats = statsByPeerAddress.computeIfAbsent(peerAddress, Stats::new);
+        stats.publish();
+    }
+
+    /**
+     * Returns the counts of the statement caches of the datasources which connect to the given peer address.
+     *
+     * @param peerAddress peer address of the datasources
+     * @return the counts of the statement caches, or null if no datasource caches the statements
+     */
+    public static Stats getStats(String peerAddress) {
+        return statsByPeerAddress.get(peerAddress);
+    }
+
+    static PreparedStatement prepare(Connection conn, String query, int autoGeneratedKeys) throws SQLException {
+        if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+            return conn.prepareStatement(query, autoGeneratedKeys);
+        }
+        return conn.prepareStatement(query);
+    }
+
+    PreparedStatement prepareStatement(Connection conn, String query, int autoGeneratedKeys) throws SQLException {
+        Connection physicalConn = conn.unwrap(Connection.class);
+        ConnectionStatements statements = connectionStatements.get(physicalConn);
+        if (statements == null) {
+            // A new connection is mostly opened by the pool in place of a closed one.
+            removeClosedConnections();
+            statements = connectionStatements.computeIfAbsent(physicalConn, key -> new ConnectionStatements());
+        }
+        StatementKey key = new StatementKey(query, autoGeneratedKeys);
+        CachedStatement statement = statements.checkOut(key);
+        if (statement == null) {
+            stats.misses.increment();
+            statement = new CachedStatement(statements, key, generation.get(),
+                                            prepare(physicalConn, query, autoGeneratedKeys));
+        } else {
+            stats.hits.increment();
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(),
+                                                          new Class<?>[]{PreparedStatement.class},
+                                                          new Lease(statement, conn));
+    }
+
+    /**
+     * Discards the cached statements, e.g. once the schema is altered, as they are closed when checked out next.
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private void removeClosedConnections() {
+        connectionStatements.keySet().removeIf(conn -> {
+            try {
+                return conn.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Identifies the statements which are prepared alike.
+     */
+    private static class StatementKey {
+
+        private final String query;
+        private final int autoGeneratedKeys;
+
+        StatementKey(String query, int autoGeneratedKeys) {
+            this.query = query;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey other = (StatementKey) obj;
+            return autoGeneratedKeys == other.autoGeneratedKeys && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, autoGeneratedKeys);
+        }
+    }
+
+    /**
+     * A statement prepared on a physical connection, along with the cache of the connection.
+     */
+    private static class CachedStatement {
+
+        private final ConnectionStatements owner;
+        private final StatementKey key;
+        private final long generation;
+        private final PreparedStatement delegate;
+        private Integer defaultFetchSize;
+
+        CachedStatement(ConnectionStatements owner, StatementKey key, long generation, PreparedStatement delegate) {
+            this.owner = owner;
+            this.key = key;
+            this.generation = generation;
+            this.delegate = delegate;
+        }
+    }
+
+    /**
+     * The idle statements of a physical connection, in the order from the least to the most recently used.
+     */
+    private class ConnectionStatements {
+
+        private final LinkedHashMap<StatementKey, CachedStatement> statements = new LinkedHashMap<>();
+
+        synchronized CachedStatement checkOut(StatementKey key) throws SQLException {
+            CachedStatement statement = statements.remove(key);
+            if (statement != null && (statement.generation != generation.get() || statement.delegate.isClosed())) {
+                statement.delegate.close();
+                return null;
+            }
+            return statement;
+        }
+
+        synchronized void checkIn(CachedStatement statement) throws SQLException {
+            if (statement.generation != generation.get() || statements.containsKey(statement.key)) {
+                // Another statement of the same query has been returned while this statement was checked out.
+                statement.delegate.close();
+                return;
+            }
+            statements.put(statement.key, statement);
+            if (statements.size() > maxStatementsPerConnection) {
+                Iterator<CachedStatement> iterator = statements.values().iterator();
+                CachedStatement eldest = iterator.next();
+                iterator.remove();
+                stats.evictions.increment();
+                eldest.delegate.close();
+            }
+        }
+    }
+
+    /**
+     * Hands out a cached statement until it is closed, after which the statement is reset and returned to the cache.
+     */
+    private static class Lease implements InvocationHandler {
+
+        private final CachedStatement statement;
+        private final Connection connection;
+        private final List<ResultSet> resultSets = new ArrayList<>();
+        private boolean batched;
+        private boolean fetchSizeChanged;
+        private boolean closed;
+
+        Lease(CachedStatement statement, Connection connection) {
+            this.statement = statement;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return statement.delegate.toString();
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("statement is closed");
+            }
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection;
+                case "addBatch":
+                    batched = true;
+                    break;
+                case "setFetchSize":
+                    if (statement.defaultFetchSize == null) {
+                        statement.defaultFetchSize = statement.delegate.getFetchSize();
+                    }
+                    fetchSizeChanged = true;
+                    break;
+                default:
+                    break;
+            }
+            Object result;
+            try {
+                result = method.invoke(statement.delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                resultSets.add((ResultSet) result);
+            }
+            return result;
+        }
+
+        private void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            PreparedStatement delegate = statement.delegate;
+            try {
+                for (ResultSet resultSet : resultSets) {
+                    resultSet.close();
+                }
+                delegate.clearParameters();
+                if (batched) {
+                    delegate.clearBatch();
+                }
+                delegate.clearWarnings();
+                if (fetchSizeChanged) {
+                    delegate.setFetchSize(statement.defaultFetchSize);
+                }
+            } catch (SQLException e) {
+                // A statement which cannot be reset, e.g. as its connection is closed, is not reused.
+                delegate.close();
+                return;
+            }
+            statement.owner.checkIn(statement);
+        }
+    }
+
+    /**
+     * Counts of the statements looked up in the statement caches of the datasources of a peer address.
+     *
+     * @since 1.0.0
+     */
+    public static class Stats {
+
+        private final String peerAddress;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private boolean published;
+
+        private Stats(String peerAddress) {
+            this.peerAddress = peerAddress;
+        }
+
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        public long getEvictionCount() {
+            return evictions.sum();
+        }
+
+        public double getHitRatio() {
+            long hitCount = getHitCount();
+            long lookupCount = hitCount + getMissCount();
+            return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+        }
+
+        private synchronized void publish() {
+            if (published || !ObserveUtils.isObservabilityEnabled()) {
+                return;
+            }
+            MetricRegistry registry = DefaultMetricRegistry.getInstance();
+            if (registry == null) {
+                return;
+            }
+            register(registry, "hits", "Prepared statements reused from the statement caches of the connections",
+                     Stats::getHitCount);
+            register(registry, "misses", "Prepared statements not found in the statement caches of the connections",
+                     Stats::getMissCount);
+            register(registry, "evictions", "Cached prepared statements closed as the statement caches are full",
+                     Stats::getEvictionCount);
+            register(registry, "hit_ratio", "Ratio of the statements reused from the statement caches",
+                     Stats::getHitRatio);
+            published = true;
+        }
+
+        private void register(MetricRegistry registry, String metricName, String description,
+                              ToDoubleFunction<Stats> valueFunction) {
+            PolledGauge.builder(METRIC_PREFIX + metricName, this, valueFunction)
+                    .description(description)
+                    .tag(TAG_KEY_PEER_ADDRESS, peerAddress)
+                    .register(registry);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.ballerinax.jdbc.exceptions.PanickingDatabaseException;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Locale;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -43,6 +44,7 @@ import javax.sql.XADataSource;
 public class SQLDatasource {
 
     private HikariDataSource hikariDataSource;
+    private PreparedStatementCache statementCache;
     private String peerAddress;
     private String databaseProductName;
     private boolean xaConn;
@@ -92,6 +94,46 @@ public class SQLDatasource {
         return hikariDataSource.getConnection();
     }
 
+    /**
+     * Prepares a statement on a connection of this datasource. If the statement cache is enabled, the statement is
+     * reused from the cache of the connection and closing it returns it to the cache.
+     *
+     * @param conn              connection borrowed from this datasource
+     * @param query             SQL query of the statement
+     * @param autoGeneratedKeys whether the statement returns the auto generated keys
+     * @param cacheable         whether the changes made by the statement are committed or rolled back explicitly, as
+     *                          the pool does not roll back the changes of a cached statement when the connection is
+     *                          returned
+     * @return the prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareStatement(Connection conn, String query, int autoGeneratedKeys, boolean cacheable)
+            throws SQLException {
+        // The connections of a distributed transaction are not the pooled connections.
+        if (statementCache == null || xaConn || !cacheable) {
+            return PreparedStatementCache.prepare(conn, query, autoGeneratedKeys);
+        }
+        return statementCache.prepareStatement(conn, query, autoGeneratedKeys);
+    }
+
+    /**
+     * Discards the cached statements, which may no longer be valid once the schema is altered.
+     */
+    public void invalidateStatementCache() {
+        if (statementCache != null) {
+            statementCache.invalidate();
+        }
+    }
+
+    /**
+     * Get the maximum number of connections of the pool.
+     *
+     * @return The maximum pool size.
+     */
+    public int getMaximumPoolSize() {
+        return hikariDataSource.getMaximumPoolSize();
+    }
+
     public boolean isXAConnection() {
         return this.xaConn;
     }
@@ -206,6 +248,11 @@ public class SQLDatasource {
                 }
                 boolean autoCommit = sqlDatasourceParams.poolOptionsWrapper.getBoolean(Constants.Options.AUTOCOMMIT);
                 config.setAutoCommit(autoCommit);
+                int statementCacheSize = sqlDatasourceParams.poolOptionsWrapper
+                        .getInt(Constants.Options.STATEMENT_CACHE_SIZE).intValue();
+                if (statementCacheSize > 0) {
+                    statementCache = new PreparedStatementCache(statementCacheSize, sqlDatasourceParams.jdbcUrl);
+                }
             } else {
                 config.setJdbcUrl(sqlDatasourceParams.jdbcUrl);
             }
@@ -81,6 +81,13 @@ public class CreateClient {
                 .retrieveDatasource(sqlDatasourceParams);
         ObjectValue sqlClient = BallerinaValues.createObjectValue(Constants.JDBC_PACKAGE_ID, Constants.JDBC_CLIENT);
         sqlClient.addNativeData(Constants.JDBC_CLIENT, sqlDatasource);
+        // The fetch and batch sizes are kept with the client, as the datasource may be shared with other clients.
+        sqlClient.addNativeData(Constants.EndpointConfig.FETCH_SIZE,
+                clientEndpointConfig.getIntValue(Constants.EndpointConfig.FETCH_SIZE));
+        sqlClient.addNativeData(Constants.EndpointConfig.BATCH_SIZE,
+                clientEndpointConfig.getIntValue(Constants.EndpointConfig.BATCH_SIZE));
+        sqlClient.addNativeData(Constants.EndpointConfig.BATCH_PARALLELISM,
+                clientEndpointConfig.getIntValue(Constants.EndpointConfig.BATCH_PARALLELISM));
         return sqlClient;
     }
 
@@ -52,6 +52,7 @@ import org.ballerinax.jdbc.transaction.SQLTransactionContext;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -397,6 +398,26 @@ public abstract class AbstractSQLStatement implements SQLStatement {
         return conn;
     }
 
+    /**
+     * Prepares a statement through the statement cache of the datasource, which caches the statement only if its
+     * changes are committed or rolled back explicitly, i.e. if the connection is in auto-commit mode or participates
+     * in a transaction.
+     *
+     * @param conn              connection of the datasource
+     * @param datasource        the datasource
+     * @param query             SQL query of the statement
+     * @param autoGeneratedKeys whether the statement returns the auto generated keys
+     * @return the prepared statement, which is returned to the cache when closed
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepareStatement(Connection conn, SQLDatasource datasource, String query, int autoGeneratedKeys)
+            throws SQLException {
+        boolean inTransactionBlock = strand.isInTransaction()
+                && strand.getLocalTransactionContext().hasTransactionBlock();
+        return datasource.prepareStatement(conn, query, autoGeneratedKeys,
+                                           inTransactionBlock || conn.getAutoCommit());
+    }
+
     private String retrieveConnectorId(ObjectValue bConnector) {
         return (String) bConnector.getNativeData(Constants.CONNECTOR_ID_KEY);
     }
@@ -18,6 +18,7 @@
 package org.ballerinax.jdbc.statement;
 
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.runtime.BLangThreadFactory;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BTypes;
@@ -40,7 +41,15 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Represents a Batch Update SQL statement.
@@ -67,50 +76,60 @@ public class BatchUpdateStatement extends AbstractSQLStatement {
 
     @Override
     public MapValue<String, Object> execute() {
-        Connection conn = null;
-        PreparedStatement stmt = null;
-        ResultSet rs;
-        MapValue<String, ArrayValue> generatedKeys = new MapValueImpl<>();
-        int[] updatedCount;
-        int paramArrayCount = 0;
         checkAndObserveSQLAction(strand, datasource, query);
+        int paramArrayCount = 0;
         if (parameters != null) {
             paramArrayCount = parameters.size();
         }
-
+        int chunkSize = getChunkSize(paramArrayCount);
+        int chunkCount = (Math.max(paramArrayCount, 1) + chunkSize - 1) / chunkSize;
         boolean isInTransaction = strand.isInTransaction();
+        // The chunks run on connections of their own only if they are committed separately.
+        if (!isInTransaction && !rollbackAllInFailure) {
+            int parallelism = Math.min(getBatchParallelism(), Math.min(chunkCount, datasource.getMaximumPoolSize()));
+            if (parallelism > 1) {
+                return executeInParallel(paramArrayCount, chunkSize, chunkCount, parallelism);
+            }
+        }
+        return executeOnConnection(paramArrayCount, chunkSize, isInTransaction);
+    }
+
+    /**
+     * Executes the chunks of the batch update one after the other on a connection. Unless the batch update is rolled
+     * back as a whole, each chunk is committed once executed.
+     */
+    private MapValue<String, Object> executeOnConnection(int paramArrayCount, int chunkSize,
+                                                         boolean isInTransaction) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        BatchResult result = new BatchResult(paramArrayCount);
+        boolean commitChunks = !isInTransaction && !rollbackAllInFailure;
+        int committedCount = 0;
         String errorMessagePrefix = "failed to execute batch update";
         try {
             conn = getDatabaseConnection(strand, client, datasource);
             boolean generatedKeyReturningSupported = isGeneratedKeyReturningSupported();
-            if (generatedKeyReturningSupported) {
-                stmt = conn.prepareStatement(query, PreparedStatement.RETURN_GENERATED_KEYS);
-            } else {
-                stmt = conn.prepareStatement(query);
-            }
+            // Auto-commit is disabled first, so that the statement is cached only if it runs in a transaction, as
+            // otherwise the pool rolls back the changes of a failed batch when the connection is returned.
             conn.setAutoCommit(false);
-            if (paramArrayCount == 0) {
-                stmt.addBatch();
-            }
-            for (int index = 0; index < paramArrayCount; index++) {
-                ArrayValue params = (ArrayValue) parameters.getValue(index);
-                ArrayValue generatedParams = constructParameters(params);
-                ProcessedStatement processedStatement = new ProcessedStatement(conn, stmt, generatedParams,
-                        datasource.getDatabaseProductName());
-                stmt = processedStatement.prepare();
-                stmt.addBatch();
-            }
-            updatedCount = stmt.executeBatch();
-            if (generatedKeyReturningSupported) {
-                rs = stmt.getGeneratedKeys();
-                //This result set contains the auto generated keys.
-                generatedKeys = getGeneratedKeysFromBatch(rs);
-            }
-            if (!isInTransaction) {
+            stmt = prepareStatement(conn, datasource, query, generatedKeyReturningSupported ?
+                    Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
+            int chunkStart = 0;
+            do {
+                int chunkEnd = Math.min(chunkStart + chunkSize, paramArrayCount);
+                MapValue<String, ArrayValue> chunkKeys = executeChunk(conn, stmt, chunkStart, chunkEnd,
+                        generatedKeyReturningSupported, result);
+                if (commitChunks) {
+                    conn.commit();
+                    committedCount = chunkEnd;
+                }
+                result.addGeneratedKeys(chunkKeys);
+                chunkStart = chunkEnd;
+            } while (chunkStart < paramArrayCount);
+            if (!isInTransaction && !commitChunks) {
                 conn.commit();
             }
-            return createFrozenBatchUpdateResultRecord(createUpdatedCountArray(updatedCount, paramArrayCount),
-                    generatedKeys, null);
+            return result.createFrozenRecord(null);
         } catch (BatchUpdateException e) {
             // Depending on the driver, at this point, driver may or may not have executed the remaining commands in
             // the batch which come after the command that failed.
@@ -119,7 +138,6 @@ public class BatchUpdateStatement extends AbstractSQLStatement {
             // decide it based on the user input of `rollbackAllInFailure` property, because a Ballerina developer
             // might have a requirement to ignore a few failed commands in the batch and let the rest of the commands
             // run if driver allows it.
-            updatedCount = e.getUpdateCounts();
             checkAndObserveSQLError(strand, e.getMessage());
             if (!isInTransaction && rollbackAllInFailure) {
                 try {
@@ -129,23 +147,113 @@ public class BatchUpdateStatement extends AbstractSQLStatement {
                 }
             }
             handleErrorOnTransaction(this.strand);
-            return createFrozenBatchUpdateResultRecord(createUpdatedCountArray(updatedCount, paramArrayCount),
-                    generatedKeys, ErrorGenerator.getSQLDatabaseError(e, errorMessagePrefix + ": "));
+            return result.createFrozenRecord(ErrorGenerator.getSQLDatabaseError(e, errorMessagePrefix + ": "));
         } catch (SQLException e) {
             handleErrorOnTransaction(this.strand);
             checkAndObserveSQLError(strand, e.getMessage());
-            return createFrozenBatchUpdateResultRecord(createUpdatedCountArray(null, paramArrayCount),
-                    generatedKeys, ErrorGenerator.getSQLDatabaseError(e, errorMessagePrefix + ": "));
+            result.discard(committedCount);
+            return result.createFrozenRecord(ErrorGenerator.getSQLDatabaseError(e, errorMessagePrefix + ": "));
         } catch (ApplicationException e) {
             handleErrorOnTransaction(this.strand);
             checkAndObserveSQLError(strand, e.getMessage());
-            return createFrozenBatchUpdateResultRecord(createUpdatedCountArray(null, paramArrayCount),
-                    generatedKeys, ErrorGenerator.getSQLApplicationError(e, errorMessagePrefix + ": "));
+            result.discard(committedCount);
+            return result.createFrozenRecord(ErrorGenerator.getSQLApplicationError(e, errorMessagePrefix + ": "));
         } finally {
             cleanupResources(stmt, conn, !isInTransaction);
         }
     }
 
+    /**
+     * Executes the chunks of the batch update concurrently, each chunk on one of the connections which are used by
+     * the calling thread and the workers of the chunk executor.
+     */
+    private MapValue<String, Object> executeInParallel(int paramArrayCount, int chunkSize, int chunkCount,
+                                                       int parallelism) {
+        ParallelBatch batch = new ParallelBatch(paramArrayCount, chunkSize, chunkCount);
+        List<Future<?>> workers = new ArrayList<>(parallelism - 1);
+        for (int i = 1; i < parallelism; i++) {
+            workers.add(ChunkExecutor.EXECUTOR.submit(batch::executeChunks));
+        }
+        try {
+            batch.executeChunks();
+        } finally {
+            awaitWorkers(workers);
+        }
+        return batch.createFrozenRecord();
+    }
+
+    /**
+     * Adds the parameters of a chunk to the batch of the statement and executes the batch.
+     *
+     * @return the keys generated by the chunk, or null if the database does not return them
+     */
+    private MapValue<String, ArrayValue> executeChunk(Connection conn, PreparedStatement stmt, int chunkStart,
+                                                      int chunkEnd, boolean generatedKeyReturningSupported,
+                                                      BatchResult result) throws SQLException, ApplicationException {
+        if (chunkStart == chunkEnd) {
+            // A batch update without parameters is executed once.
+            stmt.addBatch();
+        }
+        for (int index = chunkStart; index < chunkEnd; index++) {
+            ArrayValue params = (ArrayValue) parameters.getValue(index);
+            ArrayValue generatedParams = constructParameters(params);
+            ProcessedStatement processedStatement = new ProcessedStatement(conn, stmt, generatedParams,
+                    datasource.getDatabaseProductName());
+            processedStatement.prepare();
+            stmt.addBatch();
+        }
+        try {
+            result.setUpdatedCounts(chunkStart, stmt.executeBatch());
+        } catch (BatchUpdateException e) {
+            result.setUpdatedCounts(chunkStart, e.getUpdateCounts());
+            throw e;
+        }
+        if (!generatedKeyReturningSupported) {
+            return null;
+        }
+        // The keys are read per chunk, so that the driver does not hold the keys of the whole batch.
+        try (ResultSet rs = stmt.getGeneratedKeys()) {
+            //This result set contains the auto generated keys.
+            return getGeneratedKeysFromBatch(rs);
+        }
+    }
+
+    private int getChunkSize(int paramArrayCount) {
+        Object batchSize = client.getNativeData(Constants.EndpointConfig.BATCH_SIZE);
+        if (batchSize == null || (Long) batchSize <= 0 || (Long) batchSize >= paramArrayCount) {
+            return Math.max(paramArrayCount, 1);
+        }
+        return ((Long) batchSize).intValue();
+    }
+
+    private int getBatchParallelism() {
+        Object batchParallelism = client.getNativeData(Constants.EndpointConfig.BATCH_PARALLELISM);
+        if (batchParallelism == null || (Long) batchParallelism < 1) {
+            return 1;
+        }
+        return (int) Math.min((Long) batchParallelism, Integer.MAX_VALUE);
+    }
+
+    private static void awaitWorkers(List<Future<?>> workers) {
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ErrorGenerator.getSQLApplicationError("interrupted while executing batch update");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw ErrorGenerator.getSQLApplicationError("failed to execute batch update: " + cause.getMessage());
+            }
+        }
+    }
+
     // It has been identified that Oracle and MS SQL Server does not support returning generated keys along with
     // batch update. And such effort would result in an exception causing batch update failure.
     // If such other databases are identified they can be included here.
@@ -155,21 +263,14 @@ public class BatchUpdateStatement extends AbstractSQLStatement {
                 && !Constants.DatabaseNames.MSSQL_SERVER.equals(datasource.getDatabaseProductName());
     }
 
-    private ArrayValue createUpdatedCountArray(int[] updatedCounts, int paramArrayCount) {
-        // After a command in a batch update fails to execute properly and a BatchUpdateException is thrown, the
-        // driver may or may not continue to process the remaining commands in the batch. If the driver does not
-        // continue processing after a failure, the array returned by the method will have -3 (EXECUTE_FAILED) for
-        // those updates.
-        long[] returnedCount = new long[paramArrayCount];
-        Arrays.fill(returnedCount, Statement.EXECUTE_FAILED);
-        ArrayValue countArray = new ArrayValue(returnedCount);
-        if (updatedCounts != null) {
-            int iSize = updatedCounts.length;
-            for (int i = 0; i < iSize; ++i) {
-                countArray.add(i, updatedCounts[i]);
-            }
-        }
-        return countArray;
+    /**
+     * Creates the result of a batch update which failed with the given error, with all the commands marked as failed.
+     *
+     * @param error error of the batch update
+     * @return frozen batch update result record
+     */
+    public MapValue<String, Object> createFailedResult(ErrorValue error) {
+        return new BatchResult(parameters == null ? 0 : parameters.size()).createFrozenRecord(error);
     }
 
     private MapValue<String, Object> createFrozenBatchUpdateResultRecord(ArrayValue countArray,
@@ -206,4 +307,176 @@ public class BatchUpdateStatement extends AbstractSQLStatement {
         }
         list.append(value);
     }
+
+    /**
+     * Update counts and generated keys of the executed chunks of a batch update.
+     */
+    private class BatchResult {
+
+        private long[] updatedCounts;
+        private MapValue<String, ArrayValue> generatedKeys = new MapValueImpl<>();
+        private boolean generatedKeysAdded;
+
+        BatchResult(int paramArrayCount) {
+            // After a command in a batch update fails to execute properly and a BatchUpdateException is thrown, the
+            // driver may or may not continue to process the remaining commands in the batch. If the driver does not
+            // continue processing after a failure, the array returned by the method will have -3 (EXECUTE_FAILED) for
+            // those updates.
+            updatedCounts = new long[paramArrayCount];
+            Arrays.fill(updatedCounts, Statement.EXECUTE_FAILED);
+        }
+
+        void setUpdatedCounts(int chunkStart, int[] chunkCounts) {
+            if (chunkCounts == null) {
+                return;
+            }
+            if (chunkStart + chunkCounts.length > updatedCounts.length) {
+                // A batch update without parameters has the count of its single execution.
+                updatedCounts = Arrays.copyOf(updatedCounts, chunkStart + chunkCounts.length);
+            }
+            for (int i = 0; i < chunkCounts.length; i++) {
+                updatedCounts[chunkStart + i] = chunkCounts[i];
+            }
+        }
+
+        void addGeneratedKeys(MapValue<String, ArrayValue> chunkKeys) {
+            if (chunkKeys == null) {
+                return;
+            }
+            if (!generatedKeysAdded) {
+                generatedKeys = chunkKeys;
+                generatedKeysAdded = true;
+                return;
+            }
+            for (Map.Entry<String, ArrayValue> column : chunkKeys.entrySet()) {
+                ArrayValue values = column.getValue();
+                for (int i = 0; i < values.size(); i++) {
+                    addToMap(generatedKeys, column.getKey(), values.getRefValue(i));
+                }
+            }
+        }
+
+        /**
+         * Marks the updates from the given position as failed, as their changes are not committed.
+         */
+        void discard(int committedCount) {
+            Arrays.fill(updatedCounts, Math.min(committedCount, updatedCounts.length), updatedCounts.length,
+                        Statement.EXECUTE_FAILED);
+            if (committedCount == 0) {
+                generatedKeys = new MapValueImpl<>();
+                generatedKeysAdded = false;
+            }
+        }
+
+        MapValue<String, Object> createFrozenRecord(ErrorValue retError) {
+            return createFrozenBatchUpdateResultRecord(new ArrayValue(updatedCounts), generatedKeys, retError);
+        }
+    }
+
+    /**
+     * The chunks of a batch update, which are executed concurrently outside a transaction. Each chunk is committed
+     * once executed, and no more chunks are started once a chunk fails.
+     */
+    private class ParallelBatch {
+
+        private final int paramArrayCount;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final BatchResult result;
+        private final AtomicReferenceArray<MapValue<String, ArrayValue>> chunkKeys;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private volatile boolean failed;
+        private int failedChunk = Integer.MAX_VALUE;
+        private Exception failure;
+
+        ParallelBatch(int paramArrayCount, int chunkSize, int chunkCount) {
+            this.paramArrayCount = paramArrayCount;
+            this.chunkSize = chunkSize;
+            this.chunkCount = chunkCount;
+            this.result = new BatchResult(paramArrayCount);
+            this.chunkKeys = new AtomicReferenceArray<>(chunkCount);
+        }
+
+        void executeChunks() {
+            Connection conn = null;
+            PreparedStatement stmt = null;
+            int chunk = -1;
+            try {
+                conn = datasource.getSQLConnection();
+                conn.setAutoCommit(false);
+                boolean generatedKeyReturningSupported = isGeneratedKeyReturningSupported();
+                // The statement can be cached, as each chunk is committed or rolled back explicitly.
+                stmt = datasource.prepareStatement(conn, query, generatedKeyReturningSupported ?
+                        Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS, true);
+                while (!failed && (chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                    int chunkStart = chunk * chunkSize;
+                    MapValue<String, ArrayValue> keys = executeChunk(conn, stmt, chunkStart,
+                            Math.min(chunkStart + chunkSize, paramArrayCount), generatedKeyReturningSupported,
+                            result);
+                    conn.commit();
+                    chunkKeys.set(chunk, keys);
+                }
+            } catch (SQLException | ApplicationException e) {
+                fail(chunk, e);
+                rollback(conn);
+            } catch (RuntimeException | Error e) {
+                failed = true;
+                rollback(conn);
+                throw e;
+            } finally {
+                cleanupResources(stmt, conn, true);
+            }
+        }
+
+        private synchronized void fail(int chunk, Exception e) {
+            failed = true;
+            if (chunk >= 0 && !(e instanceof BatchUpdateException)) {
+                int chunkStart = chunk * chunkSize;
+                Arrays.fill(result.updatedCounts, chunkStart, Math.min(chunkStart + chunkSize, paramArrayCount),
+                            Statement.EXECUTE_FAILED);
+            }
+            // The failure of the first failed chunk is returned.
+            if (chunk < failedChunk) {
+                failedChunk = chunk;
+                failure = e;
+            }
+        }
+
+        private void rollback(Connection conn) {
+            if (conn == null) {
+                return;
+            }
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                // The pool discards the changes which are not committed, when the connection is returned.
+            }
+        }
+
+        MapValue<String, Object> createFrozenRecord() {
+            for (int i = 0; i < chunkCount; i++) {
+                result.addGeneratedKeys(chunkKeys.get(i));
+            }
+            String errorMessagePrefix = "failed to execute batch update: ";
+            if (failure == null) {
+                return result.createFrozenRecord(null);
+            }
+            checkAndObserveSQLError(strand, failure.getMessage());
+            if (failure instanceof SQLException) {
+                return result.createFrozenRecord(
+                        ErrorGenerator.getSQLDatabaseError((SQLException) failure, errorMessagePrefix));
+            }
+            return result.createFrozenRecord(
+                    ErrorGenerator.getSQLApplicationError((ApplicationException) failure, errorMessagePrefix));
+        }
+    }
+
+    /**
+     * Executes the chunks of the batch updates, which run concurrently with the calling threads.
+     */
+    private static class ChunkExecutor {
+
+        private static final ExecutorService EXECUTOR = BLangThreadFactory
+                .newBlockingExecutor(BLangThreadFactory.ELASTIC_EXECUTOR, "jdbc-batch-update");
+    }
 }
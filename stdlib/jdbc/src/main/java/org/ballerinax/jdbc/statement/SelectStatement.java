@@ -33,6 +33,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 
 /**
@@ -93,21 +94,33 @@ public class SelectStatement extends AbstractSQLStatement {
 
     private PreparedStatement getPreparedStatement(Connection conn, SQLDatasource datasource, String query)
             throws SQLException {
-        PreparedStatement stmt;
-        boolean mysql = datasource.getDatabaseProductName().contains(Constants.DatabaseNames.MYSQL);
-        /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
-           Following properties are set to stream the results back one row at a time.*/
-        if (mysql) {
-            stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-            // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
-            try {
-                stmt.setFetchSize(Integer.MIN_VALUE);
-            } catch (SQLException e) {
-                stmt.close();
+        int fetchSize = getFetchSize();
+        if (fetchSize < 0) {
+            if (!datasource.getDatabaseProductName().contains(Constants.DatabaseNames.MYSQL)) {
+                return prepareStatement(conn, datasource, query, Statement.NO_GENERATED_KEYS);
             }
-        } else {
-            stmt = conn.prepareStatement(query);
+            /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
+               The minimum fetch size streams the results back one row at a time.*/
+            fetchSize = Integer.MIN_VALUE;
+        } else if (fetchSize == 0) {
+            return prepareStatement(conn, datasource, query, Statement.NO_GENERATED_KEYS);
+        }
+        // The result sets of a statement are forward only and read only by default.
+        PreparedStatement stmt = prepareStatement(conn, datasource, query, Statement.NO_GENERATED_KEYS);
+        // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
+        try {
+            stmt.setFetchSize(fetchSize);
+        } catch (SQLException e) {
+            stmt.close();
         }
         return stmt;
     }
+
+    private int getFetchSize() {
+        Object fetchSize = client.getNativeData(Constants.EndpointConfig.FETCH_SIZE);
+        if (fetchSize == null || (Long) fetchSize < 0) {
+            return -1;
+        }
+        return (int) Math.min((Long) fetchSize, Integer.MAX_VALUE);
+    }
 }
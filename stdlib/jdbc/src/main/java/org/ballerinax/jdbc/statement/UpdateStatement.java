@@ -74,13 +74,21 @@ public class UpdateStatement extends AbstractSQLStatement {
             ArrayValue generatedParams = constructParameters(parameters);
             conn = getDatabaseConnection(strand, client, datasource);
             String processedQuery = createProcessedQueryString(query, generatedParams);
-            stmt = conn.prepareStatement(processedQuery, Statement.RETURN_GENERATED_KEYS);
+            boolean ddlStatement = isDdlStatement();
+            if (ddlStatement) {
+                stmt = conn.prepareStatement(processedQuery, Statement.RETURN_GENERATED_KEYS);
+            } else {
+                stmt = prepareStatement(conn, datasource, processedQuery, Statement.RETURN_GENERATED_KEYS);
+            }
             ProcessedStatement processedStatement = new ProcessedStatement(conn, stmt, generatedParams,
                     datasource.getDatabaseProductName());
             stmt = processedStatement.prepare();
             int count = stmt.executeUpdate();
+            if (ddlStatement) {
+                datasource.invalidateStatementCache();
+            }
             MapValue<String, Object> generatedKeys;
-            if (!isDdlStatement()) {
+            if (!ddlStatement) {
                 rs = stmt.getGeneratedKeys();
                 //This result set contains the auto generated keys.
                 if (rs.next()) {
@@ -46,6 +46,7 @@ import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Date;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Struct;
 import java.sql.Time;
@@ -69,6 +70,9 @@ public class SQLDataIterator extends TableIterator {
     private static final String MISMATCHING_FIELD_ASSIGNMENT = "trying to assign to a mismatching type";
     private String sourceDatabase;
     private static final String POSTGRES_OID_COLUMN_TYPE_NAME = "oid";
+    // The fields of the record type and the OID columns are looked up once, when the first record is generated.
+    private BField[] structFields;
+    private boolean[] oidColumns;
 
     public SQLDataIterator(TableResourceManager rm, ResultSet rs, Calendar utcCalendar,
             List<ColumnDefinition> columnDefs, BStructureType structType, String databaseProductName) {
@@ -115,7 +119,9 @@ public class SQLDataIterator extends TableIterator {
         String columnName = null;
         int sqlType = -1;
         try {
-            BField[] structFields = this.type.getFields().values().toArray(new BField[0]);
+            if (structFields == null) {
+                structFields = this.type.getFields().values().toArray(new BField[0]);
+            }
             if (columnDefs.size() != structFields.length) {
                 throw ErrorGenerator.getSQLApplicationError("number of fields in the constraint type is " + (
                         structFields.length > columnDefs.size() ?
@@ -188,15 +194,8 @@ public class SQLDataIterator extends TableIterator {
                             break;
                         case Types.INTEGER:
                         case Types.BIGINT:
-                            if (sourceDatabase.equalsIgnoreCase(Constants.DatabaseNames.POSTGRESQL)) {
-                                boolean isOID = rs.getMetaData().getColumnTypeName(index)
-                                        .equalsIgnoreCase(POSTGRES_OID_COLUMN_TYPE_NAME);
-                                if (isOID) {
-                                    handleOIDValue(index, bStruct, fieldName, fieldType);
-                                } else {
-                                    long lValue = rs.getLong(index);
-                                    handleLongValue(lValue, bStruct, fieldName, fieldType);
-                                }
+                            if (isOIDColumn(index)) {
+                                handleOIDValue(index, bStruct, fieldName, fieldType);
                             } else {
                                 long lValue = rs.getLong(index);
                                 handleLongValue(lValue, bStruct, fieldName, fieldType);
@@ -240,6 +239,20 @@ public class SQLDataIterator extends TableIterator {
         return bStruct;
     }
 
+    private boolean isOIDColumn(int index) throws SQLException {
+        if (!sourceDatabase.equalsIgnoreCase(Constants.DatabaseNames.POSTGRESQL)) {
+            return false;
+        }
+        if (oidColumns == null) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            oidColumns = new boolean[metaData.getColumnCount() + 1];
+            for (int i = 1; i < oidColumns.length; i++) {
+                oidColumns[i] = metaData.getColumnTypeName(i).equalsIgnoreCase(POSTGRES_OID_COLUMN_TYPE_NAME);
+            }
+        }
+        return oidColumns[index];
+    }
+
     private void validateAndSetRefRecordField(MapValue<String, Object> bStruct, String fieldName, int expectedTypeTag,
             int actualTypeTag, Object value, String exceptionMessage) throws PanickingApplicationException {
         setMatchingRefRecordField(bStruct, fieldName, value, expectedTypeTag == actualTypeTag, exceptionMessage);
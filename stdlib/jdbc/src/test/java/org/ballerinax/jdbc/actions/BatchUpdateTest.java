@@ -101,6 +101,19 @@ public class BatchUpdateTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), 0);
     }
 
+    @Test(groups = BATCH_UPDATE_TEST)
+    public void testChunkedBatchUpdate() {
+        BValue[] returns = BRunUtil.invoke(result, "testChunkedBatchUpdate", args);
+        BValueArray retValue = (BValueArray) returns[0];
+        Assert.assertEquals(retValue.size(), 5);
+        for (int i = 0; i < retValue.size(); i++) {
+            Assert.assertEquals(retValue.getInt(i), 1);
+        }
+        Assert.assertNull(returns[1]);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 5);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 5);
+    }
+
     @Test(groups = BATCH_UPDATE_TEST)
     public void testBatchUpdateWithNullParam() {
         BValue[] returns = BRunUtil.invoke(result, "testBatchUpdateWithNullParam", args);
@@ -25,6 +25,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.ballerinax.jdbc.datasource.PreparedStatementCache;
 import org.ballerinax.jdbc.utils.SQLDBUtils;
 import org.testng.Assert;
 import org.testng.annotations.AfterSuite;
@@ -112,6 +113,21 @@ public class SelectTest {
         Assert.assertEquals(returns[0].stringValue(), "Peter");
     }
 
+    @Test(groups = SELECT_TEST)
+    public void testSelectWithFetchSize() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithFetchSize", args);
+        Assert.assertEquals(returns[0].stringValue(), "Peter");
+    }
+
+    @Test(groups = SELECT_TEST)
+    public void testSelectWithStatementCache() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithStatementCache", args);
+        Assert.assertEquals(returns[0].stringValue(), "PeterPeterPeter");
+        PreparedStatementCache.Stats stats = PreparedStatementCache.getStats(JDBC_URL);
+        Assert.assertEquals(stats.getMissCount(), 1);
+        Assert.assertEquals(stats.getHitCount(), 2);
+    }
+
     @Test(dependsOnGroups = SELECT_TEST)
     public void testCloseConnectionPool() {
         BValue[] returns = BRunUtil.invoke(result, "testCloseConnectionPool", args);
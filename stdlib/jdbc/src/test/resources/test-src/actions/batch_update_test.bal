@@ -186,6 +186,39 @@ function testBatchUpdateWithFailure(string jdbcURL) returns @tainted [int[], int
     return [updateCount, count];
 }
 
+function testChunkedBatchUpdate(string jdbcURL) returns @tainted [int[], jdbc:Error?, int, int] {
+    jdbc:Client testDB = new ({
+        url: jdbcURL,
+        username: jdbcUserName,
+        password: jdbcPassword,
+        poolOptions: {maximumPoolSize: 2},
+        batchSize: 2,
+        batchParallelism: 2
+    });
+
+    myBatchType?[][] parameters = [];
+    foreach var i in 1 ... 5 {
+        parameters[parameters.length()] = ["Chunk", "Batch", 500 + i, 3400.5, "Colombo"];
+    }
+
+    jdbc:BatchUpdateResult ret = testDB->batchUpdate("Insert into Customers (firstName,lastName,registrationID,
+                            creditLimit,country) values (?,?,?,?,?)", false, ...parameters);
+    anydata[]? generatedKeys = ret.generatedKeys["CUSTOMERID"];
+    int keyCount = -1;
+    if (generatedKeys is anydata[]) {
+        keyCount = generatedKeys.length();
+    }
+    var dt = testDB->select("SELECT count(*) as countval from Customers where registrationID > 500", ResultCount);
+    int count = -1;
+    if (dt is table<ResultCount>) {
+        foreach var x in dt {
+            count = <@untainted>x.COUNTVAL;
+        }
+    }
+    checkpanic testDB.stop();
+    return [ret.updatedRowCount, ret.returnedError, keyCount, count];
+}
+
 function testBatchUpdateWithNullParam(string jdbcURL) returns int[] {
     jdbc:Client testDB = new ({
         url: jdbcURL,
@@ -261,6 +261,47 @@ function testBlobArrayOfQueryParameter(string jdbcURL) returns string {
     return firstName;
 }
 
+function testSelectWithFetchSize(string jdbcURL) returns string {
+    jdbc:Client testDB = new ({
+        url: jdbcURL,
+        username: jdbcUserName,
+        password: jdbcPassword,
+        poolOptions: {maximumPoolSize: 1},
+        fetchSize: 1
+    });
+
+    var dt = testDB->select("SELECT firstName from Customers where customerId = ?", ResultCustomers, 1);
+    string firstName = "";
+    if (dt is table<ResultCustomers>) {
+        foreach var x in dt {
+            firstName = <@untainted>x.FIRSTNAME;
+        }
+    }
+    checkpanic testDB.stop();
+    return firstName;
+}
+
+function testSelectWithStatementCache(string jdbcURL) returns string {
+    jdbc:Client testDB = new ({
+        url: jdbcURL,
+        username: jdbcUserName,
+        password: jdbcPassword,
+        poolOptions: {maximumPoolSize: 1, statementCacheSize: 1}
+    });
+
+    string firstNames = "";
+    foreach var i in 1 ... 3 {
+        var dt = testDB->select("SELECT firstName from Customers where customerId = ?", ResultCustomers, 1);
+        if (dt is table<ResultCustomers>) {
+            foreach var x in dt {
+                firstNames = firstNames + <@untainted>x.FIRSTNAME;
+            }
+        }
+    }
+    checkpanic testDB.stop();
+    return firstNames;
+}
+
 function testCloseConnectionPool(string jdbcURL) returns @tainted (int) {
     jdbc:Client testDB = new ({
         url: jdbcURL,
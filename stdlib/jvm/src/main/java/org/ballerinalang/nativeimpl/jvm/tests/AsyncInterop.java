@@ -40,6 +40,14 @@ public class AsyncInterop {
         return -1;
     }
 
+    public static int countSlowlyOnBlockingExecutor() {
+        BRuntime.executeBlocking(() -> {
+            sleep();
+            return 42L;
+        });
+        return -1;
+    }
+
     private static void sleep() {
         try {
             Thread.sleep(1000);
@@ -18,6 +18,11 @@
 
 package org.ballerinalang.mime.nativeimpl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -59,15 +64,15 @@ public abstract class AbstractGetPayloadHandler {
         inboundMessage.getFullHttpCarbonMessage().addListener(new FullHttpMessageListener() {
             @Override
             public void onComplete(HttpCarbonMessage inboundMessage) {
+                if (sourceType == SourceType.JSON) {
+                    constructJsonDataSourceAndNotify(callback, entity, inboundMessage);
+                    return;
+                }
                 Object dataSource = null;
                 HttpMessageDataStreamer dataStreamer = new HttpMessageDataStreamer(inboundMessage);
                 InputStream inputStream = dataStreamer.getInputStream();
                 try {
                     switch (sourceType) {
-                        case JSON:
-                            dataSource = constructJsonDataSource(entity, inputStream);
-                            updateJsonDataSourceAndNotify(callback, entity, dataSource);
-                            return;
                         case TEXT:
                             dataSource = constructStringDataSource(entity, inputStream);
                             break;
@@ -100,6 +105,35 @@ public abstract class AbstractGetPayloadHandler {
         });
     }
 
+    private static void constructJsonDataSourceAndNotify(NonBlockingCallback callback, ObjectValue entity,
+                                                         HttpCarbonMessage inboundMessage) {
+        // The content is parsed from the received buffers, rather than being read through a stream.
+        ByteBuf content = aggregateContent(inboundMessage);
+        try {
+            Object dataSource = constructJsonDataSource(entity, content);
+            updateJsonDataSourceAndNotify(callback, entity, dataSource);
+        } catch (Exception e) {
+            createParsingEntityBodyFailedErrorAndNotify(callback,
+                    "Error occurred while extracting json data from entity: " + getErrorMsg(e), null);
+        } finally {
+            content.release();
+        }
+    }
+
+    private static ByteBuf aggregateContent(HttpCarbonMessage inboundMessage) {
+        CompositeByteBuf content = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+        HttpContent httpContent = inboundMessage.getHttpContent();
+        while (httpContent != null) {
+            content.addComponent(true, httpContent.content());
+            // Exit the loop at the end of the content
+            if (httpContent instanceof LastHttpContent) {
+                break;
+            }
+            httpContent = inboundMessage.getHttpContent();
+        }
+        return content;
+    }
+
     private static void setReturnValuesAndNotify(NonBlockingCallback callback, Object result) {
         callback.setReturnValues(result);
         callback.notifySuccess();
@@ -18,13 +18,17 @@
 
 package org.ballerinalang.mime.util;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.Utf8JSONParser;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.XMLValue;
@@ -40,6 +44,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -56,6 +61,7 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.UTF_8;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
 /**
@@ -66,6 +72,7 @@ import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 public class EntityBodyHandler {
 
     private static final Logger log = LoggerFactory.getLogger(EntityBodyHandler.class);
+    private static final byte[] NULL_JSON_PAYLOAD = "null".getBytes(StandardCharsets.UTF_8);
 
     /**
      * Get a byte channel for a given text data.
@@ -192,26 +199,96 @@ public class EntityBodyHandler {
     }
 
     /**
-     * Construct JsonDataSource from the given input stream.
+     * Construct JsonDataSource from the given input stream. UTF-8 content is parsed from bytes without decoding it
+     * to characters first.
      *
      * @param entity      Represent an entity object
      * @param inputStream Represent the input stream
      * @return BJSON data source which is kept in memory
      */
     public static Object constructJsonDataSource(ObjectValue entity, InputStream inputStream) {
-        Object jsonData;
+        String charsetValue = getJsonCharset(entity);
+        if (charsetValue == null) {
+            return Utf8JSONParser.parse(inputStream);
+        }
+        return JSONParser.parse(inputStream, charsetValue);
+    }
+
+    /**
+     * Construct JsonDataSource from the given content. UTF-8 content is parsed in place if it is backed by an array.
+     * The reader index of the content is not changed.
+     *
+     * @param entity  Represent an entity object
+     * @param content Represent the content of the entity
+     * @return BJSON data source which is kept in memory
+     */
+    public static Object constructJsonDataSource(ObjectValue entity, ByteBuf content) {
+        String charsetValue = getJsonCharset(entity);
+        if (charsetValue != null) {
+            return JSONParser.parse(new ByteBufInputStream(content.duplicate()), charsetValue);
+        }
+        if (content.hasArray()) {
+            return Utf8JSONParser.parse(content.array(), content.arrayOffset() + content.readerIndex(),
+                                        content.readableBytes());
+        }
+        if (content.nioBufferCount() == 1) {
+            return Utf8JSONParser.parse(content.nioBuffer());
+        }
+        byte[] bytes = new byte[content.readableBytes()];
+        content.getBytes(content.readerIndex(), bytes);
+        return Utf8JSONParser.parse(bytes);
+    }
+
+    /**
+     * Construct a value of the given type from the JSON content of the given entity, without building a json value
+     * first. The content is kept as a blob data source, or as a string if it is not UTF-8 encoded, hence it can still
+     * be retrieved as json or text later.
+     *
+     * @param entityObj  Represent an entity object
+     * @param targetType Represent the type of the value to be constructed, such as a record or an array of records
+     * @return a value of the given type
+     */
+    public static Object constructJsonDataSource(ObjectValue entityObj, BType targetType) {
+        Channel byteChannel = getByteChannel(entityObj);
+        if (byteChannel == null) {
+            // An absent payload is converted the same way as a null json.
+            return Utf8JSONParser.parse(NULL_JSON_PAYLOAD, targetType);
+        }
+        byte[] payload;
+        try {
+            payload = MimeUtil.getByteArray(byteChannel.getInputStream());
+        } catch (IOException e) {
+            throw BallerinaErrors.createError(e.getMessage());
+        } finally {
+            closeByteChannel(byteChannel);
+        }
+        String charsetValue = getJsonCharset(entityObj);
+        if (charsetValue == null) {
+            addMessageDataSource(entityObj, new ArrayValue(payload));
+            return Utf8JSONParser.parse(payload, targetType);
+        }
+        // A blob data source is read as UTF-8 text, hence the content of other charsets is kept decoded.
+        String jsonString = new String(payload, Charset.forName(charsetValue));
+        addMessageDataSource(entityObj, jsonString);
+        return Utf8JSONParser.parse(jsonString.getBytes(StandardCharsets.UTF_8), targetType);
+    }
+
+    /**
+     * Get the charset of the JSON content of the given entity.
+     *
+     * @param entity Represent an entity object
+     * @return the charset given in the content type, or null if the content is UTF-8 encoded
+     */
+    private static String getJsonCharset(ObjectValue entity) {
         String contentTypeValue = HeaderUtil.getHeaderValue(entity, HttpHeaderNames.CONTENT_TYPE.toString());
         if (isNotNullAndEmpty(contentTypeValue)) {
             String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
-            if (isNotNullAndEmpty(charsetValue)) {
-                jsonData = JSONParser.parse(inputStream, charsetValue);
-            } else {
-                jsonData = JSONParser.parse(inputStream);
+            // JSON content is UTF-8 encoded unless another charset is given.
+            if (isNotNullAndEmpty(charsetValue) && !UTF_8.equalsIgnoreCase(charsetValue.trim())) {
+                return charsetValue;
             }
-        } else {
-            jsonData = JSONParser.parse(inputStream);
         }
-        return jsonData;
+        return null;
     }
 
     /**
@@ -149,6 +149,7 @@ public class WebSubServicesRegistry extends HTTPServicesRegistry {
         //basePath will get cached after registering service
         sortedServiceURIs.add(httpService.getBasePath());
         sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        getServicesMapHolder(hostName).refreshBasePathTrie();
 
         if (topicIdentifier != null) {
             // i.e., extension config exists
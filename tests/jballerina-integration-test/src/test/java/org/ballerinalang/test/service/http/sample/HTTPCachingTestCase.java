@@ -23,6 +23,8 @@ import org.ballerinalang.test.util.HttpResponse;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 
@@ -110,4 +112,54 @@ public class HTTPCachingTestCase extends HttpBaseTest {
         assertEquals(response.getHeaders().get(serviceHitCount), "2");
         assertEquals(response.getHeaders().get(proxyHitCount), "3");
     }
+
+    @Test(description = "Test whether the caching clients of an origin share a shared cache")
+    public void testSharedCacheIsShared() throws IOException {
+        HttpResponse response = HttpClientRequest.doGet(
+                serverInstance.getServiceURLHttp(9251, "cacheSharing/shared/1"));
+        assertEquals(response.getResponseCode(), 200);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9251, "cacheSharing/shared/2"));
+        assertEquals(response.getResponseCode(), 200);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+        assertEquals(response.getData(), "{\"message\":\"response 1\"}");
+    }
+
+    @Test(description = "Test whether a private cache is not shared by the caching clients of an origin")
+    public void testPrivateCacheIsIsolated() throws IOException {
+        HttpResponse response = HttpClientRequest.doGet(
+                serverInstance.getServiceURLHttp(9251, "cacheSharing/private/1"));
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9251, "cacheSharing/private/2"));
+        assertEquals(response.getHeaders().get(serviceHitCount), "2");
+        assertEquals(response.getData(), "{\"message\":\"response 2\"}");
+
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9251, "cacheSharing/private/1"));
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+    }
+
+    @Test(description = "Test whether a full response received by a background revalidation is stored with its own " +
+            "vary header")
+    public void testBackgroundRevalidationStoresVaryOfFullResponse() throws IOException, InterruptedException {
+        HttpResponse response = HttpClientRequest.doGet(
+                serverInstance.getServiceURLHttp(9251, "cacheSharing/revalidate"));
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        // Wait for the response to become stale
+        Thread.sleep(2000);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Cache-Control", "max-stale=60");
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9251, "cacheSharing/revalidate"),
+                                           headers);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        // Wait for the background revalidation, which receives a response with "Vary: *"
+        Thread.sleep(1000);
+
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9251, "cacheSharing/revalidate"));
+        assertEquals(response.getHeaders().get(serviceHitCount), "3");
+    }
 }
@@ -0,0 +1,111 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+http:Client sharedCacheEP1 = new("http://localhost:9252", { cache: { isShared: true } });
+http:Client sharedCacheEP2 = new("http://localhost:9252", { cache: { isShared: true } });
+http:Client privateCacheEP1 = new("http://localhost:9252", { cache: { isShared: false } });
+http:Client privateCacheEP2 = new("http://localhost:9252", { cache: { isShared: false } });
+
+@http:ServiceConfig {
+    basePath: "/cacheSharing"
+}
+service cacheSharingProxyService on new http:Listener(9251) {
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/shared/{clientId}"
+    }
+    resource function sharedCacheResource(http:Caller caller, http:Request req, string clientId) {
+        http:Client cachingEP = clientId == "1" ? sharedCacheEP1 : sharedCacheEP2;
+        respondWithBackendResponse(caller, cachingEP->forward("/cacheSharingBE/shared", req));
+    }
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/private/{clientId}"
+    }
+    resource function privateCacheResource(http:Caller caller, http:Request req, string clientId) {
+        http:Client cachingEP = clientId == "1" ? privateCacheEP1 : privateCacheEP2;
+        respondWithBackendResponse(caller, cachingEP->forward("/cacheSharingBE/private", req));
+    }
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/revalidate"
+    }
+    resource function revalidatedResource(http:Caller caller, http:Request req) {
+        respondWithBackendResponse(caller, sharedCacheEP1->forward("/cacheSharingBE/revalidate", req));
+    }
+}
+
+function respondWithBackendResponse(http:Caller caller, http:Response|error response) {
+    if (response is http:Response) {
+        checkpanic caller->respond(response);
+    } else {
+        http:Response res = new;
+        res.statusCode = 500;
+        res.setPayload(response.reason());
+        checkpanic caller->respond(res);
+    }
+}
+
+int sharedHits = 0;
+int privateHits = 0;
+int revalidatedHits = 0;
+
+@http:ServiceConfig {
+    basePath: "/cacheSharingBE"
+}
+service cacheSharingBackend on new http:Listener(9252) {
+
+    @http:ResourceConfig { path: "/shared" }
+    resource function sharedResource(http:Caller caller, http:Request req) {
+        sharedHits += 1;
+        checkpanic caller->respond(createCacheableResponse(sharedHits, 60));
+    }
+
+    @http:ResourceConfig { path: "/private" }
+    resource function privateResource(http:Caller caller, http:Request req) {
+        privateHits += 1;
+        checkpanic caller->respond(createCacheableResponse(privateHits, 60));
+    }
+
+    // The first response becomes stale after a second. The following responses vary by all the request headers, hence
+    // they are never served from the cache.
+    @http:ResourceConfig { path: "/revalidate" }
+    resource function revalidateResource(http:Caller caller, http:Request req) {
+        revalidatedHits += 1;
+        http:Response res = createCacheableResponse(revalidatedHits, revalidatedHits == 1 ? 1 : 60);
+        if (revalidatedHits > 1) {
+            res.setHeader("vary", "*");
+        }
+        checkpanic caller->respond(res);
+    }
+}
+
+function createCacheableResponse(int hitCount, int maxAge) returns http:Response {
+    json payload = {"message" : "response " + hitCount.toString()};
+    http:Response res = new;
+    http:ResponseCacheControl resCC = new;
+    resCC.maxAge = maxAge;
+    res.cacheControl = resCC;
+    res.setETag(payload);
+    res.setPayload(payload);
+    res.setHeader("x-service-hit-count", hitCount.toString());
+    return res;
+}
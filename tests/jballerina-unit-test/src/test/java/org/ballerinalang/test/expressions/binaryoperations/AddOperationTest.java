@@ -25,6 +25,7 @@ import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -161,6 +162,14 @@ BValue[] returns = BRunUtil.invoke(result, "stringXmlAdd");
         Assert.assertEquals(((BXMLSequence) returns[0]).stringValue(), "defabc");
     }
 
+    @Test(description = "Test int add expression overflowing the int range",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*NumberOverflow.*")
+    public void testIntOverflow() {
+        BValue[] args = { new BInteger(Long.MAX_VALUE), new BInteger(1) };
+        BRunUtil.invoke(result, "intAdd", args);
+    }
+
     @Test(description = "Test binary statement with errors")
     public void testSubtractStmtNegativeCases() {
         Assert.assertEquals(resultNegative.getErrorCount(), 2);
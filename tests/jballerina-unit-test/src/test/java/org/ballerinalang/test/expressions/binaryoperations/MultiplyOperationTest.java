@@ -23,6 +23,7 @@ import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -99,6 +100,14 @@ public class MultiplyOperationTest {
 
 
 
+    @Test(description = "Test int multiply expression overflowing the int range",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*NumberOverflow.*")
+    public void testIntOverflow() {
+        BValue[] args = { new BInteger(Long.MAX_VALUE), new BInteger(2) };
+        BRunUtil.invoke(result, "intMultiply", args);
+    }
+
     @Test(description = "Test binary statement with errors")
     public void testSubtractStmtNegativeCases() {
         Assert.assertEquals(resultNegative.getErrorCount(), 2);
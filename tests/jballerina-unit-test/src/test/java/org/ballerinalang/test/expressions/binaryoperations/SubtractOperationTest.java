@@ -23,6 +23,7 @@ import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -109,6 +110,14 @@ public class SubtractOperationTest {
     }
 
 
+    @Test(description = "Test int subtract expression overflowing the int range",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*NumberOverflow.*")
+    public void testIntOverflow() {
+        BValue[] args = { new BInteger(Long.MIN_VALUE), new BInteger(1) };
+        BRunUtil.invoke(result, "intSubtract", args);
+    }
+
     @Test(description = "Test substract statement with errors")
     public void testSubtractStmtNegativeCases() {
         Assert.assertEquals(resultNegative.getErrorCount(), 2);
@@ -49,4 +49,13 @@ public class AsyncTest {
         Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
     }
 
+    @Test
+    public void testBlockingExecutor() {
+        BValue[] returns = BRunUtil.invoke(result, "blockingExecutorTest");
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].getClass(), BInteger.class);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
+    }
+
 }
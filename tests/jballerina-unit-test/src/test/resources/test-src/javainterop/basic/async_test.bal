@@ -4,7 +4,15 @@ function asyncTest() returns int {
     return countSlowly();
 }
 
+function blockingExecutorTest() returns int {
+    return countSlowlyOnBlockingExecutor();
+}
+
 // Interop functions
 public function countSlowly() returns int = @java:Method {
     class:"org/ballerinalang/nativeimpl/jvm/tests/AsyncInterop"
 } external;
+
+public function countSlowlyOnBlockingExecutor() returns int = @java:Method {
+    class:"org/ballerinalang/nativeimpl/jvm/tests/AsyncInterop"
+} external;